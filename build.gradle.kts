@@ -2,8 +2,13 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.5"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
+// jmh 벤치마크 (src/jmh/java, ./gradlew jmh)
+jmh {
+    profilers = listOf("gc")
+}
 
 subprojects {
     apply(plugin = "org.springframework.boot")
@@ -17,7 +22,7 @@ allprojects {
 
     java {
         toolchain {
-            languageVersion = JavaLanguageVersion.of(17)
+            languageVersion = JavaLanguageVersion.of(21)
         }
     }
 
@@ -58,6 +63,9 @@ allprojects {
         implementation("org.springframework.boot:spring-boot-starter-web")
         implementation("org.springframework.boot:spring-boot-starter-actuator")
 
+        // cache
+        implementation("com.github.ben-manes.caffeine:caffeine")
+
         // micrometer & prometheus
         runtimeOnly("io.micrometer:micrometer-registry-prometheus")
 
@@ -0,0 +1,123 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
+import click.dailyfeed.content.domain.comment.entity.Comment;
+import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
+import click.dailyfeed.content.domain.comment.projection.CommentPreviewProjection;
+import click.dailyfeed.content.domain.post.entity.Post;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 + 댓글 미리보기 응답을 만들 때 애플리케이션이 만드는 객체 수 비교 : ./gradlew jmh -Pjmh.includes=PostCommentAssemblyBenchmark
+ * - assembleAllThenPage : 후보 글 전체 x 댓글 전체를 엔티티 객체로 만든 뒤 메모리에서 페이징 (JOIN FETCH + Pageable 이 돌려주는 행 수만큼 객체를 만드는 경우를 흉내)
+ * - assemblePagedPreviews : 페이지의 글과 글마다 preview + 1 건의 댓글 행만으로 조립 (PostCommentPreviewService 와 같은 순서)
+ * - hibernate 와 DB 를 거치지 않는 순수 자바 모델이므로 실제 쿼리 경로의 지연/힙 측정이 아님 (영속성 컨텍스트, 행 읽기/전송 비용 없음)
+ *   → 결과는 객체 생성/매핑 단계의 호출당 할당량(gc.alloc.rate.norm, -prof gc)과 시간 차이로만 해석
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class PostCommentAssemblyBenchmark {
+    private static final int PREVIEW_SIZE = 3;
+
+    @Param({"10000"})
+    private int commentsPerPost;
+
+    @Param({"50"})
+    private int candidatePosts;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private final CommentMapper commentMapper = new CommentMapper();
+    private LocalDateTime now;
+
+    @Setup
+    public void setUp() {
+        now = LocalDateTime.now();
+    }
+
+    @Benchmark
+    public List<List<CommentDto.Comment>> assembleAllThenPage() {
+        // 행 = 글 x 댓글, 글 객체는 id 로 한 번만 만들고 댓글 객체는 행마다 생성
+        Map<Long, Post> posts = new LinkedHashMap<>();
+        for (long postId = 1; postId <= candidatePosts; postId++) {
+            Post post = posts.computeIfAbsent(postId, id -> Post.ofAll(id, "", "내용", 10L, 0L, 0L, false, new ArrayList<>()));
+            for (long i = 0; i < commentsPerPost; i++) {
+                long commentId = postId * commentsPerPost + i;
+                post.getComments().add(Comment.ofAll(commentId, "댓글 " + commentId, 20L, post, null, new ArrayList<>(), false, 0, 0L, Comment.ROOT_PATH));
+            }
+        }
+
+        // 메모리에서 페이징하고, 글마다 앞의 몇 건만 응답에 사용
+        List<List<CommentDto.Comment>> page = new ArrayList<>(pageSize);
+        for (Post post : posts.values().stream().limit(pageSize).toList()) {
+            page.add(post.getComments().stream()
+                    .limit(PREVIEW_SIZE)
+                    .map(comment -> commentMapper.fromCommentNonRecursive(comment, null))
+                    .toList());
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<List<CommentDto.Comment>> assemblePagedPreviews() {
+        // 페이지의 글만
+        List<Long> pageIds = new ArrayList<>(pageSize);
+        for (long postId = 1; postId <= pageSize; postId++) {
+            pageIds.add(postId);
+        }
+        Map<Long, Post> posts = new LinkedHashMap<>();
+        pageIds.forEach(id -> posts.put(id, Post.ofAll(id, "", "내용", 10L, 0L, 0L, false, new ArrayList<>())));
+
+        // 글마다 preview + 1 건의 최상위 댓글 행
+        List<CommentPreviewProjection> rows = new ArrayList<>(pageIds.size() * (PREVIEW_SIZE + 1));
+        for (Long postId : pageIds) {
+            for (long i = 0; i <= PREVIEW_SIZE; i++) {
+                long commentId = postId * commentsPerPost + i;
+                rows.add(new PreviewRow(postId, commentId, 20L, "댓글 " + commentId, now, now));
+            }
+        }
+        Map<Long, List<CommentPreviewProjection>> previews = rows.stream().collect(Collectors.groupingBy(CommentPreviewProjection::getPostId));
+
+        List<List<CommentDto.Comment>> page = new ArrayList<>(pageSize);
+        for (Long postId : posts.keySet()) {
+            page.add(previews.getOrDefault(postId, List.of()).stream()
+                    .limit(PREVIEW_SIZE)
+                    .map(commentMapper::toCommentPreviewItem)
+                    .toList());
+        }
+        return page;
+    }
+
+    private record PreviewRow(Long postId, Long id, Long authorId, String content, LocalDateTime createdAt, LocalDateTime updatedAt)
+            implements CommentPreviewProjection {
+        public Long getPostId() { return postId; }
+        public Long getId() { return id; }
+        public Long getAuthorId() { return authorId; }
+        public String getContent() { return content; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+}
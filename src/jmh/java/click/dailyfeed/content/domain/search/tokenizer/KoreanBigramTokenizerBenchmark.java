@@ -0,0 +1,49 @@
+package click.dailyfeed.content.domain.search.tokenizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 색인 처리량 측정 : ./gradlew jmh
+ * - gc.alloc.rate.norm 으로 호출당 할당량도 같이 확인 (-prof gc)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KoreanBigramTokenizerBenchmark {
+    private static final String SENTENCE = "오늘은 Spring Boot 3.5 로 새 게시글을 작성했습니다. 댓글과 좋아요 부탁드려요! ";
+
+    @Param({"1", "10", "100"})
+    private int sentences;
+
+    private String text;
+
+    @Setup
+    public void setUp() {
+        text = SENTENCE.repeat(sentences);
+    }
+
+    @Benchmark
+    public String toIndexText() {
+        return KoreanBigramTokenizer.toIndexText(text);
+    }
+
+    @Benchmark
+    public Object toQueryTokens() {
+        return KoreanBigramTokenizer.toQueryTokens("게시글 작성 좋아요");
+    }
+}
@@ -0,0 +1,69 @@
+// 쓰기 API 부하 테스트 (게시글 작성/수정, 댓글 작성)
+//
+// 플랫폼 스레드/가상 스레드 모드를 같은 메모리 조건에서 비교할 때 사용
+//   1) 같은 힙/컨테이너 메모리로 두 번 기동
+//        JAVA_TOOL_OPTIONS="-Xms512m -Xmx512m" VIRTUAL_THREADS_ENABLED=false ./gradlew bootRun
+//        JAVA_TOOL_OPTIONS="-Xms512m -Xmx512m" VIRTUAL_THREADS_ENABLED=true  ./gradlew bootRun
+//   2) 각각 같은 부하를 주고 결과 비교
+//        k6 run -e BASE_URL=http://localhost:8081 -e TOKEN="Bearer ..." -e POST_ID=1 src/k6/write-endpoints.js
+//   3) 비교 지표
+//        - k6: http_req_duration p95/p99, http_req_failed, 구간별 iterations/s
+//        - actuator/prometheus: jvm_threads_live_threads, jvm_memory_used_bytes, hikaricp_connections_pending,
+//          dailyfeed_content_virtual_thread_pinned_seconds_count (가상 스레드 모드)
+//
+// MAX_VUS 까지 동시 사용자를 올리면서 tomcat 스레드(기본 200)를 넘는 구간에서 두 모드의 처리량/지연 차이를 확인
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const TOKEN = __ENV.TOKEN || '';
+const POST_ID = __ENV.POST_ID || '1';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '1000');
+
+export const options = {
+    scenarios: {
+        writes: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: Math.floor(MAX_VUS / 4) },
+                { duration: '1m', target: Math.floor(MAX_VUS / 2) },
+                { duration: '2m', target: MAX_VUS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        http_req_duration: ['p(95)<1000'],
+    },
+};
+
+const params = {
+    headers: {
+        'Content-Type': 'application/json',
+        Authorization: TOKEN,
+    },
+};
+
+export default function () {
+    const created = http.post(`${BASE_URL}/api/posts`,
+        JSON.stringify({ title: `load ${__VU}-${__ITER}`, content: `부하 테스트 게시글 ${__VU}-${__ITER}` }),
+        Object.assign({ tags: { name: 'createPost' } }, params));
+    check(created, { 'post created': (r) => r.status === 200 || r.status === 201 });
+
+    const postId = created.status < 300 ? created.json('data.id') : null;
+    if (postId) {
+        const updated = http.put(`${BASE_URL}/api/posts/${postId}`,
+            JSON.stringify({ title: `load ${__VU}-${__ITER}`, content: `수정된 부하 테스트 게시글 ${__VU}-${__ITER}` }),
+            Object.assign({ tags: { name: 'updatePost' } }, params));
+        check(updated, { 'post updated': (r) => r.status === 200 });
+    }
+
+    const commented = http.post(`${BASE_URL}/api/comments`,
+        JSON.stringify({ postId: Number(postId || POST_ID), content: `부하 테스트 댓글 ${__VU}-${__ITER}` }),
+        Object.assign({ tags: { name: 'createComment' } }, params));
+    check(commented, { 'comment created': (r) => r.status === 200 || r.status === 201 });
+}
@@ -66,6 +66,22 @@ public class MongoConfig {
         return new MongoTemplate(dailyfeedMongoDatabaseFactory, mongoConverter);
     }
 
+    @Bean
+    public MongoIndexManager mongoIndexManager(
+            MongoTemplate mongoTemplate,
+            MongoMappingContext mongoMappingContext,
+            @Value("${dailyfeed.services.content.mongo-index.ensure-on-startup:true}") boolean ensureOnStartup
+    ){
+        return new MongoIndexManager(mongoTemplate, mongoMappingContext, ensureOnStartup);
+    }
+
+    @Bean
+    public MongoIndexEndpoint mongoIndexEndpoint(
+            MongoIndexManager mongoIndexManager
+    ){
+        return new MongoIndexEndpoint(mongoIndexManager);
+    }
+
     @Bean
     public MongoCustomConversions mongoCustomConversions(){
         return new MongoCustomConversions(
@@ -0,0 +1,22 @@
+package click.dailyfeed.content.config.datasource;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * GET /actuator/mongoindexes
+ * - 컬렉션 별 선언/누락/미선언/미사용 인덱스와 인덱스별 접근 횟수 ($indexStats, 해당 mongod 기동 이후 누적)
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "mongoindexes")
+public class MongoIndexEndpoint {
+    private final MongoIndexManager mongoIndexManager;
+
+    @ReadOperation
+    public Map<String, MongoIndexManager.CollectionIndexReport> indexes() {
+        return mongoIndexManager.report();
+    }
+}
@@ -0,0 +1,200 @@
+package click.dailyfeed.content.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 도큐먼트 클래스에 선언된 인덱스(@Indexed, @CompoundIndex)를 기동 시점에 생성하고, 현재 상태를 리포트
+ * - spring.data.mongodb.auto-index-creation 은 꺼둔 채로, 인덱스 생성 실패(기존 중복 데이터 등)가 기동 실패로 이어지지 않도록 여기서 직접 관리
+ * - 리포트는 actuator(mongoindexes) 로 노출 : 선언됐지만 없는 인덱스(missing), 선언되지 않은 인덱스(undeclared), 기동 이후 사용되지 않은 인덱스(unused)
+ */
+@Slf4j
+public class MongoIndexManager {
+    private static final String ID_INDEX_NAME = "_id_";
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mappingContext;
+    private final IndexResolver indexResolver;
+    private final boolean ensureOnStartup;
+
+    public MongoIndexManager(MongoTemplate mongoTemplate, MongoMappingContext mappingContext, boolean ensureOnStartup) {
+        this.mongoTemplate = mongoTemplate;
+        this.mappingContext = mappingContext;
+        this.indexResolver = new MongoPersistentEntityIndexResolver(mappingContext);
+        this.ensureOnStartup = ensureOnStartup;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexesOnStartup() {
+        if (!ensureOnStartup) {
+            return;
+        }
+        ensureIndexes();
+    }
+
+    /// 선언된 인덱스 생성 (이미 같은 인덱스가 있으면 mongodb 가 무시함)
+    public void ensureIndexes() {
+        declaredIndexes().forEach((collection, definitions) -> {
+            for (IndexDefinition definition : definitions) {
+                try {
+                    if (isTextIndex(definition.getIndexKeys())) {
+                        dropChangedTextIndex(collection, definition);
+                    }
+                    mongoTemplate.indexOps(collection).ensureIndex(definition);
+                } catch (Exception e) {
+                    log.error("Failed to ensure mongodb index. collection={}, keys={}, options={}",
+                            collection, definition.getIndexKeys().toJson(), definition.getIndexOptions().toJson(), e);
+                }
+            }
+        });
+    }
+
+    /**
+     * 컬렉션 당 텍스트 인덱스는 하나만 만들 수 있으므로, 색인 대상 필드/가중치가 바뀌었으면 기존 텍스트 인덱스를 먼저 삭제
+     * - 삭제 후 재생성까지는 텍스트 검색이 실패하므로 배포 시점에만 발생하도록 기동 시에만 호출
+     */
+    private void dropChangedTextIndex(String collection, IndexDefinition definition) {
+        Document declaredWeights = weightsOf(definition.getIndexOptions().get("weights"));
+        for (Document index : mongoTemplate.getCollection(collection).listIndexes()) {
+            if (!isTextIndex(index.get("key", Document.class))) {
+                continue;
+            }
+            if (!weightSignature(weightsOf(index.get("weights"))).equals(weightSignature(declaredWeights))) {
+                String name = index.getString("name");
+                log.warn("Dropping outdated text index. collection={}, name={}, weights={}", collection, name, index.get("weights"));
+                mongoTemplate.indexOps(collection).dropIndex(name);
+            }
+        }
+    }
+
+    /// 컬렉션 별 인덱스 상태 리포트
+    public Map<String, CollectionIndexReport> report() {
+        Map<String, CollectionIndexReport> reports = new LinkedHashMap<>();
+        declaredIndexes().forEach((collection, definitions) -> {
+            try {
+                reports.put(collection, reportCollection(collection, definitions));
+            } catch (Exception e) {
+                log.warn("Failed to read mongodb index stats. collection={}", collection, e);
+            }
+        });
+        return reports;
+    }
+
+    private CollectionIndexReport reportCollection(String collection, List<IndexDefinition> definitions) {
+        List<Document> existing = mongoTemplate.getCollection(collection)
+                .aggregate(List.of(new Document("$indexStats", new Document())))
+                .into(new ArrayList<>());
+
+        Set<String> existingKeys = existing.stream()
+                .map(stat -> keySignature(stat.get("key", Document.class)))
+                .collect(Collectors.toSet());
+        Set<String> declaredKeys = definitions.stream()
+                .map(definition -> keySignature(definition.getIndexKeys()))
+                .collect(Collectors.toSet());
+
+        List<String> declared = definitions.stream()
+                .map(definition -> indexName(definition.getIndexOptions(), definition.getIndexKeys()))
+                .toList();
+        List<String> missing = definitions.stream()
+                .filter(definition -> !existingKeys.contains(keySignature(definition.getIndexKeys())))
+                .map(definition -> indexName(definition.getIndexOptions(), definition.getIndexKeys()))
+                .toList();
+
+        List<String> undeclared = new ArrayList<>();
+        List<String> unused = new ArrayList<>();
+        Map<String, Long> accesses = new LinkedHashMap<>();
+        for (Document stat : existing) {
+            String name = stat.getString("name");
+            if (ID_INDEX_NAME.equals(name)) {
+                continue;
+            }
+            long ops = accessOps(stat);
+            accesses.put(name, ops);
+            if (!declaredKeys.contains(keySignature(stat.get("key", Document.class)))) {
+                undeclared.add(name);
+            }
+            if (ops == 0L) {
+                unused.add(name);
+            }
+        }
+
+        return new CollectionIndexReport(declared, missing, undeclared, unused, accesses);
+    }
+
+    private Map<String, List<IndexDefinition>> declaredIndexes() {
+        Map<String, List<IndexDefinition>> result = new LinkedHashMap<>();
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (!entity.isAnnotationPresent(org.springframework.data.mongodb.core.mapping.Document.class)) {
+                continue;
+            }
+            List<IndexDefinition> definitions = new ArrayList<>();
+            indexResolver.resolveIndexFor(entity.getTypeInformation()).forEach(definitions::add);
+            if (!definitions.isEmpty()) {
+                result.computeIfAbsent(entity.getCollection(), c -> new ArrayList<>()).addAll(definitions);
+            }
+        }
+        return result;
+    }
+
+    private static long accessOps(Document stat) {
+        Document accesses = stat.get("accesses", Document.class);
+        if (accesses == null || !(accesses.get("ops") instanceof Number ops)) {
+            return 0L;
+        }
+        return ops.longValue();
+    }
+
+    /// 인덱스 key 비교용 문자열 (1 / 1.0 / 1L 처럼 숫자 타입이 달라도 같은 인덱스로 판단)
+    private static String keySignature(Document keys) {
+        if (keys == null) {
+            return "";
+        }
+        return keys.entrySet().stream()
+                .map(e -> e.getKey() + ":" + (e.getValue() instanceof Number n ? String.valueOf(n.intValue()) : String.valueOf(e.getValue())))
+                .collect(Collectors.joining(","));
+    }
+
+    private static boolean isTextIndex(Document keys) {
+        return keys != null && keys.containsKey("_fts");
+    }
+
+    private static Document weightsOf(Object weights) {
+        return weights instanceof Document document ? document : new Document();
+    }
+
+    private static String weightSignature(Document weights) {
+        return weights.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(e -> e.getKey() + ":" + (e.getValue() instanceof Number n ? String.valueOf(n.intValue()) : String.valueOf(e.getValue())))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String indexName(Document options, Document keys) {
+        Object name = options.get("name");
+        return name != null ? name.toString() : keySignature(keys);
+    }
+
+    public record CollectionIndexReport(
+            List<String> declared,
+            List<String> missing,
+            List<String> undeclared,
+            List<String> unused,
+            Map<String, Long> accesses
+    ) {
+    }
+}
@@ -0,0 +1,83 @@
+package click.dailyfeed.content.config.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 pinning 진단
+ * - synchronized 블록/native 프레임 안에서 blocking 되어 캐리어 스레드를 붙잡은 경우(jdk.VirtualThreadPinned)를 JFR 스트림으로 수집
+ * - pinned-threshold-ms 이상 붙잡은 경우만 dailyfeed.content.virtual-thread.pinned 타이머에 기록하고, 상위 stack-depth 개 프레임을 로그로 남김
+ * - hikari 커넥션 대기, mysql 드라이버, kafka producer 등 라이브러리 내부의 synchronized 구간도 여기서 확인
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor {
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Timer pinnedTimer;
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(
+            MeterRegistry meterRegistry,
+            @Value("${dailyfeed.services.content.virtual-threads.pinned-threshold-ms:20}") long pinnedThresholdMs,
+            @Value("${dailyfeed.services.content.virtual-threads.pinned-stack-depth:8}") int stackDepth
+    ) {
+        this.threshold = Duration.ofMillis(pinnedThresholdMs);
+        this.stackDepth = Math.max(1, stackDepth);
+        this.pinnedTimer = Timer.builder("dailyfeed.content.virtual-thread.pinned").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            recordingStream = new RecordingStream();
+            recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+            recordingStream.startAsync();
+        } catch (Exception e) {
+            log.warn("Virtual thread pinning monitor disabled, jfr unavailable", e);
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+        log.warn("Virtual thread pinned. duration: {}ms, thread: {}, stack: {}",
+                event.getDuration().toMillis(), event.getThread() != null ? event.getThread().getJavaName() : null, topFrames(event));
+    }
+
+    private String topFrames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return "";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.stream()
+                .limit(stackDepth)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                .collect(Collectors.joining(" <- "));
+    }
+}
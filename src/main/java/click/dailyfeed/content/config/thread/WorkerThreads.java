@@ -0,0 +1,22 @@
+package click.dailyfeed.content.config.thread;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 내부 worker 스레드 생성
+ * - spring.threads.virtual.enabled=true 이면 가상 스레드, 아니면 daemon 플랫폼 스레드
+ * - 동시 실행 수는 스레드 종류와 관계없이 각 컴포넌트의 고정 크기 풀(worker-threads, parallelism)로 제한
+ */
+public final class WorkerThreads {
+    public static final String VIRTUAL_ENABLED_PROPERTY = "${spring.threads.virtual.enabled:false}";
+
+    private WorkerThreads() {
+    }
+
+    public static ThreadFactory factory(String name, boolean virtual) {
+        if (virtual) {
+            return Thread.ofVirtual().name(name + "-", 0).factory();
+        }
+        return Thread.ofPlatform().name(name + "-", 0).daemon(true).factory();
+    }
+}
@@ -0,0 +1,251 @@
+package click.dailyfeed.content.domain.activity.publisher;
+
+import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import click.dailyfeed.content.config.thread.WorkerThreads;
+import click.dailyfeed.deadletter.domain.deadletter.service.FeignDeadLetterService;
+import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * FEIGN 모드 멤버 활동 기록 발행 큐
+ * - 쓰기 요청은 큐에 넣기만 하고 바로 반환 (요청 스레드에서 activity 서비스 호출 없음, rate limit 거절도 사용자에게 전달되지 않음)
+ * - worker 가 큐에서 batch-size 건씩 꺼내 순서대로 호출하고, 실패한 요청은 지수 백오프(+jitter) 후 다시 큐에 넣어 재시도
+ * - max-attempts 번 실패했거나 큐가 가득 찬 경우 feign dead letter 로 저장
+ * - 큐 길이는 dailyfeed.content.activity.feign.queue.size 게이지로 노출
+ */
+@Slf4j
+@Component
+public class QueuedMemberActivityFeignPublisher {
+    private static final String METRIC_PREFIX = "dailyfeed.content.activity.feign";
+
+    private final MemberActivityFeignHelper memberActivityFeignHelper;
+    private final FeignDeadLetterService feignDeadLetterService;
+    private final int capacity;
+    private final int batchSize;
+    private final int workerThreads;
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+
+    private final DelayQueue<Task> queue = new DelayQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private final ExecutorService workers;
+
+    private final Counter publishedCounter;
+    private final Counter retriedCounter;
+    private final Counter deadLetteredCounter;
+
+    public QueuedMemberActivityFeignPublisher(
+            MemberActivityFeignHelper memberActivityFeignHelper,
+            FeignDeadLetterService feignDeadLetterService,
+            MeterRegistry meterRegistry,
+            @Value("${dailyfeed.services.content.activity-feign-queue.capacity:10000}") int capacity,
+            @Value("${dailyfeed.services.content.activity-feign-queue.batch-size:50}") int batchSize,
+            @Value("${dailyfeed.services.content.activity-feign-queue.worker-threads:2}") int workerThreads,
+            @Value("${dailyfeed.services.content.activity-feign-queue.max-attempts:5}") int maxAttempts,
+            @Value("${dailyfeed.services.content.activity-feign-queue.base-backoff-ms:200}") long baseBackoffMs,
+            @Value("${dailyfeed.services.content.activity-feign-queue.max-backoff-ms:30000}") long maxBackoffMs,
+            @Value(WorkerThreads.VIRTUAL_ENABLED_PROPERTY) boolean virtualThreads
+    ) {
+        this.memberActivityFeignHelper = memberActivityFeignHelper;
+        this.feignDeadLetterService = feignDeadLetterService;
+        this.capacity = capacity;
+        this.batchSize = Math.max(1, batchSize);
+        this.workerThreads = Math.max(1, workerThreads);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.workers = Executors.newFixedThreadPool(this.workerThreads, WorkerThreads.factory("activity-feign-publisher", virtualThreads));
+
+        Gauge.builder(METRIC_PREFIX + ".queue.size", size, AtomicInteger::get).register(meterRegistry);
+        this.publishedCounter = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "published").register(meterRegistry);
+        this.retriedCounter = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "retried").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder(METRIC_PREFIX + ".requests").tag("result", "dead_lettered").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running.set(true);
+        for (int i = 0; i < workerThreads; i++) {
+            workers.submit(this::work);
+        }
+    }
+
+    /// 종료 시 남은 요청은 호출하지 않고 dead letter 로 보관
+    @PreDestroy
+    public void stop() {
+        running.set(false);
+        workers.shutdownNow();
+        List<Task> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (Task task : remaining) {
+            size.decrementAndGet();
+            deadLetter(task);
+        }
+    }
+
+    public void publishPostActivity(MemberActivityDto.PostActivityRequest request, String token) {
+        enqueue(new Task("post", token,
+                t -> memberActivityFeignHelper.createPostsMemberActivity(request, t, null),
+                () -> feignDeadLetterService.createPostActivityDeadLetter(request)));
+    }
+
+    public void publishPostLikeActivity(MemberActivityDto.PostLikeActivityRequest request, String token) {
+        enqueue(new Task("post_like", token,
+                t -> memberActivityFeignHelper.createPostLikeMemberActivity(request, t, null),
+                () -> feignDeadLetterService.createPostLikeActivityDeadLetter(request)));
+    }
+
+    public void publishCommentActivity(MemberActivityDto.CommentActivityRequest request, String token) {
+        enqueue(new Task("comment", token,
+                t -> memberActivityFeignHelper.createCommentsMemberActivity(request, t, null),
+                () -> feignDeadLetterService.createCommentActivityDeadLetter(request)));
+    }
+
+    public void publishCommentLikeActivity(MemberActivityDto.CommentLikeActivityRequest request, String token) {
+        enqueue(new Task("comment_like", token,
+                t -> memberActivityFeignHelper.createCommentLikeMemberActivity(request, t, null),
+                () -> feignDeadLetterService.createCommentLikeActivityDeadLetter(request)));
+    }
+
+    public int queueSize() {
+        return size.get();
+    }
+
+    /// 요청 트랜잭션 안에서 호출되면 커밋 이후에 큐에 넣음 (롤백된 쓰기의 활동 기록은 발행하지 않음)
+    private void enqueue(Task task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(task);
+                }
+            });
+            return;
+        }
+        offer(task);
+    }
+
+    private void offer(Task task) {
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            log.warn("Activity feign queue is full, dead-lettering. kind: {}, capacity: {}", task.kind, capacity);
+            deadLetter(task);
+            return;
+        }
+        queue.put(task);
+    }
+
+    private void work() {
+        List<Task> batch = new ArrayList<>(batchSize);
+        while (running.get()) {
+            try {
+                Task first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                size.addAndGet(-batch.size());
+                batch.forEach(this::send);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.warn("Activity feign worker failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(Task task) {
+        try {
+            // 요청 스레드의 HttpServletResponse 는 이미 반환되었으므로 전달하지 않음
+            task.call.accept(task.token);
+            publishedCounter.increment();
+        } catch (Exception e) {
+            if (task.attempts + 1 >= maxAttempts || !running.get()) {
+                log.warn("Activity feign request failed {} times, dead-lettering. kind: {}", task.attempts + 1, task.kind, e);
+                deadLetter(task);
+                return;
+            }
+            retriedCounter.increment();
+            offer(task.retry(backoffMs(task.attempts + 1)));
+        }
+    }
+
+    private void deadLetter(Task task) {
+        try {
+            task.deadLetter.run();
+            deadLetteredCounter.increment();
+        } catch (Exception e) {
+            log.error("Failed to store activity feign dead letter. kind: {}", task.kind, e);
+        }
+    }
+
+    /// base * 2^(attempts - 1), max-backoff-ms 이하, ±20% jitter
+    private long backoffMs(int attempts) {
+        long backoff = Math.min(maxBackoffMs, baseBackoffMs << Math.min(attempts - 1, 20));
+        long jitter = backoff / 5;
+        return backoff - jitter + ThreadLocalRandom.current().nextLong(jitter * 2 + 1);
+    }
+
+    private static final class Task implements Delayed {
+        private final String kind;
+        private final String token;
+        private final Consumer<String> call;
+        private final Runnable deadLetter;
+        private final int attempts;
+        private final long readyAtNanos;
+
+        private Task(String kind, String token, Consumer<String> call, Runnable deadLetter) {
+            this(kind, token, call, deadLetter, 0, System.nanoTime());
+        }
+
+        private Task(String kind, String token, Consumer<String> call, Runnable deadLetter, int attempts, long readyAtNanos) {
+            this.kind = kind;
+            this.token = token;
+            this.call = call;
+            this.deadLetter = deadLetter;
+            this.attempts = attempts;
+            this.readyAtNanos = readyAtNanos;
+        }
+
+        private Task retry(long delayMs) {
+            return new Task(kind, token, call, deadLetter, attempts + 1, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs));
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(readyAtNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(readyAtNanos, ((Task) other).readyAtNanos);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package click.dailyfeed.content.domain.base.concurrent;
+
+import click.dailyfeed.content.config.thread.WorkerThreads;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 메서드 안의 서로 독립적인 I/O 단계를 병렬로 실행 (structured concurrency)
+ * - open() 으로 연 Scope 안에서 fork 한 단계는 Scope 를 벗어나기 전에 모두 끝나거나 취소됨 (try-with-resources 로 사용)
+ * - 모든 단계가 open() 시점부터 deadline-ms 안에 끝나야 하며, 넘기면 남은 단계를 취소하고 FanOutDeadlineExceededException
+ * - 한 단계가 실패하면 나머지 단계를 바로 취소(interrupt)하고 join() 에서 첫 실패를 그대로 다시 던짐
+ * - 트랜잭션 세션이 스레드에 묶이므로 DB/mongodb 쓰기는 fork 하지 않고 호출 스레드에서 수행, fork 는 외부 HTTP 조회 등에 사용
+ */
+@Component
+public class FanOut {
+    private final Duration deadline;
+    private final ExecutorService executor;
+
+    public FanOut(
+            @Value("${dailyfeed.services.content.fan-out.deadline-ms:5000}") long deadlineMs,
+            @Value("${dailyfeed.services.content.fan-out.max-threads:64}") int maxThreads,
+            @Value(WorkerThreads.VIRTUAL_ENABLED_PROPERTY) boolean virtualThreads
+    ) {
+        this.deadline = Duration.ofMillis(deadlineMs);
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(WorkerThreads.factory("fan-out", true))
+                // 플랫폼 스레드는 max-threads 까지만 만들고, 모두 사용 중이면 호출 스레드에서 바로 실행 (순차 실행으로 후퇴)
+                : new ThreadPoolExecutor(0, Math.max(1, maxThreads), 60L, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                        WorkerThreads.factory("fan-out", false), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    public Scope open() {
+        return new Scope(deadline, executor);
+    }
+
+    public static final class Scope implements AutoCloseable {
+        private final Duration deadline;
+        private final long deadlineNanos;
+        private final ExecutorService executor;
+        private final List<FutureTask<?>> tasks = new CopyOnWriteArrayList<>();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private boolean joined;
+
+        private Scope(Duration deadline, ExecutorService executor) {
+            this.deadline = deadline;
+            this.deadlineNanos = System.nanoTime() + deadline.toNanos();
+            this.executor = executor;
+        }
+
+        public <T> Subtask<T> fork(Supplier<T> step) {
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            AtomicReference<FutureTask<T>> self = new AtomicReference<>();
+            FutureTask<T> task = new FutureTask<>(() -> {
+                // CallerRunsPolicy 로 호출 스레드에서 실행될 수도 있으므로 기존 값을 되돌려 놓음
+                RequestAttributes previous = RequestContextHolder.getRequestAttributes();
+                RequestContextHolder.setRequestAttributes(requestAttributes);
+                try {
+                    return step.get();
+                } catch (RuntimeException | Error e) {
+                    if (failure.compareAndSet(null, e)) {
+                        cancelAll(self.get());
+                    }
+                    throw e;
+                } finally {
+                    if (previous != null) {
+                        RequestContextHolder.setRequestAttributes(previous);
+                    } else {
+                        RequestContextHolder.resetRequestAttributes();
+                    }
+                }
+            });
+            self.set(task);
+            tasks.add(task);
+            executor.execute(task);
+            return new Subtask<>(task);
+        }
+
+        /// fork 한 단계가 모두 끝날 때까지 대기, 실패/시간 초과 시 예외
+        public void join() {
+            joined = true;
+            try {
+                for (FutureTask<?> task : tasks) {
+                    try {
+                        task.get(Math.max(0L, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    } catch (CancellationException | ExecutionException e) {
+                        // 실패 원인은 failure 에 기록됨
+                    }
+                }
+            } catch (TimeoutException e) {
+                cancelAll(null);
+                throw new FanOutDeadlineExceededException(deadline);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll(null);
+                throw new CancellationException("fan-out join interrupted");
+            }
+
+            Throwable cause = failure.get();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+        }
+
+        /// join 하지 않고 벗어나면(호출 스레드 단계에서 예외 등) 남은 단계를 모두 취소
+        @Override
+        public void close() {
+            if (!joined) {
+                cancelAll(null);
+            }
+        }
+
+        private void cancelAll(FutureTask<?> except) {
+            for (FutureTask<?> task : tasks) {
+                if (task != except && !task.isDone()) {
+                    task.cancel(true);
+                }
+            }
+        }
+    }
+
+    public static final class Subtask<T> {
+        private final Future<T> future;
+
+        private Subtask(Future<T> future) {
+            this.future = future;
+        }
+
+        /// join() 이 정상 반환한 뒤에만 호출
+        public T get() {
+            return future.resultNow();
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package click.dailyfeed.content.domain.base.concurrent;
+
+import java.time.Duration;
+
+public class FanOutDeadlineExceededException extends RuntimeException {
+    public FanOutDeadlineExceededException(Duration deadline) {
+        super("병렬 처리 단계가 제한 시간(" + deadline.toMillis() + "ms) 안에 끝나지 않았습니다.");
+    }
+}
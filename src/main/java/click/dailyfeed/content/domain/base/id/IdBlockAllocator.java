@@ -0,0 +1,41 @@
+package click.dailyfeed.content.domain.base.id;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * JDBC 로 직접 insert 하는 경로(대량 등록)용 id 구간 할당
+ * - hibernate pooled generator 와 같은 id_sequences 행을 사용 : 값이 S 이면 (S - ALLOCATION_SIZE, S - ALLOCATION_SIZE + count] 를 가져가고 S + count 로 갱신
+ * - 행 잠금을 오래 잡지 않도록 호출한 쪽 트랜잭션과 별도로 바로 커밋 (사용하지 못한 구간은 비어 있는 id 로 남음)
+ */
+@Component
+public class IdBlockAllocator {
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public IdBlockAllocator(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public List<Long> allocate(String sequenceName, int count) {
+        Long first = requiresNew.execute(status -> {
+            Long current = jdbcTemplate.queryForObject(
+                    "SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE + " WHERE " + IdSequences.NAME_COLUMN + " = ? FOR UPDATE",
+                    Long.class, sequenceName);
+            jdbcTemplate.update(
+                    "UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ? WHERE " + IdSequences.NAME_COLUMN + " = ?",
+                    current + count, sequenceName);
+            return current - IdSequences.ALLOCATION_SIZE + 1;
+        });
+        return LongStream.range(first, first + count).boxed().toList();
+    }
+}
@@ -0,0 +1,37 @@
+package click.dailyfeed.content.domain.base.id;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 시 id_sequences 의 next_val 을 기존 id 보다 크게 맞춤
+ * - IDENTITY 로 발급된 기존 id 와 겹치지 않도록 next_val >= MAX(id) + ALLOCATION_SIZE 로만 올림 (GREATEST 이므로 이미 실행 중인 pod 의 할당 구간을 침범하지 않음)
+ * - IDENTITY 로 insert 하는 이전 버전 pod 가 함께 떠 있으면 id 가 겹칠 수 있으므로, 전환 배포는 이전 버전 pod 를 모두 내린 뒤 진행 (IdSequences 참고)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class IdSequenceInitializer {
+    private static final String SEED_SQL = "INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", " + IdSequences.VALUE_COLUMN + ") " +
+            "SELECT ?, COALESCE(MAX(id), 0) + ? FROM %s " +
+            "ON DUPLICATE KEY UPDATE " + IdSequences.VALUE_COLUMN + " = GREATEST(" + IdSequences.VALUE_COLUMN + ", VALUES(" + IdSequences.VALUE_COLUMN + "))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void seed() {
+        seed(IdSequences.POSTS, "posts");
+        seed(IdSequences.COMMENTS, "comments");
+    }
+
+    private void seed(String sequenceName, String table) {
+        jdbcTemplate.update(SEED_SQL.formatted(table), sequenceName, IdSequences.ALLOCATION_SIZE);
+        Long nextValue = jdbcTemplate.queryForObject(
+                "SELECT " + IdSequences.VALUE_COLUMN + " FROM " + IdSequences.TABLE + " WHERE " + IdSequences.NAME_COLUMN + " = ?",
+                Long.class, sequenceName);
+        log.info("Id sequence ready. sequence: {}, next_val: {}", sequenceName, nextValue);
+    }
+}
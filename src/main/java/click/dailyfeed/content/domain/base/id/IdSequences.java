@@ -0,0 +1,21 @@
+package click.dailyfeed.content.domain.base.id;
+
+/**
+ * posts/comments id 할당 테이블 (hibernate pooled table generator)
+ * - IDENTITY 는 insert 마다 키를 돌려받아야 해서 JDBC batch 가 꺼지므로, allocation-size 단위로 id 구간을 미리 받아 pod 안에서 소진
+ * - 테이블 값(next_val)이 S 이면 다음 할당 구간은 (S - ALLOCATION_SIZE, S], 기존 id 와 겹치지 않도록 기동 시 IdSequenceInitializer 가 MAX(id) 이상으로 올림
+ * - 배포 전에 테이블이 있어야 함 (ddl-auto: validate), 테이블 생성과 MAX(id) 기준 초기값 DDL : resources/db/ddl/id_sequences.sql
+ * - IDENTITY → table generator 전환 배포는 rolling update 로 하면 안 됨 (기존 pod 를 모두 내린 뒤 새 pod 를 올림, 예: Recreate 전략)
+ *   InnoDB 는 id 를 직접 넣으면 AUTO_INCREMENT 를 그 id + 1 로 올리므로, 기존 pod 가 새 pod 의 할당 구간 안의 id 를 발급하게 되어 간격을 두어도 겹침
+ */
+public final class IdSequences {
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final String POSTS = "posts";
+    public static final String COMMENTS = "comments";
+    public static final int ALLOCATION_SIZE = 100;
+
+    private IdSequences() {
+    }
+}
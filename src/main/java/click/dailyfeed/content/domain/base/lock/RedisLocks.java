@@ -0,0 +1,33 @@
+package click.dailyfeed.content.domain.base.lock;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * SET NX PX 로 잡은 redis lock 해제
+ * - 작업이 lock timeout 보다 오래 걸리면 그 사이 다른 pod 가 같은 key 로 lock 을 잡을 수 있으므로, 값(owner)이 내 것일 때만 삭제 (GET + DEL 을 Lua 로 한 번에)
+ * - 해제에 실패해도 lock 은 timeout 이 지나면 풀리므로 예외는 로그만 남김
+ */
+@Slf4j
+public final class RedisLocks {
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private RedisLocks() {
+    }
+
+    /// owner 가 잡은 lock 이면 삭제하고 true, 이미 만료되었거나 다른 owner 의 lock 이면 false
+    public static boolean release(StringRedisTemplate redisTemplate, String key, String owner) {
+        try {
+            return Long.valueOf(1L).equals(redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner));
+        } catch (Exception e) {
+            log.warn("Failed to release redis lock. key: {}", key, e);
+            return false;
+        }
+    }
+}
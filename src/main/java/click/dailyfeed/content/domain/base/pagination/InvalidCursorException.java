@@ -0,0 +1,7 @@
+package click.dailyfeed.content.domain.base.pagination;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException() {
+        super("유효하지 않은 커서입니다.");
+    }
+}
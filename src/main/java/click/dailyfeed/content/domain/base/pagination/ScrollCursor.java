@@ -0,0 +1,45 @@
+package click.dailyfeed.content.domain.base.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) keyset 커서
+ * - 클라이언트에는 base64url 로 인코딩한 불투명 토큰으로만 노출
+ * - 첫 페이지는 모든 행보다 뒤에 있는 sentinel 값으로 조회 (쿼리를 하나로 유지)
+ */
+public record ScrollCursor(LocalDateTime createdAt, Long id) {
+    private static final String DELIMITER = "|";
+    private static final ScrollCursor FIRST = new ScrollCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    public static ScrollCursor first() {
+        return FIRST;
+    }
+
+    /// 토큰이 비어있으면 첫 페이지
+    public static ScrollCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int delimiterIndex = raw.lastIndexOf(DELIMITER);
+            if (delimiterIndex < 0) {
+                throw new InvalidCursorException();
+            }
+            return new ScrollCursor(
+                    LocalDateTime.parse(raw.substring(0, delimiterIndex)),
+                    Long.parseLong(raw.substring(delimiterIndex + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException();
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
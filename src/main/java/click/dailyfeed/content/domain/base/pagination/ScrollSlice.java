@@ -0,0 +1,37 @@
+package click.dailyfeed.content.domain.base.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 기반 페이지 응답 (전체 건수 없음)
+ * - nextCursor 를 다음 요청의 cursor 로 그대로 전달, hasNext 가 false 면 마지막 페이지
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScrollSlice<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <E, T> ScrollSlice<T> of(Slice<E> slice, List<T> content, Function<E, ScrollCursor> cursorOf) {
+        String nextCursor = null;
+        if (slice.hasNext() && slice.hasContent()) {
+            List<E> rows = slice.getContent();
+            nextCursor = cursorOf.apply(rows.get(rows.size() - 1)).encode();
+        }
+        return ScrollSlice.<T>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(slice.hasNext())
+                .build();
+    }
+}
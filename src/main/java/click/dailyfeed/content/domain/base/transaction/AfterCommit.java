@@ -0,0 +1,28 @@
+package click.dailyfeed.content.domain.base.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행
+ * - 요청 트랜잭션 안에서 호출되면 커밋 이후에 실행하고, 롤백되면 실행하지 않음 (트랜잭션이 없으면 바로 실행)
+ * - 커밋 결과로만 바로잡을 수 있는 부수 효과(메모리 카운터, redis 캐시/필터, outbox 등록)를 롤백된 쓰기에 대해 남기지 않기 위해 사용
+ * - JpaTransactions 블록 안에서 호출하면 바깥 mongodb 트랜잭션이 아니라 그 JPA 트랜잭션의 커밋 시점에 실행됨
+ */
+public final class AfterCommit {
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
@@ -0,0 +1,42 @@
+package click.dailyfeed.content.domain.base.transaction;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * MySQL(JPA) 트랜잭션
+ * - 기본 transactionManager 는 mongodb 용이라 @Transactional 로는 MySQL 쓰기가 트랜잭션에 묶이지 않으므로, MySQL 쓰기를 함께 커밋해야 하는 구간을 이 템플릿으로 감쌈
+ * - JpaTransactionManager 가 같은 커넥션을 DataSource 에도 바인딩하므로 JdbcTemplate 쓰기도 같은 트랜잭션에 참여
+ * - 이미 열린 JPA 트랜잭션이 있으면 참여 (REQUIRED), 없으면 새로 열고 블록이 끝나면 커밋
+ * - mongodb 트랜잭션 안에서 열면 블록이 끝날 때 mongodb 보다 먼저 커밋됨
+ *   - 블록 안에서 던져진 예외(블록 안의 mongodb 쓰기 실패 포함)만 MySQL 쓰기를 롤백함
+ *   - 블록이 끝난 뒤 mongodb 커밋이 실패해도(WriteConflict 등) 이미 커밋된 MySQL 쓰기는 되돌아가지 않음
+ *   - mongodb 커밋 결과에 따라야 하는 MySQL 쓰기(mongodb 에만 쓰는 좋아요의 outbox 등록 등)는 AfterCommit 으로 mongodb 커밋 이후에 수행
+ */
+@Component
+public class JpaTransactions {
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    public JpaTransactions(EntityManagerFactory entityManagerFactory) {
+        this(new JpaTransactionManager(entityManagerFactory));
+    }
+
+    public JpaTransactions(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public <T> T execute(Supplier<T> action) {
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    public void run(Runnable action) {
+        transactionTemplate.executeWithoutResult(status -> action.run());
+    }
+}
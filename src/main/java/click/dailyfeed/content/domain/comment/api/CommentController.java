@@ -5,22 +5,36 @@ import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
+import click.dailyfeed.content.domain.base.pagination.ScrollSlice;
+import click.dailyfeed.content.domain.comment.dto.CommentTreeDto;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.comment.service.CommentTreeService;
+import click.dailyfeed.content.domain.like.dto.LikeDto;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.search.dto.SearchDto;
+import click.dailyfeed.content.domain.search.service.ContentSearchService;
 import click.dailyfeed.feign.config.web.annotation.AuthenticatedMember;
 import click.dailyfeed.feign.config.web.annotation.AuthenticatedMemberProfileSummary;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @RequestMapping("/api/comments")
 @RestController
 public class CommentController {
     private final CommentService commentService;
+    private final CommentTreeService commentTreeService;
+    private final LikedByMeService likedByMeService;
+    private final ContentSearchService contentSearchService;
 
     ///  /comments  ///
     // 댓글 작성
@@ -59,27 +73,20 @@ public class CommentController {
     ///   Post Controller 내에서 구성하는게 이론적으로는 적절하지만,
     ///   게시글 서비스와 댓글 서비스간의 경계를 구분하기로 결정했기에 댓글 관리의 주체를 CommentController 로 지정
     ///   특정 게시글의 댓글 목록 조회 (계층구조)
-    // 특정 게시글의 댓글 목록을 페이징으로 조회
-//    @GetMapping("/post/{postId}")
-//    public DailyfeedPageResponse<CommentDto.Comment> getCommentsByPost(
-//            @AuthenticatedMember MemberDto.Member requestedMember,
-//            @RequestHeader("Authorization") String authorizationHeader,
-//            HttpServletResponse httpResponse,
-//            @PathVariable Long postId,
-//            @PageableDefault(
-//                    page = 0,
-//                    size = 10,
-//                    sort = "createdAt",
-//                    direction = Sort.Direction.DESC
-//            ) Pageable pageable) {
-//
-//        DailyfeedPage<CommentDto.Comment> result = commentService.getCommentsByPostWithPaging(postId, pageable, authorizationHeader, httpResponse);
-//        return DailyfeedPageResponse.<CommentDto.Comment>builder()
-//                .status(HttpStatus.OK.value())
-//                .result(ResponseSuccessCode.SUCCESS)
-//                .data(result)
-//                .build();
-//    }
+    // 특정 게시글의 댓글 스레드 조회 (커서) : 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 그대로 전달
+    @GetMapping("/post/{postId}")
+    public DailyfeedServerResponse<ScrollSlice<CommentTreeDto.Node>> getCommentsByPost(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+
+        ScrollSlice<CommentTreeDto.Node> result = commentTreeService.getThreads(postId, cursor, size);
+        return DailyfeedServerResponse.<ScrollSlice<CommentTreeDto.Node>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
 
 //    /// /comments/member/{memberId}     ///
 //    // 특정 사용자의 댓글 목록
@@ -166,6 +173,34 @@ public class CommentController {
 //                .build();
 //    }
 
+    // 댓글 검색 (관련도 순)
+    @GetMapping("/search")
+    public DailyfeedServerResponse<List<SearchDto.CommentHit>> searchComments(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        List<SearchDto.CommentHit> result = contentSearchService.searchComments(keyword, page, size);
+        return DailyfeedServerResponse.<List<SearchDto.CommentHit>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    // 댓글 좋아요 여부 일괄 조회
+    @GetMapping("/likes/me")
+    public DailyfeedServerResponse<LikeDto.LikedByMe> getLikedByMe(
+            @AuthenticatedMember MemberDto.Member member,
+            @RequestParam @NotEmpty @Size(max = LikeDto.MAX_IDS_PER_REQUEST) List<Long> commentIds
+    ) {
+        LikeDto.LikedByMe result = LikeDto.LikedByMe.of(commentIds, likedByMeService.getLikedComments(member.getId(), commentIds));
+        return DailyfeedServerResponse.<LikeDto.LikedByMe>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
     // 댓글 좋아요
     @PostMapping("/{commentId}/like")
     public DailyfeedServerResponse<Boolean> likeComment(
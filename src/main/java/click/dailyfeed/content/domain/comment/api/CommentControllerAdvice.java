@@ -17,6 +17,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @RestControllerAdvice(basePackages = "click.dailyfeed.content.domain.comment.api")
@@ -40,6 +41,18 @@ public class CommentControllerAdvice {
         );
     }
 
+    // @RequestParam 제약 조건(@NotEmpty, @Size 등) 위반
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleHandlerMethodValidationException(HandlerMethodValidationException e, HttpServletRequest request) {
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                "요청 값이 올바르지 않습니다.",
+                request.getRequestURI()
+        );
+    }
+
     @ExceptionHandler(KeyRefreshErrorException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public DailyfeedErrorResponse handleKeyRefreshErrorException(KeyRefreshErrorException e, HttpServletRequest request, HttpServletResponse response) {
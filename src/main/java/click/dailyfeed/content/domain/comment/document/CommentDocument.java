@@ -1,10 +1,14 @@
 package click.dailyfeed.content.domain.comment.document;
 
+import click.dailyfeed.content.domain.search.tokenizer.KoreanBigramTokenizer;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.annotation.PersistenceCreator;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
@@ -13,7 +17,11 @@ import java.time.LocalDateTime;
 
 @Getter
 @NoArgsConstructor
-@Document(collection = "comments")
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_comments_comment_pk_is_deleted", def = "{ 'comment_pk': 1, 'is_deleted': 1 }"),
+        @CompoundIndex(name = "idx_comments_post_pk_is_deleted", def = "{ 'post_pk': 1, 'is_deleted': 1 }")
+})
+@Document(collection = "comments", language = "none")
 public class CommentDocument {
     @Id
     private ObjectId id;
@@ -29,6 +37,11 @@ public class CommentDocument {
 
     private String content;
 
+    // 검색 색인용 bigram 토큰 (content 를 KoreanBigramTokenizer 로 변환한 값)
+    @TextIndexed
+    @Field("search_content")
+    private String searchContent;
+
     @Field("created_at")
     private LocalDateTime createdAt;
 
@@ -64,21 +77,12 @@ public class CommentDocument {
         this.postPk = postPk;
         this.commentPk = commentPk;
         this.content = content;
+        this.searchContent = KoreanBigramTokenizer.toIndexText(content);
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.isDeleted = Boolean.FALSE;
     }
 
-    @Builder(builderMethodName = "updatedCommentBuilder", builderClassName = "UpdatedPost")
-    private CommentDocument(CommentDocument oldDocument, LocalDateTime updatedAt) {
-        this.postPk = oldDocument.getPostPk();
-        this.commentPk = oldDocument.getCommentPk();
-        this.content = oldDocument.getContent();
-        this.createdAt = oldDocument.getCreatedAt();
-        this.updatedAt =  updatedAt;
-        this.isDeleted = Boolean.FALSE;
-    }
-
     public static CommentDocument newComment(Long postPk, Long commentPk, String content, LocalDateTime createdAt, LocalDateTime updatedAt){
         return CommentDocument.newCommentBuilder()
                 .postPk(postPk)
@@ -89,13 +93,6 @@ public class CommentDocument {
                 .build();
     }
 
-    public static CommentDocument newUpdatedComment(CommentDocument commentDocument, LocalDateTime updatedAt){
-        return CommentDocument.updatedCommentBuilder()
-                .oldDocument(commentDocument)
-                .updatedAt(updatedAt)
-                .build();
-    }
-
     public static CommentDocument newReplyDocument(Long postPk, Long parentPk, Long commentPk, String content, LocalDateTime createdAt, LocalDateTime updatedAt){
         return CommentDocument.newCommentBuilder()
                 .postPk(postPk)
@@ -0,0 +1,29 @@
+package click.dailyfeed.content.domain.comment.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+/**
+ * 댓글 단위 집계값 (좋아요 수 등)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "comment_stats")
+public class CommentStatsDocument {
+    @Id
+    private ObjectId id;
+
+    @Indexed(name = "ux_comment_stats_comment_pk", unique = true)
+    @Field("comment_pk")
+    private Long commentPk;
+
+    @Field("like_count")
+    private Long likeCount;
+}
@@ -0,0 +1,25 @@
+package click.dailyfeed.content.domain.comment.dto;
+
+import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class CommentTreeDto {
+
+    // 댓글 + 답글 미리보기 (replies 는 앞에서부터 일부만, 나머지는 hasMoreReplies 로 표시)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Node {
+        private CommentDto.Comment comment;
+        private Long likeCount;
+        private Integer replyCount;
+        private Boolean hasMoreReplies;
+        private List<Node> replies;
+    }
+}
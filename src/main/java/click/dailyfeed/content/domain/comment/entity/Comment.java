@@ -1,6 +1,7 @@
 package click.dailyfeed.content.domain.comment.entity;
 
 import click.dailyfeed.content.domain.base.BaseTimeEntity;
+import click.dailyfeed.content.domain.base.id.IdSequences;
 import click.dailyfeed.content.domain.post.entity.Post;
 import jakarta.persistence.*;
 import lombok.*;
@@ -8,15 +9,33 @@ import lombok.*;
 import java.util.ArrayList;
 import java.util.List;
 
-@Table(name = "comments")
+@Table(
+        name = "comments",
+        indexes = {
+                // 게시글 댓글 트리 조회 (post_id, parent_id, created_at), DDL : resources/db/ddl/comments_indexes.sql
+                @Index(name = "idx_comments_post_parent_created_at", columnList = "post_id, parent_id, created_at"),
+                // 하위 댓글 전체 조회 (path 접두사 범위 조회), DDL : resources/db/ddl/comments_path.sql
+                @Index(name = "idx_comments_path", columnList = "path")
+        }
+)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(staticName = "ofAll")
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class Comment extends BaseTimeEntity {
+    public static final String ROOT_PATH = "/";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(
+            name = "comment_id_generator",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.COMMENTS,
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -47,9 +66,15 @@ public class Comment extends BaseTimeEntity {
     @Column(name = "depth")
     private Integer depth = 0;
 
-    @Column(name = "like_count")
+    // 좋아요 수는 LikeCountWriter 가 증감분만 UPDATE 하므로, 댓글 수정의 dirty checking UPDATE 가 읽은 값으로 덮어쓰지 않도록 제외
+    @Column(name = "like_count", updatable = false)
     private Long likeCount = 0L;
 
+    // 조상 댓글 id 경로 (최상위 댓글은 "/", 답글은 부모의 path + 부모 id + "/")
+    // 하위 댓글 전체 = path 가 subtreePath() 로 시작하는 댓글, 컬럼 DDL : resources/db/ddl/comments_path.sql
+    @Column(name = "path", length = 255)
+    private String path = ROOT_PATH;
+
     @Builder(builderMethodName = "commentBuilder")
     public Comment(String content, Post post, Long authorId){
         this.content = content;
@@ -87,6 +112,20 @@ public class Comment extends BaseTimeEntity {
         children.add(child);
         child.updateParent(this);
         child.depth = this.depth + 1;  // 자식의 depth = 부모의 depth + 1
+        child.path = this.subtreePath();
+    }
+
+    // 하위 댓글들의 path 접두사
+    public String subtreePath() {
+        return resolvePath() + id + "/";
+    }
+
+    // path 백필 전 행(path 가 null)은 조상을 따라 올라가며 계산해서 채움 (트랜잭션 안이면 변경 감지로 함께 저장됨)
+    private String resolvePath() {
+        if (path == null) {
+            path = parent == null ? ROOT_PATH : parent.subtreePath();
+        }
+        return path;
     }
 
     public void softDelete() {
@@ -6,6 +6,8 @@ import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.global.menu.MessageProperties;
 import click.dailyfeed.content.domain.comment.entity.Comment;
+import click.dailyfeed.content.domain.comment.projection.CommentPreviewProjection;
+import click.dailyfeed.content.domain.comment.projection.CommentTreeRowProjection;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -26,6 +28,33 @@ public class CommentMapper {
                 .build();
     }
 
+    // 트리 조회용 (작성자 프로필은 클라이언트가 authorId 로 별도 조회)
+    public CommentDto.Comment toCommentTreeItem(CommentTreeRowProjection row, Long postId) {
+        return CommentDto.Comment.builder()
+                .id(row.getId())
+                .content(row.getContent())
+                .authorId(row.getAuthorId())
+                .postId(postId)
+                .parentId(row.getParentId())
+                .depth(row.getDepth())
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
+    // 게시글 댓글 미리보기용 (최상위 댓글만, 작성자 프로필은 클라이언트가 authorId 로 별도 조회)
+    public CommentDto.Comment toCommentPreviewItem(CommentPreviewProjection row) {
+        return CommentDto.Comment.builder()
+                .id(row.getId())
+                .content(row.getContent())
+                .authorId(row.getAuthorId())
+                .postId(row.getPostId())
+                .depth(0)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
+
     public MemberActivityDto.CommentActivityRequest commentActivityFeignRequest(Long memberId, Long postId, Long commentId, MemberActivityType activityType){
         return MemberActivityDto.CommentActivityRequest.builder()
                 .memberId(memberId)
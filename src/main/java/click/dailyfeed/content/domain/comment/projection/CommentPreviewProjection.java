@@ -0,0 +1,13 @@
+package click.dailyfeed.content.domain.comment.projection;
+
+import java.time.LocalDateTime;
+
+// 게시글별 최상위 댓글 미리보기 행 (native 조회 결과의 컬럼 별칭과 이름을 맞춤)
+public interface CommentPreviewProjection {
+    Long getPostId();
+    Long getId();
+    Long getAuthorId();
+    String getContent();
+    LocalDateTime getCreatedAt();
+    LocalDateTime getUpdatedAt();
+}
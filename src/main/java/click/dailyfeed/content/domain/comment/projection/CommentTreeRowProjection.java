@@ -0,0 +1,22 @@
+package click.dailyfeed.content.domain.comment.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 댓글 트리 조회용 행 (연관 엔티티 없이 parent_id 만 읽음)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentTreeRowProjection {
+    private Long id;
+    private Long parentId;
+    private Long authorId;
+    private String content;
+    private Integer depth;
+    private Long likeCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
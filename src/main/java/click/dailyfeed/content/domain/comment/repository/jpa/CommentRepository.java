@@ -1,6 +1,8 @@
 package click.dailyfeed.content.domain.comment.repository.jpa;
 
 import click.dailyfeed.content.domain.comment.entity.Comment;
+import click.dailyfeed.content.domain.comment.projection.CommentPreviewProjection;
+import click.dailyfeed.content.domain.comment.projection.CommentTreeRowProjection;
 import click.dailyfeed.content.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,6 +11,8 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,18 +25,54 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     @Query("SELECT c FROM Comment c WHERE c.authorId = :authorId AND c.isDeleted = false ORDER BY c.createdAt DESC")
     Page<Comment> findByAuthorIdAndNotDeleted(@Param("authorId") Long authorId, Pageable pageable);
 
+    // 게시글의 삭제되지 않은 댓글 전체 (트리 조립용, idx_comments_post_parent_created_at 사용)
+    @Query("SELECT new click.dailyfeed.content.domain.comment.projection.CommentTreeRowProjection(" +
+            "c.id, c.parent.id, c.authorId, c.content, c.depth, c.likeCount, c.createdAt, c.updatedAt) " +
+            "FROM Comment c " +
+            "WHERE c.post.id = :postId AND c.isDeleted = false " +
+            "ORDER BY c.parent.id ASC, c.createdAt ASC, c.id ASC")
+    List<CommentTreeRowProjection> findTreeRowsByPostId(@Param("postId") Long postId);
+
+    // 여러 게시글의 최상위 댓글을 글마다 작성 순으로 최대 limit 건씩 (LATERAL + LIMIT 으로 글마다 인덱스에서 limit 건만 읽음, MySQL 8.0.14+)
+    @Query(value = "SELECT p.id AS postId, pc.id AS id, pc.author_id AS authorId, pc.content AS content, " +
+            "pc.created_at AS createdAt, pc.updated_at AS updatedAt " +
+            "FROM posts p " +
+            "JOIN LATERAL (" +
+            "SELECT c.id, c.author_id, c.content, c.created_at, c.updated_at FROM comments c " +
+            "WHERE c.post_id = p.id AND c.parent_id IS NULL AND c.is_deleted = false " +
+            "ORDER BY c.created_at ASC, c.id ASC LIMIT :limit" +
+            ") pc ON TRUE " +
+            "WHERE p.id IN (:postIds) " +
+            "ORDER BY p.id ASC, pc.created_at ASC, pc.id ASC",
+            nativeQuery = true)
+    List<CommentPreviewProjection> findTopLevelPreviewsByPostIds(@Param("postIds") Collection<Long> postIds, @Param("limit") int limit);
+
     // ID로 댓글 조회 (삭제되지 않은)
     @Query("SELECT c FROM Comment c INNER JOIN FETCH c.post WHERE c.id = :id AND c.isDeleted = false")
     Optional<Comment> findByIdAndNotDeleted(@Param("id") Long id);
 
-    // 특정 댓글과 모든 자식 댓글들을 소프트 삭제
+    // 하위 댓글 전체의 id (path 접두사 범위 조회 하나로 idx_comments_path 만 순회, 자기 자신은 제외)
+    @Query("SELECT c.id FROM Comment c WHERE c.path LIKE CONCAT(:subtreePath, '%') AND c.isDeleted = false")
+    List<Long> findDescendantIds(@Param("subtreePath") String subtreePath);
+
+    // path 백필 전 직접 답글 (CommentPathBackfillService 가 끝나기 전까지만 사용)
+    @Query("SELECT c.id FROM Comment c WHERE c.parent.id = :commentId AND c.path IS NULL AND c.isDeleted = false")
+    List<Long> findChildIdsWithoutPath(@Param("commentId") Long commentId);
+
+    // 주어진 댓글들을 PK 로 소프트 삭제 (이미 삭제된 댓글은 제외, 삭제된 댓글 수 반환)
     @Modifying
-    @Query("UPDATE Comment c SET c.isDeleted = true, c.createdAt = CURRENT_TIMESTAMP WHERE c.id = :commentId OR c.parent.id = :commentId")
-    void softDeleteCommentAndChildren(@Param("commentId") Long commentId);
+    @Query("UPDATE Comment c SET c.isDeleted = true, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id IN :ids AND c.isDeleted = false")
+    int softDeleteAllByIds(@Param("ids") Collection<Long> ids);
+
+    // 좋아요 수 증감분 반영 (같은 증감분을 가진 댓글들을 한 번에 갱신, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 ELSE c.likeCount + :delta END WHERE c.id IN :ids")
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") Long delta);
 
     interface PostCommentCountProjection {
         Long getPostId();
         Long getCommentCount();
+        LocalDateTime getLastCommentAt();
     }
 
     // 글 하나에 대한 댓글 수 조회
@@ -41,4 +81,11 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             "WHERE p IN :posts AND p.isDeleted = false " +
             "GROUP BY p.id")
     List<PostCommentCountProjection> findCommentCountsByPosts(@Param("posts") List<Post> posts);
+
+    // 여러 글의 댓글 수 (삭제된 것 제외, 댓글 수 재계산용)
+    @Query("SELECT c.post.id as postId, COUNT(c.id) as commentCount, MAX(c.createdAt) as lastCommentAt " +
+            "FROM Comment c " +
+            "WHERE c.post.id IN :postIds AND c.isDeleted = false " +
+            "GROUP BY c.post.id")
+    List<PostCommentCountProjection> countNotDeletedByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -3,7 +3,15 @@ package click.dailyfeed.content.domain.comment.repository.mongo;
 import click.dailyfeed.content.domain.comment.document.CommentLikeDocument;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CommentLikeMongoRepository extends MongoRepository<CommentLikeDocument, ObjectId> {
     CommentLikeDocument findByCommentPkAndMemberId(Long commentPk, Long memberId);
+
+    // 여러 댓글 중 특정 멤버가 좋아요 한 댓글을 한 번에 조회 (comment_pk 만)
+    @Query(value = "{ 'member_id': ?0, 'comment_pk': { '$in': ?1 } }", fields = "{ 'comment_pk': 1 }")
+    List<CommentLikeDocument> findLikedCommentPksByMemberId(Long memberId, Collection<Long> commentPks);
 }
@@ -0,0 +1,17 @@
+package click.dailyfeed.content.domain.comment.repository.mongo;
+
+import com.mongodb.client.result.UpdateResult;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface CommentMongoRepositoryCustom {
+    // 현재 문서(is_deleted = false)의 본문/검색 색인 필드/수정 시각 변경
+    UpdateResult updateContent(Long commentPk, String content, LocalDateTime updatedAt);
+
+    // 현재 문서(is_deleted = false) soft delete
+    UpdateResult softDelete(Long commentPk, LocalDateTime updatedAt);
+
+    // 여러 현재 문서를 한 번에 soft delete (하위 댓글 삭제용)
+    UpdateResult softDeleteAll(Collection<Long> commentPks, LocalDateTime updatedAt);
+}
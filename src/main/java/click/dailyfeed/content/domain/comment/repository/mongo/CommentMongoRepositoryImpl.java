@@ -0,0 +1,53 @@
+package click.dailyfeed.content.domain.comment.repository.mongo;
+
+import click.dailyfeed.content.domain.comment.document.CommentDocument;
+import click.dailyfeed.content.domain.search.tokenizer.KoreanBigramTokenizer;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * 댓글 문서 변경
+ * - 조회 후 문서를 지우고 다시 저장하는 대신 comment_pk 기준 updateOne 하나로 바뀐 필드만 변경 (문서 _id 와 인덱스 항목이 유지됨)
+ * - matched/modified 건수를 반환하므로 호출하는 쪽에서 사전 조회 없이 존재 여부를 판단
+ */
+@RequiredArgsConstructor
+public class CommentMongoRepositoryImpl implements CommentMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public UpdateResult updateContent(Long commentPk, String content, LocalDateTime updatedAt) {
+        Update update = new Update()
+                .set("content", content)
+                .set("search_content", KoreanBigramTokenizer.toIndexText(content))
+                .set("updated_at", updatedAt);
+        return mongoTemplate.updateFirst(liveComment(commentPk), update, CommentDocument.class);
+    }
+
+    @Override
+    public UpdateResult softDelete(Long commentPk, LocalDateTime updatedAt) {
+        Update update = new Update()
+                .set("is_deleted", true)
+                .set("updated_at", updatedAt);
+        return mongoTemplate.updateFirst(liveComment(commentPk), update, CommentDocument.class);
+    }
+
+    @Override
+    public UpdateResult softDeleteAll(Collection<Long> commentPks, LocalDateTime updatedAt) {
+        Update update = new Update()
+                .set("is_deleted", true)
+                .set("updated_at", updatedAt);
+        Query query = Query.query(Criteria.where("comment_pk").in(commentPks).and("is_deleted").is(false));
+        return mongoTemplate.updateMulti(query, update, CommentDocument.class);
+    }
+
+    private static Query liveComment(Long commentPk) {
+        return Query.query(Criteria.where("comment_pk").is(commentPk).and("is_deleted").is(false));
+    }
+}
@@ -0,0 +1,98 @@
+package click.dailyfeed.content.domain.comment.service;
+
+import click.dailyfeed.content.domain.base.lock.RedisLocks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * path 컬럼 도입 전 댓글의 path 백필
+ * - 최상위 댓글은 "/" 로, 답글은 path 가 채워진 부모 기준으로 batch-size 건씩 채움 (깊이 순서대로 채워지므로 MAX_COMMENT_DEPTH 번 안에 끝남)
+ * - 문장마다 자동 커밋 (긴 트랜잭션/잠금 없음), 여러 pod 중 하나만 수행하도록 redis lock 사용
+ * - 새 댓글은 작성 시 path 가 채워지므로, 남은 행이 없으면 이후 실행은 건너뜀
+ * - 끝나기 전까지는 댓글 삭제가 path 가 없는 직접 답글도 parent_id 로 함께 찾음 (isCompleted)
+ */
+@Slf4j
+@Service
+public class CommentPathBackfillService {
+    private static final String LOCK_KEY = "dailyfeed:content:comment-path:backfill-lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+
+    private static final String FILL_ROOTS_SQL = "UPDATE comments SET path = '/' " +
+            "WHERE parent_id IS NULL AND path IS NULL LIMIT ?";
+    private static final String FILL_REPLIES_SQL = "UPDATE comments c " +
+            "JOIN (SELECT child.id FROM comments child JOIN comments parent ON child.parent_id = parent.id " +
+            "      WHERE child.path IS NULL AND parent.path IS NOT NULL LIMIT ?) target ON c.id = target.id " +
+            "JOIN comments p ON c.parent_id = p.id " +
+            "SET c.path = CONCAT(p.path, p.id, '/')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final AtomicBoolean completed = new AtomicBoolean(false);
+
+    public CommentPathBackfillService(
+            JdbcTemplate jdbcTemplate,
+            StringRedisTemplate redisTemplate,
+            @Value("${dailyfeed.services.content.comment-path.backfill-batch-size:1000}") int batchSize
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = Math.max(1, batchSize);
+    }
+
+    @Scheduled(
+            initialDelayString = "${dailyfeed.services.content.comment-path.backfill-initial-delay-ms:60000}",
+            fixedDelayString = "${dailyfeed.services.content.comment-path.backfill-interval-ms:600000}"
+    )
+    public void backfill() {
+        if (completed.get()) {
+            return;
+        }
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TIMEOUT))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Skip comment path backfill, redis unavailable", e);
+            return;
+        }
+
+        long filled = 0;
+        try {
+            filled += fillAll(FILL_ROOTS_SQL);
+            filled += fillAll(FILL_REPLIES_SQL);
+            completed.set(true);
+            if (filled > 0) {
+                log.info("Comment path backfill finished. rows: {}", filled);
+            }
+        } catch (Exception e) {
+            log.warn("Comment path backfill failed. rows so far: {}", filled, e);
+        } finally {
+            RedisLocks.release(redisTemplate, LOCK_KEY, owner);
+        }
+    }
+
+    /// 이 pod 에서 남은 행이 없음을 확인했는지 (다른 pod 가 채웠어도 다음 실행에서 0 건으로 확인하면 true)
+    public boolean isCompleted() {
+        return completed.get();
+    }
+
+    private long fillAll(String sql) {
+        long filled = 0;
+        int updated;
+        do {
+            updated = jdbcTemplate.update(sql, batchSize);
+            filled += updated;
+        } while (updated > 0);
+        return filled;
+    }
+}
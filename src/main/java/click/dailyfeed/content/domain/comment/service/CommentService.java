@@ -6,11 +6,11 @@ import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
 import click.dailyfeed.code.domain.content.comment.exception.*;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
-import click.dailyfeed.code.global.feign.exception.FeignApiCommunicationFailException;
-import click.dailyfeed.code.global.kafka.exception.KafkaNetworkErrorException;
 import click.dailyfeed.code.global.system.properties.CommentProperties;
 import click.dailyfeed.code.global.system.type.PublishType;
-import click.dailyfeed.code.global.web.excecption.DailyfeedWebTooManyRequestException;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
+import click.dailyfeed.content.domain.base.transaction.AfterCommit;
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
 import click.dailyfeed.content.domain.comment.document.CommentDocument;
 import click.dailyfeed.content.domain.comment.document.CommentLikeDocument;
 import click.dailyfeed.content.domain.comment.entity.Comment;
@@ -18,22 +18,31 @@ import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentLikeMongoRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
+import click.dailyfeed.content.domain.like.service.LikeCountService;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
-import click.dailyfeed.deadletter.domain.deadletter.service.FeignDeadLetterService;
-import click.dailyfeed.deadletter.domain.deadletter.service.KafkaPublisherDeadLetterService;
-import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.feign.domain.member.MemberFeignHelper;
-import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
@@ -43,14 +52,20 @@ public class CommentService {
     private final PostRepository postRepository;
     private final CommentMongoRepository commentMongoRepository;
     private final CommentLikeMongoRepository commentLikeMongoRepository;
-
-    private final FeignDeadLetterService feignDeadLetterService;
-    private final KafkaPublisherDeadLetterService kafkaPublisherDeadLetterService;
+    private final LikeCountService likeCountService;
+    private final LikeMembershipService likeMembershipService;
+    private final LikedByMeService likedByMeService;
+    private final PostStatsService postStatsService;
+    private final PostRankingService postRankingService;
 
     private final CommentMapper commentMapper;
     private final MemberFeignHelper memberFeignHelper;
-    private final MemberActivityFeignHelper memberActivityFeignHelper;
-    private final MemberActivityKafkaPublisher memberActivityKafkaPublisher;
+    private final MemberSummaryCache memberSummaryCache;
+    private final QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+    private final MemberActivityOutboxService memberActivityOutboxService;
+    // 클래스의 @Transactional 은 mongodb 용이므로, MySQL 쓰기와 outbox 등록은 이 트랜잭션으로 함께 커밋
+    private final JpaTransactions jpaTransactions;
+    private final CommentPathBackfillService commentPathBackfillService;
 
     private static final int MAX_COMMENT_DEPTH = CommentProperties.MAX_COMMENT_DEPTH; // 최대 댓글 깊이 제한
 
@@ -59,32 +74,36 @@ public class CommentService {
 
     // 댓글 작성
     public CommentDto.Comment createComment(MemberProfileDto.Summary member, String token, CommentDto.CreateCommentRequest request, HttpServletResponse httpResponse) {
-        Long authorId = member.getId();
+        return jpaTransactions.execute(() -> {
+            Long authorId = member.getId();
 
-        // 게시글 존재 확인
-        Post post = getPostByIdOrThrow(request.getPostId());
+            // 게시글 존재 확인
+            Post post = getPostByIdOrThrow(request.getPostId());
 
-        Comment comment = Comment.commentBuilder()
-                    .content(request.getContent())
-                    .authorId(authorId)
-                    .post(post)
-                    .build();
+            Comment comment = Comment.commentBuilder()
+                        .content(request.getContent())
+                        .authorId(authorId)
+                        .post(post)
+                        .build();
 
-        Comment savedComment = commentRepository.save(comment);
+            Comment savedComment = commentRepository.save(comment);
 
-        // 응답 생성 및 작성자 정보 추가
-        CommentDto.Comment commentDto = commentMapper.fromCommentNonRecursive(savedComment, member);
+            // 응답 생성 및 작성자 정보 추가
+            CommentDto.Comment commentDto = commentMapper.fromCommentNonRecursive(savedComment, member);
 
-        // mongodb 에 본문 저장
-        insertNewDocument(post, savedComment);
+            // mongodb 에 본문 저장
+            insertNewDocument(post, savedComment);
+            postStatsService.recordNewComment(post.getId(), savedComment.getCreatedAt());
+            postRankingService.recordComment(post.getId(), 1L);
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE);
-        } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE, token, httpResponse);
-        }
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE);
+            } else { /// feign 을 사용할 경우 (케이스 B)
+                feignPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE, token, httpResponse);
+            }
 
-        return commentDto;
+            return commentDto;
+        });
     }
 
     public void insertNewDocument(Post post, Comment comment){
@@ -95,114 +114,103 @@ public class CommentService {
 
     // 댓글 수정
     public CommentDto.Comment updateComment(MemberDto.Member member, Long commentId, CommentDto.UpdateCommentRequest request, String token, HttpServletResponse httpResponse) {
-        MemberProfileDto.Summary author = memberFeignHelper.getMemberSummaryById(member.getId(), token, httpResponse);
+        // 작성자 정보는 캐시에서 읽고, 없을 때만 member 서비스 호출
+        MemberProfileDto.Summary author = memberSummaryCache.getOrLoad(member.getId(),
+                () -> memberFeignHelper.getMemberSummaryById(member.getId(), token, httpResponse));
         Long authorId = author.getId();
 
-        Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
-                .orElseThrow(CommentNotFoundException::new);
+        return jpaTransactions.execute(() -> {
+            Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
+                    .orElseThrow(CommentNotFoundException::new);
 
-        // 작성자 권한 확인
-        if (!comment.isOwnedBy(authorId)) {
-            throw new CommentModificationPermissionDeniedException();
-        }
+            // 작성자 권한 확인
+            if (!comment.isOwnedBy(authorId)) {
+                throw new CommentModificationPermissionDeniedException();
+            }
 
-        // 수정
-        comment.updateContent(request.getContent());
-        Comment updatedComment = commentRepository.save(comment);
+            // 수정
+            comment.updateContent(request.getContent());
+            Comment updatedComment = commentRepository.save(comment);
 
-        updateDocument(comment);
+            updateDocument(comment);
 
-        // 응답 생성 및 작성자 정보 추가
-        CommentDto.Comment commentUpdated = commentMapper.fromCommentNonRecursive(updatedComment, author);
+            // 응답 생성 및 작성자 정보 추가
+            CommentDto.Comment commentUpdated = commentMapper.fromCommentNonRecursive(updatedComment, author);
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishCommentEvent(author.getId(), comment, MemberActivityType.COMMENT_UPDATE);
-        } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishCommentEvent(author.getId(), comment, MemberActivityType.COMMENT_UPDATE, token, httpResponse);
-        }
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishCommentEvent(author.getId(), comment, MemberActivityType.COMMENT_UPDATE);
+            } else { /// feign 을 사용할 경우 (케이스 B)
+                feignPublishCommentEvent(author.getId(), comment, MemberActivityType.COMMENT_UPDATE, token, httpResponse);
+            }
 
-        // mongodb 에 본문 저장
-        return commentUpdated;
+            // mongodb 에 본문 저장
+            return commentUpdated;
+        });
     }
 
     // 본문 검색 용도의 컬렉션 'comments' 에 저장
     public void updateDocument(Comment comment){
-        CommentDocument oldDocument = commentMongoRepository
-                .findByCommentPkAndIsDeleted(comment.getId(), Boolean.FALSE)
-                .orElseThrow(CommentNotFoundException::new);
-
-        CommentDocument updatedPost = CommentDocument.newUpdatedComment(oldDocument, comment.getUpdatedAt());
-        commentMongoRepository.delete(oldDocument);
-        commentMongoRepository.save(updatedPost);
+        UpdateResult result = commentMongoRepository.updateContent(comment.getId(), comment.getContent(), comment.getUpdatedAt());
+        if (result.getMatchedCount() == 0) {
+            throw new CommentNotFoundException();
+        }
     }
 
     // 댓글 삭제 (소프트 삭제)
     public Boolean deleteComment(MemberDto.Member requestedMember, Long commentId, String token, HttpServletResponse httpResponse) {
-        Long authorId = requestedMember.getId();
+        return jpaTransactions.execute(() -> {
+            Long authorId = requestedMember.getId();
 
-        Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
-                .orElseThrow(CommentNotFoundException::new);
+            Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
+                    .orElseThrow(CommentNotFoundException::new);
 
-        // 작성자 권한 확인
-        if (!comment.isOwnedBy(authorId)) {
-            throw new CommentDeletionPermissionDeniedException();
-        }
+            // 작성자 권한 확인
+            if (!comment.isOwnedBy(authorId)) {
+                throw new CommentDeletionPermissionDeniedException();
+            }
 
-        // 댓글과 모든 자식 댓글들을 소프트 삭제
-        commentRepository.softDeleteCommentAndChildren(commentId);
-        deleteDocument(comment);
+            // 댓글과 하위 댓글 전체를 소프트 삭제 (path 접두사 범위 조회 한 번으로 손자 댓글까지 모은 뒤 PK 로 삭제)
+            List<Long> replyIds = new ArrayList<>(commentRepository.findDescendantIds(comment.subtreePath()));
+            if (!commentPathBackfillService.isCompleted()) {
+                replyIds.addAll(commentRepository.findChildIdsWithoutPath(commentId));
+            }
+            List<Long> subtreeIds = new ArrayList<>(replyIds.size() + 1);
+            subtreeIds.add(commentId);
+            subtreeIds.addAll(replyIds);
+            int deletedCount = commentRepository.softDeleteAllByIds(subtreeIds);
+            deleteDocument(comment);
+            if (!replyIds.isEmpty()) {
+                commentMongoRepository.softDeleteAll(replyIds, LocalDateTime.now());
+            }
+            postStatsService.incrementCommentCount(comment.getPost().getId(), -deletedCount);
+            postRankingService.recordComment(comment.getPost().getId(), -deletedCount);
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishCommentEvent(authorId, comment, MemberActivityType.COMMENT_DELETE);
-        } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishCommentEvent(authorId, comment, MemberActivityType.COMMENT_DELETE, token, httpResponse);
-        }
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishCommentEvent(authorId, comment, MemberActivityType.COMMENT_DELETE);
+            } else { /// feign 을 사용할 경우 (케이스 B)
+                feignPublishCommentEvent(authorId, comment, MemberActivityType.COMMENT_DELETE, token, httpResponse);
+            }
 
-        return Boolean.TRUE;
+            return Boolean.TRUE;
+        });
     }
 
     // 본문 검색 용도의 컬렉션 'comments' 에 저장
     public void deleteDocument(Comment comment){
-        CommentDocument document = commentMongoRepository
-                .findByCommentPkAndIsDeleted(comment.getId(), Boolean.FALSE)
-                .orElseThrow(CommentNotFoundException::new);
-        commentMongoRepository.delete(document);
+        UpdateResult result = commentMongoRepository.softDelete(comment.getId(), LocalDateTime.now());
+        if (result.getMatchedCount() == 0) {
+            throw new CommentNotFoundException();
+        }
     }
 
     public void feignPublishCommentEvent(Long memberId, Comment comment, MemberActivityType activityType, String token, HttpServletResponse httpResponse) {
         MemberActivityDto.CommentActivityRequest feignRequest = commentMapper.commentActivityFeignRequest(memberId, comment.getPost().getId(), comment.getId(), activityType);
-        try {
-            memberActivityFeignHelper.createCommentsMemberActivity(feignRequest, token, httpResponse);
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e) {
-            try {
-                feignDeadLetterService.createCommentActivityDeadLetter(feignRequest);
-            } catch (Exception e1) {
-                throw new FeignApiCommunicationFailException();
-            }
-        }
+        queuedMemberActivityFeignPublisher.publishCommentActivity(feignRequest, token);
     }
 
     public void kafkaPublishCommentEvent(Long memberId, Comment comment, MemberActivityType activityType) {
-        try {
-            // 멤버 활동 기록 조회를 위한 활동 기록 이벤트 발행
-            memberActivityKafkaPublisher.publishCommentCUDEvent(memberId, comment.getPost().getId(), comment.getId(), activityType);
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e){
-            MemberActivityDto.CommentActivityRequest activityRequest = MemberActivityDto.CommentActivityRequest.builder()
-                    .memberId(memberId)
-                    .postId(comment.getPost().getId())
-                    .commentId(comment.getId())
-                    .activityType(activityType)
-                    .build();
-            try {
-                kafkaPublisherDeadLetterService.createCommentActivityDeadLetter(activityRequest);
-            } catch (Exception e1){
-                throw new KafkaNetworkErrorException();
-            }
-        }
+        // 멤버 활동 기록 이벤트는 outbox 에 기록하고, 발행은 MemberActivityOutboxRelay 가 처리
+        memberActivityOutboxService.enqueueCommentEvent(memberId, comment.getPost().getId(), comment.getId(), activityType);
     }
 
     // 좋아요 증가
@@ -211,21 +219,29 @@ public class CommentService {
         Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
                 .orElseThrow(CommentNotFoundException::new);
 
-        CommentLikeDocument existDocument = commentLikeMongoRepository.findByCommentPkAndMemberId(commentId, member.getId());
-        if (existDocument != null) {
-            throw new CommentLikeAlreadyExistsException();
-        }
-
         CommentLikeDocument newDocument = CommentLikeDocument.newCommentLikeBuilder()
                 .commentPk(comment.getId())
                 .memberId(member.getId())
                 .build();
-        commentLikeMongoRepository.save(newDocument);
 
+        // 중복 좋아요는 unique 인덱스 (comment_pk, member_id) 로 거절
+        try {
+            commentLikeMongoRepository.save(newDocument);
+        } catch (DuplicateKeyException e) {
+            throw new CommentLikeAlreadyExistsException();
+        }
+        // 좋아요 수/필터/캐시는 mongodb 커밋 이후에 반영 (커밋이 실패하면 되돌릴 방법이 없으므로)
+        AfterCommit.run(() -> {
+            likeMembershipService.recordCommentLike(comment.getId(), member.getId());
+            likedByMeService.updateCommentLiked(member.getId(), comment.getId(), true);
+            likeCountService.incrementCommentLikeCount(comment.getId());
+        });
+
+        // 좋아요는 mongodb 에만 쓰므로 outbox 등록(MySQL)은 mongodb 커밋 이후에 (feign 발행 큐는 자체적으로 커밋 이후에 넣음)
         if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishCommentLikeEvent(comment.getId(), comment, MemberActivityType.LIKE_COMMENT);
+            AfterCommit.run(() -> kafkaPublishCommentLikeEvent(member.getId(), comment, MemberActivityType.LIKE_COMMENT));
         } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishCommentLikeEvent(comment.getId(), comment, MemberActivityType.LIKE_COMMENT, token, httpResponse);
+            feignPublishCommentLikeEvent(member.getId(), comment, MemberActivityType.LIKE_COMMENT, token, httpResponse);
         }
 
         return Boolean.TRUE;
@@ -237,96 +253,81 @@ public class CommentService {
         Comment comment = commentRepository.findByIdAndNotDeleted(commentId)
                 .orElseThrow(CommentNotFoundException::new);
 
+        if (!likeMembershipService.mightHaveLikedComment(commentId, member.getId())) {
+            throw new CommentLikeAlreadyExistsException();
+        }
+
         CommentLikeDocument existDocument = commentLikeMongoRepository.findByCommentPkAndMemberId(commentId, member.getId());
         if (existDocument == null) {
             throw new CommentLikeAlreadyExistsException();
         }
         commentLikeMongoRepository.delete(existDocument);
+        AfterCommit.run(() -> {
+            likedByMeService.updateCommentLiked(member.getId(), comment.getId(), false);
+            likeCountService.decrementCommentLikeCount(comment.getId());
+        });
 
         if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishCommentLikeEvent(comment.getId(), comment, MemberActivityType.LIKE_COMMENT_CANCEL);
+            AfterCommit.run(() -> kafkaPublishCommentLikeEvent(member.getId(), comment, MemberActivityType.LIKE_COMMENT_CANCEL));
         } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishCommentLikeEvent(comment.getId(), comment, MemberActivityType.LIKE_COMMENT_CANCEL, token, httpResponse);
+            feignPublishCommentLikeEvent(member.getId(), comment, MemberActivityType.LIKE_COMMENT_CANCEL, token, httpResponse);
         }
     }
 
     public void feignPublishCommentLikeEvent(Long memberId, Comment comment, MemberActivityType activityType, String token, HttpServletResponse httpResponse) {
         MemberActivityDto.CommentLikeActivityRequest feignRequest = commentMapper.commentLikeActivityFeignRequest(memberId, comment.getPost().getId(), comment.getId(), activityType);
-        try {
-            memberActivityFeignHelper.createCommentLikeMemberActivity(feignRequest, token, httpResponse);
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e) {
-            try {
-                feignDeadLetterService.createCommentLikeActivityDeadLetter(feignRequest);
-            } catch (Exception e1) {
-                throw new FeignApiCommunicationFailException();
-            }
-        }
+        queuedMemberActivityFeignPublisher.publishCommentLikeActivity(feignRequest, token);
     }
 
     public void kafkaPublishCommentLikeEvent(Long memberId, Comment comment, MemberActivityType activityType) {
-        try {
-            // 멤버 활동 기록 조회를 위한 활동 기록 이벤트 발행
-            memberActivityKafkaPublisher.publishCommentLikeEvent(memberId, comment.getPost().getId(), comment.getId(), activityType);
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e){
-            MemberActivityDto.CommentLikeActivityRequest activityRequest = MemberActivityDto.CommentLikeActivityRequest.builder()
-                    .memberId(memberId)
-                    .postId(comment.getPost().getId())
-                    .commentId(comment.getId())
-                    .activityType(activityType)
-                    .build();
-            try {
-                kafkaPublisherDeadLetterService.createCommentLikeActivityDeadLetter(activityRequest);
-            } catch (Exception e1){
-                throw new KafkaNetworkErrorException();
-            }
-        }
+        memberActivityOutboxService.enqueueCommentLikeEvent(memberId, comment.getPost().getId(), comment.getId(), activityType);
     }
 
 
     public CommentDto.Comment createReply(MemberProfileDto.Summary member, String authorizationHeader, CommentDto.@Valid CreateCommentRequest request, HttpServletResponse httpResponse) {
-        Long authorId = member.getId();
-        // 게시글 존재 확인
-        Post post = getPostByIdOrThrow(request.getPostId());
-        // 생성하려는 대댓글의 부모 댓글 확인
-        Comment parentComment = commentRepository.findByIdAndNotDeleted(request.getParentId())
-                .orElseThrow(ParentCommentNotFoundException::new);
-
-        // 댓글 깊이 제한 확인
-        if (parentComment.getDepth() >= MAX_COMMENT_DEPTH) {
-            throw new CommentDepthLimitExceedsException();
-        }
+        return jpaTransactions.execute(() -> {
+            Long authorId = member.getId();
+            // 게시글 존재 확인
+            Post post = getPostByIdOrThrow(request.getPostId());
+            // 생성하려는 대댓글의 부모 댓글 확인
+            Comment parentComment = commentRepository.findByIdAndNotDeleted(request.getParentId())
+                    .orElseThrow(ParentCommentNotFoundException::new);
+
+            // 댓글 깊이 제한 확인
+            if (parentComment.getDepth() >= MAX_COMMENT_DEPTH) {
+                throw new CommentDepthLimitExceedsException();
+            }
 
-        // 부모 댓글과 같은 게시글인지 확인
-        if (!parentComment.getPost().getId().equals(request.getPostId())) {
-            throw new ParentCommentPostMismatchException();
-        }
+            // 부모 댓글과 같은 게시글인지 확인
+            if (!parentComment.getPost().getId().equals(request.getPostId())) {
+                throw new ParentCommentPostMismatchException();
+            }
 
-        Comment comment = Comment.replyCommentBuilder()
-                .content(request.getContent())
-                .authorId(authorId)
-                .post(post)
-                .build();
+            Comment comment = Comment.replyCommentBuilder()
+                    .content(request.getContent())
+                    .authorId(authorId)
+                    .post(post)
+                    .build();
 
-        parentComment.addChild(comment);
-        Comment savedComment = commentRepository.save(comment);
+            parentComment.addChild(comment);
+            Comment savedComment = commentRepository.save(comment);
 
-        // 응답 생성 및 작성자 정보 추가
-        CommentDto.Comment commentDto = commentMapper.fromCommentNonRecursive(savedComment, member);
+            // 응답 생성 및 작성자 정보 추가
+            CommentDto.Comment commentDto = commentMapper.fromCommentNonRecursive(savedComment, member);
 
-        // mongodb 에 본문 저장
-        insertNewDocument(post, savedComment);
+            // mongodb 에 본문 저장
+            insertNewDocument(post, savedComment);
+            postStatsService.recordNewComment(post.getId(), savedComment.getCreatedAt());
+            postRankingService.recordComment(post.getId(), 1L);
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE);
-        } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE, authorizationHeader, httpResponse);
-        }
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE);
+            } else { /// feign 을 사용할 경우 (케이스 B)
+                feignPublishCommentEvent(member.getId(), comment, MemberActivityType.COMMENT_CREATE, authorizationHeader, httpResponse);
+            }
 
-        return commentDto;
+            return commentDto;
+        });
     }
 
     ///  helpers ///
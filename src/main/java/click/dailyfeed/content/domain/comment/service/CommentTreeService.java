@@ -0,0 +1,111 @@
+package click.dailyfeed.content.domain.comment.service;
+
+import click.dailyfeed.code.domain.content.comment.exception.*;
+import click.dailyfeed.content.domain.base.pagination.ScrollCursor;
+import click.dailyfeed.content.domain.base.pagination.ScrollSlice;
+import click.dailyfeed.content.domain.comment.dto.CommentTreeDto;
+import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
+import click.dailyfeed.content.domain.comment.projection.CommentTreeRowProjection;
+import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.content.domain.comment.tree.CommentTree;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 게시글 댓글 트리 조회
+ * - 삭제되지 않은 댓글 전체를 (post_id, parent_id, created_at) 인덱스로 한 번에 읽고 메모리에서 트리 조립 (레벨마다 children 을 지연 로딩하는 N+1 없음)
+ * - 최상위 댓글(스레드)을 작성 순으로 (createdAt, id) 커서 페이징
+ * - 각 댓글에는 앞에서부터 reply-preview-size 개의 답글만 미리보기로 포함 (MAX_COMMENT_DEPTH 까지 같은 규칙)
+ */
+@Service
+public class CommentTreeService {
+    private static final int MAX_SCROLL_SIZE = 100;
+    private static final Comparator<CommentTreeRowProjection> THREAD_ORDER =
+            Comparator.comparing(CommentTreeRowProjection::getCreatedAt).thenComparing(CommentTreeRowProjection::getId);
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final CommentMapper commentMapper;
+    private final int replyPreviewSize;
+
+    public CommentTreeService(
+            CommentRepository commentRepository,
+            PostRepository postRepository,
+            CommentMapper commentMapper,
+            @Value("${dailyfeed.services.content.comment.reply-preview-size:3}") int replyPreviewSize
+    ) {
+        this.commentRepository = commentRepository;
+        this.postRepository = postRepository;
+        this.commentMapper = commentMapper;
+        this.replyPreviewSize = Math.max(0, replyPreviewSize);
+    }
+
+    public ScrollSlice<CommentTreeDto.Node> getThreads(Long postId, String cursorToken, int size) {
+        postRepository.findByIdAndNotDeleted(postId).orElseThrow(PostNotFoundException::new);
+
+        CommentTree tree = CommentTree.build(commentRepository.findTreeRowsByPostId(postId));
+        int[] roots = tree.roots();
+        int pageSize = Math.max(1, Math.min(size, MAX_SCROLL_SIZE));
+
+        // 첫 페이지는 처음부터, 이후에는 커서 다음 스레드부터
+        int from = 0;
+        if (cursorToken != null && !cursorToken.isBlank()) {
+            from = firstAfter(tree, roots, ScrollCursor.decode(cursorToken));
+        }
+        int to = Math.min(roots.length, from + pageSize);
+
+        List<CommentTreeDto.Node> content = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            content.add(toNode(tree, roots[i], postId));
+        }
+
+        boolean hasNext = to < roots.length;
+        String nextCursor = null;
+        if (hasNext && to > from) {
+            CommentTreeRowProjection last = tree.row(roots[to - 1]);
+            nextCursor = new ScrollCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return ScrollSlice.<CommentTreeDto.Node>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /// roots 는 (createdAt, id) 오름차순이므로 이진 탐색
+    private int firstAfter(CommentTree tree, int[] roots, ScrollCursor cursor) {
+        CommentTreeRowProjection key = new CommentTreeRowProjection(cursor.id(), null, null, null, null, null, cursor.createdAt(), null);
+        int low = 0;
+        int high = roots.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (THREAD_ORDER.compare(tree.row(roots[mid]), key) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private CommentTreeDto.Node toNode(CommentTree tree, int node, Long postId) {
+        CommentTreeRowProjection row = tree.row(node);
+        int[] children = tree.children(node, replyPreviewSize);
+        List<CommentTreeDto.Node> replies = new ArrayList<>(children.length);
+        for (int child : children) {
+            replies.add(toNode(tree, child, postId));
+        }
+        return CommentTreeDto.Node.builder()
+                .comment(commentMapper.toCommentTreeItem(row, postId))
+                .likeCount(row.getLikeCount() != null ? row.getLikeCount() : 0L)
+                .replyCount(tree.replyCount(node))
+                .hasMoreReplies(tree.childCount(node) > children.length)
+                .replies(replies)
+                .build();
+    }
+}
@@ -0,0 +1,124 @@
+package click.dailyfeed.content.domain.comment.tree;
+
+import click.dailyfeed.content.domain.comment.projection.CommentTreeRowProjection;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 게시글 한 개의 댓글 트리 (한 번의 쿼리로 읽은 행을 메모리에서 조립)
+ * - 노드는 rows 의 인덱스로 표현하고, 자식 목록은 firstChild/nextSibling 배열로 연결 (형제 순서 = 행 순서)
+ * - 부모가 삭제되어 행에 없는 댓글은 트리에서 제외
+ * - replyCount 는 하위 전체 댓글 수 (깊이가 MAX_COMMENT_DEPTH 로 제한되므로 부모를 따라 올라가며 합산)
+ */
+public final class CommentTree {
+    private static final int NONE = -1;
+
+    private final List<CommentTreeRowProjection> rows;
+    private final int[] roots;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    private final int[] childCount;
+    private final int[] replyCount;
+
+    private CommentTree(List<CommentTreeRowProjection> rows, int[] roots, int[] firstChild, int[] nextSibling, int[] childCount, int[] replyCount) {
+        this.rows = rows;
+        this.roots = roots;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.childCount = childCount;
+        this.replyCount = replyCount;
+    }
+
+    public static CommentTree build(List<CommentTreeRowProjection> rows) {
+        int size = rows.size();
+        LongIntHashMap indexById = new LongIntHashMap(size);
+        for (int i = 0; i < size; i++) {
+            indexById.put(rows.get(i).getId(), i);
+        }
+
+        int[] parent = new int[size];
+        int[] firstChild = new int[size];
+        int[] lastChild = new int[size];
+        int[] nextSibling = new int[size];
+        int[] childCount = new int[size];
+        int[] replyCount = new int[size];
+        Arrays.fill(firstChild, NONE);
+        Arrays.fill(lastChild, NONE);
+        Arrays.fill(nextSibling, NONE);
+
+        int[] roots = new int[size];
+        int rootCount = 0;
+        boolean[] attached = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Long parentId = rows.get(i).getParentId();
+            if (parentId == null) {
+                parent[i] = NONE;
+                roots[rootCount++] = i;
+                attached[i] = true;
+                continue;
+            }
+            int parentIndex = indexById.get(parentId);
+            parent[i] = parentIndex;
+            if (parentIndex == NONE) {
+                continue;
+            }
+            if (lastChild[parentIndex] == NONE) {
+                firstChild[parentIndex] = i;
+            } else {
+                nextSibling[lastChild[parentIndex]] = i;
+            }
+            lastChild[parentIndex] = i;
+            childCount[parentIndex]++;
+        }
+
+        // 최상위 댓글까지 이어진 노드만 하위 댓글 수에 반영 (삭제된 부모 아래의 댓글 제외)
+        for (int root = 0; root < rootCount; root++) {
+            markAttached(roots[root], firstChild, nextSibling, attached);
+        }
+        for (int i = 0; i < size; i++) {
+            if (!attached[i]) {
+                continue;
+            }
+            for (int p = parent[i]; p != NONE; p = parent[p]) {
+                replyCount[p]++;
+            }
+        }
+
+        return new CommentTree(rows, Arrays.copyOf(roots, rootCount), firstChild, nextSibling, childCount, replyCount);
+    }
+
+    private static void markAttached(int node, int[] firstChild, int[] nextSibling, boolean[] attached) {
+        for (int child = firstChild[node]; child != NONE; child = nextSibling[child]) {
+            attached[child] = true;
+            markAttached(child, firstChild, nextSibling, attached);
+        }
+    }
+
+    /// 최상위 댓글 인덱스 (행 순서 = 작성 순)
+    public int[] roots() {
+        return roots;
+    }
+
+    public CommentTreeRowProjection row(int node) {
+        return rows.get(node);
+    }
+
+    /// 앞에서부터 최대 limit 개의 직접 답글 인덱스
+    public int[] children(int node, int limit) {
+        int[] children = new int[Math.min(limit, childCount[node])];
+        int count = 0;
+        for (int child = firstChild[node]; child != NONE && count < children.length; child = nextSibling[child]) {
+            children[count++] = child;
+        }
+        return children;
+    }
+
+    public int childCount(int node) {
+        return childCount[node];
+    }
+
+    public int replyCount(int node) {
+        return replyCount[node];
+    }
+}
@@ -0,0 +1,48 @@
+package click.dailyfeed.content.domain.comment.tree;
+
+import java.util.Arrays;
+
+/**
+ * long → int open addressing 해시맵 (Long/Integer 박싱 없이 댓글 id → 배열 인덱스 조회)
+ * - 크기가 고정(expectedSize)이고 삭제가 없는 용도로만 사용
+ * - 0 은 빈 칸 표시로 쓰므로 key 로 사용할 수 없음 (댓글 id 는 1 이상)
+ */
+final class LongIntHashMap {
+    private static final int MISSING = -1;
+
+    private final long[] keys;
+    private final int[] values;
+    private final int mask;
+
+    LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize * 2 - 1)) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(values, MISSING);
+    }
+
+    void put(long key, int value) {
+        int slot = slotOf(key);
+        keys[slot] = key;
+        values[slot] = value;
+    }
+
+    /// 없으면 -1
+    int get(long key) {
+        return values[slotOf(key)];
+    }
+
+    private int slotOf(long key) {
+        int slot = mix(key) & mask;
+        while (keys[slot] != 0L && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,76 @@
+package click.dailyfeed.content.domain.importer.api;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
+import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
+import click.dailyfeed.content.domain.importer.dto.BulkImportDto;
+import click.dailyfeed.content.domain.importer.exception.BulkImportForbiddenException;
+import click.dailyfeed.content.domain.importer.service.BulkImportService;
+import click.dailyfeed.feign.config.web.annotation.AuthenticatedMember;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+/**
+ * 이관/백필 용 대량 등록 API
+ * - dailyfeed.services.content.bulk-import.enabled=true 인 경우에만 노출 (이관 작업 기간에만 켜서 사용)
+ * - 요청의 authorId 로 다른 멤버 이름의 글/댓글을 만들 수 있으므로, bulk-import.allowed-member-ids 에 등록된 운영 계정만 호출 가능 (비어 있으면 아무도 호출할 수 없음)
+ * - 중간 묶음의 저장이 실패하면 data.completed = false 와 함께 그 전까지 커밋된 id 를 돌려줌
+ */
+@Slf4j
+@RequiredArgsConstructor
+@RequestMapping("/api/import")
+@RestController
+@ConditionalOnProperty(name = "dailyfeed.services.content.bulk-import.enabled", havingValue = "true")
+public class BulkImportController {
+    private final BulkImportService bulkImportService;
+
+    @Value("${dailyfeed.services.content.bulk-import.allowed-member-ids:}")
+    private Set<Long> allowedMemberIds;
+
+    @Operation(summary = "게시글 대량 등록", description = "이관/백필 용도로 게시글을 한 번에 최대 10000건 등록합니다.")
+    @PostMapping("/posts")
+    public DailyfeedServerResponse<BulkImportDto.Result> importPosts(
+            @AuthenticatedMember MemberDto.Member member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @Valid @RequestBody BulkImportDto.PostsRequest request) {
+
+        checkAllowed(member);
+        log.info("Bulk import posts requested. memberId: {}, items: {}", member.getId(), request.getPosts().size());
+        return response(bulkImportService.importPosts(request.getPosts(), token));
+    }
+
+    @Operation(summary = "댓글 대량 등록", description = "이관/백필 용도로 댓글을 한 번에 최대 10000건 등록합니다. 대상 글이 없거나 삭제된 댓글은 건너뜁니다.")
+    @PostMapping("/comments")
+    public DailyfeedServerResponse<BulkImportDto.Result> importComments(
+            @AuthenticatedMember MemberDto.Member member,
+            @RequestHeader(value = "Authorization", required = false) String token,
+            @Valid @RequestBody BulkImportDto.CommentsRequest request) {
+
+        checkAllowed(member);
+        log.info("Bulk import comments requested. memberId: {}, items: {}", member.getId(), request.getComments().size());
+        return response(bulkImportService.importComments(request.getComments(), token));
+    }
+
+    private void checkAllowed(MemberDto.Member member) {
+        if (!allowedMemberIds.contains(member.getId())) {
+            throw new BulkImportForbiddenException();
+        }
+    }
+
+    private static DailyfeedServerResponse<BulkImportDto.Result> response(BulkImportDto.Result result) {
+        boolean completed = Boolean.TRUE.equals(result.getCompleted());
+        return DailyfeedServerResponse.<BulkImportDto.Result>builder()
+                .status(completed ? HttpStatus.CREATED.value() : HttpStatus.INTERNAL_SERVER_ERROR.value())
+                .result(completed ? ResponseSuccessCode.SUCCESS : ResponseSuccessCode.FAIL)
+                .data(result)
+                .build();
+    }
+}
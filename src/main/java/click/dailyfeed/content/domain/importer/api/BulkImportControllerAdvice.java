@@ -0,0 +1,28 @@
+package click.dailyfeed.content.domain.importer.api;
+
+import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
+import click.dailyfeed.code.global.web.response.DailyfeedErrorResponse;
+import click.dailyfeed.content.domain.importer.exception.BulkImportForbiddenException;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+@Slf4j
+@RestControllerAdvice(basePackages = "click.dailyfeed.content.domain.importer.api")
+public class BulkImportControllerAdvice {
+
+    @ExceptionHandler(BulkImportForbiddenException.class)
+    @ResponseStatus(HttpStatus.FORBIDDEN)
+    public DailyfeedErrorResponse handleBulkImportForbiddenException(BulkImportForbiddenException e, HttpServletRequest request) {
+        log.warn("Bulk import forbidden. path: {}", request.getRequestURI());
+        return DailyfeedErrorResponse.of(
+                HttpStatus.FORBIDDEN.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+}
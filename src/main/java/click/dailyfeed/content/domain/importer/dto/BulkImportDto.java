@@ -0,0 +1,93 @@
+package click.dailyfeed.content.domain.importer.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class BulkImportDto {
+    public static final int MAX_ITEMS_PER_REQUEST = 10000;
+    // posts.title VARCHAR(255)
+    public static final int MAX_TITLE_LENGTH = 255;
+    // posts.content / comments.content TEXT (65,535 byte) 에 한글(3 byte)로 채워도 들어가는 길이
+    public static final int MAX_CONTENT_LENGTH = 20000;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostsRequest {
+        @NotEmpty
+        @Size(max = MAX_ITEMS_PER_REQUEST)
+        @Valid
+        private List<PostItem> posts;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostItem {
+        @NotNull
+        private Long authorId;
+        @Size(max = MAX_TITLE_LENGTH)
+        private String title;
+        @NotBlank
+        @Size(max = MAX_CONTENT_LENGTH)
+        private String content;
+        // 원본 작성 시각 (없으면 등록 시각)
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentsRequest {
+        @NotEmpty
+        @Size(max = MAX_ITEMS_PER_REQUEST)
+        @Valid
+        private List<CommentItem> comments;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentItem {
+        @NotNull
+        private Long postId;
+        @NotNull
+        private Long authorId;
+        @NotBlank
+        @Size(max = MAX_CONTENT_LENGTH)
+        private String content;
+        // 원본 작성 시각 (없으면 등록 시각)
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        // false 이면 중간 묶음의 저장이 실패해서 멈춘 것 (ids 는 그 전까지 커밋된 항목)
+        private Boolean completed;
+        private Integer requested;
+        private Integer imported;
+        // 대상 글이 없거나 삭제되어 건너뛴 항목 수 (댓글)
+        private Integer skipped;
+        // MySQL 에는 저장됐지만 mongodb 반영에 실패한 항목 수
+        private Integer documentFailures;
+        // 요청 순서대로 생성된 id (건너뛴 항목 제외)
+        private List<Long> ids;
+    }
+}
@@ -0,0 +1,7 @@
+package click.dailyfeed.content.domain.importer.exception;
+
+public class BulkImportForbiddenException extends RuntimeException {
+    public BulkImportForbiddenException() {
+        super("대량 등록 권한이 없습니다.");
+    }
+}
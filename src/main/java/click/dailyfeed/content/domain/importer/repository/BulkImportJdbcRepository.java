@@ -0,0 +1,58 @@
+package click.dailyfeed.content.domain.importer.repository;
+
+import click.dailyfeed.content.domain.comment.entity.Comment;
+import click.dailyfeed.content.domain.importer.dto.BulkImportDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * posts/comments 대량 insert
+ * - id 는 IdBlockAllocator 로 미리 할당받은 값을 그대로 넣으므로 생성 키를 돌려받을 필요 없이 JDBC batch 로 저장
+ * - rewriteBatchedStatements=true 로 multi-row insert 로 바뀜
+ */
+@RequiredArgsConstructor
+@Repository
+public class BulkImportJdbcRepository {
+    private static final String INSERT_POST_SQL = "INSERT INTO posts " +
+            "(id, title, content, author_id, view_count, like_count, is_deleted, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, 0, 0, ?, ?)";
+    private static final String INSERT_COMMENT_SQL = "INSERT INTO comments " +
+            "(id, content, author_id, post_id, parent_id, path, is_deleted, depth, like_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, NULL, '" + Comment.ROOT_PATH + "', 0, 0, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insertPosts(List<BulkImportDto.PostItem> posts, List<Long> ids, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(INSERT_POST_SQL, IntStream.range(0, posts.size()).boxed().toList(), posts.size(), (ps, i) -> {
+            BulkImportDto.PostItem post = posts.get(i);
+            ps.setLong(1, ids.get(i));
+            ps.setString(2, post.getTitle() != null ? post.getTitle() : "");
+            ps.setString(3, post.getContent());
+            ps.setLong(4, post.getAuthorId());
+            ps.setTimestamp(5, Timestamp.valueOf(createdAtOf(post.getCreatedAt(), now)));
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+        });
+    }
+
+    public void insertComments(List<BulkImportDto.CommentItem> comments, List<Long> ids, LocalDateTime now) {
+        jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, IntStream.range(0, comments.size()).boxed().toList(), comments.size(), (ps, i) -> {
+            BulkImportDto.CommentItem comment = comments.get(i);
+            ps.setLong(1, ids.get(i));
+            ps.setString(2, comment.getContent());
+            ps.setLong(3, comment.getAuthorId());
+            ps.setLong(4, comment.getPostId());
+            ps.setTimestamp(5, Timestamp.valueOf(createdAtOf(comment.getCreatedAt(), now)));
+            ps.setTimestamp(6, Timestamp.valueOf(now));
+        });
+    }
+
+    public static LocalDateTime createdAtOf(LocalDateTime createdAt, LocalDateTime now) {
+        return createdAt != null ? createdAt : now;
+    }
+}
@@ -0,0 +1,270 @@
+package click.dailyfeed.content.domain.importer.service;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.global.system.type.PublishType;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
+import click.dailyfeed.content.domain.base.id.IdBlockAllocator;
+import click.dailyfeed.content.domain.base.id.IdSequences;
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
+import click.dailyfeed.content.domain.comment.document.CommentDocument;
+import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
+import click.dailyfeed.content.domain.importer.dto.BulkImportDto;
+import click.dailyfeed.content.domain.importer.repository.BulkImportJdbcRepository;
+import click.dailyfeed.content.domain.outbox.entity.OutboxEventType;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
+import click.dailyfeed.content.domain.post.document.PostDocument;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * 이관/백필 용 게시글/댓글 대량 등록
+ * - batch-size 단위로 id 구간을 먼저 할당받고, MySQL(JDBC batch insert + outbox batch insert)을 한 트랜잭션으로 저장한 뒤, mongodb 문서/post_stats 를 unordered bulk write 로 반영
+ * - 활동 기록은 KAFKA 모드에서는 outbox 에 일괄 저장해 relay 가 순서대로 발행하고, FEIGN 모드에서는 발행 큐에 넣음
+ * - 대량 트랜잭션이 되지 않도록 mongodb 쓰기는 트랜잭션 밖에서 수행하고, 실패 건수는 결과로 돌려줌 (검색 색인 필드가 없는 문서는 SearchTextBackfillService 가 채움)
+ * - 이관 데이터는 최근 반응이 아니므로 인기 게시글 랭킹에는 반영하지 않음
+ * - 묶음 하나의 MySQL 저장이 실패하면 거기서 멈추고, 이미 커밋된 묶음의 id 만 completed = false 로 돌려줌
+ */
+@Slf4j
+@Service
+public class BulkImportService {
+    private final BulkImportJdbcRepository bulkImportJdbcRepository;
+    private final IdBlockAllocator idBlockAllocator;
+    private final PostRepository postRepository;
+    private final MongoTemplate mongoTemplate;
+    private final PostStatsService postStatsService;
+    private final MemberActivityOutboxService memberActivityOutboxService;
+    private final QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+    private final PostMapper postMapper;
+    private final CommentMapper commentMapper;
+    private final JpaTransactions jpaTransactions;
+    private final int batchSize;
+    private final String postPublishType;
+    private final String commentPublishType;
+
+    public BulkImportService(
+            BulkImportJdbcRepository bulkImportJdbcRepository,
+            IdBlockAllocator idBlockAllocator,
+            PostRepository postRepository,
+            MongoTemplate mongoTemplate,
+            PostStatsService postStatsService,
+            MemberActivityOutboxService memberActivityOutboxService,
+            QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher,
+            PostMapper postMapper,
+            CommentMapper commentMapper,
+            JpaTransactions jpaTransactions,
+            @Value("${dailyfeed.services.content.bulk-import.batch-size:1000}") int batchSize,
+            @Value("${dailyfeed.services.content.publish-type.post-service}") String postPublishType,
+            @Value("${dailyfeed.services.content.publish-type.comment-service}") String commentPublishType
+    ) {
+        this.bulkImportJdbcRepository = bulkImportJdbcRepository;
+        this.idBlockAllocator = idBlockAllocator;
+        this.postRepository = postRepository;
+        this.mongoTemplate = mongoTemplate;
+        this.postStatsService = postStatsService;
+        this.memberActivityOutboxService = memberActivityOutboxService;
+        this.queuedMemberActivityFeignPublisher = queuedMemberActivityFeignPublisher;
+        this.postMapper = postMapper;
+        this.commentMapper = commentMapper;
+        // 기본 transactionManager 는 mongodb 용이므로 MySQL 배치(JDBC insert + outbox)는 JPA 트랜잭션으로 묶음
+        this.jpaTransactions = jpaTransactions;
+        this.batchSize = Math.max(1, batchSize);
+        this.postPublishType = postPublishType;
+        this.commentPublishType = commentPublishType;
+    }
+
+    public BulkImportDto.Result importPosts(List<BulkImportDto.PostItem> posts, String token) {
+        long startedAt = System.nanoTime();
+        boolean kafka = PublishType.KAFKA.getCode().equals(postPublishType);
+        List<Long> ids = new ArrayList<>(posts.size());
+        int documentFailures = 0;
+
+        for (int from = 0; from < posts.size(); from += batchSize) {
+            List<BulkImportDto.PostItem> chunk = posts.subList(from, Math.min(from + batchSize, posts.size()));
+            LocalDateTime now = LocalDateTime.now();
+
+            List<Long> chunkIds;
+            try {
+                chunkIds = insertPostChunk(chunk, now, kafka);
+            } catch (Exception e) {
+                // 앞 묶음은 이미 커밋되었으므로 되돌리지 않고, 커밋된 id 까지만 돌려줌 (호출한 쪽은 남은 항목부터 다시 요청)
+                log.error("Bulk import chunk failed. target: posts, from: {}, imported so far: {}", from, ids.size(), e);
+                return result(posts.size(), 0, documentFailures, ids, false);
+            }
+            ids.addAll(chunkIds);
+
+            documentFailures += writePostDocuments(chunk, chunkIds, now);
+            if (!kafka) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    queuedMemberActivityFeignPublisher.publishPostActivity(
+                            postMapper.postActivityFeignRequest(chunk.get(i).getAuthorId(), chunkIds.get(i), MemberActivityType.POST_CREATE), token);
+                }
+            }
+        }
+
+        logThroughput("posts", ids.size(), startedAt);
+        return result(posts.size(), 0, documentFailures, ids, true);
+    }
+
+    public BulkImportDto.Result importComments(List<BulkImportDto.CommentItem> comments, String token) {
+        long startedAt = System.nanoTime();
+        boolean kafka = PublishType.KAFKA.getCode().equals(commentPublishType);
+
+        // 대상 글이 없거나 삭제된 댓글은 건너뜀
+        Set<Long> livePostIds = new HashSet<>(postRepository.findNotDeletedIdsIn(
+                comments.stream().map(BulkImportDto.CommentItem::getPostId).distinct().toList()));
+        List<BulkImportDto.CommentItem> importable = comments.stream()
+                .filter(comment -> livePostIds.contains(comment.getPostId()))
+                .toList();
+
+        List<Long> ids = new ArrayList<>(importable.size());
+        int documentFailures = 0;
+
+        for (int from = 0; from < importable.size(); from += batchSize) {
+            List<BulkImportDto.CommentItem> chunk = importable.subList(from, Math.min(from + batchSize, importable.size()));
+            LocalDateTime now = LocalDateTime.now();
+
+            List<Long> chunkIds;
+            try {
+                chunkIds = insertCommentChunk(chunk, now, kafka);
+            } catch (Exception e) {
+                log.error("Bulk import chunk failed. target: comments, from: {}, imported so far: {}", from, ids.size(), e);
+                return result(comments.size(), comments.size() - importable.size(), documentFailures, ids, false);
+            }
+            ids.addAll(chunkIds);
+
+            documentFailures += writeCommentDocuments(chunk, chunkIds, now);
+            if (!kafka) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    BulkImportDto.CommentItem comment = chunk.get(i);
+                    queuedMemberActivityFeignPublisher.publishCommentActivity(
+                            commentMapper.commentActivityFeignRequest(comment.getAuthorId(), comment.getPostId(), chunkIds.get(i), MemberActivityType.COMMENT_CREATE), token);
+                }
+            }
+        }
+
+        logThroughput("comments", ids.size(), startedAt);
+        return result(comments.size(), comments.size() - importable.size(), documentFailures, ids, true);
+    }
+
+    /// id 구간을 할당받고 posts + outbox 를 한 트랜잭션으로 저장, 할당된 id 반환
+    private List<Long> insertPostChunk(List<BulkImportDto.PostItem> chunk, LocalDateTime now, boolean kafka) {
+        List<Long> chunkIds = idBlockAllocator.allocate(IdSequences.POSTS, chunk.size());
+        jpaTransactions.run(() -> {
+            bulkImportJdbcRepository.insertPosts(chunk, chunkIds, now);
+            if (kafka) {
+                memberActivityOutboxService.enqueueAll(OutboxEventType.POST, MemberActivityType.POST_CREATE, IntStream.range(0, chunk.size())
+                        .mapToObj(i -> new MemberActivityOutboxService.ActivityTarget(chunk.get(i).getAuthorId(), chunkIds.get(i), null))
+                        .toList());
+            }
+        });
+        return chunkIds;
+    }
+
+    /// id 구간을 할당받고 comments + outbox 를 한 트랜잭션으로 저장, 할당된 id 반환
+    private List<Long> insertCommentChunk(List<BulkImportDto.CommentItem> chunk, LocalDateTime now, boolean kafka) {
+        List<Long> chunkIds = idBlockAllocator.allocate(IdSequences.COMMENTS, chunk.size());
+        jpaTransactions.run(() -> {
+            bulkImportJdbcRepository.insertComments(chunk, chunkIds, now);
+            if (kafka) {
+                memberActivityOutboxService.enqueueAll(OutboxEventType.COMMENT, MemberActivityType.COMMENT_CREATE, IntStream.range(0, chunk.size())
+                        .mapToObj(i -> new MemberActivityOutboxService.ActivityTarget(chunk.get(i).getAuthorId(), chunk.get(i).getPostId(), chunkIds.get(i)))
+                        .toList());
+            }
+        });
+        return chunkIds;
+    }
+
+    /// posts 문서 + post_stats 반영, 실패한 문서 수 반환
+    private int writePostDocuments(List<BulkImportDto.PostItem> chunk, List<Long> ids, LocalDateTime now) {
+        Map<Long, LocalDateTime> createdAtByPostPk = new LinkedHashMap<>();
+        List<PostDocument> documents = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkImportDto.PostItem post = chunk.get(i);
+            LocalDateTime createdAt = BulkImportJdbcRepository.createdAtOf(post.getCreatedAt(), now);
+            documents.add(PostDocument.newPost(ids.get(i), post.getTitle() != null ? post.getTitle() : "", post.getContent(), createdAt, now));
+            createdAtByPostPk.put(ids.get(i), createdAt);
+        }
+
+        int failures = insertDocuments(documents, PostDocument.class);
+        try {
+            postStatsService.recordNewPosts(createdAtByPostPk);
+        } catch (Exception e) {
+            log.warn("Bulk import post_stats update failed. posts: {}", createdAtByPostPk.size(), e);
+        }
+        return failures;
+    }
+
+    /// comments 문서 + 글 별 post_stats 반영, 실패한 문서 수 반환
+    private int writeCommentDocuments(List<BulkImportDto.CommentItem> chunk, List<Long> ids, LocalDateTime now) {
+        Map<Long, PostStatsDto.NewComments> newCommentsByPost = new LinkedHashMap<>();
+        List<CommentDocument> documents = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            BulkImportDto.CommentItem comment = chunk.get(i);
+            LocalDateTime createdAt = BulkImportJdbcRepository.createdAtOf(comment.getCreatedAt(), now);
+            documents.add(CommentDocument.newComment(comment.getPostId(), ids.get(i), comment.getContent(), createdAt, now));
+            newCommentsByPost.merge(comment.getPostId(),
+                    PostStatsDto.NewComments.builder().postId(comment.getPostId()).count(1L).lastCreatedAt(createdAt).build(),
+                    (a, b) -> PostStatsDto.NewComments.builder()
+                            .postId(a.getPostId())
+                            .count(a.getCount() + b.getCount())
+                            .lastCreatedAt(a.getLastCreatedAt().isAfter(b.getLastCreatedAt()) ? a.getLastCreatedAt() : b.getLastCreatedAt())
+                            .build());
+        }
+
+        int failures = insertDocuments(documents, CommentDocument.class);
+        try {
+            postStatsService.recordNewComments(newCommentsByPost.values());
+        } catch (Exception e) {
+            log.warn("Bulk import post_stats update failed. posts: {}", newCommentsByPost.size(), e);
+        }
+        return failures;
+    }
+
+    private <T> int insertDocuments(List<T> documents, Class<T> documentType) {
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentType)
+                    .insert(documents)
+                    .execute();
+            return 0;
+        } catch (BulkOperationException e) {
+            log.warn("Bulk import document insert partially failed. type: {}, failed: {}", documentType.getSimpleName(), e.getErrors().size());
+            return e.getErrors().size();
+        } catch (Exception e) {
+            log.warn("Bulk import document insert failed. type: {}, documents: {}", documentType.getSimpleName(), documents.size(), e);
+            return documents.size();
+        }
+    }
+
+    private static BulkImportDto.Result result(int requested, int skipped, int documentFailures, List<Long> ids, boolean completed) {
+        return BulkImportDto.Result.builder()
+                .completed(completed)
+                .requested(requested)
+                .imported(ids.size())
+                .skipped(skipped)
+                .documentFailures(documentFailures)
+                .ids(ids)
+                .build();
+    }
+
+    private static void logThroughput(String target, int imported, long startedAt) {
+        long elapsedMs = Math.max(1L, (System.nanoTime() - startedAt) / 1_000_000L);
+        log.info("Bulk import finished. target: {}, imported: {}, elapsedMs: {}, itemsPerSec: {}", target, imported, elapsedMs, imported * 1000L / elapsedMs);
+    }
+}
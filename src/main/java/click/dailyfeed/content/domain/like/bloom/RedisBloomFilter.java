@@ -0,0 +1,182 @@
+package click.dailyfeed.content.domain.like.bloom;
+
+import click.dailyfeed.content.domain.base.lock.RedisLocks;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis 비트맵 위에 올린 Bloom filter
+ * - (대상 pk, 멤버 id) 쌍을 k 개의 비트 위치로 매핑해서 SETBIT/GETBIT 로 기록/조회 (모든 pod 가 같은 비트맵을 공유)
+ * - 준비 완료 마커는 같은 비트맵의 bitSize 번째 비트 (해시 범위 밖) → 비트맵이 삭제/eviction 되면 마커도 함께 사라지고,
+ *   그 뒤 put 으로 비트맵이 다시 만들어져도 재구성 전까지는 준비되지 않은 상태로 남음
+ * - 조회는 마커 GETBIT + k 개의 GETBIT 를 한 번의 pipeline 으로 처리
+ * - 마커가 없으면(재구성 전/재구성 중/기록 실패 후) 항상 "있을 수도 있음"으로 응답해서 원본 조회로 넘어가도록 함
+ * - 재구성은 임시 비트맵(:rebuilding)에 채운 뒤 RENAME 으로 교체 (재구성 중의 기록은 Lua 로 두 비트맵에 함께 기록)
+ * - 기록 실패 시 markNotReady 가 generation 을 올리고, 재구성은 시작 시점의 generation 이 그대로일 때만 교체
+ *   → 재구성 도중의 기록 실패(빠진 비트)를 준비 완료 마커가 덮어쓰지 않음
+ */
+public class RedisBloomFilter {
+    private static final long MIX_1 = 0xff51afd7ed558ccdL;
+    private static final long MIX_2 = 0xc4ceb9fe1a85ec53L;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // KEYS[1] = 비트맵, KEYS[2] = 재구성 중인 임시 비트맵 / ARGV = 비트 위치
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(
+            "local rebuilding = redis.call('exists', KEYS[2]) == 1 " +
+                    "for i = 1, #ARGV do " +
+                    "redis.call('setbit', KEYS[1], ARGV[i], 1) " +
+                    "if rebuilding then redis.call('setbit', KEYS[2], ARGV[i], 1) end " +
+                    "end return 1",
+            Long.class);
+
+    // KEYS[1] = 비트맵, KEYS[2] = generation / ARGV[1] = 마커 위치
+    private static final RedisScript<Long> MARK_NOT_READY_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('setbit', KEYS[1], ARGV[1], 0) return 1",
+            Long.class);
+
+    // KEYS[1] = 임시 비트맵, KEYS[2] = generation / ARGV[1] = 마커 위치, ARGV[2] = 임시 비트맵 ttl(ms)
+    private static final RedisScript<Long> START_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) redis.call('setbit', KEYS[1], ARGV[1], 0) redis.call('pexpire', KEYS[1], ARGV[2]) " +
+                    "return tonumber(redis.call('get', KEYS[2]) or '0')",
+            Long.class);
+
+    // KEYS[1] = 비트맵, KEYS[2] = 임시 비트맵, KEYS[3] = generation / ARGV[1] = 시작 시점 generation, ARGV[2] = 마커 위치
+    private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[3]) or '0') ~= ARGV[1] or redis.call('exists', KEYS[2]) == 0 then " +
+                    "redis.call('del', KEYS[2]) return 0 end " +
+                    "redis.call('setbit', KEYS[2], ARGV[2], 1) redis.call('persist', KEYS[2]) " +
+                    "redis.call('rename', KEYS[2], KEYS[1]) return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String bitmapKey;
+    private final String rebuildLockKey;
+    private final String rebuildKey;
+    private final String generationKey;
+    private final long bitSize;
+    private final int hashCount;
+
+    public RedisBloomFilter(StringRedisTemplate redisTemplate, String key, long bitSize, int hashCount) {
+        this.redisTemplate = redisTemplate;
+        this.bitmapKey = key;
+        this.rebuildLockKey = key + ":rebuild-lock";
+        this.rebuildKey = key + ":rebuilding";
+        this.generationKey = key + ":generation";
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+    }
+
+    /// false 이면 확실히 없음, true 이면 있을 수도 있음
+    public boolean mightContain(long targetPk, long memberId) {
+        long[] offsets = offsets(targetPk, memberId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.getBit(bitmapKey, bitSize);
+            for (long offset : offsets) {
+                stringConnection.getBit(bitmapKey, offset);
+            }
+            return null;
+        });
+
+        if (results.isEmpty() || !Boolean.TRUE.equals(results.get(0))) {
+            return true;
+        }
+        for (int i = 1; i < results.size(); i++) {
+            if (!Boolean.TRUE.equals(results.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /// 재구성 중이면 임시 비트맵에도 함께 기록 (한 번의 스크립트 호출)
+    public void put(long targetPk, long memberId) {
+        long[] offsets = offsets(targetPk, memberId);
+        String[] args = new String[offsets.length];
+        for (int i = 0; i < offsets.length; i++) {
+            args[i] = String.valueOf(offsets[i]);
+        }
+        redisTemplate.execute(PUT_SCRIPT, List.of(bitmapKey, rebuildKey), (Object[]) args);
+    }
+
+    /// pairs : [targetPk, memberId] 목록 (재구성 시 임시 비트맵에 배치 단위 기록용)
+    public void putAllForRebuild(List<long[]> pairs) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (long[] pair : pairs) {
+                setBits(stringConnection, rebuildKey, offsets(pair[0], pair[1]));
+            }
+            return null;
+        });
+    }
+
+    public boolean isReady() {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(bitmapKey, bitSize));
+    }
+
+    /// 기록 실패 등으로 필터를 더 이상 믿을 수 없을 때 (다음 재구성 전까지 원본 조회로 대체, 진행 중인 재구성도 교체하지 않음)
+    public void markNotReady() {
+        redisTemplate.execute(MARK_NOT_READY_SCRIPT, List.of(bitmapKey, generationKey), String.valueOf(bitSize));
+    }
+
+    public boolean tryAcquireRebuildLock(String owner, Duration timeout) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(rebuildLockKey, owner, timeout));
+    }
+
+    public void releaseRebuildLock(String owner) {
+        RedisLocks.release(redisTemplate, rebuildLockKey, owner);
+    }
+
+    /**
+     * 빈 임시 비트맵을 만들고 현재 generation 을 반환 (이후의 put 은 임시 비트맵에도 기록됨)
+     * - 임시 비트맵은 재구성하던 pod 가 죽어도 남지 않도록 timeout 뒤에 만료 (rebuild lock 과 같은 시간)
+     */
+    public long startRebuild(Duration timeout) {
+        Long generation = redisTemplate.execute(START_REBUILD_SCRIPT, List.of(rebuildKey, generationKey),
+                String.valueOf(bitSize), String.valueOf(timeout.toMillis()));
+        return generation != null ? generation : 0L;
+    }
+
+    /// 시작 시점 이후 기록 실패가 없었으면 임시 비트맵을 준비 완료로 표시해서 교체하고 true, 있었으면 임시 비트맵을 버리고 false
+    public boolean finishRebuild(long generation) {
+        Long replaced = redisTemplate.execute(FINISH_REBUILD_SCRIPT, List.of(bitmapKey, rebuildKey, generationKey),
+                String.valueOf(generation), String.valueOf(bitSize));
+        return Long.valueOf(1L).equals(replaced);
+    }
+
+    public void abortRebuild() {
+        redisTemplate.delete(rebuildKey);
+    }
+
+    private void setBits(StringRedisConnection connection, String key, long[] offsets) {
+        for (long offset : offsets) {
+            connection.setBit(key, offset, true);
+        }
+    }
+
+    /// double hashing (Kirsch-Mitzenmacher) : offset_i = h1 + i * h2 (mod m)
+    long[] offsets(long targetPk, long memberId) {
+        long h1 = mix(targetPk * GOLDEN_GAMMA ^ memberId);
+        long h2 = mix(h1 ^ memberId * MIX_2) | 1L;
+        long[] offsets = new long[hashCount];
+        for (int i = 0; i < hashCount; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, bitSize);
+        }
+        return offsets;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= MIX_1;
+        h ^= h >>> 33;
+        h *= MIX_2;
+        h ^= h >>> 33;
+        return h;
+    }
+}
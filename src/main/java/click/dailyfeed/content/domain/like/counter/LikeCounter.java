@@ -0,0 +1,97 @@
+package click.dailyfeed.content.domain.like.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 대상(글/댓글) pk 별 좋아요 증감분을 모아두는 lock-striped 카운터
+ * - 증감은 임의로 고른 stripe 의 read lock 안에서 LongAdder 셀에 누적 (같은 글에 몰리는 좋아요도 stripe 수만큼 분산)
+ * - drain 은 stripe 마다 write lock 으로 셀 맵을 통째로 교체한 뒤 합산하므로, drain 도중의 증감이 유실되지 않음
+ */
+public class LikeCounter {
+    private static final int DEFAULT_STRIPE_COUNT = 16;
+
+    private final Stripe[] stripes;
+    private final int mask;
+
+    public LikeCounter() {
+        this(DEFAULT_STRIPE_COUNT);
+    }
+
+    public LikeCounter(int stripeCount) {
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe();
+        }
+        this.mask = size - 1;
+    }
+
+    public void add(Long targetPk, long delta) {
+        if (delta == 0L) {
+            return;
+        }
+        Stripe stripe = stripes[ThreadLocalRandom.current().nextInt() & mask];
+        stripe.lock.readLock().lock();
+        try {
+            stripe.cells.computeIfAbsent(targetPk, pk -> new LongAdder()).add(delta);
+        } finally {
+            stripe.lock.readLock().unlock();
+        }
+    }
+
+    /// 아직 flush 되지 않은 증감분
+    public long pending(Long targetPk) {
+        long sum = 0L;
+        for (Stripe stripe : stripes) {
+            stripe.lock.readLock().lock();
+            try {
+                LongAdder cell = stripe.cells.get(targetPk);
+                if (cell != null) {
+                    sum += cell.sum();
+                }
+            } finally {
+                stripe.lock.readLock().unlock();
+            }
+        }
+        return sum;
+    }
+
+    /// 누적된 증감분을 꺼내고 카운터를 비움 (증감분이 0 인 대상은 제외)
+    public Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            ConcurrentHashMap<Long, LongAdder> drained;
+            stripe.lock.writeLock().lock();
+            try {
+                if (stripe.cells.isEmpty()) {
+                    continue;
+                }
+                drained = stripe.cells;
+                stripe.cells = new ConcurrentHashMap<>();
+            } finally {
+                stripe.lock.writeLock().unlock();
+            }
+            drained.forEach((targetPk, cell) -> deltas.merge(targetPk, cell.sum(), Long::sum));
+        }
+        deltas.values().removeIf(delta -> delta == 0L);
+        return deltas;
+    }
+
+    /// flush 실패 시 꺼냈던 증감분을 되돌려 놓음
+    public void restore(Map<Long, Long> deltas) {
+        deltas.forEach(this::add);
+    }
+
+    private static final class Stripe {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private ConcurrentHashMap<Long, LongAdder> cells = new ConcurrentHashMap<>();
+    }
+}
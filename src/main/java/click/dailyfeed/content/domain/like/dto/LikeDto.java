@@ -0,0 +1,36 @@
+package click.dailyfeed.content.domain.like.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+public class LikeDto {
+    // 좋아요 여부 일괄 조회 한 번에 받을 수 있는 id 수 (피드 한 페이지 분량)
+    public static final int MAX_IDS_PER_REQUEST = 100;
+
+    /// 요청한 id 순서와 같은 순서의 좋아요 여부
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LikedByMe {
+        private List<Long> ids;
+        private List<Boolean> liked;
+
+        public static LikedByMe of(List<Long> ids, BitSet likedFlags) {
+            List<Boolean> liked = new ArrayList<>(ids.size());
+            for (int i = 0; i < ids.size(); i++) {
+                liked.add(likedFlags.get(i));
+            }
+            return LikedByMe.builder()
+                    .ids(ids)
+                    .liked(liked)
+                    .build();
+        }
+    }
+}
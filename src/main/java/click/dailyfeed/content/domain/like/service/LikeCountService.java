@@ -0,0 +1,136 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.like.counter.LikeCounter;
+import click.dailyfeed.content.domain.post.service.PostDetailCache;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 좋아요 수 집계 엔진
+ * - 좋아요/취소 요청마다 DB 에 쓰지 않고, 메모리의 lock-striped 카운터에 증감분만 누적
+ * - 일정 주기로 누적된 증감분을 꺼내 MySQL/MongoDB 에 일괄 반영 (인기글에 좋아요가 몰려도 flush 주기당 글 하나에 한 번의 쓰기)
+ * - 저장소별로 반영에 실패한 증감분만 그 저장소의 재시도분으로 보관 (한쪽만 실패해도 다른 쪽에 같은 증감분이 두 번 더해지지 않음)
+ * - 반영된 글은 게시글 상세 조회의 좋아요 수 캐시에서 제거
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class LikeCountService {
+    private final LikeCountWriter likeCountWriter;
+    private final PostDetailCache postDetailCache;
+
+    private final PendingLikes postLikes = new PendingLikes();
+    private final PendingLikes commentLikes = new PendingLikes();
+
+    public void incrementPostLikeCount(Long postPk) {
+        postLikes.counter.add(postPk, 1L);
+    }
+
+    public void decrementPostLikeCount(Long postPk) {
+        postLikes.counter.add(postPk, -1L);
+    }
+
+    public void incrementCommentLikeCount(Long commentPk) {
+        commentLikes.counter.add(commentPk, 1L);
+    }
+
+    public void decrementCommentLikeCount(Long commentPk) {
+        commentLikes.counter.add(commentPk, -1L);
+    }
+
+    /// 아직 MySQL 에 반영되지 않은 증감분 (조회 시 저장된 값에 더해서 사용)
+    public long getPendingPostLikeDelta(Long postPk) {
+        return postLikes.pendingInMysql(postPk);
+    }
+
+    public long getPendingCommentLikeDelta(Long commentPk) {
+        return commentLikes.pendingInMysql(commentPk);
+    }
+
+    @Scheduled(
+            fixedDelayString = "${dailyfeed.services.content.like-count.flush-interval-ms:1000}",
+            initialDelayString = "${dailyfeed.services.content.like-count.flush-interval-ms:1000}"
+    )
+    public void flush() {
+        flushPostLikeCounts();
+        flushCommentLikeCounts();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private void flushPostLikeCounts() {
+        Set<Long> written = flush("post", postLikes, likeCountWriter::writePostLikeDeltasToMysql, likeCountWriter::writePostLikeDeltasToMongo);
+        if (!written.isEmpty()) {
+            postDetailCache.evictLikeCounts(written);
+        }
+    }
+
+    private void flushCommentLikeCounts() {
+        flush("comment", commentLikes, likeCountWriter::writeCommentLikeDeltasToMysql, likeCountWriter::writeCommentLikeDeltasToMongo);
+    }
+
+    /// 새 증감분 + 저장소별 재시도분을 각 저장소에 반영하고, MySQL 에 반영된 대상 pk 반환
+    private Set<Long> flush(String type, PendingLikes likes, Consumer<Map<Long, Long>> writeMysql, Function<Map<Long, Long>, Map<Long, Long>> writeMongo) {
+        Map<Long, Long> drained = likes.counter.drain();
+        Map<Long, Long> mysqlDeltas = merge(drained, likes.mysqlRetry.drain());
+        Map<Long, Long> mongoDeltas = merge(drained, likes.mongoRetry.drain());
+
+        Set<Long> written = Set.of();
+        if (!mysqlDeltas.isEmpty()) {
+            try {
+                writeMysql.accept(mysqlDeltas);
+                written = mysqlDeltas.keySet();
+            } catch (Exception e) {
+                // 트랜잭션이 롤백되었으므로 전부 다음 주기에 다시 시도
+                log.warn("Failed to flush {} like counts to mysql, size: {}", type, mysqlDeltas.size(), e);
+                likes.mysqlRetry.restore(mysqlDeltas);
+            }
+        }
+        if (!mongoDeltas.isEmpty()) {
+            Map<Long, Long> failed;
+            try {
+                failed = writeMongo.apply(mongoDeltas);
+            } catch (Exception e) {
+                failed = mongoDeltas;
+            }
+            if (!failed.isEmpty()) {
+                log.warn("Failed to flush {} like counts to mongodb, failed: {}/{}", type, failed.size(), mongoDeltas.size());
+                likes.mongoRetry.restore(failed);
+            }
+        }
+        return written;
+    }
+
+    private static Map<Long, Long> merge(Map<Long, Long> deltas, Map<Long, Long> retries) {
+        if (retries.isEmpty()) {
+            return deltas;
+        }
+        Map<Long, Long> merged = new HashMap<>(deltas);
+        retries.forEach((targetPk, delta) -> merged.merge(targetPk, delta, Long::sum));
+        merged.values().removeIf(delta -> delta == 0L);
+        return merged;
+    }
+
+    /// 대상 종류(글/댓글)별 증감분 : 요청마다 쌓이는 카운터와, 한 저장소에만 반영에 실패한 재시도분
+    private static final class PendingLikes {
+        private final LikeCounter counter = new LikeCounter();
+        private final LikeCounter mysqlRetry = new LikeCounter();
+        private final LikeCounter mongoRetry = new LikeCounter();
+
+        private long pendingInMysql(Long targetPk) {
+            return counter.pending(targetPk) + mysqlRetry.pending(targetPk);
+        }
+    }
+}
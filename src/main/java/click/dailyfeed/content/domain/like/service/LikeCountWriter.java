@@ -0,0 +1,87 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
+import click.dailyfeed.content.domain.comment.document.CommentStatsDocument;
+import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.content.domain.post.document.PostStatsDocument;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.AggregationExpression;
+import org.springframework.data.mongodb.core.aggregation.AggregationUpdate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 좋아요 수 증감분을 MySQL(posts.like_count, comments.like_count)과 MongoDB(post_stats, comment_stats)에 일괄 반영
+ * - 저장소마다 따로 반영하고, 호출한 쪽은 반영되지 않은 저장소의 증감분만 다시 시도 (이미 반영된 저장소에 같은 증감분을 두 번 더하지 않음)
+ * - MySQL 은 한 트랜잭션으로 모두 반영되거나 모두 롤백, MongoDB 는 unordered bulk write 라 실패한 항목만 돌려줌
+ * - 두 저장소 모두 0 미만으로 내려가지 않음
+ */
+@RequiredArgsConstructor
+@Component
+public class LikeCountWriter {
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final MongoTemplate mongoTemplate;
+    private final JpaTransactions jpaTransactions;
+
+    /// 관계형 데이터베이스 : 같은 증감분끼리 묶어서 UPDATE ... WHERE id IN (...)
+    public void writePostLikeDeltasToMysql(Map<Long, Long> deltas) {
+        jpaTransactions.run(() -> groupByDelta(deltas).forEach((delta, postIds) -> postRepository.addLikeCount(postIds, delta)));
+    }
+
+    /// mongodb : 글 별 upsert 를 한 번의 bulk write 로, 반영하지 못한 증감분 반환
+    public Map<Long, Long> writePostLikeDeltasToMongo(Map<Long, Long> deltas) {
+        return addLikeCounts(PostStatsDocument.class, "post_pk", deltas);
+    }
+
+    public void writeCommentLikeDeltasToMysql(Map<Long, Long> deltas) {
+        jpaTransactions.run(() -> groupByDelta(deltas).forEach((delta, commentIds) -> commentRepository.addLikeCount(commentIds, delta)));
+    }
+
+    public Map<Long, Long> writeCommentLikeDeltasToMongo(Map<Long, Long> deltas) {
+        return addLikeCounts(CommentStatsDocument.class, "comment_pk", deltas);
+    }
+
+    private Map<Long, Long> addLikeCounts(Class<?> documentType, String pkField, Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentType);
+        entries.forEach(entry -> bulkOps.upsert(Query.query(Criteria.where(pkField).is(entry.getKey())), addLikeCount(entry.getValue())));
+        try {
+            bulkOps.execute();
+            return Map.of();
+        } catch (BulkOperationException e) {
+            // 오류의 index 는 bulk 에 넣은 순서
+            Map<Long, Long> failed = new HashMap<>();
+            e.getErrors().forEach(error -> {
+                Map.Entry<Long, Long> entry = entries.get(error.getIndex());
+                failed.put(entry.getKey(), entry.getValue());
+            });
+            return failed;
+        }
+    }
+
+    /// like_count = max(0, ifNull(like_count, 0) + delta) (MySQL 의 CASE WHEN ... < 0 THEN 0 과 같은 규칙)
+    static AggregationUpdate addLikeCount(long delta) {
+        AggregationExpression clamped = context -> new Document("$max", List.of(0L,
+                new Document("$add", List.of(new Document("$ifNull", List.of("$like_count", 0L)), delta))));
+        return AggregationUpdate.update().set("like_count").toValue(clamped);
+    }
+
+    private Map<Long, List<Long>> groupByDelta(Map<Long, Long> deltas) {
+        Map<Long, List<Long>> grouped = new TreeMap<>();
+        deltas.forEach((targetPk, delta) -> grouped.computeIfAbsent(delta, d -> new ArrayList<>()).add(targetPk));
+        return grouped;
+    }
+}
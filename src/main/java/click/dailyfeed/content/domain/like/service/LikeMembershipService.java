@@ -0,0 +1,181 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.comment.document.CommentLikeDocument;
+import click.dailyfeed.content.domain.like.bloom.RedisBloomFilter;
+import click.dailyfeed.content.domain.post.document.PostLikeDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * "이 멤버가 이 글/댓글에 좋아요를 눌렀는가" 를 Bloom filter 로 먼저 걸러내는 인덱스
+ * - false : 확실히 좋아요 하지 않음 (mongodb 조회 생략)
+ * - true  : 좋아요 했을 수도 있음 (post_likes/comment_likes 조회로 확인)
+ * - Redis 장애, 재구성 전/중에는 항상 true 를 돌려주므로 결과가 틀려지지는 않음
+ */
+@Slf4j
+@Service
+public class LikeMembershipService {
+    private static final String POST_LIKE_FILTER_KEY = "dailyfeed:content:bloom:post_likes";
+    private static final String COMMENT_LIKE_FILTER_KEY = "dailyfeed:content:bloom:comment_likes";
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Duration REBUILD_LOCK_TIMEOUT = Duration.ofMinutes(30);
+
+    private final MongoTemplate mongoTemplate;
+    private final RedisBloomFilter postLikeFilter;
+    private final RedisBloomFilter commentLikeFilter;
+    private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+
+    public LikeMembershipService(
+            MongoTemplate mongoTemplate,
+            StringRedisTemplate redisTemplate,
+            @Value("${dailyfeed.services.content.like-membership.bit-size:67108864}") long bitSize,
+            @Value("${dailyfeed.services.content.like-membership.hash-count:7}") int hashCount
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.postLikeFilter = new RedisBloomFilter(redisTemplate, POST_LIKE_FILTER_KEY, bitSize, hashCount);
+        this.commentLikeFilter = new RedisBloomFilter(redisTemplate, COMMENT_LIKE_FILTER_KEY, bitSize, hashCount);
+    }
+
+    public boolean mightHaveLikedPost(Long postPk, Long memberId) {
+        return mightContain(postLikeFilter, postPk, memberId);
+    }
+
+    public boolean mightHaveLikedComment(Long commentPk, Long memberId) {
+        return mightContain(commentLikeFilter, commentPk, memberId);
+    }
+
+    public void recordPostLike(Long postPk, Long memberId) {
+        record(postLikeFilter, postPk, memberId);
+    }
+
+    public void recordCommentLike(Long commentPk, Long memberId) {
+        record(commentLikeFilter, commentPk, memberId);
+    }
+
+    private boolean mightContain(RedisBloomFilter filter, Long targetPk, Long memberId) {
+        try {
+            return filter.mightContain(targetPk, memberId);
+        } catch (Exception e) {
+            log.warn("Bloom filter lookup failed, falling back to mongodb. targetPk: {}, memberId: {}", targetPk, memberId, e);
+            return true;
+        }
+    }
+
+    private void record(RedisBloomFilter filter, Long targetPk, Long memberId) {
+        try {
+            filter.put(targetPk, memberId);
+        } catch (Exception e) {
+            // 기록이 빠진 필터는 "확실히 없음" 을 잘못 답할 수 있으므로, 다음 재구성 전까지 사용하지 않음
+            log.warn("Bloom filter write failed, disabling filter until rebuild. targetPk: {}, memberId: {}", targetPk, memberId, e);
+            try {
+                filter.markNotReady();
+            } catch (Exception ignored) {
+                // Redis 자체가 응답하지 않는 경우 조회도 실패하므로 원본 조회로 대체됨
+            }
+            rebuildIfNotReady();
+        }
+    }
+
+    /**
+     * 기동 시 post_likes/comment_likes 로부터 필터 재구성
+     * - 비트맵은 Redis 에 있으므로 이미 준비된 필터는 건너뛰고, 여러 pod 가 동시에 재구성하지 않도록 lock 을 잡음
+     * - 기존 비트맵은 비우지 않고 임시 비트맵에 채운 뒤 교체 (RedisBloomFilter 참고)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        rebuildIfNotReady();
+    }
+
+    /// 기록 실패로 markNotReady 된 필터, redis 에서 비트맵이 사라진 필터를 다시 구성 (준비된 필터는 isReady 확인만 하고 건너뜀)
+    @Scheduled(
+            initialDelayString = "${dailyfeed.services.content.like-membership.rebuild-check-interval-ms:60000}",
+            fixedDelayString = "${dailyfeed.services.content.like-membership.rebuild-check-interval-ms:60000}"
+    )
+    public void rebuildIfNotReady() {
+        // 재구성은 오래 걸릴 수 있으므로 스케줄러/요청 스레드를 붙잡지 않도록 별도 스레드에서, pod 안에서는 한 번에 하나만
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    rebuildAll();
+                } finally {
+                    rebuilding.set(false);
+                }
+            });
+        } catch (Exception e) {
+            rebuilding.set(false);
+            log.warn("Failed to schedule bloom filter rebuild", e);
+        }
+    }
+
+    void rebuildAll() {
+        rebuild(postLikeFilter, PostLikeDocument.class, d -> new long[]{d.getPostPk(), d.getMemberId()});
+        rebuild(commentLikeFilter, CommentLikeDocument.class, d -> new long[]{d.getCommentPk(), d.getMemberId()});
+    }
+
+    private <T> void rebuild(RedisBloomFilter filter, Class<T> documentType, Function<T, long[]> toPair) {
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (filter.isReady() || !filter.tryAcquireRebuildLock(owner, REBUILD_LOCK_TIMEOUT)) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Skip bloom filter rebuild, redis unavailable. type: {}", documentType.getSimpleName(), e);
+            return;
+        }
+
+        long count = 0;
+        try {
+            // 임시 비트맵을 만든 뒤 cursor 를 열어야, 그 전에 기록된 좋아요는 cursor 에서, 그 후의 좋아요는 put 에서 임시 비트맵에 들어감
+            long generation = filter.startRebuild(REBUILD_LOCK_TIMEOUT);
+            try (Stream<T> documents = mongoTemplate.stream(new Query(), documentType)) {
+                List<long[]> batch = new ArrayList<>(REBUILD_BATCH_SIZE);
+                for (T document : (Iterable<T>) documents::iterator) {
+                    batch.add(toPair.apply(document));
+                    if (batch.size() == REBUILD_BATCH_SIZE) {
+                        filter.putAllForRebuild(batch);
+                        count += batch.size();
+                        batch.clear();
+                    }
+                }
+                if (!batch.isEmpty()) {
+                    filter.putAllForRebuild(batch);
+                    count += batch.size();
+                }
+            }
+            if (filter.finishRebuild(generation)) {
+                log.info("Bloom filter rebuilt. type: {}, entries: {}", documentType.getSimpleName(), count);
+            } else {
+                // 재구성 도중 기록 실패가 있었음 → 교체하지 않고 다음 확인 주기에 다시 재구성
+                log.warn("Bloom filter write failed during rebuild, discarded. type: {}, entries: {}", documentType.getSimpleName(), count);
+            }
+        } catch (Exception e) {
+            log.warn("Bloom filter rebuild failed. type: {}, entries so far: {}", documentType.getSimpleName(), count, e);
+            try {
+                filter.abortRebuild();
+            } catch (Exception ignored) {
+                // 임시 비트맵은 rebuild lock 과 같은 시간 뒤에 만료됨
+            }
+        } finally {
+            filter.releaseRebuildLock(owner);
+        }
+    }
+}
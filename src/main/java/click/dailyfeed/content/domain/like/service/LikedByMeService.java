@@ -0,0 +1,153 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.comment.document.CommentLikeDocument;
+import click.dailyfeed.content.domain.comment.repository.mongo.CommentLikeMongoRepository;
+import click.dailyfeed.content.domain.post.document.PostLikeDocument;
+import click.dailyfeed.content.domain.post.repository.mongo.PostLikeMongoRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * 피드 렌더링용 "내가 좋아요 한 글/댓글" 일괄 조회
+ * - 멤버별 Redis hash (field: 대상 pk, value: 1/0) 에 결과를 캐시하고, 캐시에 없는 대상만 $in 쿼리 한 번으로 조회
+ * - 좋아요/취소 시 해당 field 를 갱신 (갱신 실패 시 멤버 캐시를 통째로 지워서 오래된 값이 남지 않도록 함)
+ * - 조회 결과는 field 가 없을 때만 채움 (HSETNX), 조회하는 사이 좋아요/취소로 갱신된 값을 조회 전 값으로 덮어쓰지 않도록 함
+ */
+@Slf4j
+@Service
+public class LikedByMeService {
+    private static final String POST_KEY_PREFIX = "dailyfeed:content:liked-by-me:post:";
+    private static final String COMMENT_KEY_PREFIX = "dailyfeed:content:liked-by-me:comment:";
+    private static final String LIKED = "1";
+    private static final String NOT_LIKED = "0";
+
+    // KEYS[1] = 멤버 hash / ARGV[1] = ttl(ms), ARGV[2..] = field, value 쌍
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>(
+            "for i = 2, #ARGV, 2 do redis.call('hsetnx', KEYS[1], ARGV[i], ARGV[i + 1]) end " +
+                    "redis.call('pexpire', KEYS[1], ARGV[1]) return 1",
+            Long.class);
+
+    private final PostLikeMongoRepository postLikeMongoRepository;
+    private final CommentLikeMongoRepository commentLikeMongoRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final Duration cacheTtl;
+
+    public LikedByMeService(
+            PostLikeMongoRepository postLikeMongoRepository,
+            CommentLikeMongoRepository commentLikeMongoRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${dailyfeed.services.content.liked-by-me.cache-ttl-seconds:600}") long cacheTtlSeconds
+    ) {
+        this.postLikeMongoRepository = postLikeMongoRepository;
+        this.commentLikeMongoRepository = commentLikeMongoRepository;
+        this.redisTemplate = redisTemplate;
+        this.cacheTtl = Duration.ofSeconds(cacheTtlSeconds);
+    }
+
+    /// postPks 와 같은 순서의 좋아요 여부 (i 번째 비트 = postPks.get(i))
+    public BitSet getLikedPosts(Long memberId, List<Long> postPks) {
+        return getLiked(POST_KEY_PREFIX + memberId, memberId, postPks, (id, misses) ->
+                postLikeMongoRepository.findLikedPostPksByMemberId(id, misses)
+                        .stream().map(PostLikeDocument::getPostPk).toList());
+    }
+
+    public BitSet getLikedComments(Long memberId, List<Long> commentPks) {
+        return getLiked(COMMENT_KEY_PREFIX + memberId, memberId, commentPks, (id, misses) ->
+                commentLikeMongoRepository.findLikedCommentPksByMemberId(id, misses)
+                        .stream().map(CommentLikeDocument::getCommentPk).toList());
+    }
+
+    public void updatePostLiked(Long memberId, Long postPk, boolean liked) {
+        update(POST_KEY_PREFIX + memberId, postPk, liked);
+    }
+
+    public void updateCommentLiked(Long memberId, Long commentPk, boolean liked) {
+        update(COMMENT_KEY_PREFIX + memberId, commentPk, liked);
+    }
+
+    private BitSet getLiked(String key, Long memberId, List<Long> targetPks, BiFunction<Long, Collection<Long>, List<Long>> loader) {
+        if (targetPks.isEmpty()) {
+            return new BitSet();
+        }
+        List<String> fields = new ArrayList<>(new LinkedHashSet<>(targetPks.stream().map(String::valueOf).toList()));
+        Set<Long> liked = new HashSet<>();
+        List<Long> misses = new ArrayList<>();
+
+        List<String> cached = readCache(key, fields);
+        for (int i = 0; i < fields.size(); i++) {
+            String value = cached != null ? cached.get(i) : null;
+            if (value == null) {
+                misses.add(Long.valueOf(fields.get(i)));
+            } else if (LIKED.equals(value)) {
+                liked.add(Long.valueOf(fields.get(i)));
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            List<Long> likedMisses = loader.apply(memberId, misses);
+            liked.addAll(likedMisses);
+            writeCache(key, misses, new HashSet<>(likedMisses));
+        }
+
+        BitSet flags = new BitSet(targetPks.size());
+        for (int i = 0; i < targetPks.size(); i++) {
+            if (liked.contains(targetPks.get(i))) {
+                flags.set(i);
+            }
+        }
+        return flags;
+    }
+
+    private List<String> readCache(String key, List<String> fields) {
+        try {
+            HashOperations<String, String, String> hashOps = redisTemplate.opsForHash();
+            return hashOps.multiGet(key, fields);
+        } catch (Exception e) {
+            log.warn("Liked-by-me cache read failed. key: {}", key, e);
+            return null;
+        }
+    }
+
+    private void writeCache(String key, List<Long> targetPks, Set<Long> liked) {
+        try {
+            List<String> args = new ArrayList<>(targetPks.size() * 2 + 1);
+            args.add(String.valueOf(cacheTtl.toMillis()));
+            for (Long targetPk : targetPks) {
+                args.add(String.valueOf(targetPk));
+                args.add(liked.contains(targetPk) ? LIKED : NOT_LIKED);
+            }
+            redisTemplate.execute(FILL_SCRIPT, List.of(key), args.toArray());
+        } catch (Exception e) {
+            log.warn("Liked-by-me cache write failed. key: {}", key, e);
+        }
+    }
+
+    private void update(String key, Long targetPk, boolean liked) {
+        try {
+            redisTemplate.opsForHash().put(key, String.valueOf(targetPk), liked ? LIKED : NOT_LIKED);
+            redisTemplate.expire(key, cacheTtl);
+        } catch (Exception e) {
+            log.warn("Liked-by-me cache update failed, evicting. key: {}", key, e);
+            try {
+                redisTemplate.delete(key);
+            } catch (Exception ignored) {
+                // Redis 가 응답하지 않으면 조회도 캐시를 건너뛰고 mongodb 로 대체됨
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package click.dailyfeed.content.domain.member.listener;
+
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멤버 정보 변경 이벤트 수신 시 작성자 프로필 요약 캐시 제거
+ * - 모든 pod 의 로컬 캐시를 비워야 하므로 pod 마다 다른 consumer group 으로 구독 (최신 offset 부터)
+ * - group 이름은 pod 이름(HOSTNAME)으로 고정해서, 재기동할 때마다 새 consumer group 이 쌓이지 않도록 함
+ * - 이벤트 형식에 의존하지 않도록 문자열로 받아 record key 또는 본문의 memberId/id 필드에서 멤버 id 를 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberUpdateEventListener {
+    private final MemberSummaryCache memberSummaryCache;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+            topics = "${dailyfeed.services.content.member-summary-cache.invalidation-topic:member-updated}",
+            groupId = "${spring.application.name}-member-summary-cache-${dailyfeed.services.content.member-summary-cache.consumer-instance-id:${HOSTNAME:local}}",
+            properties = {
+                    "value.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                    "auto.offset.reset=latest"
+            }
+    )
+    public void onMemberUpdated(ConsumerRecord<String, String> record, Acknowledgment acknowledgment) {
+        try {
+            Long memberId = memberIdOf(record);
+            if (memberId != null) {
+                memberSummaryCache.evict(memberId);
+            } else {
+                log.warn("Member update event without member id. offset: {}", record.offset());
+            }
+        } catch (Exception e) {
+            // 캐시 제거 실패는 로컬/redis TTL 로 만료되므로 재처리하지 않음
+            log.warn("Failed to handle member update event. offset: {}", record.offset(), e);
+        } finally {
+            acknowledgment.acknowledge();
+        }
+    }
+
+    private Long memberIdOf(ConsumerRecord<String, String> record) throws Exception {
+        if (record.key() != null && !record.key().isEmpty() && record.key().chars().allMatch(Character::isDigit)) {
+            return Long.valueOf(record.key());
+        }
+        if (record.value() == null) {
+            return null;
+        }
+        JsonNode payload = objectMapper.readTree(record.value());
+        JsonNode memberId = payload.hasNonNull("memberId") ? payload.get("memberId") : payload.get("id");
+        return memberId != null && memberId.canConvertToLong() ? memberId.asLong() : null;
+    }
+}
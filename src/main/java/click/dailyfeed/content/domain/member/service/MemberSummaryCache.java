@@ -0,0 +1,255 @@
+package click.dailyfeed.content.domain.member.service;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 작성자 프로필 요약 2단계 캐시 (pod 로컬 caffeine → 공유 redis → member 서비스)
+ * - 로컬 캐시는 local-max-size 건, local-ttl-seconds 동안 유지 (이벤트를 놓쳐도 이 시간 이후에는 새 값으로 교체됨)
+ * - redis 는 redis-ttl-seconds 동안 유지, redis 장애 시에는 로컬 캐시와 member 서비스만 사용
+ * - 멤버 정보 변경 이벤트(MemberUpdateEventListener)를 받으면 두 단계 모두에서 제거
+ * - evict 는 멤버별 version 을 올리고, member 서비스에서 조회한 값은 조회 전에 읽은 version 이 그대로일 때만 저장 (Lua 로 비교 + SET)
+ *   → evict 와 동시에 진행 중이던 조회가 evict 이전 값을 다시 써서 redis-ttl-seconds 동안 남는 경우를 막음
+ * - version 을 읽지 못하면(redis 장애) redis 에는 쓰지 않고 로컬 캐시에만 저장 (로컬은 local-ttl-seconds 이후 교체됨)
+ */
+@Slf4j
+@Service
+public class MemberSummaryCache {
+    private static final String KEY_PREFIX = "dailyfeed:content:member-summary:";
+    private static final String VERSION_KEY_PREFIX = "dailyfeed:content:member-summary-version:";
+    private static final String NO_VERSION = "0";
+
+    // KEYS[1] = 값, KEYS[2] = version / ARGV[1] = 조회 전에 읽은 version, ARGV[2] = 값, ARGV[3] = ttl(ms)
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') == ARGV[1] then " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'px', ARGV[3]) return 1 " +
+                    "else return 0 end",
+            Long.class);
+
+    // KEYS[1] = 값, KEYS[2] = version / ARGV[1] = version ttl(ms)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[2]) redis.call('pexpire', KEYS[2], ARGV[1]) " +
+                    "return redis.call('del', KEYS[1])",
+            Long.class);
+    private static final String METRIC_NAME = "dailyfeed.content.member-summary.cache";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, MemberProfileDto.Summary> localCache;
+    private final Duration redisTtl;
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter missCounter;
+
+    public MemberSummaryCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${dailyfeed.services.content.member-summary-cache.local-max-size:10000}") long localMaxSize,
+            @Value("${dailyfeed.services.content.member-summary-cache.local-ttl-seconds:60}") long localTtlSeconds,
+            @Value("${dailyfeed.services.content.member-summary-cache.redis-ttl-seconds:1800}") long redisTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+
+        this.localHitCounter = Counter.builder(METRIC_NAME).tag("result", "local_hit").register(meterRegistry);
+        this.redisHitCounter = Counter.builder(METRIC_NAME).tag("result", "redis_hit").register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME).tag("result", "miss").register(meterRegistry);
+    }
+
+    /// 캐시에 없으면 loader(member 서비스 호출)로 조회 후 두 단계 모두에 저장 (조회 중에 evict 되었으면 저장하지 않고 반환만)
+    public MemberProfileDto.Summary getOrLoad(Long memberId, Supplier<MemberProfileDto.Summary> loader) {
+        MemberProfileDto.Summary local = localCache.getIfPresent(memberId);
+        if (local != null) {
+            localHitCounter.increment();
+            return local;
+        }
+
+        MemberProfileDto.Summary shared = readRedis(memberId);
+        if (shared != null) {
+            redisHitCounter.increment();
+            localCache.put(memberId, shared);
+            return shared;
+        }
+
+        missCounter.increment();
+        String version = readVersion(memberId);
+        MemberProfileDto.Summary loaded = loader.get();
+        if (loaded != null) {
+            store(memberId, loaded, version);
+        }
+        return loaded;
+    }
+
+    /// 여러 멤버를 한 번에 조회 : 로컬 캐시 → redis MGET 한 번 → 남은 멤버만 loader 에 한 번에 넘김 (찾지 못한 멤버는 결과에서 빠짐)
+    public Map<Long, MemberProfileDto.Summary> getAllOrLoad(Collection<Long> memberIds, Function<Collection<Long>, Map<Long, MemberProfileDto.Summary>> loader) {
+        Map<Long, MemberProfileDto.Summary> result = new HashMap<>();
+        List<Long> remaining = new ArrayList<>();
+        for (Long memberId : new LinkedHashSet<>(memberIds)) {
+            MemberProfileDto.Summary local = localCache.getIfPresent(memberId);
+            if (local != null) {
+                localHitCounter.increment();
+                result.put(memberId, local);
+            } else {
+                remaining.add(memberId);
+            }
+        }
+        if (remaining.isEmpty()) {
+            return result;
+        }
+
+        List<Long> misses = new ArrayList<>();
+        List<MemberProfileDto.Summary> shared = readRedis(remaining);
+        for (int i = 0; i < remaining.size(); i++) {
+            Long memberId = remaining.get(i);
+            MemberProfileDto.Summary summary = shared.get(i);
+            if (summary != null) {
+                redisHitCounter.increment();
+                localCache.put(memberId, summary);
+                result.put(memberId, summary);
+            } else {
+                misses.add(memberId);
+            }
+        }
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        missCounter.increment(misses.size());
+        Map<Long, String> versions = readVersions(misses);
+        loader.apply(misses).forEach((memberId, loaded) -> {
+            if (loaded != null) {
+                store(memberId, loaded, versions.get(memberId));
+                result.put(memberId, loaded);
+            }
+        });
+        return result;
+    }
+
+    /// version 을 올린 뒤 값을 삭제 (version 은 진행 중인 조회보다 오래 남도록 redis-ttl-seconds 동안 유지)
+    public void evict(Long memberId) {
+        localCache.invalidate(memberId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    String.valueOf(redisTtl.toMillis()));
+        } catch (Exception e) {
+            log.warn("Member summary cache evict failed. memberId: {}", memberId, e);
+        }
+    }
+
+    private MemberProfileDto.Summary readRedis(Long memberId) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + memberId);
+            return value != null ? objectMapper.readValue(value, MemberProfileDto.Summary.class) : null;
+        } catch (Exception e) {
+            log.warn("Member summary cache read failed. memberId: {}", memberId, e);
+            return null;
+        }
+    }
+
+    /// 요청한 순서대로 반환 (없거나 읽지 못한 멤버는 null)
+    private List<MemberProfileDto.Summary> readRedis(List<Long> memberIds) {
+        List<MemberProfileDto.Summary> summaries = new ArrayList<>(Collections.nCopies(memberIds.size(), null));
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(memberIds.stream().map(memberId -> KEY_PREFIX + memberId).toList());
+        } catch (Exception e) {
+            log.warn("Member summary cache read failed. members: {}", memberIds.size(), e);
+            return summaries;
+        }
+        if (values == null) {
+            return summaries;
+        }
+        for (int i = 0; i < memberIds.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue;
+            }
+            try {
+                summaries.set(i, objectMapper.readValue(value, MemberProfileDto.Summary.class));
+            } catch (Exception e) {
+                log.warn("Member summary cache read failed. memberId: {}", memberIds.get(i), e);
+            }
+        }
+        return summaries;
+    }
+
+    /// 조회 전에 읽은 version 이 그대로일 때만 redis 와 로컬 캐시에 저장
+    private void store(Long memberId, MemberProfileDto.Summary summary, String version) {
+        if (version != null && !writeRedis(memberId, summary, version)) {
+            log.debug("Member summary evicted while loading, skip caching. memberId: {}", memberId);
+            return;
+        }
+        localCache.put(memberId, summary);
+    }
+
+    /// 읽지 못하면 null (이 경우 redis 에는 쓰지 않음)
+    private String readVersion(Long memberId) {
+        try {
+            String version = redisTemplate.opsForValue().get(VERSION_KEY_PREFIX + memberId);
+            return version != null ? version : NO_VERSION;
+        } catch (Exception e) {
+            log.warn("Member summary version read failed. memberId: {}", memberId, e);
+            return null;
+        }
+    }
+
+    /// 읽지 못한 멤버는 결과에서 빠짐 (이 멤버들은 redis 에 쓰지 않음)
+    private Map<Long, String> readVersions(List<Long> memberIds) {
+        Map<Long, String> versions = new HashMap<>();
+        List<String> values;
+        try {
+            values = redisTemplate.opsForValue().multiGet(memberIds.stream().map(memberId -> VERSION_KEY_PREFIX + memberId).toList());
+        } catch (Exception e) {
+            log.warn("Member summary version read failed. members: {}", memberIds.size(), e);
+            return versions;
+        }
+        if (values == null) {
+            return versions;
+        }
+        for (int i = 0; i < memberIds.size(); i++) {
+            String value = values.get(i);
+            versions.put(memberIds.get(i), value != null ? value : NO_VERSION);
+        }
+        return versions;
+    }
+
+    /// 그 사이 evict 되어 저장하지 않았으면 false (redis 쓰기 자체가 실패하면 로컬 캐시에는 저장하도록 true)
+    private boolean writeRedis(Long memberId, MemberProfileDto.Summary summary, String version) {
+        try {
+            Long stored = redisTemplate.execute(WRITE_SCRIPT, List.of(KEY_PREFIX + memberId, VERSION_KEY_PREFIX + memberId),
+                    version, objectMapper.writeValueAsString(summary), String.valueOf(redisTtl.toMillis()));
+            return !Long.valueOf(0L).equals(stored);
+        } catch (Exception e) {
+            log.warn("Member summary cache write failed. memberId: {}", memberId, e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package click.dailyfeed.content.domain.outbox.entity;
+
+import click.dailyfeed.content.domain.base.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멤버 활동 기록 이벤트 outbox
+ * - 글/댓글/좋아요 쓰기와 같은 MySQL 트랜잭션 안에서 저장하고, MemberActivityOutboxRelay 가 id 순서로 kafka 에 발행
+ * - relay 는 발행할 행에 lease(lease_owner, lease_until)를 걸고 커밋한 뒤 트랜잭션 밖에서 발행, lease 가 만료된 행은 다시 가져갈 수 있음
+ * - DDL : resources/db/ddl/member_activity_outbox.sql
+ */
+@Table(
+        name = "member_activity_outbox",
+        indexes = {
+                // 발행 대기 행을 id 순서로 조회 (status = 'PENDING' ORDER BY id)
+                @Index(name = "idx_member_activity_outbox_status_id", columnList = "status, id"),
+                // 발행 완료 행 정리 (status = 'SENT' AND sent_at < ?)
+                @Index(name = "idx_member_activity_outbox_status_sent_at", columnList = "status, sent_at"),
+                // 같은 멤버의 앞선 이벤트가 발행 중인지 확인 (member_id = ? AND status = 'PENDING' AND id < ?)
+                @Index(name = "idx_member_activity_outbox_member_status_id", columnList = "member_id, status, id")
+        }
+)
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(staticName = "ofAll")
+@EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
+public class MemberActivityOutbox extends BaseTimeEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, length = 20, columnDefinition = "VARCHAR(20)")
+    private OutboxEventType eventType;
+
+    // MemberActivityType 이름
+    @Column(name = "activity_type", nullable = false, length = 50)
+    private String activityType;
+
+    // 발행 순서를 보장하는 단위 (같은 멤버의 이벤트는 id 순서대로 발행)
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20, columnDefinition = "VARCHAR(20)")
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    // 이 행을 가져가 발행 중인 relay (발행 결과는 lease_owner 가 같은 경우에만 반영)
+    @Column(name = "lease_owner", length = 36)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Builder
+    public MemberActivityOutbox(OutboxEventType eventType, String activityType, Long memberId, Long postId, Long commentId) {
+        this.eventType = eventType;
+        this.activityType = activityType;
+        this.memberId = memberId;
+        this.postId = postId;
+        this.commentId = commentId;
+    }
+}
@@ -0,0 +1,11 @@
+package click.dailyfeed.content.domain.outbox.entity;
+
+/**
+ * outbox 이벤트 종류 (MemberActivityKafkaPublisher 의 발행 메서드와 1:1)
+ */
+public enum OutboxEventType {
+    POST,
+    POST_LIKE,
+    COMMENT,
+    COMMENT_LIKE
+}
@@ -0,0 +1,7 @@
+package click.dailyfeed.content.domain.outbox.entity;
+
+public enum OutboxStatus {
+    PENDING,    // 발행 대기 (실패 후 재시도 대기 포함)
+    SENT,       // 발행 완료
+    DEAD        // 최대 재시도 횟수 초과
+}
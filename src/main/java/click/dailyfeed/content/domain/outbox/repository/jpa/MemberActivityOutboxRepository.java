@@ -0,0 +1,72 @@
+package click.dailyfeed.content.domain.outbox.repository.jpa;
+
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+import click.dailyfeed.content.domain.outbox.entity.OutboxStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface MemberActivityOutboxRepository extends JpaRepository<MemberActivityOutbox, Long>, MemberActivityOutboxRepositoryCustom {
+    // 가져갈 수 있는 발행 대기 행을 id 순서로 잠금 (lease 가 없거나 만료된 행, 같은 멤버의 앞선 행이 다른 relay 에서 발행 중이면 제외)
+    // SKIP LOCKED 를 쓰지 않으므로 동시에 가져가려는 relay 는 앞선 relay 가 lease 를 커밋할 때까지 기다렸다가 남은 행을 가져감
+    @Query(value = "SELECT o.* FROM member_activity_outbox o " +
+            "WHERE o.status = 'PENDING' AND (o.lease_until IS NULL OR o.lease_until < :now) " +
+            "AND NOT EXISTS (SELECT 1 FROM member_activity_outbox e WHERE e.member_id = o.member_id AND e.status = 'PENDING' AND e.id < o.id AND e.lease_until >= :now) " +
+            "ORDER BY o.id ASC LIMIT :limit FOR UPDATE",
+            nativeQuery = true)
+    List<MemberActivityOutbox> findClaimableForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 발행할 행에 lease 설정
+    @Modifying
+    @Query("UPDATE MemberActivityOutbox o SET o.leaseOwner = :leaseOwner, o.leaseUntil = :leaseUntil WHERE o.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("leaseOwner") String leaseOwner, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // lease 를 가진 relay 의 발행 완료 처리 (lease 가 만료되어 다른 relay 가 가져간 행은 그대로 둠)
+    @Modifying
+    @Query("UPDATE MemberActivityOutbox o SET o.status = click.dailyfeed.content.domain.outbox.entity.OutboxStatus.SENT, o.sentAt = :sentAt, " +
+            "o.leaseOwner = null, o.leaseUntil = null WHERE o.id IN :ids AND o.leaseOwner = :leaseOwner")
+    int markLeasedSent(@Param("ids") Collection<Long> ids, @Param("leaseOwner") String leaseOwner, @Param("sentAt") LocalDateTime sentAt);
+
+    // lease 를 가진 relay 의 발행 실패 기록 (재시도 대기 또는 DEAD)
+    @Modifying
+    @Query("UPDATE MemberActivityOutbox o SET o.status = :status, o.attempts = o.attempts + 1, o.lastError = :lastError, " +
+            "o.leaseOwner = null, o.leaseUntil = null WHERE o.id = :id AND o.leaseOwner = :leaseOwner")
+    int markLeasedFailed(@Param("id") Long id, @Param("leaseOwner") String leaseOwner, @Param("status") OutboxStatus status, @Param("lastError") String lastError);
+
+    // 이번 배치에서 발행하지 않은 행의 lease 해제 (다음 relay 가 바로 가져갈 수 있도록)
+    @Modifying
+    @Query("UPDATE MemberActivityOutbox o SET o.leaseOwner = null, o.leaseUntil = null WHERE o.id IN :ids AND o.leaseOwner = :leaseOwner")
+    int releaseLease(@Param("ids") Collection<Long> ids, @Param("leaseOwner") String leaseOwner);
+
+    // 재발행 대상 DEAD 행을 id 순서로 페이지 조회 (id > afterId, 재발행 시도 한도 미만)
+    @Query(value = "SELECT * FROM member_activity_outbox WHERE status = 'DEAD' AND id > :afterId AND attempts < :maxAttempts ORDER BY id ASC LIMIT :limit",
+            nativeQuery = true)
+    List<MemberActivityOutbox> findDeadAfter(@Param("afterId") Long afterId, @Param("maxAttempts") int maxAttempts, @Param("limit") int limit);
+
+    // 발행 완료 처리 (DEAD 재발행)
+    @Modifying
+    @Query("UPDATE MemberActivityOutbox o SET o.status = click.dailyfeed.content.domain.outbox.entity.OutboxStatus.SENT, o.sentAt = :sentAt WHERE o.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 재발행 실패 기록
+    @Modifying
+    @Query("UPDATE MemberActivityOutbox o SET o.status = :status, o.attempts = o.attempts + 1, o.lastError = :lastError WHERE o.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") OutboxStatus status, @Param("lastError") String lastError);
+
+    // 보관 기간이 지난 발행 완료 행 삭제 (한 번에 limit 건)
+    @Modifying
+    @Query(value = "DELETE FROM member_activity_outbox WHERE status = 'SENT' AND sent_at < :before LIMIT :limit",
+            nativeQuery = true)
+    int deleteSentBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(o.createdAt) FROM MemberActivityOutbox o WHERE o.status = :status")
+    Optional<LocalDateTime> findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+}
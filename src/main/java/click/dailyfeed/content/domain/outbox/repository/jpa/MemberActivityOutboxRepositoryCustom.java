@@ -0,0 +1,10 @@
+package click.dailyfeed.content.domain.outbox.repository.jpa;
+
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+
+import java.util.List;
+
+public interface MemberActivityOutboxRepositoryCustom {
+    // 발행 대기 행 일괄 저장 (IDENTITY 키라 saveAll 은 한 건씩 insert 되므로 JDBC batch 로 처리)
+    void insertAll(List<MemberActivityOutbox> events);
+}
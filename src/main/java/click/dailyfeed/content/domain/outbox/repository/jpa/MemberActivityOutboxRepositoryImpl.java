@@ -0,0 +1,42 @@
+package click.dailyfeed.content.domain.outbox.repository.jpa;
+
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+import click.dailyfeed.content.domain.outbox.entity.OutboxStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class MemberActivityOutboxRepositoryImpl implements MemberActivityOutboxRepositoryCustom {
+    private static final String INSERT_SQL = "INSERT INTO member_activity_outbox " +
+            "(event_type, activity_type, member_id, post_id, comment_id, status, attempts, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<MemberActivityOutbox> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, event.getEventType().name());
+            ps.setString(2, event.getActivityType());
+            ps.setLong(3, event.getMemberId());
+            ps.setLong(4, event.getPostId());
+            if (event.getCommentId() != null) {
+                ps.setLong(5, event.getCommentId());
+            } else {
+                ps.setNull(5, Types.BIGINT);
+            }
+            ps.setString(6, OutboxStatus.PENDING.name());
+            ps.setTimestamp(7, now);
+            ps.setTimestamp(8, now);
+        });
+    }
+}
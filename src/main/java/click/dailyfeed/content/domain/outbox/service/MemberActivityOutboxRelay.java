@@ -0,0 +1,120 @@
+package click.dailyfeed.content.domain.outbox.service;
+
+import click.dailyfeed.content.domain.base.lock.RedisLocks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * member_activity_outbox 를 주기적으로 kafka 로 발행
+ * - 멤버 단위 발행 순서를 지키기 위해 redis lock 으로 한 pod 만 수행 (lock 이 만료되어 겹치더라도 행 단위 lease 로 같은 행을 동시에 발행하지 않음)
+ * - 배치마다 lease 를 걸고 커밋한 뒤 발행하고, 배치가 가득 찼으면 max-batches-per-run 까지 이어서 수행
+ * - DEAD 로 남은 이벤트는 replay.interval-ms 마다 MemberActivityOutboxReplayer 로 재발행
+ */
+@Slf4j
+@Component
+public class MemberActivityOutboxRelay {
+    private static final String RELAY_LOCK_KEY = "dailyfeed:content:outbox:relay-lock";
+    private static final String PURGE_LOCK_KEY = "dailyfeed:content:outbox:purge-lock";
+    private static final String REPLAY_LOCK_KEY = "dailyfeed:content:outbox:replay-lock";
+    private static final Duration RELAY_LOCK_TIMEOUT = Duration.ofMinutes(1);
+    private static final Duration PURGE_LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final Duration REPLAY_LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final int PURGE_BATCH_SIZE = 1000;
+
+    private final MemberActivityOutboxService outboxService;
+    private final MemberActivityOutboxReplayer outboxReplayer;
+    private final StringRedisTemplate redisTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Duration retention;
+
+    public MemberActivityOutboxRelay(
+            MemberActivityOutboxService outboxService,
+            MemberActivityOutboxReplayer outboxReplayer,
+            StringRedisTemplate redisTemplate,
+            @Value("${dailyfeed.services.content.outbox.batch-size:200}") int batchSize,
+            @Value("${dailyfeed.services.content.outbox.max-batches-per-run:10}") int maxBatchesPerRun,
+            @Value("${dailyfeed.services.content.outbox.retention-hours:72}") long retentionHours
+    ) {
+        this.outboxService = outboxService;
+        this.outboxReplayer = outboxReplayer;
+        this.redisTemplate = redisTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.retention = Duration.ofHours(retentionHours);
+    }
+
+    @Scheduled(fixedDelayString = "${dailyfeed.services.content.outbox.relay-interval-ms:500}")
+    public void relay() {
+        String owner = UUID.randomUUID().toString();
+        if (!tryLock(RELAY_LOCK_KEY, owner, RELAY_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            for (int i = 0; i < maxBatchesPerRun; i++) {
+                if (outboxService.relayBatch(batchSize) < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Outbox relay failed", e);
+        } finally {
+            RedisLocks.release(redisTemplate, RELAY_LOCK_KEY, owner);
+        }
+    }
+
+    @Scheduled(cron = "${dailyfeed.services.content.outbox.purge-cron:0 0 * * * *}")
+    public void purge() {
+        String owner = UUID.randomUUID().toString();
+        if (!tryLock(PURGE_LOCK_KEY, owner, PURGE_LOCK_TIMEOUT)) {
+            return;
+        }
+        long purged = 0;
+        try {
+            LocalDateTime before = LocalDateTime.now().minus(retention);
+            int deleted;
+            do {
+                deleted = outboxService.purgeSent(before, PURGE_BATCH_SIZE);
+                purged += deleted;
+            } while (deleted == PURGE_BATCH_SIZE);
+            if (purged > 0) {
+                log.info("Outbox purged. rows: {}", purged);
+            }
+        } catch (Exception e) {
+            log.warn("Outbox purge failed. rows so far: {}", purged, e);
+        } finally {
+            RedisLocks.release(redisTemplate, PURGE_LOCK_KEY, owner);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${dailyfeed.services.content.outbox.replay.interval-ms:60000}")
+    public void replay() {
+        String owner = UUID.randomUUID().toString();
+        if (!tryLock(REPLAY_LOCK_KEY, owner, REPLAY_LOCK_TIMEOUT)) {
+            return;
+        }
+        try {
+            outboxReplayer.replayDead();
+        } catch (Exception e) {
+            log.warn("Outbox replay failed", e);
+        } finally {
+            RedisLocks.release(redisTemplate, REPLAY_LOCK_KEY, owner);
+        }
+    }
+
+    private boolean tryLock(String key, String owner, Duration timeout) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, timeout));
+        } catch (Exception e) {
+            log.warn("Skip outbox job, redis unavailable. key: {}", key, e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package click.dailyfeed.content.domain.outbox.service;
+
+import click.dailyfeed.content.config.thread.WorkerThreads;
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DEAD 상태 outbox 이벤트 재발행
+ * - DEAD 행을 id 순서로 page-size 건씩 읽고, 멤버 단위로 묶어 parallelism 개 스레드에서 동시에 재발행 (같은 멤버의 이벤트는 id 순서대로)
+ * - 전체 발행 속도는 rate-per-second 이하로 제한, 한 번의 실행에서 max-events-per-run 건까지만 처리
+ * - 성공한 행은 페이지마다 한 번에 SENT 로 변경, 실패한 행은 DEAD 로 두고 시도 횟수만 올림 (max-attempts 에 도달하면 더 이상 재발행하지 않음)
+ * - 한 번의 실행에서 실패한 멤버는 뒤 페이지에서도 건너뜀 (앞선 이벤트보다 뒤 이벤트가 먼저 발행되지 않도록)
+ * - 한 페이지 전체가 실패하면 아직 장애 중인 것으로 보고 이번 실행을 멈춤
+ */
+@Slf4j
+@Component
+public class MemberActivityOutboxReplayer {
+    private static final String METRIC_PREFIX = "dailyfeed.content.outbox";
+
+    private final MemberActivityOutboxService outboxService;
+    private final int pageSize;
+    private final int maxEventsPerRun;
+    private final int maxAttempts;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService workers;
+
+    private final Counter replayedCounter;
+    private final Counter failedCounter;
+    private final AtomicLong deadCount = new AtomicLong();
+    private final AtomicLong oldestDeadAgeSeconds = new AtomicLong();
+
+    public MemberActivityOutboxReplayer(
+            MemberActivityOutboxService outboxService,
+            MeterRegistry meterRegistry,
+            @Value("${dailyfeed.services.content.outbox.replay.page-size:500}") int pageSize,
+            @Value("${dailyfeed.services.content.outbox.replay.parallelism:4}") int parallelism,
+            @Value("${dailyfeed.services.content.outbox.replay.rate-per-second:200}") double ratePerSecond,
+            @Value("${dailyfeed.services.content.outbox.replay.max-events-per-run:20000}") int maxEventsPerRun,
+            @Value("${dailyfeed.services.content.outbox.replay.max-attempts:20}") int maxAttempts,
+            @Value(WorkerThreads.VIRTUAL_ENABLED_PROPERTY) boolean virtualThreads
+    ) {
+        this.outboxService = outboxService;
+        this.pageSize = Math.max(1, pageSize);
+        this.maxEventsPerRun = maxEventsPerRun;
+        this.maxAttempts = maxAttempts;
+        this.rateLimiter = new RateLimiter(ratePerSecond);
+        this.workers = Executors.newFixedThreadPool(Math.max(1, parallelism), WorkerThreads.factory("outbox-replayer", virtualThreads));
+
+        this.replayedCounter = Counter.builder(METRIC_PREFIX + ".replay.events").tag("result", "replayed").register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".replay.events").tag("result", "failed").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".dead.count", deadCount, AtomicLong::get).register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".dead.oldest.age.seconds", oldestDeadAgeSeconds, AtomicLong::get).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        workers.shutdownNow();
+    }
+
+    /// DEAD 이벤트 재발행, 재발행에 성공한 건수 반환
+    public int replayDead() {
+        long afterId = 0L;
+        int processed = 0;
+        int replayed = 0;
+        Set<Long> failedMembers = ConcurrentHashMap.newKeySet();
+        try {
+            while (processed < maxEventsPerRun) {
+                List<MemberActivityOutbox> page = outboxService.findDeadAfter(afterId, maxAttempts, Math.min(pageSize, maxEventsPerRun - processed));
+                if (page.isEmpty()) {
+                    break;
+                }
+                afterId = page.get(page.size() - 1).getId();
+                processed += page.size();
+
+                // 이번 실행에서 이미 실패한 멤버의 이벤트는 건너뜀
+                List<MemberActivityOutbox> replayable = page.stream()
+                        .filter(row -> !failedMembers.contains(row.getMemberId()))
+                        .toList();
+                if (replayable.isEmpty()) {
+                    continue;
+                }
+
+                int succeeded = replayPage(replayable, failedMembers);
+                replayed += succeeded;
+                if (succeeded == 0) {
+                    log.warn("Outbox replay stopped, every event in page failed. lastId: {}", afterId);
+                    break;
+                }
+            }
+        } finally {
+            refreshBacklog();
+        }
+        if (processed > 0) {
+            log.info("Outbox replay finished. processed: {}, replayed: {}", processed, replayed);
+        }
+        return replayed;
+    }
+
+    private int replayPage(List<MemberActivityOutbox> page, Set<Long> failedMembers) {
+        Map<Long, List<MemberActivityOutbox>> byMember = new LinkedHashMap<>();
+        for (MemberActivityOutbox row : page) {
+            byMember.computeIfAbsent(row.getMemberId(), memberId -> new ArrayList<>()).add(row);
+        }
+
+        Queue<Long> sentIds = new ConcurrentLinkedQueue<>();
+        CompletableFuture.allOf(byMember.values().stream()
+                .map(rows -> CompletableFuture.runAsync(() -> replayMember(rows, sentIds, failedMembers), workers))
+                .toArray(CompletableFuture[]::new)).join();
+
+        outboxService.markReplayed(new ArrayList<>(sentIds));
+        replayedCounter.increment(sentIds.size());
+        return sentIds.size();
+    }
+
+    /// 같은 멤버의 이벤트는 순서대로 재발행하고, 실패하면 그 멤버의 뒤 이벤트는 (뒤 페이지 포함) 다음 실행으로 미룸
+    private void replayMember(List<MemberActivityOutbox> rows, Queue<Long> sentIds, Set<Long> failedMembers) {
+        for (MemberActivityOutbox row : rows) {
+            try {
+                rateLimiter.acquire();
+                outboxService.publish(row);
+                sentIds.add(row.getId());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failedMembers.add(row.getMemberId());
+                failedCounter.increment();
+                try {
+                    outboxService.markReplayFailed(row.getId(), e);
+                } catch (Exception markFailure) {
+                    log.warn("Failed to record outbox replay failure. outboxId: {}", row.getId(), markFailure);
+                }
+                return;
+            }
+        }
+    }
+
+    private void refreshBacklog() {
+        try {
+            deadCount.set(outboxService.countDead());
+            oldestDeadAgeSeconds.set(outboxService.findOldestDeadCreatedAt()
+                    .map(createdAt -> Math.max(0L, Duration.between(createdAt, LocalDateTime.now()).toSeconds()))
+                    .orElse(0L));
+        } catch (Exception e) {
+            log.warn("Failed to read outbox dead backlog", e);
+        }
+    }
+
+    /// 호출 간격을 1 / ratePerSecond 초 이상으로 벌리는 단순 rate limiter (스레드 간 공유, 대기는 lock 밖에서 하므로 가상 스레드를 pinning 하지 않음)
+    static final class RateLimiter {
+        private final long intervalNanos;
+        private long nextPermitNanos = System.nanoTime();
+
+        RateLimiter(double ratePerSecond) {
+            this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond) : 0L;
+        }
+
+        void acquire() throws InterruptedException {
+            long waitNanos;
+            synchronized (this) {
+                long now = System.nanoTime();
+                long permitAt = Math.max(nextPermitNanos, now);
+                nextPermitNanos = permitAt + intervalNanos;
+                waitNanos = permitAt - now;
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
+}
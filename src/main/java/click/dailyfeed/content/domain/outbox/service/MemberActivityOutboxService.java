@@ -0,0 +1,216 @@
+package click.dailyfeed.content.domain.outbox.service;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.global.kafka.exception.KafkaMessageKeyCreationException;
+import click.dailyfeed.code.global.web.excecption.DailyfeedWebTooManyRequestException;
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+import click.dailyfeed.content.domain.outbox.entity.OutboxEventType;
+import click.dailyfeed.content.domain.outbox.entity.OutboxStatus;
+import click.dailyfeed.content.domain.outbox.repository.jpa.MemberActivityOutboxRepository;
+import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 멤버 활동 기록 이벤트 outbox
+ * - 쓰기 요청은 outbox 행만 저장하고 (kafka 호출 없음), 발행은 relay 가 배치로 처리
+ * - 등록은 MySQL 트랜잭션(JpaTransactions)에 참여하므로 글/댓글 쓰기와 함께 커밋되거나 함께 롤백됨 (mongodb 에만 쓰는 좋아요는 mongodb 커밋 이후에 등록)
+ * - relay 는 행에 lease 를 걸고 커밋한 뒤 트랜잭션 밖에서 kafka 에 발행하고, 결과는 별도 트랜잭션에서 lease 를 가진 경우에만 반영 (lease 가 만료되면 다른 relay 가 다시 가져가므로 at-least-once)
+ * - 같은 멤버의 이벤트는 id 순서대로 발행 : 앞선 이벤트가 실패하면 같은 배치에서 그 멤버의 뒤 이벤트는 건너뛰고 다음 relay 에서 다시 시도
+ * - max-attempts 번 실패한 이벤트는 DEAD 로 두고 다음 이벤트로 진행
+ */
+@Slf4j
+@Service
+public class MemberActivityOutboxService {
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MemberActivityOutboxRepository outboxRepository;
+    private final MemberActivityKafkaPublisher memberActivityKafkaPublisher;
+    private final JpaTransactions jpaTransactions;
+    private final int maxAttempts;
+    private final Duration leaseDuration;
+
+    public MemberActivityOutboxService(
+            MemberActivityOutboxRepository outboxRepository,
+            MemberActivityKafkaPublisher memberActivityKafkaPublisher,
+            JpaTransactions jpaTransactions,
+            @Value("${dailyfeed.services.content.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${dailyfeed.services.content.outbox.lease-seconds:60}") long leaseSeconds
+    ) {
+        this.outboxRepository = outboxRepository;
+        this.memberActivityKafkaPublisher = memberActivityKafkaPublisher;
+        this.jpaTransactions = jpaTransactions;
+        this.maxAttempts = maxAttempts;
+        this.leaseDuration = Duration.ofSeconds(leaseSeconds);
+    }
+
+    public void enqueuePostEvent(Long memberId, Long postId, MemberActivityType activityType) {
+        enqueue(OutboxEventType.POST, memberId, postId, null, activityType);
+    }
+
+    public void enqueuePostLikeEvent(Long memberId, Long postId, MemberActivityType activityType) {
+        enqueue(OutboxEventType.POST_LIKE, memberId, postId, null, activityType);
+    }
+
+    public void enqueueCommentEvent(Long memberId, Long postId, Long commentId, MemberActivityType activityType) {
+        enqueue(OutboxEventType.COMMENT, memberId, postId, commentId, activityType);
+    }
+
+    public void enqueueCommentLikeEvent(Long memberId, Long postId, Long commentId, MemberActivityType activityType) {
+        enqueue(OutboxEventType.COMMENT_LIKE, memberId, postId, commentId, activityType);
+    }
+
+    /// 대량 등록 : 같은 종류의 이벤트를 한 번의 JDBC batch 로 저장 (발행 순서는 목록 순서)
+    public void enqueueAll(OutboxEventType eventType, MemberActivityType activityType, List<ActivityTarget> targets) {
+        jpaTransactions.run(() -> outboxRepository.insertAll(targets.stream()
+                .map(target -> MemberActivityOutbox.builder()
+                        .eventType(eventType)
+                        .activityType(activityType.name())
+                        .memberId(target.memberId())
+                        .postId(target.postId())
+                        .commentId(target.commentId())
+                        .build())
+                .toList()));
+    }
+
+    /// 발행 대기 행을 최대 batchSize 건 가져와 발행, 가져온 행 수 반환
+    public int relayBatch(int batchSize) {
+        String leaseOwner = UUID.randomUUID().toString();
+        List<MemberActivityOutbox> rows = claim(batchSize, leaseOwner);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // kafka 발행은 트랜잭션 밖에서 (행 잠금은 claim 커밋으로 이미 풀려 있고, lease 로 다른 relay 와 겹치지 않음)
+        List<Long> sentIds = new ArrayList<>();
+        Map<Long, Exception> deadIds = new LinkedHashMap<>();
+        Map<Long, Exception> retryIds = new LinkedHashMap<>();
+        Set<Long> blockedMembers = new HashSet<>();
+        for (MemberActivityOutbox row : rows) {
+            if (blockedMembers.contains(row.getMemberId())) {
+                continue;
+            }
+            try {
+                publish(row);
+                sentIds.add(row.getId());
+            } catch (DailyfeedWebTooManyRequestException e) {
+                // 브로커 측 제한 : 시도 횟수를 올리지 않고 이번 배치를 멈춤
+                log.warn("Outbox relay throttled. outboxId: {}", row.getId());
+                break;
+            } catch (KafkaMessageKeyCreationException e) {
+                // 메시지 키를 만들 수 없는 이벤트는 재시도해도 같으므로 바로 DEAD
+                deadIds.put(row.getId(), e);
+            } catch (Exception e) {
+                if (row.getAttempts() + 1 >= maxAttempts) {
+                    deadIds.put(row.getId(), e);
+                    log.error("Outbox event moved to DEAD. outboxId: {}, type: {}, activityType: {}", row.getId(), row.getEventType(), row.getActivityType(), e);
+                } else {
+                    retryIds.put(row.getId(), e);
+                    blockedMembers.add(row.getMemberId());
+                }
+            }
+        }
+
+        Set<Long> handledIds = new HashSet<>(sentIds);
+        handledIds.addAll(deadIds.keySet());
+        handledIds.addAll(retryIds.keySet());
+        List<Long> unpublishedIds = rows.stream()
+                .map(MemberActivityOutbox::getId)
+                .filter(id -> !handledIds.contains(id))
+                .toList();
+        jpaTransactions.run(() -> {
+            if (!sentIds.isEmpty()) {
+                outboxRepository.markLeasedSent(sentIds, leaseOwner, LocalDateTime.now());
+            }
+            deadIds.forEach((id, e) -> outboxRepository.markLeasedFailed(id, leaseOwner, OutboxStatus.DEAD, errorOf(e)));
+            retryIds.forEach((id, e) -> outboxRepository.markLeasedFailed(id, leaseOwner, OutboxStatus.PENDING, errorOf(e)));
+            if (!unpublishedIds.isEmpty()) {
+                outboxRepository.releaseLease(unpublishedIds, leaseOwner);
+            }
+        });
+        return rows.size();
+    }
+
+    /// 발행 대기 행을 잠그고 lease 를 건 뒤 바로 커밋
+    private List<MemberActivityOutbox> claim(int batchSize, String leaseOwner) {
+        return jpaTransactions.execute(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MemberActivityOutbox> rows = outboxRepository.findClaimableForUpdate(now, batchSize);
+            if (!rows.isEmpty()) {
+                outboxRepository.lease(rows.stream().map(MemberActivityOutbox::getId).toList(), leaseOwner, now.plus(leaseDuration));
+            }
+            return rows;
+        });
+    }
+
+    /// 재발행 대상 DEAD 행 (id 순서, afterId 이후 limit 건)
+    public List<MemberActivityOutbox> findDeadAfter(Long afterId, int maxAttempts, int limit) {
+        return outboxRepository.findDeadAfter(afterId, maxAttempts, limit);
+    }
+
+    /// 재발행에 성공한 DEAD 행을 한 번에 SENT 로 변경
+    public void markReplayed(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            jpaTransactions.run(() -> outboxRepository.markSent(ids, LocalDateTime.now()));
+        }
+    }
+
+    /// 재발행 실패 : DEAD 상태를 유지하고 시도 횟수와 마지막 오류만 갱신
+    public void markReplayFailed(Long id, Exception e) {
+        jpaTransactions.run(() -> outboxRepository.markFailed(id, OutboxStatus.DEAD, errorOf(e)));
+    }
+
+    public long countDead() {
+        return outboxRepository.countByStatus(OutboxStatus.DEAD);
+    }
+
+    public Optional<LocalDateTime> findOldestDeadCreatedAt() {
+        return outboxRepository.findOldestCreatedAtByStatus(OutboxStatus.DEAD);
+    }
+
+    /// 보관 기간이 지난 발행 완료 행 삭제
+    public int purgeSent(LocalDateTime before, int limit) {
+        return jpaTransactions.execute(() -> outboxRepository.deleteSentBefore(before, limit));
+    }
+
+    private void enqueue(OutboxEventType eventType, Long memberId, Long postId, Long commentId, MemberActivityType activityType) {
+        jpaTransactions.run(() -> outboxRepository.save(MemberActivityOutbox.builder()
+                .eventType(eventType)
+                .activityType(activityType.name())
+                .memberId(memberId)
+                .postId(postId)
+                .commentId(commentId)
+                .build()));
+    }
+
+    void publish(MemberActivityOutbox row) {
+        MemberActivityType activityType = MemberActivityType.valueOf(row.getActivityType());
+        switch (row.getEventType()) {
+            case POST -> memberActivityKafkaPublisher.publishPostCUDEvent(row.getMemberId(), row.getPostId(), activityType);
+            case POST_LIKE -> memberActivityKafkaPublisher.publishPostLikeEvent(row.getMemberId(), row.getPostId(), activityType);
+            case COMMENT -> memberActivityKafkaPublisher.publishCommentCUDEvent(row.getMemberId(), row.getPostId(), row.getCommentId(), activityType);
+            case COMMENT_LIKE -> memberActivityKafkaPublisher.publishCommentLikeEvent(row.getMemberId(), row.getPostId(), row.getCommentId(), activityType);
+        }
+    }
+
+    private static String errorOf(Exception e) {
+        String message = e.getClass().getSimpleName() + ": " + e.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    public record ActivityTarget(Long memberId, Long postId, Long commentId) {
+    }
+}
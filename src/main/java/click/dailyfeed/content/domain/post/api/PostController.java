@@ -5,23 +5,50 @@ import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.response.DailyfeedServerResponse;
+import click.dailyfeed.content.domain.base.pagination.ScrollSlice;
+import click.dailyfeed.content.domain.like.dto.LikeDto;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.post.dto.PostBatchDto;
+import click.dailyfeed.content.domain.post.dto.PostCommentPreviewDto;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.service.PostBatchService;
+import click.dailyfeed.content.domain.post.service.PostCommentPreviewService;
+import click.dailyfeed.content.domain.post.service.PostDetailService;
+import click.dailyfeed.content.domain.post.service.PostQueryService;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
 import click.dailyfeed.content.domain.post.service.PostService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
+import click.dailyfeed.content.domain.search.service.ContentSearchService;
 import click.dailyfeed.feign.config.web.annotation.AuthenticatedMember;
 import click.dailyfeed.feign.config.web.annotation.AuthenticatedMemberProfileSummary;
 import io.swagger.v3.oas.annotations.Operation;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @RequestMapping("/api/posts")
 @RestController
 public class PostController {
     private final PostService postService;
+    private final PostQueryService postQueryService;
+    private final PostDetailService postDetailService;
+    private final PostBatchService postBatchService;
+    private final PostCommentPreviewService postCommentPreviewService;
+    private final LikedByMeService likedByMeService;
+    private final PostStatsService postStatsService;
+    private final PostRankingService postRankingService;
+    private final ContentSearchService contentSearchService;
 
     /// entity
     // 게시글 작성
@@ -98,21 +125,52 @@ public class PostController {
 
 
     // 게시글 상세 조회
-//    @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
-//    @GetMapping("/{postId}")
-//    public DailyfeedServerResponse<PostDto.Post> getPost(
-//            @AuthenticatedMember MemberDto.Member member,
-//            @RequestHeader(value = "Authorization", required = false) String token,
-//            HttpServletResponse httpResponse,
-//            @PathVariable Long postId) {
-//
-//        PostDto.Post result = postService.getPostById(member, postId, token, httpResponse);
-//        return DailyfeedServerResponse.<PostDto.Post>builder()
-//                .status(HttpStatus.OK.value())
-//                .result(ResponseSuccessCode.SUCCESS)
-//                .data(result)
-//                .build();
-//    }
+    @Operation(summary = "게시글 상세 조회", description = "특정 게시글의 상세 정보를 조회합니다.")
+    @GetMapping("/{postId}")
+    public DailyfeedServerResponse<PostDto.Post> getPost(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            HttpServletResponse httpResponse,
+            @PathVariable Long postId) {
+
+        PostDto.Post result = postDetailService.getPost(postId, token, httpResponse);
+        return DailyfeedServerResponse.<PostDto.Post>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    // 게시글 일괄 조회 (timeline 서비스의 피드 페이지 구성용)
+    @Operation(summary = "게시글 일괄 조회", description = "요청한 게시글 목록을 작성자/좋아요 수/댓글 수와 함께 요청 순서대로 조회합니다. 없거나 삭제된 글은 제외됩니다.")
+    @PostMapping("/batch")
+    public DailyfeedServerResponse<List<PostDto.Post>> getPostsByIds(
+            @RequestHeader(value = "Authorization", required = false) String token,
+            HttpServletResponse httpResponse,
+            @Valid @RequestBody PostBatchDto.Request request) {
+
+        List<PostDto.Post> result = postBatchService.getPosts(request.getPostIds(), token, httpResponse);
+        return DailyfeedServerResponse.<List<PostDto.Post>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    // 게시글 + 댓글 미리보기 조회
+    @Operation(summary = "게시글 댓글 미리보기 조회", description = "요청한 게시글 중 최근 수정 순으로 한 페이지를 조회하고, 글마다 최상위 댓글 몇 개를 함께 조회합니다.")
+    @GetMapping("/with-comments")
+    public DailyfeedServerResponse<List<PostCommentPreviewDto.Item>> getPostsWithComments(
+            @RequestParam @NotEmpty @Size(max = PostCommentPreviewDto.MAX_POST_IDS_PER_REQUEST) List<Long> postIds,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<PostCommentPreviewDto.Item> result = postCommentPreviewService.getPostsWithComments(postIds, page, size);
+        return DailyfeedServerResponse.<List<PostCommentPreviewDto.Item>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
 
     // 게시글 좋아요 증가
     @PostMapping("/{postId}/like")
@@ -147,6 +205,117 @@ public class PostController {
                 .build();
     }
 
+    // 게시글 좋아요 여부 일괄 조회 (피드 한 페이지 분량)
+    @Operation(summary = "게시글 좋아요 여부 일괄 조회", description = "요청한 게시글 목록에 대해 내가 좋아요를 눌렀는지 여부를 요청 순서대로 조회합니다.")
+    @GetMapping("/likes/me")
+    public DailyfeedServerResponse<LikeDto.LikedByMe> getLikedByMe(
+            @AuthenticatedMember MemberDto.Member member,
+            @RequestParam @NotEmpty @Size(max = LikeDto.MAX_IDS_PER_REQUEST) List<Long> postIds
+    ) {
+        LikeDto.LikedByMe result = LikeDto.LikedByMe.of(postIds, likedByMeService.getLikedPosts(member.getId(), postIds));
+        return DailyfeedServerResponse.<LikeDto.LikedByMe>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    // 게시글 댓글 수 일괄 조회
+    @Operation(summary = "게시글 댓글 수 일괄 조회", description = "요청한 게시글 목록의 댓글 수를 요청 순서대로 조회합니다.")
+    @GetMapping("/comment-counts")
+    public DailyfeedServerResponse<List<PostStatsDto.CommentCount>> getCommentCounts(
+            @RequestParam @NotEmpty @Size(max = PostStatsDto.MAX_POST_IDS_PER_REQUEST) List<Long> postIds
+    ) {
+        List<PostStatsDto.CommentCount> result = postStatsService.getCommentCounts(postIds);
+        return DailyfeedServerResponse.<List<PostStatsDto.CommentCount>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    // 댓글이 많은 게시글 조회
+    @Operation(summary = "댓글이 많은 게시글 조회", description = "댓글 수가 많은 순서로 게시글 id 와 댓글 수를 조회합니다.")
+    @GetMapping("/most-commented")
+    public DailyfeedServerResponse<List<PostStatsDto.CommentCount>> getMostCommented(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<PostStatsDto.CommentCount> result = postStatsService.getMostCommented(page, size);
+        return DailyfeedServerResponse.<List<PostStatsDto.CommentCount>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    // 인기 게시글 조회
+    @Operation(summary = "인기 게시글 조회", description = "최근 좋아요/조회/댓글 활동을 시간 감쇠 가중치로 합산한 점수 순서로 게시글을 조회합니다.")
+    @GetMapping("/popular")
+    public DailyfeedServerResponse<List<PostDto.Post>> getPopularPosts(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<PostDto.Post> result = postRankingService.getPopularPosts(page, size);
+        return DailyfeedServerResponse.<List<PostDto.Post>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
+    /// 커서 기반 목록 조회 : 첫 페이지는 cursor 없이 요청하고, 이후에는 응답의 nextCursor 를 그대로 전달
+    // 최근 게시글 목록 조회 (커서)
+    @Operation(summary = "최근 게시글 목록 조회 (커서)", description = "최근 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/scroll")
+    public DailyfeedServerResponse<ScrollSlice<PostDto.Post>> scrollRecentPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return scrollResponse(postQueryService.scrollRecentPosts(cursor, size));
+    }
+
+    // 작성자별 게시글 목록 조회 (커서)
+    @Operation(summary = "작성자별 게시글 목록 조회 (커서)", description = "특정 작성자들의 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/scroll/authors")
+    public DailyfeedServerResponse<ScrollSlice<PostDto.Post>> scrollPostsByAuthors(
+            @RequestParam @NotEmpty List<Long> authorIds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return scrollResponse(postQueryService.scrollPostsByAuthors(authorIds, cursor, size));
+    }
+
+    // 기간별 게시글 목록 조회 (커서)
+    @Operation(summary = "기간별 게시글 목록 조회 (커서)", description = "특정 기간에 작성된 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/scroll/period")
+    public DailyfeedServerResponse<ScrollSlice<PostDto.Post>> scrollPostsBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return scrollResponse(postQueryService.scrollPostsBetween(startDate, endDate, cursor, size));
+    }
+
+    // 최근 활동 순 게시글 목록 조회 (커서)
+    @Operation(summary = "최근 활동 순 게시글 목록 조회 (커서)", description = "글 작성 또는 마지막 댓글 작성 시각이 최근인 순서로 게시글을 커서 기반으로 조회합니다.")
+    @GetMapping("/scroll/active")
+    public DailyfeedServerResponse<ScrollSlice<PostDto.Post>> scrollRecentlyActivePosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return scrollResponse(postQueryService.scrollRecentlyActivePosts(cursor, size));
+    }
+
+    private DailyfeedServerResponse<ScrollSlice<PostDto.Post>> scrollResponse(ScrollSlice<PostDto.Post> result) {
+        return DailyfeedServerResponse.<ScrollSlice<PostDto.Post>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
+
     // 작성자별 게시글 목록 조회
 //    @Operation(summary = "특정 사용자의 게시글 목록 조회", description = "특정 사용자가 작성한 게시글을 페이징하여 조회합니다.")
 //    @GetMapping("/authors/{authorId}")
@@ -170,20 +339,19 @@ public class PostController {
 //                .build();
 //    }
 
-    // 게시글 검색
-//    @GetMapping("/search")
-//    public DailyfeedPageResponse<PostDto.Post> searchPosts(
-//            @RequestHeader("Authorization") String token,
-//            HttpServletResponse httpResponse,
-//            @RequestParam String keyword,
-//            @RequestParam(defaultValue = "0") int page,
-//            @RequestParam(defaultValue = "20") int size) {
-//
-//        DailyfeedPage<PostDto.Post> result = postService.searchPosts(keyword, page, size, token, httpResponse);
-//        return DailyfeedPageResponse.<PostDto.Post>builder()
-//                .status(HttpStatus.OK.value())
-//                .result(ResponseSuccessCode.SUCCESS)
-//                .data(result)
-//                .build();
-//    }
+    // 게시글 검색 (관련도 순)
+    @Operation(summary = "게시글 검색", description = "제목/내용을 텍스트 인덱스로 검색하여 관련도 순으로 조회합니다.")
+    @GetMapping("/search")
+    public DailyfeedServerResponse<List<PostDto.Post>> searchPosts(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        List<PostDto.Post> result = contentSearchService.searchPosts(keyword, page, size);
+        return DailyfeedServerResponse.<List<PostDto.Post>>builder()
+                .status(HttpStatus.OK.value())
+                .result(ResponseSuccessCode.SUCCESS)
+                .data(result)
+                .build();
+    }
 }
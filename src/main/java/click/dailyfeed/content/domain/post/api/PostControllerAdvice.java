@@ -10,13 +10,17 @@ import click.dailyfeed.code.global.jwt.exception.InvalidTokenException;
 import click.dailyfeed.code.global.web.code.ResponseSuccessCode;
 import click.dailyfeed.code.global.web.excecption.DailyfeedWebException;
 import click.dailyfeed.code.global.web.response.DailyfeedErrorResponse;
+import click.dailyfeed.content.domain.base.concurrent.FanOutDeadlineExceededException;
+import click.dailyfeed.content.domain.base.pagination.InvalidCursorException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 @Slf4j
 @RestControllerAdvice(basePackages = "click.dailyfeed.content.domain.post.api")
@@ -38,6 +42,54 @@ public class PostControllerAdvice {
         );
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleInvalidCursorException(InvalidCursorException e, HttpServletRequest request) {
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    // 병렬로 실행한 조회 단계(timeline 통계 등)가 fan-out deadline 안에 끝나지 않음
+    @ExceptionHandler(FanOutDeadlineExceededException.class)
+    @ResponseStatus(HttpStatus.GATEWAY_TIMEOUT)
+    public DailyfeedErrorResponse handleFanOutDeadlineExceededException(FanOutDeadlineExceededException e, HttpServletRequest request) {
+        log.warn("Fan-out deadline exceeded: {}, path: {}", e.getMessage(), request.getRequestURI());
+        return DailyfeedErrorResponse.of(
+                HttpStatus.GATEWAY_TIMEOUT.value(),
+                ResponseSuccessCode.FAIL,
+                e.getMessage(),
+                request.getRequestURI()
+        );
+    }
+
+    // @RequestParam 제약 조건(@NotEmpty, @Size 등) 위반
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleHandlerMethodValidationException(HandlerMethodValidationException e, HttpServletRequest request) {
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                "요청 값이 올바르지 않습니다.",
+                request.getRequestURI()
+        );
+    }
+
+    // @Valid @RequestBody 제약 조건 위반 (일괄 조회 postIds 등)
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public DailyfeedErrorResponse handleMethodArgumentNotValidException(MethodArgumentNotValidException e, HttpServletRequest request) {
+        return DailyfeedErrorResponse.of(
+                HttpStatus.BAD_REQUEST.value(),
+                ResponseSuccessCode.FAIL,
+                "요청 값이 올바르지 않습니다.",
+                request.getRequestURI()
+        );
+    }
+
     @ExceptionHandler(KeyRefreshErrorException.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public DailyfeedErrorResponse handleKeyRefreshErrorException(KeyRefreshErrorException e, HttpServletRequest request, HttpServletResponse response) {
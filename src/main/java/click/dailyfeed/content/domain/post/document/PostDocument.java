@@ -1,11 +1,15 @@
 package click.dailyfeed.content.domain.post.document;
 
+import click.dailyfeed.content.domain.search.tokenizer.KoreanBigramTokenizer;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
@@ -14,7 +18,10 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Document(collection = "posts")
+@CompoundIndexes({
+        @CompoundIndex(name = "idx_posts_post_pk_is_deleted", def = "{ 'post_pk': 1, 'is_deleted': 1 }")
+})
+@Document(collection = "posts", language = "none")
 public class PostDocument {
     @Id
     private ObjectId id;
@@ -26,6 +33,15 @@ public class PostDocument {
 
     private String content;
 
+    // 검색 색인용 bigram 토큰 (title/content 를 KoreanBigramTokenizer 로 변환한 값)
+    @TextIndexed(weight = 3)
+    @Field("search_title")
+    private String searchTitle;
+
+    @TextIndexed
+    @Field("search_content")
+    private String searchContent;
+
     @Field("created_at")
     private LocalDateTime createdAt;
 
@@ -40,21 +56,13 @@ public class PostDocument {
         this.postPk = postPk;
         this.title = title;
         this.content = content;
+        this.searchTitle = KoreanBigramTokenizer.toIndexText(title);
+        this.searchContent = KoreanBigramTokenizer.toIndexText(content);
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.isDeleted = false;
     }
 
-    @Builder(builderMethodName = "updatedPostBuilder", builderClassName = "UpdatedPost")
-    private PostDocument(PostDocument oldDocument, LocalDateTime updatedAt) {
-        this.postPk = oldDocument.getPostPk();
-        this.title = oldDocument.getTitle();
-        this.content = oldDocument.getContent();
-        this.createdAt = oldDocument.getCreatedAt();
-        this.updatedAt =  updatedAt;
-        this.isDeleted = Boolean.FALSE;
-    }
-
     public static PostDocument newPost(Long postPk, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt){
         return PostDocument.newPostBuilder()
                 .postPk(postPk)
@@ -65,11 +73,9 @@ public class PostDocument {
                 .build();
     }
 
-    public static PostDocument newUpdatedPost(PostDocument postDocument, LocalDateTime updatedAt){
-        return PostDocument.updatedPostBuilder()
-                .oldDocument(postDocument)
-                .updatedAt(updatedAt)
-                .build();
+    /// 수정된 게시글의 새 버전 문서 (작성 시각은 유지)
+    public static PostDocument newUpdatedPost(Long postPk, String title, String content, LocalDateTime createdAt, LocalDateTime updatedAt){
+        return newPost(postPk, title, content, createdAt, updatedAt);
     }
 
     public void softDelete(){
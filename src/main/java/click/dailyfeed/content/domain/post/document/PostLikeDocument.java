@@ -6,12 +6,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.bson.types.ObjectId;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 import org.springframework.data.mongodb.core.mapping.Field;
 
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@CompoundIndexes({
+        // 한 멤버는 한 글에 한 번만 좋아요 가능 (중복 좋아요는 DuplicateKeyException 으로 거절)
+        @CompoundIndex(name = "ux_post_likes_post_pk_member_id", def = "{ 'post_pk': 1, 'member_id': 1 }", unique = true),
+        // 멤버 기준 좋아요 여부 일괄 조회용
+        @CompoundIndex(name = "idx_post_likes_member_id_post_pk", def = "{ 'member_id': 1, 'post_pk': 1 }")
+})
 @Document(collection = "post_likes")
 public class PostLikeDocument {
 
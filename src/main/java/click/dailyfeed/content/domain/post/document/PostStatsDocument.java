@@ -0,0 +1,45 @@
+package click.dailyfeed.content.domain.post.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.IndexDirection;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+
+import java.time.LocalDateTime;
+
+/**
+ * 글 단위 집계값 (좋아요 수, 댓글 수, 마지막 활동 시각)
+ * - 본문 문서(posts)는 수정 시마다 새 버전이 생기므로 집계값은 post_pk 당 하나인 별도 문서로 관리
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "post_stats")
+// 최근 활동 순 커서 조회 (last_activity_at DESC, post_pk DESC)
+@CompoundIndex(name = "idx_post_stats_last_activity_at_post_pk", def = "{'last_activity_at': -1, 'post_pk': -1}")
+public class PostStatsDocument {
+    @Id
+    private ObjectId id;
+
+    @Indexed(name = "ux_post_stats_post_pk", unique = true)
+    @Field("post_pk")
+    private Long postPk;
+
+    @Field("like_count")
+    private Long likeCount;
+
+    // 삭제되지 않은 댓글 수 (댓글 작성/삭제 시 $inc, 주기적으로 MySQL 기준 재계산)
+    @Indexed(name = "idx_post_stats_comment_count", direction = IndexDirection.DESCENDING)
+    @Field("comment_count")
+    private Long commentCount;
+
+    // 글 작성/댓글 작성 중 가장 최근 시각 ($max 로만 갱신, 삭제된 글은 $unset)
+    @Field("last_activity_at")
+    private LocalDateTime lastActivityAt;
+}
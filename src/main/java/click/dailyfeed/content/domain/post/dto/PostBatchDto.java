@@ -0,0 +1,26 @@
+package click.dailyfeed.content.domain.post.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class PostBatchDto {
+    public static final int MAX_IDS_PER_REQUEST = 500;
+
+    // 피드 한 페이지 분량의 게시글 일괄 조회 요청 (응답은 요청 순서대로)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Request {
+        @NotEmpty
+        @Size(max = MAX_IDS_PER_REQUEST)
+        private List<@NotNull Long> postIds;
+    }
+}
@@ -0,0 +1,26 @@
+package click.dailyfeed.content.domain.post.dto;
+
+import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public class PostCommentPreviewDto {
+    // 한 번에 받을 수 있는 후보 게시글 id 수 (IN 목록 크기 제한)
+    public static final int MAX_POST_IDS_PER_REQUEST = 500;
+
+    // 게시글 + 최상위 댓글 미리보기 (comments 는 앞에서부터 일부만, 나머지는 hasMoreComments 로 표시)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private PostDto.Post post;
+        private List<CommentDto.Comment> comments;
+        private Boolean hasMoreComments;
+    }
+}
@@ -0,0 +1,39 @@
+package click.dailyfeed.content.domain.post.dto;
+
+import click.dailyfeed.content.domain.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class PostDetailDto {
+
+    // 게시글 상세 조회용 본문 캐시 (좋아요/댓글 수, 작성자 프로필은 각자 다른 캐시에서 조합)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Body {
+        private Long id;
+        private String title;
+        private String content;
+        private Long authorId;
+        private Long viewCount;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+
+        public static Body of(Post post) {
+            return Body.builder()
+                    .id(post.getId())
+                    .title(post.getTitle())
+                    .content(post.getContent())
+                    .authorId(post.getAuthorId())
+                    .viewCount(post.getViewCount())
+                    .createdAt(post.getCreatedAt())
+                    .updatedAt(post.getUpdatedAt())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package click.dailyfeed.content.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class PostStatsDto {
+    // 댓글 수 일괄 조회 한 번에 받을 수 있는 글 수 (post_stats $in 조회 크기 제한)
+    public static final int MAX_POST_IDS_PER_REQUEST = 100;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentCount {
+        private Long postId;
+        private Long commentCount;
+    }
+
+    // 글 별로 모은 새 댓글 (대량 등록 시 post_stats 일괄 반영용)
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NewComments {
+        private Long postId;
+        private Long count;
+        private LocalDateTime lastCreatedAt;
+    }
+}
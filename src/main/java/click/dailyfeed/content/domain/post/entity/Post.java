@@ -1,14 +1,23 @@
 package click.dailyfeed.content.domain.post.entity;
 
 import click.dailyfeed.content.domain.base.BaseTimeEntity;
+import click.dailyfeed.content.domain.base.id.IdSequences;
 import click.dailyfeed.content.domain.comment.entity.Comment;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.List;
 
-@Table(name = "posts")
+@Table(
+        name = "posts",
+        indexes = {
+                // 커서 기반 조회 (is_deleted = false, created_at DESC, id DESC), DDL : resources/db/ddl/posts_indexes.sql
+                @Index(name = "idx_posts_is_deleted_created_at_id", columnList = "is_deleted, created_at, id"),
+                @Index(name = "idx_posts_author_id_created_at_id", columnList = "author_id, created_at, id")
+        }
+)
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -16,7 +25,15 @@ import java.util.List;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 public class Post extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TableGenerator(
+            name = "post_id_generator",
+            table = IdSequences.TABLE,
+            pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN,
+            pkColumnValue = IdSequences.POSTS,
+            allocationSize = IdSequences.ALLOCATION_SIZE
+    )
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -32,14 +49,17 @@ public class Post extends BaseTimeEntity {
     @Column(name = "view_count")
     private Long viewCount = 0L;
 
-    @Column(name = "like_count")
+    // 좋아요 수는 LikeCountWriter 가 증감분만 UPDATE 하므로, 글 수정의 dirty checking UPDATE 가 읽은 값으로 덮어쓰지 않도록 제외
+    @Column(name = "like_count", updatable = false)
     private Long likeCount = 0L;
 
     @Column(name = "is_deleted", columnDefinition = "TINYINT(1)")
     private Boolean isDeleted = false;
 
+    // 여러 글의 comments 를 지연 로딩하면 글마다 쿼리하지 않고 100 개씩 IN 으로 묶어서 로딩
     @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
     @OrderBy("createdAt ASC")
+    @BatchSize(size = 100)
     private List<Comment> comments = new ArrayList<>();
 
     @Builder
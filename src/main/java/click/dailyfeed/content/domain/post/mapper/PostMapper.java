@@ -5,6 +5,7 @@ import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.post.dto.PostDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.domain.timeline.statistics.TimelineStatisticsDto;
+import click.dailyfeed.content.domain.post.dto.PostDetailDto;
 import click.dailyfeed.content.domain.post.entity.Post;
 import org.springframework.stereotype.Component;
 
@@ -61,6 +62,57 @@ public class PostMapper {
                 .build();
     }
 
+    // 상세 조회용 (캐시된 구성 요소를 조합)
+    public PostDto.Post toPostDetail(PostDetailDto.Body body, MemberProfileDto.Summary author, long likeCount, long commentCount) {
+        return PostDto.Post.builder()
+                .id(body.getId())
+                .title(body.getTitle())
+                .content(body.getContent())
+                .authorId(body.getAuthorId())
+                .authorName(author != null ? author.getDisplayName() : null)
+                .authorHandle(author != null ? author.getMemberHandle() : null)
+                .authorAvatarUrl(author != null ? author.getAvatarUrl() : null)
+                .viewCount(body.getViewCount())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .createdAt(body.getCreatedAt())
+                .updatedAt(body.getUpdatedAt())
+                .build();
+    }
+
+    // 일괄 조회용 (작성자를 찾지 못하면 authorId 만 채움)
+    public PostDto.Post toPostBatchItem(Post post, MemberProfileDto.Summary author, long likeCount, long commentCount) {
+        return PostDto.Post.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthorId())
+                .authorName(author != null ? author.getDisplayName() : null)
+                .authorHandle(author != null ? author.getMemberHandle() : null)
+                .authorAvatarUrl(author != null ? author.getAvatarUrl() : null)
+                .viewCount(post.getViewCount())
+                .likeCount(likeCount)
+                .commentCount(commentCount)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
+    // 목록 조회용 (작성자 프로필은 클라이언트가 authorId 로 별도 조회)
+    public PostDto.Post toPostListItem(Post post, Long commentCount) {
+        return PostDto.Post.builder()
+                .id(post.getId())
+                .title(post.getTitle())
+                .content(post.getContent())
+                .authorId(post.getAuthorId())
+                .viewCount(post.getViewCount())
+                .likeCount(post.getLikeCount())
+                .commentCount(commentCount != null ? commentCount : 0L)
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .build();
+    }
+
 //    public PostDto.Post toPostDto(Post post, MemberProfileDto.Summary author, Long commentCount){
 //        return PostDto.Post.builder()
 //                .id(post.getId())
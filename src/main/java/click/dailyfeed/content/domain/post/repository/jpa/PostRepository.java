@@ -3,48 +3,47 @@ package click.dailyfeed.content.domain.post.repository.jpa;
 import click.dailyfeed.content.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
-    @Query("SELECT p FROM Post p LEFT JOIN FETCH Comment c WHERE p.id IN :postIds AND p.isDeleted = false ORDER BY p.updatedAt DESC")
-    Page<Post> findPostsWithCommentsByPostIds(@Param("postIds") Set<Long> postIds, Pageable pageable);
+    // 주어진 id 중 삭제되지 않은 게시글 (댓글은 fetch 하지 않음, 순서는 호출하는 쪽에서 맞춤)
+    @Query("SELECT p FROM Post p WHERE p.id IN :ids AND p.isDeleted = false")
+    List<Post> findAllByIdInAndNotDeleted(@Param("ids") Collection<Long> ids);
 
     // ID로 삭제되지 않은 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.id = :id AND p.isDeleted = false")
     Optional<Post> findByIdAndNotDeleted(@Param("id") Long id);
 
-    // 삭제되지 않은 게시글만 조회
-    @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findAllNotDeletedOrderByCreatedDateDesc(Pageable pageable);
+    // 삭제되지 않은 게시글의 저장된 좋아요 수 (flush 전 증감분은 포함하지 않음)
+    @Query("SELECT COALESCE(p.likeCount, 0L) FROM Post p WHERE p.id = :id AND p.isDeleted = false")
+    Optional<Long> findLikeCountByIdAndNotDeleted(@Param("id") Long id);
 
-    // 제목으로 검색
-    @Query("SELECT p FROM Post p WHERE p.title LIKE %:keyword% AND p.isDeleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findByTitleContainingAndNotDeleted(@Param("keyword") String keyword, Pageable pageable);
+    // 주어진 id 중 삭제되지 않은 게시글 id
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.isDeleted = false")
+    List<Long> findNotDeletedIdsIn(@Param("ids") Collection<Long> ids);
 
-    // 내용으로 검색
-    @Query("SELECT p FROM Post p WHERE p.content LIKE %:keyword% AND p.isDeleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findByContentContainingAndNotDeleted(@Param("keyword") String keyword, Pageable pageable);
+    // 주어진 id 중 삭제되지 않은 게시글 id 를 최근 수정 순으로 페이지 조회 (댓글과 join 하지 않으므로 SQL 에서 페이징)
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.isDeleted = false ORDER BY p.updatedAt DESC, p.id DESC")
+    List<Long> findRecentlyUpdatedIdsIn(@Param("ids") Collection<Long> ids, Pageable pageable);
 
-    // 제목 또는 내용으로 검색 ==
-    @Query("SELECT p FROM Post p WHERE (p.title LIKE %:keyword% OR p.content LIKE %:keyword%) AND p.isDeleted = false ORDER BY p.createdAt DESC")
-    Page<Post> findByTitleOrContentContainingAndNotDeleted(@Param("keyword") String keyword, Pageable pageable);
+    // 삭제되지 않은 게시글만 조회
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
+    Page<Post> findAllNotDeletedOrderByCreatedDateDesc(Pageable pageable);
 
     // 최근 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY p.createdAt DESC")
     Page<Post> findRecentPosts(Pageable pageable);
 
-    // 인기 게시글 (좋아요 수 기준)
-    @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY (p.viewCount + p.likeCount * 2) DESC, p.createdAt DESC")
-    Page<Post> findPopularPostsNotDeleted(Pageable pageable);
-
     // 조회수 많은 게시글 조회
     @Query("SELECT p FROM Post p WHERE p.isDeleted = false ORDER BY p.viewCount DESC, p.createdAt DESC")
     Page<Post> findMostViewedPostsNotDeleted(Pageable pageable);
@@ -68,25 +67,54 @@ public interface PostRepository extends JpaRepository<Post, Long> {
             @Param("endDate") java.time.LocalDateTime endDate,
             Pageable pageable);
 
-    // 댓글이 많은 게시글 조회 (댓글 수로 정렬)
-    @Query("SELECT p " +
-            "FROM Post p LEFT JOIN p.comments c " +
-            "WHERE p.isDeleted = false AND (c.isDeleted = false OR c.id IS NULL) " +
-            "GROUP BY p " +
-            "ORDER BY COUNT(c) DESC, p.createdAt DESC")
-    Page<Post> findMostCommentedPosts(Pageable pageable);
+    interface PostCreatedAtProjection {
+        Long getId();
+        LocalDateTime getCreatedAt();
+    }
+
+    // id 기준 keyset 순회 (post_stats 재계산 등 전체 글 순회용)
+    @Query("SELECT p.id as id, p.createdAt as createdAt FROM Post p WHERE p.id > :lastId AND p.isDeleted = false ORDER BY p.id ASC")
+    List<PostCreatedAtProjection> findNotDeletedCreatedAtAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+    /// 커서 기반 조회 : (createdAt, id) 가 커서보다 앞선(더 오래된) 글을 createdAt DESC, id DESC 로 조회
+    /// Slice 로 반환하므로 count 쿼리 없이 size + 1 건만 읽음
+    String KEYSET_AFTER = "(p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId))";
+    String KEYSET_ORDER = " ORDER BY p.createdAt DESC, p.id DESC";
+
+    // 최근 게시글 조회 (커서)
+    @Query("SELECT p FROM Post p WHERE p.isDeleted = false AND " + KEYSET_AFTER + KEYSET_ORDER)
+    Slice<Post> findRecentPostsAfter(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
+
+    // 특정 작성자들의 게시글 조회 (커서)
+    @Query("SELECT p FROM Post p WHERE p.authorId IN :authorIds AND p.isDeleted = false AND " + KEYSET_AFTER + KEYSET_ORDER)
+    Slice<Post> findByAuthorIdsAndNotDeletedAfter(
+            @Param("authorIds") List<Long> authorIds,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
-    // 최근 활동이 있는 게시글 (최근 댓글 기준)
-    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN p.comments c " +
-            "WHERE p.isDeleted = false AND (c.isDeleted = false OR c.id IS NULL) " +
-            "ORDER BY COALESCE(MAX(c.createdAt), p.createdAt) DESC")
-    Page<Post> findPostsByRecentActivity(Pageable pageable);
+    // 특정 기간 내 게시글 조회 (커서)
+    @Query("SELECT p FROM Post p WHERE p.createdAt >= :startDate AND p.createdAt <= :endDate AND p.isDeleted = false AND " + KEYSET_AFTER + KEYSET_ORDER)
+    Slice<Post> findByCreatedDateBetweenAndNotDeletedAfter(
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     // 게시글 소프트 삭제
     @Modifying
     @Query("UPDATE Post p SET p.isDeleted = true WHERE p.id = :id")
     void softDeleteById(@Param("id") Long id);
 
+    // 좋아요 수 증감분 반영 (같은 증감분을 가진 글들을 한 번에 갱신, 0 미만으로 내려가지 않음)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = CASE WHEN p.likeCount + :delta < 0 THEN 0 ELSE p.likeCount + :delta END WHERE p.id IN :ids")
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") Long delta);
+
     // 작성자별 게시글 소프트 삭제 (관리자용)
     @Modifying
     @Query("UPDATE Post p SET p.isDeleted = true WHERE p.authorId = :authorId")
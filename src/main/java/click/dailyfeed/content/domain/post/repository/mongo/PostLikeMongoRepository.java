@@ -3,7 +3,15 @@ package click.dailyfeed.content.domain.post.repository.mongo;
 import click.dailyfeed.content.domain.post.document.PostLikeDocument;
 import org.bson.types.ObjectId;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface PostLikeMongoRepository extends MongoRepository<PostLikeDocument, ObjectId> {
     PostLikeDocument findByPostPkAndMemberId(Long postPk, Long memberId);
+
+    // 여러 글 중 특정 멤버가 좋아요 한 글을 한 번에 조회 (post_pk 만)
+    @Query(value = "{ 'member_id': ?0, 'post_pk': { '$in': ?1 } }", fields = "{ 'post_pk': 1 }")
+    List<PostLikeDocument> findLikedPostPksByMemberId(Long memberId, Collection<Long> postPks);
 }
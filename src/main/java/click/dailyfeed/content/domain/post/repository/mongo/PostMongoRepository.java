@@ -6,6 +6,6 @@ import org.springframework.data.mongodb.repository.MongoRepository;
 
 import java.util.Optional;
 
-public interface PostMongoRepository extends MongoRepository<PostDocument, ObjectId> {
+public interface PostMongoRepository extends MongoRepository<PostDocument, ObjectId>, PostMongoRepositoryCustom {
     Optional<PostDocument> findByPostPkAndIsDeleted(Long postPk, Boolean isDeleted);
 }
@@ -0,0 +1,8 @@
+package click.dailyfeed.content.domain.post.repository.mongo;
+
+import click.dailyfeed.content.domain.post.document.PostDocument;
+
+public interface PostMongoRepositoryCustom {
+    // 현재 버전(is_deleted = false)을 soft delete 하고 새 버전을 저장 (한 번의 ordered bulk write), soft delete 된 문서 수 반환
+    int replaceLiveVersion(PostDocument newVersion);
+}
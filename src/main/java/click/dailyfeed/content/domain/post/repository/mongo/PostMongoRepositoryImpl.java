@@ -0,0 +1,32 @@
+package click.dailyfeed.content.domain.post.repository.mongo;
+
+import click.dailyfeed.content.domain.post.document.PostDocument;
+import com.mongodb.bulk.BulkWriteResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+/**
+ * 게시글 문서 버전 교체
+ * - 기존에는 현재 버전 조회 → soft delete 저장 → 새 버전 저장으로 3번 왕복하고 문서 전체를 2번 썼으나,
+ *   is_deleted 만 바꾸는 updateOne 과 새 버전 insert 를 ordered bulk 하나로 보냄
+ * - ordered 이므로 soft delete 가 실패하면 insert 는 수행되지 않음
+ */
+@RequiredArgsConstructor
+public class PostMongoRepositoryImpl implements PostMongoRepositoryCustom {
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public int replaceLiveVersion(PostDocument newVersion) {
+        Query liveVersion = Query.query(Criteria.where("post_pk").is(newVersion.getPostPk()).and("is_deleted").is(false));
+
+        BulkWriteResult result = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, PostDocument.class)
+                .updateOne(liveVersion, Update.update("is_deleted", true))
+                .insert(newVersion)
+                .execute();
+        return result.getModifiedCount();
+    }
+}
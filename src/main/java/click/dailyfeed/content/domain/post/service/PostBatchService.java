@@ -0,0 +1,144 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.base.concurrent.FanOut;
+import click.dailyfeed.content.domain.base.concurrent.FanOutDeadlineExceededException;
+import click.dailyfeed.content.domain.like.service.LikeCountService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 일괄 조회 (timeline 서비스의 피드 페이지 구성용)
+ * - 게시글은 IN 쿼리 한 번, 댓글 수는 post_stats 조회 한 번, 작성자는 MemberSummaryCache 일괄 조회 한 번
+ * - 댓글 수 조회와 작성자 조회는 서로 독립적이므로 병렬로 수행
+ * - 응답은 요청한 id 순서대로, 없거나 삭제된 글은 건너뜀
+ * - 캐시에 없는 작성자는 author-parallelism 개 작업으로 나눠 조회하고, fan-out deadline 을 넘기면 그때까지 조회된 작성자만 채움 (나머지 글은 authorId 만)
+ */
+@Slf4j
+@Service
+public class PostBatchService {
+    private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+    private final LikeCountService likeCountService;
+    private final MemberSummaryCache memberSummaryCache;
+    private final MemberFeignHelper memberFeignHelper;
+    private final PostMapper postMapper;
+    private final FanOut fanOut;
+    private final int authorParallelism;
+
+    public PostBatchService(
+            PostRepository postRepository,
+            PostStatsService postStatsService,
+            LikeCountService likeCountService,
+            MemberSummaryCache memberSummaryCache,
+            MemberFeignHelper memberFeignHelper,
+            PostMapper postMapper,
+            FanOut fanOut,
+            @Value("${dailyfeed.services.content.post-batch.author-parallelism:8}") int authorParallelism
+    ) {
+        this.postRepository = postRepository;
+        this.postStatsService = postStatsService;
+        this.likeCountService = likeCountService;
+        this.memberSummaryCache = memberSummaryCache;
+        this.memberFeignHelper = memberFeignHelper;
+        this.postMapper = postMapper;
+        this.fanOut = fanOut;
+        this.authorParallelism = Math.max(1, authorParallelism);
+    }
+
+    public List<PostDto.Post> getPosts(List<Long> postIds, String token, HttpServletResponse response) {
+        Set<Long> distinctIds = new LinkedHashSet<>(postIds);
+        Map<Long, Post> posts = postRepository.findAllByIdInAndNotDeleted(distinctIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        if (posts.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> commentCounts;
+        Map<Long, MemberProfileDto.Summary> authors;
+        try (FanOut.Scope scope = fanOut.open()) {
+            FanOut.Subtask<List<PostStatsDto.CommentCount>> commentCountsTask = scope.fork(() -> postStatsService.getCommentCounts(posts.keySet()));
+
+            Set<Long> authorIds = posts.values().stream().map(Post::getAuthorId).collect(Collectors.toSet());
+            authors = memberSummaryCache.getAllOrLoad(authorIds, misses -> loadAuthors(misses, token));
+
+            scope.join();
+            commentCounts = commentCountsTask.get().stream()
+                    .collect(Collectors.toMap(PostStatsDto.CommentCount::getPostId, PostStatsDto.CommentCount::getCommentCount));
+        }
+
+        List<PostDto.Post> result = new ArrayList<>(posts.size());
+        for (Long postId : distinctIds) {
+            Post post = posts.get(postId);
+            if (post == null) {
+                continue;
+            }
+            long storedLikeCount = post.getLikeCount() != null ? post.getLikeCount() : 0L;
+            long likeCount = Math.max(0L, storedLikeCount + likeCountService.getPendingPostLikeDelta(postId));
+            result.add(postMapper.toPostBatchItem(post, authors.get(post.getAuthorId()), likeCount, commentCounts.getOrDefault(postId, 0L)));
+        }
+        return result;
+    }
+
+    /// member 서비스에는 단건 조회만 있으므로 캐시에 없는 작성자를 author-parallelism 개 작업으로 나눠 조회 (찾지 못한 작성자는 결과에서 빠짐)
+    private Map<Long, MemberProfileDto.Summary> loadAuthors(Collection<Long> memberIds, String token) {
+        List<List<Long>> groups = new ArrayList<>(authorParallelism);
+        int index = 0;
+        for (Long memberId : memberIds) {
+            if (groups.size() < authorParallelism) {
+                groups.add(new ArrayList<>());
+            }
+            groups.get(index++ % authorParallelism).add(memberId);
+        }
+
+        Map<Long, MemberProfileDto.Summary> loaded = new ConcurrentHashMap<>();
+        try (FanOut.Scope scope = fanOut.open()) {
+            for (List<Long> group : groups) {
+                scope.fork(() -> {
+                    for (Long memberId : group) {
+                        MemberProfileDto.Summary summary = loadAuthor(memberId, token);
+                        if (summary != null) {
+                            loaded.put(memberId, summary);
+                        }
+                    }
+                    return null;
+                });
+            }
+            scope.join();
+        } catch (FanOutDeadlineExceededException e) {
+            log.warn("Post author lookup exceeded deadline. loaded: {}/{}", loaded.size(), memberIds.size());
+        }
+        return new HashMap<>(loaded);
+    }
+
+    /// 작성자 한 명을 조회하지 못해도 나머지 글은 응답 (해당 글은 authorId 만 채움)
+    /// fork 한 스레드에서 호출하므로 요청 스레드의 HttpServletResponse 는 전달하지 않음
+    private MemberProfileDto.Summary loadAuthor(Long memberId, String token) {
+        try {
+            return memberFeignHelper.getMemberSummaryById(memberId, token, null);
+        } catch (Exception e) {
+            log.warn("Failed to load post author. memberId: {}", memberId, e);
+            return null;
+        }
+    }
+}
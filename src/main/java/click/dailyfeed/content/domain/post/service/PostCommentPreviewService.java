@@ -0,0 +1,92 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
+import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
+import click.dailyfeed.content.domain.comment.projection.CommentPreviewProjection;
+import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.content.domain.post.dto.PostCommentPreviewDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 + 최상위 댓글 미리보기 조회 (2단계 로딩)
+ * - 1단계 : 게시글 id 만 SQL 에서 페이징 (댓글과 JOIN FETCH 하면 행이 댓글 수만큼 늘어나고 페이징이 메모리에서 일어남)
+ * - 2단계 : 해당 페이지 글들의 최상위 댓글을 한 번의 IN 조회로, 글마다 comment-preview-size 건까지만 읽음
+ * - 글마다 comment-preview-size + 1 건을 읽어 더 있는지 판단, 전체 댓글 수는 post_stats 에서
+ */
+@Service
+public class PostCommentPreviewService {
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PostStatsService postStatsService;
+    private final PostMapper postMapper;
+    private final CommentMapper commentMapper;
+    private final int commentPreviewSize;
+
+    public PostCommentPreviewService(
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            PostStatsService postStatsService,
+            PostMapper postMapper,
+            CommentMapper commentMapper,
+            @Value("${dailyfeed.services.content.comment.post-preview-size:3}") int commentPreviewSize
+    ) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.postStatsService = postStatsService;
+        this.postMapper = postMapper;
+        this.commentMapper = commentMapper;
+        this.commentPreviewSize = Math.max(0, commentPreviewSize);
+    }
+
+    /// 주어진 글 중 삭제되지 않은 글을 최근 수정 순으로 page 번째 페이지만 조회
+    public List<PostCommentPreviewDto.Item> getPostsWithComments(Collection<Long> postIds, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<Long> pageIds = postRepository.findRecentlyUpdatedIdsIn(postIds, PageRequest.of(Math.max(0, page), pageSize));
+        if (pageIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Post> posts = postRepository.findAllByIdInAndNotDeleted(pageIds).stream()
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, List<CommentPreviewProjection>> previews = commentPreviewSize == 0 ? Map.of()
+                : commentRepository.findTopLevelPreviewsByPostIds(pageIds, commentPreviewSize + 1).stream()
+                        .collect(Collectors.groupingBy(CommentPreviewProjection::getPostId));
+        Map<Long, Long> commentCounts = new HashMap<>();
+        postStatsService.getCommentCounts(pageIds)
+                .forEach(count -> commentCounts.put(count.getPostId(), count.getCommentCount()));
+
+        List<PostCommentPreviewDto.Item> result = new ArrayList<>(pageIds.size());
+        for (Long postId : pageIds) {
+            Post post = posts.get(postId);
+            if (post == null) {
+                continue;
+            }
+            List<CommentPreviewProjection> rows = previews.getOrDefault(postId, List.of());
+            List<CommentDto.Comment> comments = rows.stream()
+                    .limit(commentPreviewSize)
+                    .map(commentMapper::toCommentPreviewItem)
+                    .toList();
+            result.add(PostCommentPreviewDto.Item.builder()
+                    .post(postMapper.toPostListItem(post, commentCounts.get(postId)))
+                    .comments(comments)
+                    .hasMoreComments(rows.size() > commentPreviewSize)
+                    .build());
+        }
+        return result;
+    }
+}
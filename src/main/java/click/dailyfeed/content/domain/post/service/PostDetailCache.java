@@ -0,0 +1,199 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.content.domain.post.dto.PostDetailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 게시글 상세 조회 구성 요소별 redis 캐시
+ * - 본문(body), 저장된 좋아요 수(like-count), 댓글 수(comment-count)를 각자 다른 키와 TTL 로 저장 (작성자 프로필은 MemberSummaryCache)
+ * - 조회는 세 키를 한 번의 MGET 으로 읽음
+ * - 본문은 수정/삭제 시, 좋아요 수는 증감분이 DB 에 반영(flush)될 때 제거. 댓글 수는 짧은 TTL 로만 갱신
+ * - 요청 트랜잭션 안에서 제거를 요청하면 커밋 이후에 제거 (커밋 전에 다른 요청이 이전 값을 다시 채우지 않도록)
+ * - 제거는 글별 version 을 올린 뒤 삭제하고, 원본에서 읽은 값은 캐시 조회 때 함께 읽은 version 이 그대로일 때만 저장 (MemberSummaryCache 와 같은 Lua 비교 + SET)
+ *   → 제거와 동시에 진행 중이던 조회가 제거 이전 값을 다시 써서 TTL 동안 남는 경우를 막음
+ * - version 을 읽지 못하면(redis 장애) 원본에서 읽은 값을 저장하지 않음
+ */
+@Slf4j
+@Component
+public class PostDetailCache {
+    private static final String KEY_PREFIX = "dailyfeed:content:post-detail:";
+    private static final String NO_VERSION = "0";
+
+    // KEYS[1] = 값, KEYS[2] = version / ARGV[1] = 캐시 조회 때 읽은 version, ARGV[2] = 값, ARGV[3] = ttl(ms)
+    private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[2]) or '0') == ARGV[1] then " +
+                    "redis.call('set', KEYS[1], ARGV[2], 'px', ARGV[3]) return 1 " +
+                    "else return 0 end",
+            Long.class);
+
+    // KEYS[1..ARGV[2]] = version, 나머지 KEYS = 값 / ARGV[1] = version ttl(ms), ARGV[2] = version key 수
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+            "local versions = tonumber(ARGV[2]) " +
+                    "for i = 1, versions do redis.call('incr', KEYS[i]) redis.call('pexpire', KEYS[i], ARGV[1]) end " +
+                    "local deleted = 0 " +
+                    "for i = versions + 1, #KEYS do deleted = deleted + redis.call('del', KEYS[i]) end " +
+                    "return deleted",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration bodyTtl;
+    private final Duration likeCountTtl;
+    private final Duration commentCountTtl;
+    private final Duration versionTtl;
+
+    public PostDetailCache(
+            StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${dailyfeed.services.content.post-detail.body-ttl-seconds:600}") long bodyTtlSeconds,
+            @Value("${dailyfeed.services.content.post-detail.like-count-ttl-seconds:60}") long likeCountTtlSeconds,
+            @Value("${dailyfeed.services.content.post-detail.comment-count-ttl-seconds:10}") long commentCountTtlSeconds
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.bodyTtl = Duration.ofSeconds(bodyTtlSeconds);
+        this.likeCountTtl = Duration.ofSeconds(likeCountTtlSeconds);
+        this.commentCountTtl = Duration.ofSeconds(commentCountTtlSeconds);
+        // version 은 진행 중인 조회보다 오래 남도록 가장 긴 TTL 동안 유지
+        this.versionTtl = Duration.ofSeconds(Math.max(bodyTtlSeconds, Math.max(likeCountTtlSeconds, commentCountTtlSeconds)));
+    }
+
+    /// 캐시에 있는 구성 요소만 채워서 반환 (없거나 redis 장애 시 null), version 도 같은 MGET 으로 읽음
+    public Snapshot read(Long postId) {
+        try {
+            List<String> values = redisTemplate.opsForValue().multiGet(
+                    List.of(bodyKey(postId), likeCountKey(postId), commentCountKey(postId), versionKey(postId)));
+            if (values == null) {
+                return Snapshot.EMPTY;
+            }
+            String version = values.get(3) != null ? values.get(3) : NO_VERSION;
+            return new Snapshot(parseBody(postId, values.get(0)), parseLong(values.get(1)), parseLong(values.get(2)), version);
+        } catch (Exception e) {
+            log.warn("Post detail cache read failed. postId: {}", postId, e);
+            return Snapshot.EMPTY;
+        }
+    }
+
+    /// version : read() 가 반환한 Snapshot 의 version (그 사이 제거되었거나 null 이면 저장하지 않음)
+    public void putBody(Long postId, PostDetailDto.Body body, String version) {
+        try {
+            put(postId, bodyKey(postId), objectMapper.writeValueAsString(body), bodyTtl, version);
+        } catch (Exception e) {
+            log.warn("Post detail cache write failed. postId: {}", postId, e);
+        }
+    }
+
+    public void putLikeCount(Long postId, long likeCount, String version) {
+        put(postId, likeCountKey(postId), String.valueOf(likeCount), likeCountTtl, version);
+    }
+
+    public void putCommentCount(Long postId, long commentCount, String version) {
+        put(postId, commentCountKey(postId), String.valueOf(commentCount), commentCountTtl, version);
+    }
+
+    public void evictBody(Long postId) {
+        evict(List.of(postId), List.of(bodyKey(postId)));
+    }
+
+    public void evictLikeCounts(Collection<Long> postIds) {
+        List<String> keys = new ArrayList<>(postIds.size());
+        postIds.forEach(postId -> keys.add(likeCountKey(postId)));
+        evict(postIds, keys);
+    }
+
+    public void evictAll(Long postId) {
+        evict(List.of(postId), List.of(bodyKey(postId), likeCountKey(postId), commentCountKey(postId)));
+    }
+
+    private void put(Long postId, String key, String value, Duration ttl, String version) {
+        if (version == null) {
+            return;
+        }
+        try {
+            Long stored = redisTemplate.execute(WRITE_SCRIPT, List.of(key, versionKey(postId)), version, value, String.valueOf(ttl.toMillis()));
+            if (Long.valueOf(0L).equals(stored)) {
+                log.debug("Post detail evicted while loading, skip caching. key: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("Post detail cache write failed. key: {}", key, e);
+        }
+    }
+
+    private void evict(Collection<Long> postIds, List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> scriptKeys = new ArrayList<>(postIds.size() + keys.size());
+        postIds.forEach(postId -> scriptKeys.add(versionKey(postId)));
+        scriptKeys.addAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(scriptKeys, postIds.size());
+                }
+            });
+            return;
+        }
+        delete(scriptKeys, postIds.size());
+    }
+
+    /// version 을 올린 뒤 값을 삭제 (한 번의 스크립트 호출)
+    private void delete(List<String> scriptKeys, int versionCount) {
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, scriptKeys, String.valueOf(versionTtl.toMillis()), String.valueOf(versionCount));
+        } catch (Exception e) {
+            log.warn("Post detail cache evict failed. keys: {}", scriptKeys, e);
+        }
+    }
+
+    private PostDetailDto.Body parseBody(Long postId, String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, PostDetailDto.Body.class);
+        } catch (Exception e) {
+            log.warn("Post detail cache body is unreadable. postId: {}", postId, e);
+            return null;
+        }
+    }
+
+    private Long parseLong(String value) {
+        return value != null ? Long.valueOf(value) : null;
+    }
+
+    private String bodyKey(Long postId) {
+        return KEY_PREFIX + postId + ":body";
+    }
+
+    private String likeCountKey(Long postId) {
+        return KEY_PREFIX + postId + ":like-count";
+    }
+
+    private String commentCountKey(Long postId) {
+        return KEY_PREFIX + postId + ":comment-count";
+    }
+
+    private String versionKey(Long postId) {
+        return KEY_PREFIX + postId + ":version";
+    }
+
+    /// 캐시에서 읽은 구성 요소 (없는 구성 요소는 null), version 은 redis 장애 시 null
+    public record Snapshot(PostDetailDto.Body body, Long likeCount, Long commentCount, String version) {
+        static final Snapshot EMPTY = new Snapshot(null, null, null, null);
+    }
+}
@@ -0,0 +1,120 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.code.domain.content.post.exception.PostNotFoundException;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.base.concurrent.FanOut;
+import click.dailyfeed.content.domain.like.service.LikeCountService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import click.dailyfeed.content.domain.post.dto.PostDetailDto;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시글 상세 조회
+ * - 본문/좋아요 수/댓글 수는 PostDetailCache 에서 한 번에 읽고, 작성자 프로필은 MemberSummaryCache 에서 읽음
+ * - 캐시에 없는 구성 요소만 원본(MySQL, post_stats, member 서비스)에서 병렬로 읽어 각자의 TTL 로 다시 저장
+ *   (캐시 조회 때 읽은 version 이 그대로일 때만 저장, 그 사이 수정/삭제로 제거되었으면 저장하지 않음)
+ * - 좋아요 수는 저장된 값에 이 pod 에서 아직 flush 되지 않은 증감분을 더해서 반환
+ * - 조회 1회는 인기 게시글 점수에 조회로 반영 (pod 메모리에 모았다가 주기적으로 반영하므로 조회 중 redis 호출 없음)
+ */
+@Service
+public class PostDetailService {
+    private static final String METRIC_NAME = "dailyfeed.content.post-detail.latency";
+
+    private final PostDetailCache postDetailCache;
+    private final MemberSummaryCache memberSummaryCache;
+    private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+    private final PostRankingService postRankingService;
+    private final LikeCountService likeCountService;
+    private final PostMapper postMapper;
+    private final MemberFeignHelper memberFeignHelper;
+    private final FanOut fanOut;
+
+    private final Timer hitTimer;
+    private final Timer missTimer;
+
+    public PostDetailService(
+            PostDetailCache postDetailCache,
+            MemberSummaryCache memberSummaryCache,
+            PostRepository postRepository,
+            PostStatsService postStatsService,
+            PostRankingService postRankingService,
+            LikeCountService likeCountService,
+            PostMapper postMapper,
+            MemberFeignHelper memberFeignHelper,
+            FanOut fanOut,
+            MeterRegistry meterRegistry
+    ) {
+        this.postDetailCache = postDetailCache;
+        this.memberSummaryCache = memberSummaryCache;
+        this.postRepository = postRepository;
+        this.postStatsService = postStatsService;
+        this.postRankingService = postRankingService;
+        this.likeCountService = likeCountService;
+        this.postMapper = postMapper;
+        this.memberFeignHelper = memberFeignHelper;
+        this.fanOut = fanOut;
+
+        this.hitTimer = Timer.builder(METRIC_NAME).tag("cache", "hit").publishPercentiles(0.5, 0.99).register(meterRegistry);
+        this.missTimer = Timer.builder(METRIC_NAME).tag("cache", "miss").publishPercentiles(0.5, 0.99).register(meterRegistry);
+    }
+
+    public PostDto.Post getPost(Long postId, String token, HttpServletResponse response) {
+        long startedAt = System.nanoTime();
+        PostDetailCache.Snapshot cached = postDetailCache.read(postId);
+
+        PostDetailDto.Body body;
+        MemberProfileDto.Summary author;
+        long storedLikeCount;
+        long commentCount;
+        try (FanOut.Scope scope = fanOut.open()) {
+            FanOut.Subtask<Long> likeCountTask = cached.likeCount() == null ? scope.fork(() -> loadLikeCount(postId, cached.version())) : null;
+            FanOut.Subtask<Long> commentCountTask = cached.commentCount() == null ? scope.fork(() -> loadCommentCount(postId, cached.version())) : null;
+
+            // 작성자는 본문의 authorId 가 있어야 조회할 수 있으므로 호출 스레드에서 순서대로
+            body = cached.body() != null ? cached.body() : loadBody(postId, cached.version());
+            author = memberSummaryCache.getOrLoad(body.getAuthorId(),
+                    () -> memberFeignHelper.getMemberSummaryById(body.getAuthorId(), token, response));
+
+            scope.join();
+            storedLikeCount = likeCountTask != null ? likeCountTask.get() : cached.likeCount();
+            commentCount = commentCountTask != null ? commentCountTask.get() : cached.commentCount();
+        }
+
+        long likeCount = Math.max(0L, storedLikeCount + likeCountService.getPendingPostLikeDelta(postId));
+        postRankingService.recordView(postId);
+
+        boolean hit = cached.body() != null && cached.likeCount() != null && cached.commentCount() != null;
+        (hit ? hitTimer : missTimer).record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        return postMapper.toPostDetail(body, author, likeCount, commentCount);
+    }
+
+    private PostDetailDto.Body loadBody(Long postId, String version) {
+        PostDetailDto.Body body = PostDetailDto.Body.of(postRepository.findByIdAndNotDeleted(postId)
+                .orElseThrow(PostNotFoundException::new));
+        postDetailCache.putBody(postId, body, version);
+        return body;
+    }
+
+    private Long loadLikeCount(Long postId, String version) {
+        long likeCount = postRepository.findLikeCountByIdAndNotDeleted(postId)
+                .orElseThrow(PostNotFoundException::new);
+        postDetailCache.putLikeCount(postId, likeCount, version);
+        return likeCount;
+    }
+
+    private Long loadCommentCount(Long postId, String version) {
+        long commentCount = postStatsService.getCommentCount(postId);
+        postDetailCache.putCommentCount(postId, commentCount, version);
+        return commentCount;
+    }
+}
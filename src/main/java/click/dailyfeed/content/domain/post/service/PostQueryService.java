@@ -0,0 +1,86 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.content.domain.base.pagination.ScrollCursor;
+import click.dailyfeed.content.domain.base.pagination.ScrollSlice;
+import click.dailyfeed.content.domain.post.document.PostStatsDocument;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 목록 조회 (커서 기반)
+ * - offset/count 대신 (createdAt, id) keyset 으로 조회하므로 스크롤이 깊어져도 페이지당 비용이 일정
+ * - 최근 활동 순 목록은 post_stats 의 (last_activity_at, post_pk) keyset 으로 조회
+ */
+@RequiredArgsConstructor
+@Service
+public class PostQueryService {
+    private static final int MAX_SCROLL_SIZE = 100;
+
+    private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+    private final PostMapper postMapper;
+
+    public ScrollSlice<PostDto.Post> scrollRecentPosts(String cursorToken, int size) {
+        ScrollCursor cursor = ScrollCursor.decode(cursorToken);
+        return toScrollSlice(postRepository.findRecentPostsAfter(cursor.createdAt(), cursor.id(), pageOf(size)));
+    }
+
+    public ScrollSlice<PostDto.Post> scrollPostsByAuthors(List<Long> authorIds, String cursorToken, int size) {
+        ScrollCursor cursor = ScrollCursor.decode(cursorToken);
+        return toScrollSlice(postRepository.findByAuthorIdsAndNotDeletedAfter(authorIds, cursor.createdAt(), cursor.id(), pageOf(size)));
+    }
+
+    public ScrollSlice<PostDto.Post> scrollPostsBetween(LocalDateTime startDate, LocalDateTime endDate, String cursorToken, int size) {
+        ScrollCursor cursor = ScrollCursor.decode(cursorToken);
+        return toScrollSlice(postRepository.findByCreatedDateBetweenAndNotDeletedAfter(startDate, endDate, cursor.createdAt(), cursor.id(), pageOf(size)));
+    }
+
+    public ScrollSlice<PostDto.Post> scrollRecentlyActivePosts(String cursorToken, int size) {
+        ScrollCursor cursor = ScrollCursor.decode(cursorToken);
+        Slice<PostStatsDocument> slice = postStatsService.scrollByLastActivity(cursor, pageOf(size).getPageSize());
+
+        List<Long> postIds = slice.getContent().stream().map(PostStatsDocument::getPostPk).toList();
+        Map<Long, Post> posts = postRepository.findAllById(postIds).stream()
+                .filter(post -> !Boolean.TRUE.equals(post.getIsDeleted()))
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+
+        List<PostDto.Post> content = slice.getContent().stream()
+                .filter(stats -> posts.containsKey(stats.getPostPk()))
+                .map(stats -> postMapper.toPostListItem(posts.get(stats.getPostPk()), stats.getCommentCount()))
+                .toList();
+
+        return ScrollSlice.of(slice, content, stats -> new ScrollCursor(stats.getLastActivityAt(), stats.getPostPk()));
+    }
+
+    private ScrollSlice<PostDto.Post> toScrollSlice(Slice<Post> slice) {
+        List<Long> postIds = slice.getContent().stream().map(Post::getId).toList();
+        Map<Long, Long> commentCounts = postIds.isEmpty()
+                ? Map.of()
+                : postStatsService.getCommentCounts(postIds).stream()
+                        .collect(Collectors.toMap(PostStatsDto.CommentCount::getPostId, PostStatsDto.CommentCount::getCommentCount));
+
+        List<PostDto.Post> content = slice.getContent().stream()
+                .map(post -> postMapper.toPostListItem(post, commentCounts.get(post.getId())))
+                .toList();
+
+        return ScrollSlice.of(slice, content, post -> new ScrollCursor(post.getCreatedAt(), post.getId()));
+    }
+
+    private Pageable pageOf(int size) {
+        return PageRequest.of(0, Math.max(1, Math.min(size, MAX_SCROLL_SIZE)));
+    }
+}
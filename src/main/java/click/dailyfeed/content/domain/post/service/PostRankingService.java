@@ -0,0 +1,251 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.content.domain.base.lock.RedisLocks;
+import click.dailyfeed.content.domain.like.counter.LikeCounter;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 랭킹 (Redis sorted set)
+ * - ORDER BY (viewCount + likeCount * 2) 는 인덱스로 처리할 수 없어 요청마다 posts 전체를 정렬하므로, 점수를 미리 쌓아두고 범위 조회로 대체
+ * - 좋아요/조회/댓글 증감을 1시간 단위 버킷(ZINCRBY)에 누적하고, 조회 시 최근 window-hours 개 버킷을 반감기 가중치로 합산(ZUNIONSTORE)
+ * - 합산 결과는 top-k 개만 남겨 refresh-seconds 동안 재사용하고, 버킷도 합산 시점에 상위 bucket-capacity 개로 잘라서 크기를 제한
+ * - 합산 여부는 별도 마커 key 로 판단 (합산 결과가 비면 ZUNIONSTORE 가 결과 key 를 지우므로, 결과 key 유무로 판단하면 요청마다 다시 합산하게 됨)
+ * - 마커는 합산 전에 SET NX 로 잡아서 여러 pod/요청 중 하나만 합산하고, 나머지는 이전 합산 결과를 읽음 (결과는 마커보다 오래 유지)
+ * - 버킷 증감(ZINCRBY + EXPIRE), 삭제(버킷별 ZREM)는 각각 한 번의 파이프라인으로 처리
+ * - 조회는 상세 조회마다 redis 를 호출하지 않도록 pod 메모리에 글별로 모았다가 view-flush-interval-ms 주기로 한 번의 파이프라인으로 반영
+ */
+@Slf4j
+@Service
+public class PostRankingService {
+    private static final String BUCKET_KEY_PREFIX = "dailyfeed:content:ranking:posts:";
+    private static final String POPULAR_KEY = "dailyfeed:content:ranking:posts:popular";
+    private static final String REFRESHED_KEY = POPULAR_KEY + ":refreshed";
+    private static final long HOUR_SECONDS = Duration.ofHours(1).toSeconds();
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+    private final PostMapper postMapper;
+    private final int windowHours;
+    private final double halfLifeHours;
+    private final int topK;
+    private final int bucketCapacity;
+    private final Duration refreshInterval;
+    private final double likeWeight;
+    private final double viewWeight;
+    private final double commentWeight;
+
+    private final LikeCounter pendingViews = new LikeCounter();
+
+    public PostRankingService(
+            StringRedisTemplate redisTemplate,
+            PostRepository postRepository,
+            PostStatsService postStatsService,
+            PostMapper postMapper,
+            @Value("${dailyfeed.services.content.post-ranking.window-hours:24}") int windowHours,
+            @Value("${dailyfeed.services.content.post-ranking.half-life-hours:6}") double halfLifeHours,
+            @Value("${dailyfeed.services.content.post-ranking.top-k:1000}") int topK,
+            @Value("${dailyfeed.services.content.post-ranking.bucket-capacity:10000}") int bucketCapacity,
+            @Value("${dailyfeed.services.content.post-ranking.refresh-seconds:60}") long refreshSeconds,
+            @Value("${dailyfeed.services.content.post-ranking.like-weight:2}") double likeWeight,
+            @Value("${dailyfeed.services.content.post-ranking.view-weight:1}") double viewWeight,
+            @Value("${dailyfeed.services.content.post-ranking.comment-weight:3}") double commentWeight
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.postRepository = postRepository;
+        this.postStatsService = postStatsService;
+        this.postMapper = postMapper;
+        this.windowHours = Math.max(1, windowHours);
+        this.halfLifeHours = halfLifeHours;
+        this.topK = topK;
+        this.bucketCapacity = bucketCapacity;
+        this.refreshInterval = Duration.ofSeconds(refreshSeconds);
+        this.likeWeight = likeWeight;
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    public void recordLike(Long postPk, long delta) {
+        record(postPk, likeWeight * delta);
+    }
+
+    /// 호출 스레드에서는 메모리 카운터만 올림 (flushViews 에서 반영)
+    public void recordView(Long postPk) {
+        if (postPk == null || viewWeight == 0) {
+            return;
+        }
+        pendingViews.add(postPk, 1L);
+    }
+
+    public void recordComment(Long postPk, long delta) {
+        record(postPk, commentWeight * delta);
+    }
+
+    /// 모아둔 조회 수를 현재 버킷에 반영 (실패한 주기의 조회 수는 버림, 랭킹 점수는 근사값이므로 재시도하지 않음)
+    @Scheduled(
+            fixedDelayString = "${dailyfeed.services.content.post-ranking.view-flush-interval-ms:1000}",
+            initialDelayString = "${dailyfeed.services.content.post-ranking.view-flush-interval-ms:1000}"
+    )
+    public void flushViews() {
+        Map<Long, Long> views = pendingViews.drain();
+        if (views.isEmpty()) {
+            return;
+        }
+        try {
+            incrementCurrentBucket(views, count -> viewWeight * count);
+        } catch (Exception e) {
+            log.warn("Post ranking view flush failed. posts: {}", views.size(), e);
+        }
+    }
+
+    @PreDestroy
+    public void flushViewsOnShutdown() {
+        flushViews();
+    }
+
+    /// 삭제된 글은 모든 버킷과 합산 결과에서 제거
+    public void remove(Long postPk) {
+        try {
+            String member = String.valueOf(postPk);
+            long currentHour = currentHour();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (int age = 0; age < windowHours; age++) {
+                    stringConnection.zRem(bucketKey(currentHour - age), member);
+                }
+                stringConnection.zRem(POPULAR_KEY, member);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Post ranking remove failed. postPk: {}", postPk, e);
+        }
+    }
+
+    /// 인기 게시글 (점수 내림차순, top-k 범위 안에서만 페이지 조회)
+    public List<PostDto.Post> getPopularPosts(int page, int size) {
+        int pageSize = Math.max(1, size);
+        long start = (long) Math.max(0, page) * pageSize;
+        if (start >= topK) {
+            return List.of();
+        }
+
+        Set<String> members;
+        try {
+            refreshIfExpired();
+            members = redisTemplate.opsForZSet().reverseRange(POPULAR_KEY, start, Math.min(start + pageSize, topK) - 1);
+        } catch (Exception e) {
+            log.warn("Post ranking read failed. page: {}, size: {}", page, size, e);
+            return List.of();
+        }
+        if (members == null || members.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> postPks = members.stream().map(Long::valueOf).collect(Collectors.toCollection(LinkedHashSet::new));
+        Map<Long, Post> posts = postRepository.findAllById(postPks).stream()
+                .filter(post -> !Boolean.TRUE.equals(post.getIsDeleted()))
+                .collect(Collectors.toMap(Post::getId, Function.identity()));
+        Map<Long, Long> commentCounts = postStatsService.getCommentCounts(posts.keySet()).stream()
+                .collect(Collectors.toMap(PostStatsDto.CommentCount::getPostId, PostStatsDto.CommentCount::getCommentCount));
+
+        return postPks.stream()
+                .map(posts::get)
+                .filter(Objects::nonNull)
+                .map(post -> postMapper.toPostListItem(post, commentCounts.get(post.getId())))
+                .toList();
+    }
+
+    /// 마커를 잡은 요청만 합산 (결과가 비어 있어도 refresh-seconds 동안은 다시 합산하지 않음), 합산에 실패하면 마커를 풀어서 다음 요청이 다시 시도
+    private void refreshIfExpired() {
+        String marker = String.valueOf(Instant.now().getEpochSecond());
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REFRESHED_KEY, marker, refreshInterval))) {
+            return;
+        }
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            RedisLocks.release(redisTemplate, REFRESHED_KEY, marker);
+            throw e;
+        }
+    }
+
+    /// 최근 버킷 합산 : 나이가 age 시간인 버킷에 0.5^(age / half-life-hours) 가중치
+    public void refresh() {
+        long currentHour = currentHour();
+        ZSetOperations<String, String> zSetOps = redisTemplate.opsForZSet();
+
+        List<String> keys = new ArrayList<>(windowHours);
+        double[] weights = new double[windowHours];
+        for (int age = 0; age < windowHours; age++) {
+            String key = bucketKey(currentHour - age);
+            zSetOps.removeRange(key, 0, -(bucketCapacity + 1L));
+            keys.add(key);
+            weights[age] = Math.pow(0.5, age / halfLifeHours);
+        }
+
+        zSetOps.unionAndStore(keys.get(0), keys.subList(1, keys.size()), POPULAR_KEY, Aggregate.SUM, Weights.of(weights));
+        // 취소(음수 증감)로 0 이하가 된 글과 top-k 밖의 글 제거
+        zSetOps.removeRangeByScore(POPULAR_KEY, Double.NEGATIVE_INFINITY, 0);
+        zSetOps.removeRange(POPULAR_KEY, 0, -(topK + 1L));
+        // 마커가 만료된 뒤 다른 요청이 다시 합산하는 동안에도 이전 결과를 읽을 수 있도록 마커보다 오래 유지
+        redisTemplate.expire(POPULAR_KEY, refreshInterval.multipliedBy(2));
+    }
+
+    private void record(Long postPk, double score) {
+        if (postPk == null || score == 0) {
+            return;
+        }
+        try {
+            incrementCurrentBucket(Map.of(postPk, 1L), count -> score * count);
+        } catch (Exception e) {
+            log.warn("Post ranking update failed. postPk: {}, score: {}", postPk, score, e);
+        }
+    }
+
+    /// 현재 버킷에 글별 점수를 더하고 만료 시간을 갱신 (한 번의 파이프라인)
+    private void incrementCurrentBucket(Map<Long, Long> counts, LongFunction<Double> toScore) {
+        String key = bucketKey(currentHour());
+        long ttlSeconds = Duration.ofHours(windowHours + 1L).toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            counts.forEach((postPk, count) -> stringConnection.zIncrBy(key, toScore.apply(count), String.valueOf(postPk)));
+            stringConnection.expire(key, ttlSeconds);
+            return null;
+        });
+    }
+
+    private static long currentHour() {
+        return Instant.now().getEpochSecond() / HOUR_SECONDS;
+    }
+
+    private static String bucketKey(long hour) {
+        return BUCKET_KEY_PREFIX + hour;
+    }
+}
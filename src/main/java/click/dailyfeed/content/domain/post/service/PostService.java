@@ -7,11 +7,15 @@ import click.dailyfeed.code.domain.content.post.exception.*;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.domain.timeline.statistics.TimelineStatisticsDto;
-import click.dailyfeed.code.global.feign.exception.FeignApiCommunicationFailException;
-import click.dailyfeed.code.global.kafka.exception.KafkaMessageKeyCreationException;
-import click.dailyfeed.code.global.kafka.exception.KafkaNetworkErrorException;
 import click.dailyfeed.code.global.system.type.PublishType;
-import click.dailyfeed.code.global.web.excecption.DailyfeedWebTooManyRequestException;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
+import click.dailyfeed.content.domain.base.concurrent.FanOut;
+import click.dailyfeed.content.domain.base.transaction.AfterCommit;
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
+import click.dailyfeed.content.domain.like.service.LikeCountService;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.document.PostDocument;
 import click.dailyfeed.content.domain.post.document.PostLikeDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
@@ -19,15 +23,12 @@ import click.dailyfeed.content.domain.post.mapper.PostMapper;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostLikeMongoRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostMongoRepository;
-import click.dailyfeed.deadletter.domain.deadletter.service.FeignDeadLetterService;
-import click.dailyfeed.deadletter.domain.deadletter.service.KafkaPublisherDeadLetterService;
-import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.feign.domain.timeline.TimelineFeignHelper;
-import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,40 +41,49 @@ public class PostService {
     private final PostRepository postRepository;
     private final PostMongoRepository postMongoRepository;
     private final PostLikeMongoRepository postLikeMongoRepository;
-
-    private final FeignDeadLetterService feignDeadLetterService;
-    private final KafkaPublisherDeadLetterService kafkaPublisherDeadLetterService;
+    private final LikeCountService likeCountService;
+    private final LikeMembershipService likeMembershipService;
+    private final LikedByMeService likedByMeService;
+    private final PostRankingService postRankingService;
+    private final PostStatsService postStatsService;
+    private final PostDetailCache postDetailCache;
 
     private final PostMapper postMapper;
 
     private final TimelineFeignHelper timelineFeignHelper;
-    private final MemberActivityFeignHelper memberActivityFeignHelper;
-    private final MemberActivityKafkaPublisher memberActivityKafkaPublisher;
+    private final QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+    private final MemberActivityOutboxService memberActivityOutboxService;
+    // 클래스의 @Transactional 은 mongodb 용이므로, MySQL 쓰기와 outbox 등록은 이 트랜잭션으로 함께 커밋
+    private final JpaTransactions jpaTransactions;
+    private final FanOut fanOut;
 
     @Value("${dailyfeed.services.content.publish-type.post-service}")
     private String publishType;
 
     // 게시글 작성
     public PostDto.Post createPost(MemberProfileDto.Summary author, PostDto.CreatePostRequest request, String token, HttpServletResponse response) {
+        return jpaTransactions.execute(() -> {
 
-        // 작성자 정보 확인
-        Long authorId = author.getId();
+            // 작성자 정보 확인
+            Long authorId = author.getId();
 
-        // 본문 저장 (제목 기능을 그대로 둘지 아직 결정을 못해서 일단은 첫 문장만 떼어두기로 (요약 등..))
-        Post post = Post.newPost("", request.getContent(), authorId);
-        Post savedPost = postRepository.save(post);
+            // 본문 저장 (제목 기능을 그대로 둘지 아직 결정을 못해서 일단은 첫 문장만 떼어두기로 (요약 등..))
+            Post post = Post.newPost("", request.getContent(), authorId);
+            Post savedPost = postRepository.save(post);
 
-        // mongodb 에 본문 내용 저장
-        insertNewDocument(savedPost);
+            // mongodb 에 본문 내용 저장
+            insertNewDocument(savedPost);
+            postStatsService.recordNewPost(savedPost.getId(), savedPost.getCreatedAt());
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishPostEvent(savedPost, MemberActivityType.POST_CREATE);
-        }
-        else{ /// feign 을 사용할 경우 (케이스 B)
-            feignPublishPostEvent(savedPost, MemberActivityType.POST_CREATE, token, response);
-        }
-        // return
-        return postMapper.fromCreatedPost(savedPost, author);
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishPostEvent(savedPost, MemberActivityType.POST_CREATE);
+            }
+            else{ /// feign 을 사용할 경우 (케이스 B)
+                feignPublishPostEvent(savedPost, MemberActivityType.POST_CREATE, token, response);
+            }
+            // return
+            return postMapper.fromCreatedPost(savedPost, author);
+        });
     }
 
     public void insertNewDocument(Post post){
@@ -84,66 +94,81 @@ public class PostService {
 
     // 게시글 수정
     public PostDto.Post updatePost(MemberProfileDto.Summary author, Long postId, PostDto.UpdatePostRequest request, String token, HttpServletResponse response) {
-        Post post = postRepository.findByIdAndNotDeleted(postId)
-                .orElseThrow(PostNotFoundException::new);
+        return jpaTransactions.execute(() -> {
+            Post post = postRepository.findByIdAndNotDeleted(postId)
+                    .orElseThrow(PostNotFoundException::new);
 
-        // 작성자 권한 확인
-        if (!post.isAuthor(author.getId())) {
-            throw new PostUpdateForbiddenException();
-        }
+            // 작성자 권한 확인
+            if (!post.isAuthor(author.getId())) {
+                throw new PostUpdateForbiddenException();
+            }
 
-        // 수정 요청 반영
-        post.updatePost(request.getTitle(), request.getContent());
+            // 수정 요청 반영
+            post.updatePost(request.getTitle(), request.getContent());
 
-        // mongodb에 본문 내용 저장
-        updateDocument(post);
+            // timeline 통계 조회(HTTP)와 mongodb 본문 저장은 서로 독립적이므로 병렬로 수행 (mongodb 쓰기는 트랜잭션 세션이 묶인 요청 스레드에서)
+            // deadline 을 넘기면 FanOutDeadlineExceededException 으로 두 트랜잭션 모두 롤백 (PostControllerAdvice 에서 504)
+            TimelineStatisticsDto.PostItemCounts postItemCounts;
+            try (FanOut.Scope scope = fanOut.open()) {
+                // fork 한 스레드에서 호출하므로 요청 스레드의 HttpServletResponse 는 전달하지 않음
+                FanOut.Subtask<TimelineStatisticsDto.PostItemCounts> itemCounts =
+                        scope.fork(() -> timelineFeignHelper.getPostItemCounts(post.getId(), token, null));
 
-        TimelineStatisticsDto.PostItemCounts postItemCounts = timelineFeignHelper.getPostItemCounts(post.getId(), token, response);
+                // mongodb에 본문 내용 저장
+                updateDocument(post);
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishPostEvent(post, MemberActivityType.POST_UPDATE);
-        } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishPostEvent(post, MemberActivityType.POST_UPDATE, token, response);
-        }
+                scope.join();
+                postItemCounts = itemCounts.get();
+            }
+            postDetailCache.evictBody(post.getId());
 
-        return postMapper.fromUpdatedPost(post, author, postItemCounts);
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishPostEvent(post, MemberActivityType.POST_UPDATE);
+            } else { /// feign 을 사용할 경우 (케이스 B)
+                feignPublishPostEvent(post, MemberActivityType.POST_UPDATE, token, response);
+            }
+
+            return postMapper.fromUpdatedPost(post, author, postItemCounts);
+        });
     }
 
+    /// 현재 버전 soft delete + 새 버전 저장을 한 번에 수행 (현재 버전이 없으면 트랜잭션 롤백으로 새 버전 저장도 취소됨)
     public void updateDocument(Post post){
-        PostDocument oldDocument = postMongoRepository
-                .findByPostPkAndIsDeleted(post.getId(), Boolean.FALSE)
-                .orElseThrow(PostNotFoundException::new);
-
-        oldDocument.softDelete();
-        postMongoRepository.save(oldDocument);
-        PostDocument updatedPost = PostDocument.newUpdatedPost(oldDocument, post.getUpdatedAt());
+        PostDocument updatedPost = PostDocument.newUpdatedPost(post.getId(), post.getTitle(), post.getContent(), post.getCreatedAt(), post.getUpdatedAt());
 
-        postMongoRepository.save(updatedPost);
+        if (postMongoRepository.replaceLiveVersion(updatedPost) == 0) {
+            throw new PostNotFoundException();
+        }
     }
 
     // 게시글 삭제 (소프트 삭제)
     public Boolean deletePost(MemberDto.Member author, Long postId, String token, HttpServletResponse response) {
-        Post post = postRepository.findByIdAndNotDeleted(postId)
-                .orElseThrow(PostNotFoundException::new);
+        return jpaTransactions.execute(() -> {
+            Post post = postRepository.findByIdAndNotDeleted(postId)
+                    .orElseThrow(PostNotFoundException::new);
 
-        // 작성자 권한 확인
-        if (!post.isAuthor(author.getId())) {
-            throw new PostDeleteForbiddenException();
-        }
+            // 작성자 권한 확인
+            if (!post.isAuthor(author.getId())) {
+                throw new PostDeleteForbiddenException();
+            }
 
-        // 관계형 데이터베이스에 데이터
-        postRepository.softDeleteById(postId);
+            // 관계형 데이터베이스에 데이터
+            postRepository.softDeleteById(postId);
 
-        // mongodb
-        deletePostDocument(post);
+            // mongodb
+            deletePostDocument(post);
+            postStatsService.clearActivity(post.getId());
+            postRankingService.remove(post.getId());
+            postDetailCache.evictAll(post.getId());
 
-        if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishPostEvent(post, MemberActivityType.POST_DELETE);
-        } else { /// feign 을 사용할 경우 (케이스 B)
-            feignPublishPostEvent(post, MemberActivityType.POST_DELETE, token, response);
-        }
+            if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
+                kafkaPublishPostEvent(post, MemberActivityType.POST_DELETE);
+            } else { /// feign 을 사용할 경우 (케이스 B)
+                feignPublishPostEvent(post, MemberActivityType.POST_DELETE, token, response);
+            }
 
-        return Boolean.TRUE;
+            return Boolean.TRUE;
+        });
     }
 
     public void deletePostDocument(Post post){
@@ -152,49 +177,22 @@ public class PostService {
                 .orElseThrow(PostNotFoundException::new);
 
         oldDocument.softDelete();
+        postMongoRepository.save(oldDocument);
     }
 
     /**
-     * 게시글 작성/수정/삭제 기록 이벤트 kafka 요청
+     * 게시글 작성/수정/삭제 기록 이벤트 kafka 요청 (outbox 에 기록, 발행은 MemberActivityOutboxRelay)
      */
     public void kafkaPublishPostEvent(Post post, MemberActivityType activityType){
-        try {
-            // 멤버 활동 기록 조회를 위한 활동 기록 이벤트 발행
-            memberActivityKafkaPublisher.publishPostCUDEvent(post.getAuthorId(), post.getId(), activityType);
-        } catch (KafkaMessageKeyCreationException e){
-            throw new KafkaMessageKeyCreationException();
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e){
-            MemberActivityDto.PostActivityRequest postActivityRequest = MemberActivityDto.PostActivityRequest
-                    .builder()
-                    .memberId(post.getAuthorId()).postId(post.getId()).activityType(activityType)
-                    .build();
-
-            try {
-                kafkaPublisherDeadLetterService.createPostActivityDeadLetter(postActivityRequest);
-            } catch (Exception e1){
-                throw new KafkaNetworkErrorException();
-            }
-        }
+        memberActivityOutboxService.enqueuePostEvent(post.getAuthorId(), post.getId(), activityType);
     }
 
     /**
-     * 게시글 작성/수정/삭제 기록 이벤트 Feign 요청
+     * 게시글 작성/수정/삭제 기록 이벤트 Feign 요청 (발행 큐에 넣고 바로 반환)
      */
     public void feignPublishPostEvent(Post post, MemberActivityType activityType, String token, HttpServletResponse response){
         MemberActivityDto.PostActivityRequest feignRequest = postMapper.postActivityFeignRequest(post.getAuthorId(), post.getId(), activityType);
-        try{
-            memberActivityFeignHelper.createPostsMemberActivity(feignRequest, token, response);
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e){
-            try{
-                feignDeadLetterService.createPostActivityDeadLetter(feignRequest);
-            } catch (Exception e1) {
-                throw new FeignApiCommunicationFailException();
-            }
-        }
+        queuedMemberActivityFeignPublisher.publishPostActivity(feignRequest, token);
     }
 
     // 게시글 좋아요 증가
@@ -203,21 +201,29 @@ public class PostService {
         Post post = postRepository.findByIdAndNotDeleted(postId)
                 .orElseThrow(PostNotFoundException::new);
 
-        PostLikeDocument existDocument = postLikeMongoRepository.findByPostPkAndMemberId(post.getId(), member.getId());
-        if (existDocument != null) {
-            throw new PostLikeAlreadyExistsException();
-        }
-
         PostLikeDocument postLikeDocument = PostLikeDocument.newPostLikeBuilder()
                 .postPk(post.getId())
                 .memberId(member.getId())
                 .build();
 
-        postLikeMongoRepository.save(postLikeDocument);
+        // 중복 좋아요는 unique 인덱스 (post_pk, member_id) 로 거절
+        try {
+            postLikeMongoRepository.save(postLikeDocument);
+        } catch (DuplicateKeyException e) {
+            throw new PostLikeAlreadyExistsException();
+        }
+        // 좋아요 수/필터/캐시/랭킹은 mongodb 커밋 이후에 반영 (커밋이 실패하면 되돌릴 방법이 없으므로)
+        AfterCommit.run(() -> {
+            likeMembershipService.recordPostLike(post.getId(), member.getId());
+            likedByMeService.updatePostLiked(member.getId(), post.getId(), true);
+            likeCountService.incrementPostLikeCount(post.getId());
+            postRankingService.recordLike(post.getId(), 1L);
+        });
 
         // 멤버 활동 기록 조회를 위한 활동 기록 이벤트 발행
+        // 좋아요는 mongodb 에만 쓰므로 outbox 등록(MySQL)은 mongodb 커밋 이후에 (feign 발행 큐는 자체적으로 커밋 이후에 넣음)
         if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishPostLikeEvent(member, post, MemberActivityType.LIKE_POST);
+            AfterCommit.run(() -> kafkaPublishPostLikeEvent(member, post, MemberActivityType.LIKE_POST));
         } else { /// feign 을 사용할 경우 (케이스 B)
             feignPublishPostLikeEvent(post, MemberActivityType.LIKE_POST, token, response);
         }
@@ -231,14 +237,23 @@ public class PostService {
         Post post = postRepository.findByIdAndNotDeleted(postId)
                 .orElseThrow(PostNotFoundException::new);
 
+        if (!likeMembershipService.mightHaveLikedPost(post.getId(), member.getId())) {
+            throw new PostLikeCancelAlreadyCommittedException();
+        }
+
         PostLikeDocument existDocument = postLikeMongoRepository.findByPostPkAndMemberId(post.getId(), member.getId());
         if (existDocument == null) {
             throw new PostLikeCancelAlreadyCommittedException();
         }
         postLikeMongoRepository.deleteById(existDocument.getId());
+        AfterCommit.run(() -> {
+            likedByMeService.updatePostLiked(member.getId(), post.getId(), false);
+            likeCountService.decrementPostLikeCount(post.getId());
+            postRankingService.recordLike(post.getId(), -1L);
+        });
 
         if (PublishType.KAFKA.getCode().equals(publishType)) { /// kafka 를 사용할 경우 (케이스 A)
-            kafkaPublishPostLikeEvent(member, post, MemberActivityType.LIKE_POST_CANCEL);
+            AfterCommit.run(() -> kafkaPublishPostLikeEvent(member, post, MemberActivityType.LIKE_POST_CANCEL));
         } else { /// feign 을 사용할 경우 (케이스 B)
             feignPublishPostLikeEvent(post, MemberActivityType.LIKE_POST_CANCEL, token, response);
         }
@@ -247,45 +262,17 @@ public class PostService {
     }
 
     /**
-     * 게시글 좋아요 기록 이벤트 kafka 요청
+     * 게시글 좋아요 기록 이벤트 kafka 요청 (outbox 에 기록, 발행은 MemberActivityOutboxRelay)
      */
     public void kafkaPublishPostLikeEvent(MemberDto.Member member, Post post, MemberActivityType activityType){
-        try {
-            // 멤버 활동 기록 조회를 위한 활동 기록 이벤트 발행
-            memberActivityKafkaPublisher.publishPostLikeEvent(member.getId(), post.getId(), activityType);
-        }
-        catch (KafkaMessageKeyCreationException e){
-            throw new KafkaMessageKeyCreationException();
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e){
-            MemberActivityDto.PostLikeActivityRequest activityRequest = MemberActivityDto.PostLikeActivityRequest
-                    .builder()
-                    .memberId(post.getAuthorId()).postId(post.getId()).activityType(activityType)
-                    .build();
-            try {
-                kafkaPublisherDeadLetterService.createPostLikeActivityDeadLetter(activityRequest);
-            } catch (Exception e1) {
-                throw new KafkaNetworkErrorException();
-            }
-        }
+        memberActivityOutboxService.enqueuePostLikeEvent(member.getId(), post.getId(), activityType);
     }
 
     /**
-     * 게시글 좋아요 기록 이벤트 Feign 요청
+     * 게시글 좋아요 기록 이벤트 Feign 요청 (발행 큐에 넣고 바로 반환)
      */
     public void feignPublishPostLikeEvent(Post post, MemberActivityType activityType, String token, HttpServletResponse response){
         MemberActivityDto.PostLikeActivityRequest feignRequest = postMapper.postLikeActivityFeignRequest(post.getAuthorId(), post.getId(), activityType);
-        try {
-            memberActivityFeignHelper.createPostLikeMemberActivity(feignRequest, token, response);
-        } catch (DailyfeedWebTooManyRequestException e){
-            throw new DailyfeedWebTooManyRequestException();
-        } catch (Exception e){
-            try {
-                feignDeadLetterService.createPostLikeActivityDeadLetter(feignRequest);
-            } catch (Exception e1) {
-                throw new FeignApiCommunicationFailException();
-            }
-        }
+        queuedMemberActivityFeignPublisher.publishPostLikeActivity(feignRequest, token);
     }
 }
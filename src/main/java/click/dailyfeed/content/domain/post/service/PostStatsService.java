@@ -0,0 +1,321 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.content.domain.base.lock.RedisLocks;
+import click.dailyfeed.content.domain.base.pagination.ScrollCursor;
+import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.content.domain.post.document.PostStatsDocument;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 글 별 댓글 수 (post_stats.comment_count), 마지막 활동 시각 (post_stats.last_activity_at)
+ * - 댓글 작성/대댓글 작성/삭제 시 $inc 로 증감하고, 조회는 post_pk 기준 단건/다건 조회로 처리 (댓글 컬렉션 전체 $group 없음)
+ * - 글 작성/댓글 작성 시 last_activity_at 을 $max 로 갱신해서, 최근 활동 순 목록을 posts/comments 조인 정렬 대신 인덱스 범위 조회로 처리
+ * - 증감이 누락되거나 중복된 경우를 위해, 주기적으로 MySQL 의 댓글 수/최근 댓글 시각을 기준으로 어긋난 값만 바로잡음
+ * - last_activity_at 도입 이전 글이 첫 재계산 전까지 최근 활동 목록에서 빠지지 않도록, 기동 시 완료 표시가 없으면 같은 lock 으로 한 번 재계산
+ * - 삭제된 글은 comment_count/last_activity_at 을 지우고, 댓글 많은 순 목록은 MySQL 기준으로 한 번 더 걸러서 응답
+ */
+@Slf4j
+@Service
+public class PostStatsService {
+    private static final String RECONCILE_LOCK_KEY = "dailyfeed:content:post-stats:reconcile-lock";
+    private static final Duration RECONCILE_LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final String ACTIVITY_BACKFILLED_KEY = "dailyfeed:content:post-stats:last-activity-backfilled";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final MongoTemplate mongoTemplate;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int reconcileBatchSize;
+
+    public PostStatsService(
+            MongoTemplate mongoTemplate,
+            PostRepository postRepository,
+            CommentRepository commentRepository,
+            StringRedisTemplate redisTemplate,
+            @Value("${dailyfeed.services.content.post-stats.reconcile-batch-size:500}") int reconcileBatchSize
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.redisTemplate = redisTemplate;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    public void incrementCommentCount(Long postPk, long delta) {
+        if (delta == 0L) {
+            return;
+        }
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("post_pk").is(postPk)),
+                new Update().inc("comment_count", delta),
+                PostStatsDocument.class
+        );
+    }
+
+    /// 새 댓글/대댓글 : 댓글 수 증가와 마지막 활동 시각 갱신을 한 번에
+    public void recordNewComment(Long postPk, LocalDateTime createdAt) {
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("post_pk").is(postPk)),
+                new Update().inc("comment_count", 1L).max("last_activity_at", activityTime(createdAt)),
+                PostStatsDocument.class
+        );
+    }
+
+    /// 새 글 : 댓글이 없어도 최근 활동 목록에 나오도록 작성 시각으로 시작
+    public void recordNewPost(Long postPk, LocalDateTime createdAt) {
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("post_pk").is(postPk)),
+                new Update().max("last_activity_at", activityTime(createdAt)).setOnInsert("comment_count", 0L),
+                PostStatsDocument.class
+        );
+    }
+
+    /// 대량 등록된 글 : recordNewPost 를 한 번의 unordered bulk write 로
+    public void recordNewPosts(Map<Long, LocalDateTime> createdAtByPostPk) {
+        if (createdAtByPostPk.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostStatsDocument.class);
+        createdAtByPostPk.forEach((postPk, createdAt) -> bulkOps.upsert(
+                Query.query(Criteria.where("post_pk").is(postPk)),
+                new Update().max("last_activity_at", activityTime(createdAt)).setOnInsert("comment_count", 0L)
+        ));
+        bulkOps.execute();
+    }
+
+    /// 대량 등록된 댓글 : 글 별로 모은 댓글 수/최근 작성 시각을 한 번의 unordered bulk write 로
+    public void recordNewComments(Collection<PostStatsDto.NewComments> newComments) {
+        if (newComments.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostStatsDocument.class);
+        newComments.forEach(comments -> bulkOps.upsert(
+                Query.query(Criteria.where("post_pk").is(comments.getPostId())),
+                new Update().inc("comment_count", comments.getCount()).max("last_activity_at", activityTime(comments.getLastCreatedAt()))
+        ));
+        bulkOps.execute();
+    }
+
+    /// 삭제된 글은 최근 활동 목록과 댓글 많은 순 목록에서 제외
+    public void clearActivity(Long postPk) {
+        mongoTemplate.updateFirst(
+                Query.query(Criteria.where("post_pk").is(postPk)),
+                new Update().unset("last_activity_at").unset("comment_count"),
+                PostStatsDocument.class
+        );
+    }
+
+    /// 최근 활동 순 (last_activity_at DESC, post_pk DESC) 커서 조회, idx_post_stats_last_activity_at_post_pk 인덱스 순회
+    public Slice<PostStatsDocument> scrollByLastActivity(ScrollCursor cursor, int size) {
+        Criteria after = new Criteria().orOperator(
+                Criteria.where("last_activity_at").lt(cursor.createdAt()),
+                Criteria.where("last_activity_at").is(cursor.createdAt()).and("post_pk").lt(cursor.id())
+        );
+        Query query = Query.query(after)
+                .with(Sort.by(Sort.Direction.DESC, "last_activity_at", "post_pk"))
+                .limit(size + 1);
+        query.fields().include("post_pk", "comment_count", "last_activity_at");
+
+        List<PostStatsDocument> rows = mongoTemplate.find(query, PostStatsDocument.class);
+        boolean hasNext = rows.size() > size;
+        return new SliceImpl<>(hasNext ? rows.subList(0, size) : rows, PageRequest.of(0, size), hasNext);
+    }
+
+    public long getCommentCount(Long postPk) {
+        PostStatsDocument stats = mongoTemplate.findOne(commentCountQuery(Criteria.where("post_pk").is(postPk)), PostStatsDocument.class);
+        return commentCountOf(stats);
+    }
+
+    /// 요청한 글 순서대로 댓글 수 조회 (post_stats 가 없는 글은 0)
+    public List<PostStatsDto.CommentCount> getCommentCounts(Collection<Long> postPks) {
+        Map<Long, Long> counts = new HashMap<>();
+        mongoTemplate.find(commentCountQuery(Criteria.where("post_pk").in(postPks)), PostStatsDocument.class)
+                .forEach(stats -> counts.put(stats.getPostPk(), commentCountOf(stats)));
+
+        return postPks.stream()
+                .map(postPk -> PostStatsDto.CommentCount.builder()
+                        .postId(postPk)
+                        .commentCount(counts.getOrDefault(postPk, 0L))
+                        .build())
+                .toList();
+    }
+
+    /**
+     * 댓글 수 내림차순 (idx_post_stats_comment_count 인덱스 순회)
+     * - 삭제 시 comment_count 를 지우지만, 작성자 탈퇴로 일괄 삭제된 글이나 삭제 직후 반영된 댓글 증감은 남을 수 있으므로 MySQL 에서 삭제되지 않은 글만 남김
+     */
+    public List<PostStatsDto.CommentCount> getMostCommented(int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Query query = commentCountQuery(Criteria.where("comment_count").gt(0L))
+                .with(PageRequest.of(Math.max(0, page), pageSize, Sort.by(Sort.Direction.DESC, "comment_count")));
+
+        List<PostStatsDocument> rows = mongoTemplate.find(query, PostStatsDocument.class);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> notDeleted = new HashSet<>(postRepository.findNotDeletedIdsIn(rows.stream().map(PostStatsDocument::getPostPk).toList()));
+
+        return rows.stream()
+                .filter(stats -> notDeleted.contains(stats.getPostPk()))
+                .map(stats -> PostStatsDto.CommentCount.builder()
+                        .postId(stats.getPostPk())
+                        .commentCount(commentCountOf(stats))
+                        .build())
+                .toList();
+    }
+
+    /// 재계산을 한 번이라도 끝까지 수행했으면 건너뜀 (완료 표시가 사라져도 재계산을 한 번 더 할 뿐)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLastActivityOnStartup() {
+        CompletableFuture.runAsync(() -> {
+            try {
+                if (Boolean.TRUE.equals(redisTemplate.hasKey(ACTIVITY_BACKFILLED_KEY))) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.warn("Skip last activity backfill, redis unavailable", e);
+                return;
+            }
+            reconcileCommentCounts();
+        });
+    }
+
+    /**
+     * MySQL 기준 댓글 수/마지막 활동 시각 재계산
+     * - posts 를 id keyset 으로 나눠 읽고, 배치마다 댓글 수/최근 댓글 시각을 GROUP BY 로 구해서 post_stats 와 다른 글만 바로잡음
+     * - 댓글 수는 읽은 값과의 차이만큼 $inc 하되 읽은 값이 그대로일 때만 반영 (그 사이 반영된 증감을 덮어쓰지 않고, 어긋난 글은 다음 실행에서 다시 확인)
+     * - 마지막 활동 시각은 $max 로만 갱신 (그 사이 달린 댓글 시각을 되돌리지 않음)
+     * - 여러 pod 중 하나만 수행하도록 redis lock 사용
+     */
+    @Scheduled(cron = "${dailyfeed.services.content.post-stats.reconcile-cron:0 30 4 * * *}")
+    public void reconcileCommentCounts() {
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, owner, RECONCILE_LOCK_TIMEOUT))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Skip comment count reconciliation, redis unavailable", e);
+            return;
+        }
+
+        long scanned = 0;
+        long repaired = 0;
+        try {
+            Long lastId = 0L;
+            while (true) {
+                List<PostRepository.PostCreatedAtProjection> posts = postRepository.findNotDeletedCreatedAtAfter(lastId, PageRequest.of(0, reconcileBatchSize));
+                if (posts.isEmpty()) {
+                    break;
+                }
+                repaired += reconcileBatch(posts);
+                scanned += posts.size();
+                lastId = posts.get(posts.size() - 1).getId();
+            }
+            log.info("Comment count reconciliation finished. scanned: {}, repaired: {}", scanned, repaired);
+            redisTemplate.opsForValue().set(ACTIVITY_BACKFILLED_KEY, LocalDateTime.now().toString());
+        } catch (Exception e) {
+            log.warn("Comment count reconciliation failed. scanned so far: {}, repaired so far: {}", scanned, repaired, e);
+        } finally {
+            RedisLocks.release(redisTemplate, RECONCILE_LOCK_KEY, owner);
+        }
+    }
+
+    private int reconcileBatch(List<PostRepository.PostCreatedAtProjection> posts) {
+        List<Long> postIds = posts.stream().map(PostRepository.PostCreatedAtProjection::getId).toList();
+        Map<Long, Long> expectedCounts = new HashMap<>();
+        Map<Long, LocalDateTime> expectedActivities = new HashMap<>();
+        posts.forEach(post -> {
+            expectedCounts.put(post.getId(), 0L);
+            expectedActivities.put(post.getId(), activityTime(post.getCreatedAt()));
+        });
+        commentRepository.countNotDeletedByPostIds(postIds).forEach(row -> {
+            expectedCounts.put(row.getPostId(), row.getCommentCount());
+            if (row.getLastCommentAt() != null) {
+                expectedActivities.merge(row.getPostId(), activityTime(row.getLastCommentAt()), (a, b) -> a.isAfter(b) ? a : b);
+            }
+        });
+
+        Map<Long, PostStatsDocument> stored = new HashMap<>();
+        Query storedQuery = Query.query(Criteria.where("post_pk").in(postIds));
+        storedQuery.fields().include("post_pk", "comment_count", "last_activity_at");
+        mongoTemplate.find(storedQuery, PostStatsDocument.class)
+                .forEach(stats -> stored.put(stats.getPostPk(), stats));
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, PostStatsDocument.class);
+        int repaired = 0;
+        for (Long postId : postIds) {
+            PostStatsDocument stats = stored.get(postId);
+            long expectedCount = expectedCounts.get(postId);
+            LocalDateTime expectedActivity = expectedActivities.get(postId);
+            if (stats == null) {
+                bulkOps.upsert(
+                        Query.query(Criteria.where("post_pk").is(postId)),
+                        new Update().inc("comment_count", expectedCount).max("last_activity_at", expectedActivity)
+                );
+                repaired++;
+                continue;
+            }
+
+            long storedCount = commentCountOf(stats);
+            boolean activityBehind = stats.getLastActivityAt() == null || stats.getLastActivityAt().isBefore(expectedActivity);
+            if (expectedCount == storedCount && !activityBehind) {
+                continue;
+            }
+            bulkOps.updateOne(
+                    Query.query(Criteria.where("post_pk").is(postId).and("comment_count").is(stats.getCommentCount())),
+                    new Update().inc("comment_count", expectedCount - storedCount).max("last_activity_at", expectedActivity)
+            );
+            repaired++;
+        }
+        if (repaired > 0) {
+            bulkOps.execute();
+        }
+        return repaired;
+    }
+
+    private Query commentCountQuery(Criteria criteria) {
+        Query query = Query.query(criteria);
+        query.fields().include("post_pk", "comment_count");
+        return query;
+    }
+
+    /// mongodb Date 는 밀리초 단위까지만 저장하므로 비교/커서가 어긋나지 않도록 미리 잘라서 저장
+    private static LocalDateTime activityTime(LocalDateTime time) {
+        return (time != null ? time : LocalDateTime.now()).truncatedTo(ChronoUnit.MILLIS);
+    }
+
+    private long commentCountOf(PostStatsDocument stats) {
+        return stats == null || stats.getCommentCount() == null ? 0L : stats.getCommentCount();
+    }
+}
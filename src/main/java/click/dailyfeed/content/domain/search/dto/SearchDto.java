@@ -0,0 +1,23 @@
+package click.dailyfeed.content.domain.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+public class SearchDto {
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CommentHit {
+        private Long commentId;
+        private Long postId;
+        private String content;
+        private LocalDateTime createdAt;
+        private Float score;
+    }
+}
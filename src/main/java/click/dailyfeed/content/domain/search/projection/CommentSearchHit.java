@@ -0,0 +1,29 @@
+package click.dailyfeed.content.domain.search.projection;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.TextScore;
+
+import java.time.LocalDateTime;
+
+/**
+ * comments 컬렉션 텍스트 검색 결과
+ */
+@Getter
+@NoArgsConstructor
+public class CommentSearchHit {
+    @Field("comment_pk")
+    private Long commentPk;
+
+    @Field("post_pk")
+    private Long postPk;
+
+    private String content;
+
+    @Field("created_at")
+    private LocalDateTime createdAt;
+
+    @TextScore
+    private Float score;
+}
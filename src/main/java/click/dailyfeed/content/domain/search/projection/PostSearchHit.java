@@ -0,0 +1,19 @@
+package click.dailyfeed.content.domain.search.projection;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.TextScore;
+
+/**
+ * posts 컬렉션 텍스트 검색 결과 (post_pk 와 관련도 점수만)
+ */
+@Getter
+@NoArgsConstructor
+public class PostSearchHit {
+    @Field("post_pk")
+    private Long postPk;
+
+    @TextScore
+    private Float score;
+}
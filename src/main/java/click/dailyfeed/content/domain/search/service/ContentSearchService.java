@@ -0,0 +1,128 @@
+package click.dailyfeed.content.domain.search.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
+import click.dailyfeed.content.domain.search.dto.SearchDto;
+import click.dailyfeed.content.domain.search.projection.CommentSearchHit;
+import click.dailyfeed.content.domain.search.projection.PostSearchHit;
+import click.dailyfeed.content.domain.search.tokenizer.KoreanBigramTokenizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글/댓글 본문 검색
+ * - MySQL TEXT 컬럼의 LIKE '%kw%' (항상 풀스캔) 대신, 본문 미러 컬렉션(posts, comments)의 텍스트 인덱스로 검색
+ * - 색인 필드(search_title, search_content)와 검색어 모두 KoreanBigramTokenizer 로 변환
+ * - 텍스트 인덱스는 mongodb 가 문서 저장 시 함께 갱신하므로 insertNewDocument/updateDocument 경로만으로 최신 상태 유지
+ * - 결과는 관련도(textScore) 순, 검색 지연시간은 dailyfeed.content.search 타이머(p50/p95/p99)로 노출
+ */
+@Service
+public class ContentSearchService {
+    private static final int MAX_SEARCH_SIZE = 50;
+
+    private final MongoTemplate mongoTemplate;
+    private final PostRepository postRepository;
+    private final PostStatsService postStatsService;
+    private final PostMapper postMapper;
+    private final Timer postSearchTimer;
+    private final Timer commentSearchTimer;
+
+    public ContentSearchService(
+            MongoTemplate mongoTemplate,
+            PostRepository postRepository,
+            PostStatsService postStatsService,
+            PostMapper postMapper,
+            MeterRegistry meterRegistry
+    ) {
+        this.mongoTemplate = mongoTemplate;
+        this.postRepository = postRepository;
+        this.postStatsService = postStatsService;
+        this.postMapper = postMapper;
+        this.postSearchTimer = searchTimer(meterRegistry, "posts");
+        this.commentSearchTimer = searchTimer(meterRegistry, "comments");
+    }
+
+    public List<PostDto.Post> searchPosts(String keyword, int page, int size) {
+        List<String> tokens = KoreanBigramTokenizer.toQueryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return postSearchTimer.record(() -> {
+            List<PostSearchHit> hits = mongoTemplate.find(textQuery(tokens, page, size), PostSearchHit.class, "posts");
+
+            // 수정 이력 때문에 같은 글이 여러 번 나올 수 있으므로 점수 순서를 유지한 채 중복 제거
+            Set<Long> postPks = hits.stream()
+                    .map(PostSearchHit::getPostPk)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (postPks.isEmpty()) {
+                return List.of();
+            }
+
+            Map<Long, Post> posts = postRepository.findAllById(postPks).stream()
+                    .filter(post -> !Boolean.TRUE.equals(post.getIsDeleted()))
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            Map<Long, Long> commentCounts = postStatsService.getCommentCounts(posts.keySet()).stream()
+                    .collect(Collectors.toMap(PostStatsDto.CommentCount::getPostId, PostStatsDto.CommentCount::getCommentCount));
+
+            return postPks.stream()
+                    .map(posts::get)
+                    .filter(Objects::nonNull)
+                    .map(post -> postMapper.toPostListItem(post, commentCounts.get(post.getId())))
+                    .toList();
+        });
+    }
+
+    public List<SearchDto.CommentHit> searchComments(String keyword, int page, int size) {
+        List<String> tokens = KoreanBigramTokenizer.toQueryTokens(keyword);
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+        return commentSearchTimer.record(() ->
+                mongoTemplate.find(textQuery(tokens, page, size), CommentSearchHit.class, "comments").stream()
+                        .map(hit -> SearchDto.CommentHit.builder()
+                                .commentId(hit.getCommentPk())
+                                .postId(hit.getPostPk())
+                                .content(hit.getContent())
+                                .createdAt(hit.getCreatedAt())
+                                .score(hit.getScore())
+                                .build())
+                        .toList()
+        );
+    }
+
+    /// 색인과 같은 규칙으로 검색어를 bigram 토큰으로 바꿔서 매칭 (토큰 중 하나라도 맞으면 후보, 많이 맞을수록 점수가 높음)
+    private Query textQuery(List<String> tokens, int page, int size) {
+        return TextQuery.queryText(TextCriteria.forDefaultLanguage().matchingAny(tokens.toArray(String[]::new)))
+                .includeScore()
+                .sortByScore()
+                .addCriteria(Criteria.where("is_deleted").is(false))
+                .with(PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_SEARCH_SIZE))));
+    }
+
+    private static Timer searchTimer(MeterRegistry meterRegistry, String target) {
+        return Timer.builder("dailyfeed.content.search")
+                .tag("target", target)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,98 @@
+package click.dailyfeed.content.domain.search.service;
+
+import click.dailyfeed.content.domain.base.lock.RedisLocks;
+import click.dailyfeed.content.domain.comment.document.CommentDocument;
+import click.dailyfeed.content.domain.post.document.PostDocument;
+import click.dailyfeed.content.domain.search.tokenizer.KoreanBigramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * 검색 색인 필드(search_title, search_content)가 없는 기존 posts/comments 문서 채우기
+ * - 새로 저장되는 문서는 생성 시점에 채워지므로, 색인 필드 도입 이전 문서만 대상
+ * - 여러 pod 가 동시에 수행하지 않도록 redis lock 사용
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class SearchTextBackfillService {
+    private static final String LOCK_KEY = "dailyfeed:content:search:backfill-lock";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+    private static final int BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final StringRedisTemplate redisTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        CompletableFuture.runAsync(this::backfill);
+    }
+
+    public void backfill() {
+        String owner = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TIMEOUT))) {
+                return;
+            }
+        } catch (Exception e) {
+            log.warn("Skip search text backfill, redis unavailable", e);
+            return;
+        }
+
+        try {
+            backfill(PostDocument.class, PostDocument::getId, post -> new Update()
+                    .set("search_title", KoreanBigramTokenizer.toIndexText(post.getTitle()))
+                    .set("search_content", KoreanBigramTokenizer.toIndexText(post.getContent())));
+            backfill(CommentDocument.class, CommentDocument::getId, comment -> new Update()
+                    .set("search_content", KoreanBigramTokenizer.toIndexText(comment.getContent())));
+        } finally {
+            RedisLocks.release(redisTemplate, LOCK_KEY, owner);
+        }
+    }
+
+    private <T> void backfill(Class<T> documentType, Function<T, ObjectId> idOf, Function<T, Update> toUpdate) {
+        Query query = Query.query(Criteria.where("search_content").exists(false));
+        long count = 0;
+        try (Stream<T> documents = mongoTemplate.stream(query, documentType)) {
+            BulkOperations bulkOps = null;
+            int pending = 0;
+            for (T document : (Iterable<T>) documents::iterator) {
+                if (bulkOps == null) {
+                    bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, documentType);
+                }
+                bulkOps.updateOne(Query.query(Criteria.where("_id").is(idOf.apply(document))), toUpdate.apply(document));
+                if (++pending == BATCH_SIZE) {
+                    bulkOps.execute();
+                    count += pending;
+                    bulkOps = null;
+                    pending = 0;
+                }
+            }
+            if (bulkOps != null) {
+                bulkOps.execute();
+                count += pending;
+            }
+            if (count > 0) {
+                log.info("Search text backfilled. type: {}, documents: {}", documentType.getSimpleName(), count);
+            }
+        } catch (Exception e) {
+            log.warn("Search text backfill failed. type: {}, documents so far: {}", documentType.getSimpleName(), count, e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package click.dailyfeed.content.domain.search.tokenizer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 인덱스용 한국어(CJK) bigram 토크나이저
+ * - mongodb 텍스트 인덱스는 공백/구두점 기준으로만 단어를 나누므로 "게시글을", "게시글에" 처럼 조사가 붙은 어절끼리는 서로 매칭되지 않음
+ * - 한글/한자/가나 구간은 2글자 단위로 겹쳐 자른 토큰(게시, 시글, 글을)으로, 그 외 문자(영문/숫자)는 소문자 단어 그대로 변환
+ * - 색인/검색 양쪽에 같은 규칙을 적용하면 조사/어미가 달라도 공통 bigram 수만큼 점수가 올라감
+ * - 문자열 하나를 한 번 순회하면서 StringBuilder 하나에 바로 써서, 토큰 리스트 등 중간 객체를 만들지 않음
+ */
+public final class KoreanBigramTokenizer {
+    private static final char SEPARATOR = ' ';
+
+    private KoreanBigramTokenizer() {
+    }
+
+    /// 색인용 텍스트 (공백으로 구분된 토큰 나열)
+    public static String toIndexText(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(text.length() * 3);
+        appendTokens(text, out);
+        return out.toString();
+    }
+
+    /// 검색어 토큰 (검색어에 같은 토큰이 여러 번 나와도 한 번만)
+    public static List<String> toQueryTokens(String keyword) {
+        String indexText = toIndexText(keyword);
+        List<String> tokens = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i <= indexText.length(); i++) {
+            if (i == indexText.length() || indexText.charAt(i) == SEPARATOR) {
+                if (i > start) {
+                    String token = indexText.substring(start, i);
+                    if (!tokens.contains(token)) {
+                        tokens.add(token);
+                    }
+                }
+                start = i + 1;
+            }
+        }
+        return tokens;
+    }
+
+    static void appendTokens(CharSequence text, StringBuilder out) {
+        int length = text.length();
+        int i = 0;
+        while (i < length) {
+            char c = text.charAt(i);
+            if (isCjk(c)) {
+                int end = i + 1;
+                while (end < length && isCjk(text.charAt(end))) {
+                    end++;
+                }
+                appendBigrams(text, i, end, out);
+                i = end;
+            } else if (Character.isLetterOrDigit(c)) {
+                int end = i + 1;
+                while (end < length && isWordChar(text.charAt(end))) {
+                    end++;
+                }
+                appendWord(text, i, end, out);
+                i = end;
+            } else {
+                i++;
+            }
+        }
+    }
+
+    private static void appendBigrams(CharSequence text, int start, int end, StringBuilder out) {
+        // 한 글자짜리 구간은 그 글자 자체를 토큰으로
+        if (end - start == 1) {
+            separate(out);
+            out.append(text.charAt(start));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            separate(out);
+            out.append(text.charAt(i)).append(text.charAt(i + 1));
+        }
+    }
+
+    private static void appendWord(CharSequence text, int start, int end, StringBuilder out) {
+        separate(out);
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            out.append(c < 0x80 ? asciiLower(c) : Character.toLowerCase(c));
+        }
+    }
+
+    private static void separate(StringBuilder out) {
+        if (!out.isEmpty()) {
+            out.append(SEPARATOR);
+        }
+    }
+
+    private static char asciiLower(char c) {
+        return (c >= 'A' && c <= 'Z') ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isWordChar(char c) {
+        return !isCjk(c) && Character.isLetterOrDigit(c);
+    }
+
+    static boolean isCjk(char c) {
+        return (c >= 0xAC00 && c <= 0xD7A3)     // 한글 음절
+                || (c >= 0x1100 && c <= 0x11FF) // 한글 자모
+                || (c >= 0x3130 && c <= 0x318F) // 한글 호환 자모
+                || (c >= 0x3040 && c <= 0x30FF) // 히라가나/가타카나
+                || (c >= 0x4E00 && c <= 0x9FFF); // 한자
+    }
+}
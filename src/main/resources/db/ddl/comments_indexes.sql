@@ -0,0 +1,7 @@
+-- comments 댓글 트리 조회 인덱스 (Comment @Table 의 indexes 와 같은 이름/컬럼, ddl-auto 가 validate 이므로 배포 전에 직접 적용)
+-- InnoDB online DDL : 테이블 복사/쓰기 잠금 없이 생성
+
+-- 게시글 댓글 트리 한 번에 조회 : WHERE post_id = ? (AND parent_id IS NULL) ORDER BY created_at
+ALTER TABLE comments
+    ADD INDEX idx_comments_post_parent_created_at (post_id, parent_id, created_at),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,13 @@
+-- comments 조상 경로 컬럼과 하위 댓글 조회 인덱스 (Comment 의 path 컬럼/idx_comments_path 와 같은 이름/정의, ddl-auto 가 validate 이므로 배포 전에 직접 적용)
+-- 기존 행은 NULL 로 두고 CommentPathBackfillService 가 기동 후 채움 (새 댓글은 작성 시 채워짐)
+
+-- 컬럼 추가 : 테이블 끝에 NULL 허용 컬럼이므로 INSTANT (MySQL 8.0.12+, 테이블 재구성 없음)
+ALTER TABLE comments
+    ADD COLUMN path VARCHAR(255) NULL,
+    ALGORITHM = INSTANT;
+
+-- 하위 댓글 전체 조회 : WHERE path LIKE '/1/23/%' (접두사 범위 조회)
+-- InnoDB online DDL : 테이블 복사/쓰기 잠금 없이 생성
+ALTER TABLE comments
+    ADD INDEX idx_comments_path (path),
+    ALGORITHM = INPLACE, LOCK = NONE;
@@ -0,0 +1,18 @@
+-- posts/comments id 할당 테이블 (IdSequences 의 이름/컬럼과 같음, ddl-auto 가 validate 이므로 배포 전에 직접 적용)
+-- IDENTITY → table generator 전환 배포는 이전 버전 pod 를 모두 내린 뒤 진행 (IdSequences 참고)
+
+CREATE TABLE IF NOT EXISTS id_sequences (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val      BIGINT      NOT NULL,
+    PRIMARY KEY (sequence_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- 기존 id 보다 크게 시작 : next_val = MAX(id) + 100 (IdSequences.ALLOCATION_SIZE)
+-- IdSequenceInitializer 가 기동 시 같은 값으로 다시 맞추며, 이미 더 큰 값이면 그대로 둠 (GREATEST)
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'posts', COALESCE(MAX(id), 0) + 100 FROM posts
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_sequences (sequence_name, next_val)
+SELECT 'comments', COALESCE(MAX(id), 0) + 100 FROM comments
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
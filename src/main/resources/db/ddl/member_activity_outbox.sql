@@ -0,0 +1,27 @@
+-- 멤버 활동 기록 이벤트 outbox (MemberActivityOutbox 엔티티와 같은 이름/컬럼/인덱스, ddl-auto 가 validate 이므로 배포 전에 직접 적용)
+-- enum 컬럼(event_type, status)은 이름 그대로 VARCHAR 로 저장
+
+CREATE TABLE IF NOT EXISTS member_activity_outbox (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    event_type    VARCHAR(20)  NOT NULL,
+    activity_type VARCHAR(50)  NOT NULL,
+    member_id     BIGINT       NOT NULL,
+    post_id       BIGINT       NOT NULL,
+    comment_id    BIGINT       NULL,
+    status        VARCHAR(20)  NOT NULL,
+    attempts      INT          NOT NULL DEFAULT 0,
+    last_error    VARCHAR(500) NULL,
+    sent_at       DATETIME(6)  NULL,
+    -- 발행 중인 relay 와 lease 만료 시각 (만료된 행은 다른 relay 가 다시 가져감)
+    lease_owner   VARCHAR(36)  NULL,
+    lease_until   DATETIME(6)  NULL,
+    created_at    DATETIME(6)  NULL,
+    updated_at    DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    -- 발행 대기 행을 id 순서로 조회 : WHERE status = 'PENDING' ORDER BY id
+    KEY idx_member_activity_outbox_status_id (status, id),
+    -- 발행 완료 행 정리 : WHERE status = 'SENT' AND sent_at < ?
+    KEY idx_member_activity_outbox_status_sent_at (status, sent_at),
+    -- 같은 멤버의 앞선 이벤트가 발행 중인지 확인 : WHERE member_id = ? AND status = 'PENDING' AND id < ?
+    KEY idx_member_activity_outbox_member_status_id (member_id, status, id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,12 @@
+-- posts 커서 기반 조회 인덱스 (Post @Table 의 indexes 와 같은 이름/컬럼, ddl-auto 가 validate 이므로 배포 전에 직접 적용)
+-- InnoDB online DDL : 테이블 복사/쓰기 잠금 없이 생성
+
+-- 최근 게시글 커서 조회 : WHERE is_deleted = false ORDER BY created_at DESC, id DESC
+ALTER TABLE posts
+    ADD INDEX idx_posts_is_deleted_created_at_id (is_deleted, created_at, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
+
+-- 작성자별 게시글 커서 조회 : WHERE author_id IN (...) AND (created_at, id) < cursor ORDER BY created_at DESC, id DESC
+ALTER TABLE posts
+    ADD INDEX idx_posts_author_id_created_at_id (author_id, created_at, id),
+    ALGORITHM = INPLACE, LOCK = NONE;
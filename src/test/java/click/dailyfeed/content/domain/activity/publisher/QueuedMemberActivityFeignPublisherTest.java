@@ -0,0 +1,127 @@
+package click.dailyfeed.content.domain.activity.publisher;
+
+import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.deadletter.domain.deadletter.service.FeignDeadLetterService;
+import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("QueuedMemberActivityFeignPublisher 테스트")
+public class QueuedMemberActivityFeignPublisherTest {
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long WAIT_MS = 3000L;
+
+    private MemberActivityFeignHelper memberActivityFeignHelper;
+    private FeignDeadLetterService feignDeadLetterService;
+    private QueuedMemberActivityFeignPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        memberActivityFeignHelper = mock(MemberActivityFeignHelper.class);
+        feignDeadLetterService = mock(FeignDeadLetterService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("호출이 실패하면 백오프 후 다시 시도하고, 성공하면 dead letter 로 저장하지 않아야 한다")
+    void shouldRetryThenSucceed() {
+        // Given
+        publisher = publisher(10);
+        publisher.start();
+        MemberActivityDto.PostActivityRequest request = request(1L);
+        doThrow(new RuntimeException("429 Too Many Requests"))
+                .doThrow(new RuntimeException("503 Service Unavailable"))
+                .doAnswer(invocation -> null)
+                .when(memberActivityFeignHelper).createPostsMemberActivity(any(), any(), any());
+
+        // When
+        publisher.publishPostActivity(request, "token");
+
+        // Then
+        verify(memberActivityFeignHelper, timeout(WAIT_MS).times(3)).createPostsMemberActivity(eq(request), eq("token"), isNull());
+        verifyNoInteractions(feignDeadLetterService);
+        assertThat(publisher.queueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("max-attempts 번 모두 실패하면 더 이상 호출하지 않고 dead letter 로 저장해야 한다")
+    void shouldDeadLetterAfterMaxAttempts() {
+        // Given
+        publisher = publisher(10);
+        publisher.start();
+        MemberActivityDto.PostActivityRequest request = request(1L);
+        doThrow(new RuntimeException("503 Service Unavailable"))
+                .when(memberActivityFeignHelper).createPostsMemberActivity(any(), any(), any());
+
+        // When
+        publisher.publishPostActivity(request, "token");
+
+        // Then
+        verify(feignDeadLetterService, timeout(WAIT_MS)).createPostActivityDeadLetter(request);
+        verify(memberActivityFeignHelper, times(MAX_ATTEMPTS)).createPostsMemberActivity(any(), any(), any());
+        assertThat(publisher.queueSize()).isZero();
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 호출하지 않고 바로 dead letter 로 저장해야 한다")
+    void shouldDeadLetterWhenQueueIsFull() {
+        // Given : worker 를 시작하지 않아서 큐에 쌓이기만 함
+        publisher = publisher(1);
+        MemberActivityDto.PostActivityRequest first = request(1L);
+        MemberActivityDto.PostActivityRequest overflow = request(2L);
+
+        // When
+        publisher.publishPostActivity(first, "token");
+        publisher.publishPostActivity(overflow, "token");
+
+        // Then
+        verify(feignDeadLetterService).createPostActivityDeadLetter(overflow);
+        verify(feignDeadLetterService, never()).createPostActivityDeadLetter(first);
+        assertThat(publisher.queueSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 큐에 남은 요청은 호출하지 않고 dead letter 로 저장해야 한다")
+    void shouldDeadLetterRemainingOnShutdown() {
+        // Given
+        publisher = publisher(10);
+        MemberActivityDto.PostActivityRequest first = request(1L);
+        MemberActivityDto.PostActivityRequest second = request(2L);
+        publisher.publishPostActivity(first, "token");
+        publisher.publishPostActivity(second, "token");
+
+        // When
+        publisher.stop();
+
+        // Then
+        verify(feignDeadLetterService).createPostActivityDeadLetter(first);
+        verify(feignDeadLetterService).createPostActivityDeadLetter(second);
+        verifyNoInteractions(memberActivityFeignHelper);
+        assertThat(publisher.queueSize()).isZero();
+    }
+
+    /// 백오프는 1ms 부터 최대 10ms (테스트가 오래 걸리지 않도록)
+    private QueuedMemberActivityFeignPublisher publisher(int capacity) {
+        return new QueuedMemberActivityFeignPublisher(memberActivityFeignHelper, feignDeadLetterService, new SimpleMeterRegistry(),
+                capacity, 10, 1, MAX_ATTEMPTS, 1L, 10L, false);
+    }
+
+    private MemberActivityDto.PostActivityRequest request(Long postId) {
+        return new PostMapper().postActivityFeignRequest(10L, postId, MemberActivityType.POST_CREATE);
+    }
+}
@@ -0,0 +1,105 @@
+package click.dailyfeed.content.domain.base.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("FanOut 테스트")
+public class FanOutTest {
+    private FanOut fanOut;
+
+    @BeforeEach
+    void setUp() {
+        fanOut = new FanOut(1000L, 4, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.stop();
+    }
+
+    @Test
+    @DisplayName("fork 한 단계와 호출 스레드의 단계가 동시에 실행되어야 한다")
+    void shouldRunStepsConcurrently() {
+        // Given
+        CountDownLatch forked = new CountDownLatch(1);
+        CountDownLatch inline = new CountDownLatch(1);
+
+        // When : 서로 상대 단계가 시작되어야 끝나는 단계 (순차 실행이면 deadline 초과)
+        String result;
+        try (FanOut.Scope scope = fanOut.open()) {
+            FanOut.Subtask<String> subtask = scope.fork(() -> {
+                forked.countDown();
+                await(inline);
+                return "forked";
+            });
+            inline.countDown();
+            await(forked);
+            scope.join();
+            result = subtask.get();
+        }
+
+        // Then
+        assertThat(result).isEqualTo("forked");
+    }
+
+    @Test
+    @DisplayName("한 단계가 실패하면 나머지 단계를 취소하고 첫 실패를 그대로 던져야 한다")
+    void shouldCancelSiblingsOnFailure() throws InterruptedException {
+        // Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When & Then
+        assertThatThrownBy(() -> {
+            try (FanOut.Scope scope = fanOut.open()) {
+                scope.fork(() -> {
+                    try {
+                        Thread.sleep(5000L);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                    }
+                    return null;
+                });
+                scope.fork(() -> {
+                    throw new IllegalArgumentException("timeline unavailable");
+                });
+                scope.join();
+            }
+        }).isInstanceOf(IllegalArgumentException.class).hasMessage("timeline unavailable");
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("deadline 안에 끝나지 않으면 FanOutDeadlineExceededException 이 발생해야 한다")
+    void shouldThrowWhenDeadlineExceeded() {
+        FanOut shortDeadline = new FanOut(50L, 4, false);
+        try {
+            assertThatThrownBy(() -> {
+                try (FanOut.Scope scope = shortDeadline.open()) {
+                    scope.fork(() -> {
+                        await(new CountDownLatch(1));
+                        return null;
+                    });
+                    scope.join();
+                }
+            }).isInstanceOf(FanOutDeadlineExceededException.class);
+        } finally {
+            shortDeadline.stop();
+        }
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package click.dailyfeed.content.domain.base.id;
+
+import org.hibernate.id.IdentifierGeneratorHelper;
+import org.hibernate.id.IntegralDataTypeHolder;
+import org.hibernate.id.enhanced.AccessCallback;
+import org.hibernate.id.enhanced.PooledOptimizer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IdBlockAllocator 테스트")
+public class IdBlockAllocatorTest {
+    // IdSequenceInitializer 가 빈 테이블에 넣는 값 : COALESCE(MAX(id), 0) + ALLOCATION_SIZE
+    private static final long SEEDED_NEXT_VAL = IdSequences.ALLOCATION_SIZE;
+
+    /// id_sequences 의 posts 행
+    private final AtomicLong nextVal = new AtomicLong(SEEDED_NEXT_VAL);
+    private IdBlockAllocator idBlockAllocator;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(IdSequences.POSTS))).thenAnswer(invocation -> nextVal.get());
+        when(jdbcTemplate.update(anyString(), any(), eq(IdSequences.POSTS))).thenAnswer(invocation -> {
+            nextVal.set(invocation.<Long>getArgument(1));
+            return 1;
+        });
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        idBlockAllocator = new IdBlockAllocator(jdbcTemplate, dataSource);
+    }
+
+    @Test
+    @DisplayName("할당 구간은 hibernate pooled optimizer 가 이미 가져간 구간 바로 다음부터 시작하고, 이후 optimizer 구간과 겹치지 않아야 한다")
+    void shouldNotOverlapPooledOptimizerBlocks() {
+        // Given : 실행 중인 pod 가 첫 구간을 받아 일부 사용
+        PooledOptimizer runningPod = pooledOptimizer();
+        List<Long> ids = new ArrayList<>(generate(runningPod, 3));
+
+        // When : 대량 등록이 150 개를 할당한 뒤, 새 pod 가 구간을 받고 기존 pod 도 첫 구간을 모두 소진
+        List<Long> allocated = idBlockAllocator.allocate(IdSequences.POSTS, 150);
+        PooledOptimizer newPod = pooledOptimizer();
+        List<Long> newPodIds = generate(newPod, 5);
+        List<Long> runningPodIds = generate(runningPod, IdSequences.ALLOCATION_SIZE);
+
+        // Then
+        assertThat(ids).containsExactly(1L, 2L, 3L);
+        assertThat(allocated).containsExactlyElementsOf(LongStream.rangeClosed(101L, 250L).boxed().toList());
+        assertThat(newPodIds).containsExactly(251L, 252L, 253L, 254L, 255L);
+        assertThat(runningPodIds.get(runningPodIds.size() - 1)).isEqualTo(353L);
+
+        ids.addAll(allocated);
+        ids.addAll(newPodIds);
+        ids.addAll(runningPodIds);
+        assertThat(new HashSet<>(ids)).hasSize(ids.size());
+        assertThat(nextVal.get()).isEqualTo(550L);
+    }
+
+    @Test
+    @DisplayName("한 구간보다 적게 할당해도 다음 optimizer 구간은 할당한 id 바로 다음부터 시작해야 한다")
+    void shouldKeepBlocksContiguousForSmallAllocation() {
+        // When
+        List<Long> allocated = idBlockAllocator.allocate(IdSequences.POSTS, 10);
+        List<Long> podIds = generate(pooledOptimizer(), 1);
+
+        // Then
+        assertThat(allocated).containsExactlyElementsOf(LongStream.rangeClosed(1L, 10L).boxed().toList());
+        assertThat(podIds).containsExactly(11L);
+    }
+
+    /// @TableGenerator(allocationSize = ALLOCATION_SIZE) 와 같은 설정 (JPA initialValue 0 → hibernate initial_value 1)
+    private PooledOptimizer pooledOptimizer() {
+        PooledOptimizer optimizer = new PooledOptimizer(Long.class, IdSequences.ALLOCATION_SIZE);
+        optimizer.injectInitialValue(1L);
+        return optimizer;
+    }
+
+    /// hibernate TableGenerator 와 같은 방식 : 현재 값을 읽어서 반환하고, 테이블은 allocationSize 만큼 올림
+    private List<Long> generate(PooledOptimizer optimizer, int count) {
+        AccessCallback tableAccess = new AccessCallback() {
+            @Override
+            public IntegralDataTypeHolder getNextValue() {
+                long current = nextVal.getAndAdd(IdSequences.ALLOCATION_SIZE);
+                return IdentifierGeneratorHelper.getIntegralDataTypeHolder(Long.class).initialize(current);
+            }
+
+            @Override
+            public String getTenantIdentifier() {
+                return null;
+            }
+        };
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(((Number) optimizer.generate(tableAccess)).longValue());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,40 @@
+package click.dailyfeed.content.domain.base.pagination;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ScrollCursor 테스트")
+public class ScrollCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 커서를 디코딩하면 같은 (createdAt, id) 가 나와야 한다")
+    void shouldRoundTrip() {
+        // Given
+        ScrollCursor cursor = new ScrollCursor(LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123456000), 42L);
+
+        // When
+        ScrollCursor decoded = ScrollCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 첫 페이지 커서를 반환해야 한다")
+    void shouldReturnFirstCursorWhenBlank() {
+        assertThat(ScrollCursor.decode(null)).isEqualTo(ScrollCursor.first());
+        assertThat(ScrollCursor.decode("")).isEqualTo(ScrollCursor.first());
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 커서는 InvalidCursorException 이 발생해야 한다")
+    void shouldThrowWhenMalformed() {
+        assertThatThrownBy(() -> ScrollCursor.decode("not-a-cursor"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+}
@@ -0,0 +1,60 @@
+package click.dailyfeed.content.domain.base.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AfterCommit 테스트")
+public class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 없으면 바로 실행해야 한다")
+    void shouldRunImmediatelyWithoutTransaction() {
+        // Given
+        AtomicInteger calls = new AtomicInteger();
+
+        // When
+        AfterCommit.run(calls::incrementAndGet);
+
+        // Then
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에만 실행하고, 롤백되면 실행하지 않아야 한다")
+    void shouldRunOnlyAfterCommit() {
+        // Given
+        AtomicInteger committed = new AtomicInteger();
+        AtomicInteger rolledBack = new AtomicInteger();
+
+        // When : 커밋
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(committed::incrementAndGet);
+        assertThat(committed.get()).isZero();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // When : 롤백
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(rolledBack::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertThat(committed.get()).isEqualTo(1);
+        assertThat(rolledBack.get()).isZero();
+    }
+}
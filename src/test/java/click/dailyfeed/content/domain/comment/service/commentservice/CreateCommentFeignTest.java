@@ -1,15 +1,17 @@
 package click.dailyfeed.content.domain.comment.service.commentservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
 import click.dailyfeed.content.domain.comment.document.CommentDocument;
 import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
 import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -56,6 +58,15 @@ public class CreateCommentFeignTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberProfileDto.Summary author;
     private CommentDto.CreateCommentRequest request;
     private HttpServletResponse response;
@@ -87,7 +98,7 @@ public class CreateCommentFeignTest {
     }
 
     @Test
-    @DisplayName("댓글 작성 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("댓글 작성 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenPublishTypeIsFeign() throws Exception {
         // Given
         String token = "test-token";
@@ -100,8 +111,6 @@ public class CreateCommentFeignTest {
             return savedComment;
         });
         when(commentMongoRepository.save(any(CommentDocument.class))).thenReturn(mock(CommentDocument.class));
-        when(memberActivityFeignHelper.createCommentsMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
 
         // When
         CommentDto.Comment result = commentService.createComment(author, token, request, response);
@@ -116,9 +125,10 @@ public class CreateCommentFeignTest {
         // 3. MongoDB에 문서가 저장되었는지 확인
         verify(commentMongoRepository, times(1)).save(any(CommentDocument.class));
 
-        // 4. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createCommentsMemberActivity(any(), eq(token), eq(response));
+        // 4. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishCommentActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 5. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -145,12 +155,11 @@ public class CreateCommentFeignTest {
                 .when(memberActivityFeignHelper)
                 .createCommentsMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            commentService.createComment(author, "token", request, response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        commentService.createComment(author, "token", request, response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Comment는 저장되었어야 함
         verify(commentRepository, times(1)).save(any(Comment.class));
@@ -8,7 +8,10 @@ import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -55,6 +58,15 @@ public class CreateCommentKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberProfileDto.Summary author;
     private CommentDto.CreateCommentRequest request;
     private HttpServletResponse response;
@@ -124,14 +136,19 @@ public class CreateCommentKafkaTest {
         // 3. MongoDB에 문서가 저장되었는지 확인
         verify(commentMongoRepository, times(1)).save(any(CommentDocument.class));
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishCommentCUDEvent(
+        // 3-1. 글의 댓글 수가 증가했는지 확인
+        verify(postStatsService, times(1)).recordNewComment(eq(100L), any());
+        verify(postRankingService, times(1)).recordComment(100L, 1L);
+
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueueCommentEvent(
                         eq(author.getId()),
                         eq(100L),
                         anyLong(),
                         eq(MemberActivityType.COMMENT_CREATE)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -158,12 +175,11 @@ public class CreateCommentKafkaTest {
                 .when(memberActivityKafkaPublisher)
                 .publishCommentCUDEvent(anyLong(), anyLong(), anyLong(), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            commentService.createComment(author, "token", request, response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        commentService.createComment(author, "token", request, response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Comment는 저장되었어야 함
         verify(commentRepository, times(1)).save(any(Comment.class));
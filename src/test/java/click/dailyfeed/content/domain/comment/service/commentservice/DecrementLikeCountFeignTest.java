@@ -1,13 +1,15 @@
 package click.dailyfeed.content.domain.comment.service.commentservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
 import click.dailyfeed.content.domain.comment.document.CommentLikeDocument;
 import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentLikeMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -50,6 +52,15 @@ public class DecrementLikeCountFeignTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private LikeMembershipService likeMembershipService;
+
+    @MockBean
+    private LikedByMeService likedByMeService;
+
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Comment existingComment;
@@ -88,15 +99,14 @@ public class DecrementLikeCountFeignTest {
     }
 
     @Test
-    @DisplayName("좋아요 취소 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("좋아요 취소 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenDecrementLikeCount() {
         // Given
+        when(likeMembershipService.mightHaveLikedComment(200L, member.getId())).thenReturn(true);
         String token = "test-token";
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentLikeMongoRepository.findByCommentPkAndMemberId(200L, member.getId())).thenReturn(existingLikeDocument);
         doNothing().when(commentLikeMongoRepository).delete(any(CommentLikeDocument.class));
-        when(memberActivityFeignHelper.createCommentLikeMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
 
         // When
         commentService.decrementLikeCount(member, 200L, token, response);
@@ -111,9 +121,10 @@ public class DecrementLikeCountFeignTest {
         // 3. CommentLikeDocument가 삭제되었는지 확인
         verify(commentLikeMongoRepository, times(1)).delete(any(CommentLikeDocument.class));
 
-        // 4. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createCommentLikeMemberActivity(any(), eq(token), eq(response));
+        // 4. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishCommentLikeActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 5. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -124,6 +135,7 @@ public class DecrementLikeCountFeignTest {
     @DisplayName("Feign 호출 실패 시에도 좋아요 취소는 정상적으로 처리되어야 한다")
     void shouldDecrementLikeCountEvenIfFeignCallFails() {
         // Given
+        when(likeMembershipService.mightHaveLikedComment(200L, member.getId())).thenReturn(true);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentLikeMongoRepository.findByCommentPkAndMemberId(200L, member.getId())).thenReturn(existingLikeDocument);
         doNothing().when(commentLikeMongoRepository).delete(any(CommentLikeDocument.class));
@@ -131,12 +143,11 @@ public class DecrementLikeCountFeignTest {
                 .when(memberActivityFeignHelper)
                 .createCommentLikeMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            commentService.decrementLikeCount(member, 200L, "token", response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        commentService.decrementLikeCount(member, 200L, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Comment는 조회되었어야 함
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
@@ -7,6 +7,9 @@ import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentLikeMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -49,6 +52,15 @@ public class DecrementLikeCountKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private LikeMembershipService likeMembershipService;
+
+    @MockBean
+    private LikedByMeService likedByMeService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Comment existingComment;
@@ -90,6 +102,7 @@ public class DecrementLikeCountKafkaTest {
     @DisplayName("좋아요 취소 시 Kafka Publisher가 호출되어야 한다")
     void shouldUseKafkaPublisherWhenDecrementLikeCount() {
         // Given
+        when(likeMembershipService.mightHaveLikedComment(200L, member.getId())).thenReturn(true);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentLikeMongoRepository.findByCommentPkAndMemberId(200L, member.getId())).thenReturn(existingLikeDocument);
         doNothing().when(commentLikeMongoRepository).delete(any(CommentLikeDocument.class));
@@ -107,14 +120,15 @@ public class DecrementLikeCountKafkaTest {
         // 3. CommentLikeDocument가 삭제되었는지 확인
         verify(commentLikeMongoRepository, times(1)).delete(any(CommentLikeDocument.class));
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishCommentLikeEvent(
-                        eq(200L),
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueueCommentLikeEvent(
+                        eq(member.getId()),
                         eq(100L),
                         eq(200L),
                         eq(MemberActivityType.LIKE_COMMENT_CANCEL)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -125,6 +139,7 @@ public class DecrementLikeCountKafkaTest {
     @DisplayName("Kafka 발행 실패 시에도 좋아요 취소는 정상적으로 처리되어야 한다")
     void shouldDecrementLikeCountEvenIfKafkaPublishFails() {
         // Given
+        when(likeMembershipService.mightHaveLikedComment(200L, member.getId())).thenReturn(true);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentLikeMongoRepository.findByCommentPkAndMemberId(200L, member.getId())).thenReturn(existingLikeDocument);
         doNothing().when(commentLikeMongoRepository).delete(any(CommentLikeDocument.class));
@@ -132,12 +147,11 @@ public class DecrementLikeCountKafkaTest {
                 .when(memberActivityKafkaPublisher)
                 .publishCommentLikeEvent(anyLong(), anyLong(), anyLong(), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            commentService.decrementLikeCount(member, 200L, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        commentService.decrementLikeCount(member, 200L, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Comment는 조회되었어야 함
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
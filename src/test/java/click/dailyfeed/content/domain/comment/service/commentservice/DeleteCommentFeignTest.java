@@ -1,16 +1,19 @@
 package click.dailyfeed.content.domain.comment.service.commentservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
 import click.dailyfeed.content.domain.comment.document.CommentDocument;
 import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
 import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,6 +25,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,10 +55,18 @@ public class DeleteCommentFeignTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Comment existingComment;
-    private CommentDocument existingDocument;
     private Post mockPost;
 
     @BeforeEach
@@ -81,25 +93,19 @@ public class DeleteCommentFeignTest {
         commentIdField.setAccessible(true);
         commentIdField.set(existingComment, 200L);
 
-        // 기존 CommentDocument 객체
-        existingDocument = mock(CommentDocument.class);
-
         // Mock Response
         response = mock(HttpServletResponse.class);
     }
 
     @Test
-    @DisplayName("댓글 삭제 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("댓글 삭제 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenPublishTypeIsFeign() {
         // Given
         String token = "test-token";
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
-        doNothing().when(commentRepository).softDeleteCommentAndChildren(200L);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
-        when(memberActivityFeignHelper.createCommentsMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
+        when(commentRepository.softDeleteAllByIds(List.of(200L))).thenReturn(1);
+        when(commentMongoRepository.softDelete(eq(200L), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
 
         // When
         Boolean result = commentService.deleteComment(member, 200L, token, response);
@@ -109,15 +115,17 @@ public class DeleteCommentFeignTest {
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
 
         // 2. Comment가 소프트 삭제되었는지 확인
-        verify(commentRepository, times(1)).softDeleteCommentAndChildren(200L);
+        verify(commentRepository, times(1)).softDeleteAllByIds(List.of(200L));
 
         // 3. MongoDB 문서가 소프트 삭제되었는지 확인
-        verify(commentMongoRepository, times(1)).findByCommentPkAndIsDeleted(200L, Boolean.FALSE);
-        verify(commentMongoRepository, times(1)).delete(any(CommentDocument.class));
+        verify(commentMongoRepository, times(1)).softDelete(eq(200L), any());
+        verify(commentMongoRepository, never()).findByCommentPkAndIsDeleted(anyLong(), anyBoolean());
+        verify(commentMongoRepository, never()).delete(any(CommentDocument.class));
 
-        // 4. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createCommentsMemberActivity(any(), eq(token), eq(response));
+        // 4. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishCommentActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 5. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -132,24 +140,22 @@ public class DeleteCommentFeignTest {
     void shouldDeleteCommentEvenIfFeignCallFails() {
         // Given
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
-        doNothing().when(commentRepository).softDeleteCommentAndChildren(200L);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
+        when(commentRepository.softDeleteAllByIds(List.of(200L))).thenReturn(1);
+        when(commentMongoRepository.softDelete(eq(200L), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
         doThrow(new RuntimeException("Feign call failed"))
                 .when(memberActivityFeignHelper)
                 .createCommentsMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            commentService.deleteComment(member, 200L, "token", response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        commentService.deleteComment(member, 200L, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Comment는 조회되었어야 함
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
         // Comment는 소프트 삭제되었어야 함
-        verify(commentRepository, times(1)).softDeleteCommentAndChildren(200L);
+        verify(commentRepository, times(1)).softDeleteAllByIds(List.of(200L));
     }
 }
\ No newline at end of file
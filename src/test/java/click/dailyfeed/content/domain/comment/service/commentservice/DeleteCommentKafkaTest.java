@@ -7,9 +7,13 @@ import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +25,7 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
 import java.lang.reflect.Field;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -50,10 +55,18 @@ public class DeleteCommentKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Comment existingComment;
-    private CommentDocument existingDocument;
     private Post mockPost;
 
     @BeforeEach
@@ -80,9 +93,6 @@ public class DeleteCommentKafkaTest {
         commentIdField.setAccessible(true);
         commentIdField.set(existingComment, 200L);
 
-        // 기존 CommentDocument 객체
-        existingDocument = mock(CommentDocument.class);
-
         // Mock Response
         response = mock(HttpServletResponse.class);
     }
@@ -93,10 +103,9 @@ public class DeleteCommentKafkaTest {
         // Given
         String token = "test-token";
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
-        doNothing().when(commentRepository).softDeleteCommentAndChildren(200L);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
+        when(commentRepository.softDeleteAllByIds(List.of(200L))).thenReturn(1);
+        when(commentMongoRepository.softDelete(eq(200L), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
 
         // When
         Boolean result = commentService.deleteComment(member, 200L, token, response);
@@ -106,20 +115,26 @@ public class DeleteCommentKafkaTest {
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
 
         // 2. Comment가 소프트 삭제되었는지 확인
-        verify(commentRepository, times(1)).softDeleteCommentAndChildren(200L);
+        verify(commentRepository, times(1)).softDeleteAllByIds(List.of(200L));
 
         // 3. MongoDB 문서가 소프트 삭제되었는지 확인
-        verify(commentMongoRepository, times(1)).findByCommentPkAndIsDeleted(200L, Boolean.FALSE);
-        verify(commentMongoRepository, times(1)).delete(any(CommentDocument.class));
+        verify(commentMongoRepository, times(1)).softDelete(eq(200L), any());
+        verify(commentMongoRepository, never()).findByCommentPkAndIsDeleted(anyLong(), anyBoolean());
+        verify(commentMongoRepository, never()).delete(any(CommentDocument.class));
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishCommentCUDEvent(
+        // 3-1. 글의 댓글 수가 삭제된 댓글 수만큼 감소했는지 확인
+        verify(postStatsService, times(1)).incrementCommentCount(100L, -1L);
+        verify(postRankingService, times(1)).recordComment(100L, -1L);
+
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueueCommentEvent(
                         eq(member.getId()),
                         eq(100L),
                         eq(200L),
                         eq(MemberActivityType.COMMENT_DELETE)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -134,24 +149,41 @@ public class DeleteCommentKafkaTest {
     void shouldDeleteCommentEvenIfKafkaPublishFails() {
         // Given
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
-        doNothing().when(commentRepository).softDeleteCommentAndChildren(200L);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
+        when(commentRepository.softDeleteAllByIds(List.of(200L))).thenReturn(1);
+        when(commentMongoRepository.softDelete(eq(200L), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
         doThrow(new RuntimeException("Kafka publish failed"))
                 .when(memberActivityKafkaPublisher)
                 .publishCommentCUDEvent(anyLong(), anyLong(), anyLong(), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            commentService.deleteComment(member, 200L, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        commentService.deleteComment(member, 200L, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Comment는 조회되었어야 함
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
         // Comment는 소프트 삭제되었어야 함
-        verify(commentRepository, times(1)).softDeleteCommentAndChildren(200L);
+        verify(commentRepository, times(1)).softDeleteAllByIds(List.of(200L));
+    }
+
+    @Test
+    @DisplayName("하위 댓글은 path 접두사로 한 번에 삭제하고, 손자 댓글 문서까지 soft delete 해야 한다")
+    void shouldDeleteWholeSubtree() {
+        // Given : 200 번 댓글 아래에 답글(201)과 답글의 답글(202)
+        when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
+        when(commentRepository.findDescendantIds("/200/")).thenReturn(List.of(201L, 202L));
+        when(commentRepository.softDeleteAllByIds(List.of(200L, 201L, 202L))).thenReturn(3);
+        when(commentMongoRepository.softDelete(eq(200L), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
+
+        // When
+        commentService.deleteComment(member, 200L, "token", response);
+
+        // Then
+        verify(commentRepository, times(1)).softDeleteAllByIds(List.of(200L, 201L, 202L));
+        verify(commentMongoRepository, times(1)).softDeleteAll(eq(List.of(201L, 202L)), any());
+        verify(postStatsService, times(1)).incrementCommentCount(100L, -3L);
     }
-}
\ No newline at end of file
+}
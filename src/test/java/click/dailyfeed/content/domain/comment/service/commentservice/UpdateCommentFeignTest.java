@@ -1,19 +1,21 @@
 package click.dailyfeed.content.domain.comment.service.commentservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
 import click.dailyfeed.content.domain.comment.document.CommentDocument;
 import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.feign.domain.member.MemberFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -26,6 +28,7 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.lang.reflect.Field;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -51,18 +54,23 @@ public class UpdateCommentFeignTest {
     @MockBean
     private MemberFeignHelper memberFeignHelper;
 
+    @MockBean
+    private MemberSummaryCache memberSummaryCache;
+
     @MockBean
     private MemberActivityKafkaPublisher memberActivityKafkaPublisher;
 
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberDto.Member member;
     private MemberProfileDto.Summary author;
     private CommentDto.UpdateCommentRequest request;
     private HttpServletResponse response;
     private Comment existingComment;
-    private CommentDocument existingDocument;
     private Post mockPost;
 
     @BeforeEach
@@ -100,27 +108,24 @@ public class UpdateCommentFeignTest {
         commentIdField.setAccessible(true);
         commentIdField.set(existingComment, 200L);
 
-        // 기존 CommentDocument 객체
-        existingDocument = mock(CommentDocument.class);
-
         // Mock Response
         response = mock(HttpServletResponse.class);
+
+        // 캐시는 항상 miss 로 보고 member 서비스 조회를 그대로 수행
+        when(memberSummaryCache.getOrLoad(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<MemberProfileDto.Summary>>getArgument(1).get());
     }
 
     @Test
-    @DisplayName("댓글 수정 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("댓글 수정 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenPublishTypeIsFeign() {
         // Given
         String token = "test-token";
         when(memberFeignHelper.getMemberSummaryById(member.getId(), token, response)).thenReturn(author);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentRepository.save(any(Comment.class))).thenReturn(existingComment);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
-        when(commentMongoRepository.save(any(CommentDocument.class))).thenReturn(mock(CommentDocument.class));
-        when(memberActivityFeignHelper.createCommentsMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
+        when(commentMongoRepository.updateContent(eq(200L), anyString(), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
 
         // When
         CommentDto.Comment result = commentService.updateComment(member, 200L, request, token, response);
@@ -136,13 +141,14 @@ public class UpdateCommentFeignTest {
         verify(commentRepository, times(1)).save(any(Comment.class));
 
         // 4. MongoDB 문서가 업데이트되었는지 확인
-        verify(commentMongoRepository, times(1)).findByCommentPkAndIsDeleted(200L, Boolean.FALSE);
-        verify(commentMongoRepository, times(1)).delete(any(CommentDocument.class));
-        verify(commentMongoRepository, times(1)).save(any(CommentDocument.class));
+        verify(commentMongoRepository, times(1)).updateContent(eq(200L), eq(request.getContent()), any());
+        verify(commentMongoRepository, never()).findByCommentPkAndIsDeleted(anyLong(), anyBoolean());
+        verify(commentMongoRepository, never()).delete(any(CommentDocument.class));
 
-        // 5. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createCommentsMemberActivity(any(), eq(token), eq(response));
+        // 5. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishCommentActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 6. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -159,22 +165,19 @@ public class UpdateCommentFeignTest {
         when(memberFeignHelper.getMemberSummaryById(member.getId(), "token", response)).thenReturn(author);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentRepository.save(any(Comment.class))).thenReturn(existingComment);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
-        when(commentMongoRepository.save(any(CommentDocument.class))).thenReturn(mock(CommentDocument.class));
+        when(commentMongoRepository.updateContent(eq(200L), anyString(), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
         doThrow(new RuntimeException("Feign call failed"))
                 .when(memberActivityFeignHelper)
                 .createCommentsMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            commentService.updateComment(member, 200L, request, "token", response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        commentService.updateComment(member, 200L, request, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Comment는 조회되었어야 함
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
     }
-}
\ No newline at end of file
+}
@@ -2,6 +2,7 @@ package click.dailyfeed.content.domain.comment.service.commentservice;
 
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.comment.dto.CommentDto;
+import click.dailyfeed.code.domain.content.comment.exception.CommentNotFoundException;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.content.domain.comment.document.CommentDocument;
@@ -9,10 +10,13 @@ import click.dailyfeed.content.domain.comment.entity.Comment;
 import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
 import click.dailyfeed.content.domain.comment.repository.mongo.CommentMongoRepository;
 import click.dailyfeed.content.domain.comment.service.CommentService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.feign.domain.member.MemberFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import com.mongodb.client.result.UpdateResult;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -25,8 +29,10 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.lang.reflect.Field;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -50,18 +56,23 @@ public class UpdateCommentKafkaTest {
     @MockBean
     private MemberFeignHelper memberFeignHelper;
 
+    @MockBean
+    private MemberSummaryCache memberSummaryCache;
+
     @MockBean
     private MemberActivityKafkaPublisher memberActivityKafkaPublisher;
 
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberDto.Member member;
     private MemberProfileDto.Summary author;
     private CommentDto.UpdateCommentRequest request;
     private HttpServletResponse response;
     private Comment existingComment;
-    private CommentDocument existingDocument;
     private Post mockPost;
 
     @BeforeEach
@@ -99,11 +110,12 @@ public class UpdateCommentKafkaTest {
         commentIdField.setAccessible(true);
         commentIdField.set(existingComment, 200L);
 
-        // 기존 CommentDocument 객체
-        existingDocument = mock(CommentDocument.class);
-
         // Mock Response
         response = mock(HttpServletResponse.class);
+
+        // 캐시는 항상 miss 로 보고 member 서비스 조회를 그대로 수행
+        when(memberSummaryCache.getOrLoad(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<MemberProfileDto.Summary>>getArgument(1).get());
     }
 
     @Test
@@ -114,10 +126,8 @@ public class UpdateCommentKafkaTest {
         when(memberFeignHelper.getMemberSummaryById(member.getId(), token, response)).thenReturn(author);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentRepository.save(any(Comment.class))).thenReturn(existingComment);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
-        when(commentMongoRepository.save(any(CommentDocument.class))).thenReturn(mock(CommentDocument.class));
+        when(commentMongoRepository.updateContent(eq(200L), anyString(), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
 
         // When
         CommentDto.Comment result = commentService.updateComment(member, 200L, request, token, response);
@@ -133,18 +143,19 @@ public class UpdateCommentKafkaTest {
         verify(commentRepository, times(1)).save(any(Comment.class));
 
         // 4. MongoDB 문서가 업데이트되었는지 확인
-        verify(commentMongoRepository, times(1)).findByCommentPkAndIsDeleted(200L, Boolean.FALSE);
-        verify(commentMongoRepository, times(1)).delete(any(CommentDocument.class));
-        verify(commentMongoRepository, times(1)).save(any(CommentDocument.class));
+        verify(commentMongoRepository, times(1)).updateContent(eq(200L), eq(request.getContent()), any());
+        verify(commentMongoRepository, never()).findByCommentPkAndIsDeleted(anyLong(), anyBoolean());
+        verify(commentMongoRepository, never()).delete(any(CommentDocument.class));
 
-        // 5. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishCommentCUDEvent(
+        // 5. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueueCommentEvent(
                         eq(author.getId()),
                         eq(100L),
                         eq(200L),
                         eq(MemberActivityType.COMMENT_UPDATE)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 6. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -161,22 +172,36 @@ public class UpdateCommentKafkaTest {
         when(memberFeignHelper.getMemberSummaryById(member.getId(), "token", response)).thenReturn(author);
         when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
         when(commentRepository.save(any(Comment.class))).thenReturn(existingComment);
-        when(commentMongoRepository.findByCommentPkAndIsDeleted(200L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        doNothing().when(commentMongoRepository).delete(any(CommentDocument.class));
-        when(commentMongoRepository.save(any(CommentDocument.class))).thenReturn(mock(CommentDocument.class));
+        when(commentMongoRepository.updateContent(eq(200L), anyString(), any()))
+                .thenReturn(UpdateResult.acknowledged(1L, 1L, null));
         doThrow(new RuntimeException("Kafka publish failed"))
                 .when(memberActivityKafkaPublisher)
                 .publishCommentCUDEvent(anyLong(), anyLong(), anyLong(), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            commentService.updateComment(member, 200L, request, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        commentService.updateComment(member, 200L, request, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Comment는 조회되었어야 함
         verify(commentRepository, times(1)).findByIdAndNotDeleted(200L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("현재 댓글 문서가 없으면 CommentNotFoundException 이 발생해야 한다")
+    void shouldThrowWhenLiveDocumentIsMissing() {
+        // Given
+        String token = "test-token";
+        when(memberFeignHelper.getMemberSummaryById(member.getId(), token, response)).thenReturn(author);
+        when(commentRepository.findByIdAndNotDeleted(200L)).thenReturn(Optional.of(existingComment));
+        when(commentRepository.save(any(Comment.class))).thenReturn(existingComment);
+        when(commentMongoRepository.updateContent(eq(200L), anyString(), any()))
+                .thenReturn(UpdateResult.acknowledged(0L, 0L, null));
+
+        // When & Then
+        assertThatThrownBy(() -> commentService.updateComment(member, 200L, request, token, response))
+                .isInstanceOf(CommentNotFoundException.class);
+        verifyNoInteractions(memberActivityOutboxService);
+    }
+}
@@ -0,0 +1,85 @@
+package click.dailyfeed.content.domain.comment.tree;
+
+import click.dailyfeed.content.domain.comment.projection.CommentTreeRowProjection;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("CommentTree 테스트")
+public class CommentTreeTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Test
+    @DisplayName("행 순서대로 최상위 댓글과 답글을 연결하고, 하위 댓글 수를 합산해야 한다")
+    void shouldAssembleHierarchy() {
+        // Given : (parent_id, created_at) 순으로 읽은 행
+        List<CommentTreeRowProjection> rows = List.of(
+                row(1L, null, 0, 0),
+                row(2L, null, 0, 1),
+                row(3L, 1L, 1, 2),
+                row(4L, 1L, 1, 3),
+                row(5L, 3L, 2, 4)
+        );
+
+        // When
+        CommentTree tree = CommentTree.build(rows);
+
+        // Then
+        assertThat(ids(tree, tree.roots())).containsExactly(1L, 2L);
+        int first = tree.roots()[0];
+        assertThat(ids(tree, tree.children(first, 10))).containsExactly(3L, 4L);
+        assertThat(tree.childCount(first)).isEqualTo(2);
+        assertThat(tree.replyCount(first)).isEqualTo(3);
+        assertThat(tree.replyCount(tree.roots()[1])).isZero();
+    }
+
+    @Test
+    @DisplayName("답글 미리보기는 앞에서부터 limit 개만 반환해야 한다")
+    void shouldLimitChildren() {
+        // Given
+        List<CommentTreeRowProjection> rows = List.of(
+                row(1L, null, 0, 0),
+                row(2L, 1L, 1, 1),
+                row(3L, 1L, 1, 2),
+                row(4L, 1L, 1, 3)
+        );
+
+        // When
+        CommentTree tree = CommentTree.build(rows);
+
+        // Then
+        assertThat(ids(tree, tree.children(tree.roots()[0], 2))).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("부모가 삭제되어 행에 없는 댓글은 트리와 하위 댓글 수에서 제외해야 한다")
+    void shouldDropOrphans() {
+        // Given : 9 번 댓글은 삭제되어 조회되지 않음
+        List<CommentTreeRowProjection> rows = List.of(
+                row(1L, null, 0, 0),
+                row(2L, 1L, 1, 1),
+                row(3L, 9L, 1, 2),
+                row(4L, 3L, 2, 3)
+        );
+
+        // When
+        CommentTree tree = CommentTree.build(rows);
+
+        // Then
+        assertThat(ids(tree, tree.roots())).containsExactly(1L);
+        assertThat(tree.replyCount(tree.roots()[0])).isEqualTo(1);
+    }
+
+    private CommentTreeRowProjection row(Long id, Long parentId, int depth, int minutes) {
+        return new CommentTreeRowProjection(id, parentId, 10L, "댓글 " + id, depth, 0L, BASE.plusMinutes(minutes), null);
+    }
+
+    private List<Long> ids(CommentTree tree, int[] nodes) {
+        return Arrays.stream(nodes).mapToObj(node -> tree.row(node).getId()).toList();
+    }
+}
@@ -0,0 +1,148 @@
+package click.dailyfeed.content.domain.importer.service;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
+import click.dailyfeed.content.domain.base.id.IdBlockAllocator;
+import click.dailyfeed.content.domain.base.id.IdSequences;
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
+import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
+import click.dailyfeed.content.domain.importer.dto.BulkImportDto;
+import click.dailyfeed.content.domain.importer.repository.BulkImportJdbcRepository;
+import click.dailyfeed.content.domain.outbox.entity.OutboxEventType;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
+import click.dailyfeed.content.domain.post.document.PostDocument;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("BulkImportService 테스트")
+public class BulkImportServiceTest {
+    private static final int BATCH_SIZE = 2;
+
+    private BulkImportJdbcRepository bulkImportJdbcRepository;
+    private IdBlockAllocator idBlockAllocator;
+    private PostRepository postRepository;
+    private MongoTemplate mongoTemplate;
+    private BulkOperations bulkOperations;
+    private PostStatsService postStatsService;
+    private MemberActivityOutboxService memberActivityOutboxService;
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+    private BulkImportService bulkImportService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        bulkImportJdbcRepository = mock(BulkImportJdbcRepository.class);
+        idBlockAllocator = mock(IdBlockAllocator.class);
+        postRepository = mock(PostRepository.class);
+        mongoTemplate = mock(MongoTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        postStatsService = mock(PostStatsService.class);
+        memberActivityOutboxService = mock(MemberActivityOutboxService.class);
+        queuedMemberActivityFeignPublisher = mock(QueuedMemberActivityFeignPublisher.class);
+
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(mock(Connection.class));
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), any(Class.class))).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        bulkImportService = new BulkImportService(bulkImportJdbcRepository, idBlockAllocator, postRepository, mongoTemplate, postStatsService,
+                memberActivityOutboxService, queuedMemberActivityFeignPublisher, mock(PostMapper.class), mock(CommentMapper.class),
+                new JpaTransactions(new DataSourceTransactionManager(dataSource)), BATCH_SIZE, "KAFKA", "KAFKA");
+    }
+
+    @Test
+    @DisplayName("게시글은 batch-size 단위로 저장하고, 묶음마다 outbox/mongodb 를 한 번에 반영해야 한다")
+    void shouldImportPostsInChunks() {
+        // Given
+        List<BulkImportDto.PostItem> posts = IntStream.range(0, 5)
+                .mapToObj(i -> BulkImportDto.PostItem.builder().authorId(10L + i).content("내용 " + i).build())
+                .toList();
+        AtomicLong nextId = new AtomicLong(100L);
+        when(idBlockAllocator.allocate(eq(IdSequences.POSTS), anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(1);
+            long first = nextId.getAndAdd(count);
+            return LongStream.range(first, first + count).boxed().toList();
+        });
+
+        // When
+        BulkImportDto.Result result = bulkImportService.importPosts(posts, "token");
+
+        // Then
+        assertThat(result.getCompleted()).isTrue();
+        assertThat(result.getImported()).isEqualTo(5);
+        assertThat(result.getDocumentFailures()).isZero();
+        assertThat(result.getIds()).containsExactly(100L, 101L, 102L, 103L, 104L);
+        verify(bulkImportJdbcRepository, times(3)).insertPosts(anyList(), anyList(), any());
+        verify(memberActivityOutboxService, times(3)).enqueueAll(eq(OutboxEventType.POST), eq(MemberActivityType.POST_CREATE), anyList());
+        verify(mongoTemplate, times(3)).bulkOps(BulkOperations.BulkMode.UNORDERED, PostDocument.class);
+        verify(postStatsService, times(3)).recordNewPosts(anyMap());
+        verifyNoInteractions(queuedMemberActivityFeignPublisher);
+    }
+
+    @Test
+    @DisplayName("대상 글이 없거나 삭제된 댓글은 건너뛰어야 한다")
+    void shouldSkipCommentsOfMissingPosts() {
+        // Given
+        List<BulkImportDto.CommentItem> comments = List.of(
+                BulkImportDto.CommentItem.builder().postId(1L).authorId(10L).content("댓글 1").build(),
+                BulkImportDto.CommentItem.builder().postId(2L).authorId(10L).content("댓글 2").build(),
+                BulkImportDto.CommentItem.builder().postId(1L).authorId(20L).content("댓글 3").build()
+        );
+        when(postRepository.findNotDeletedIdsIn(anyCollection())).thenReturn(List.of(1L));
+        when(idBlockAllocator.allocate(IdSequences.COMMENTS, 2)).thenReturn(List.of(500L, 501L));
+
+        // When
+        BulkImportDto.Result result = bulkImportService.importComments(comments, "token");
+
+        // Then
+        assertThat(result.getRequested()).isEqualTo(3);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getIds()).containsExactly(500L, 501L);
+        verify(bulkImportJdbcRepository, times(1)).insertComments(argThat(chunk -> chunk.size() == 2), eq(List.of(500L, 501L)), any());
+        verify(postStatsService, times(1)).recordNewComments(argThat(newComments -> newComments.size() == 1
+                && newComments.iterator().next().getCount() == 2L));
+    }
+
+    @Test
+    @DisplayName("묶음 저장이 실패하면 멈추고, 이미 커밋된 묶음의 id 만 돌려줘야 한다")
+    void shouldReturnCommittedIdsWhenChunkFails() {
+        // Given
+        List<BulkImportDto.PostItem> posts = IntStream.range(0, 5)
+                .mapToObj(i -> BulkImportDto.PostItem.builder().authorId(10L + i).content("내용 " + i).build())
+                .toList();
+        when(idBlockAllocator.allocate(eq(IdSequences.POSTS), anyInt()))
+                .thenReturn(List.of(100L, 101L))
+                .thenReturn(List.of(102L, 103L));
+        doNothing()
+                .doThrow(new RuntimeException("lock wait timeout"))
+                .when(bulkImportJdbcRepository).insertPosts(anyList(), anyList(), any());
+
+        // When
+        BulkImportDto.Result result = bulkImportService.importPosts(posts, "token");
+
+        // Then
+        assertThat(result.getCompleted()).isFalse();
+        assertThat(result.getRequested()).isEqualTo(5);
+        assertThat(result.getIds()).containsExactly(100L, 101L);
+        verify(idBlockAllocator, times(2)).allocate(eq(IdSequences.POSTS), anyInt());
+        verify(memberActivityOutboxService, times(1)).enqueueAll(eq(OutboxEventType.POST), eq(MemberActivityType.POST_CREATE), anyList());
+        verify(mongoTemplate, times(1)).bulkOps(BulkOperations.BulkMode.UNORDERED, PostDocument.class);
+    }
+}
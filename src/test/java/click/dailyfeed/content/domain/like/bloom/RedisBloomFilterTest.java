@@ -0,0 +1,127 @@
+package click.dailyfeed.content.domain.like.bloom;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RedisBloomFilter 테스트")
+public class RedisBloomFilterTest {
+    private static final String KEY = "dailyfeed:content:bloom:test";
+    private static final long BIT_SIZE = 1024;
+    private static final int HASH_COUNT = 3;
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisBloomFilter filter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        filter = new RedisBloomFilter(redisTemplate, KEY, BIT_SIZE, HASH_COUNT);
+    }
+
+    @Test
+    @DisplayName("비트 위치는 hash-count 개이고 모두 비트맵 범위 안이며, 같은 쌍은 항상 같은 위치여야 한다")
+    void shouldMapPairToBitsInRange() {
+        // When
+        long[] offsets = filter.offsets(42L, 7L);
+
+        // Then
+        assertThat(offsets).hasSize(HASH_COUNT);
+        assertThat(offsets).allSatisfy(offset -> assertThat(offset).isBetween(0L, BIT_SIZE - 1));
+        assertThat(filter.offsets(42L, 7L)).containsExactly(offsets);
+        assertThat(filter.offsets(7L, 42L)).isNotEqualTo(offsets);
+    }
+
+    @Test
+    @DisplayName("준비 완료 마커가 없으면 비트와 관계없이 있을 수도 있음으로 응답해야 한다")
+    void shouldAnswerMaybeWhenNotReady() {
+        // Given : 마커 비트 false, 해시 비트 모두 false
+        stubPipeline(false, false, false, false);
+
+        // When & Then
+        assertThat(filter.mightContain(42L, 7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("준비된 필터에서 비트가 하나라도 비어 있으면 확실히 없음으로 응답해야 한다")
+    void shouldAnswerNoWhenAnyBitIsClear() {
+        // Given
+        stubPipeline(true, true, false, true);
+
+        // When & Then
+        assertThat(filter.mightContain(42L, 7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("준비된 필터에서 비트가 모두 켜져 있으면 있을 수도 있음으로 응답해야 한다")
+    void shouldAnswerMaybeWhenAllBitsAreSet() {
+        // Given
+        stubPipeline(true, true, true, true);
+
+        // When & Then
+        assertThat(filter.mightContain(42L, 7L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("준비 완료 마커는 같은 비트맵의 해시 범위 밖 비트를 쓰고, 준비 해제와 재구성 교체는 generation 과 함께 처리해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldKeepReadyMarkerInsideBitmap() {
+        // When
+        filter.markNotReady();
+        filter.finishRebuild(5L);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, KEY + ":generation")), eq(String.valueOf(BIT_SIZE)));
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, KEY + ":rebuilding", KEY + ":generation")),
+                eq("5"), eq(String.valueOf(BIT_SIZE)));
+    }
+
+    @Test
+    @DisplayName("기록은 재구성 중인 임시 비트맵에도 함께 쓰도록 두 비트맵 key 와 hash-count 개의 비트 위치를 넘겨야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldPutToBothBitmaps() {
+        // Given
+        long[] offsets = filter.offsets(42L, 7L);
+
+        // When
+        filter.put(42L, 7L);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, KEY + ":rebuilding")),
+                eq(String.valueOf(offsets[0])), eq(String.valueOf(offsets[1])), eq(String.valueOf(offsets[2])));
+    }
+
+    @Test
+    @DisplayName("비트맵이 없으면(삭제/eviction) 준비되지 않은 것으로 봐야 한다")
+    void shouldNotBeReadyWithoutBitmap() {
+        // Given
+        when(valueOperations.getBit(KEY, BIT_SIZE)).thenReturn(false);
+
+        // When & Then
+        assertThat(filter.isReady()).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubPipeline(Boolean ready, Boolean... bits) {
+        List<Object> results = new ArrayList<>(Collections.singletonList(ready));
+        results.addAll(Arrays.asList(bits));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(results);
+    }
+}
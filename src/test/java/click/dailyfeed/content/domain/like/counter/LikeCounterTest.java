@@ -0,0 +1,81 @@
+package click.dailyfeed.content.domain.like.counter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LikeCounter 테스트")
+public class LikeCounterTest {
+
+    @Test
+    @DisplayName("증감분은 대상별로 합산되고, 합이 0 인 대상은 drain 결과에서 제외되어야 한다")
+    void shouldSumDeltasPerTarget() {
+        // Given
+        LikeCounter counter = new LikeCounter();
+        counter.add(100L, 1L);
+        counter.add(100L, 1L);
+        counter.add(200L, 1L);
+        counter.add(200L, -1L);
+
+        // When
+        Map<Long, Long> deltas = counter.drain();
+
+        // Then
+        assertThat(deltas).containsOnlyKeys(100L);
+        assertThat(deltas.get(100L)).isEqualTo(2L);
+        assertThat(counter.drain()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("drain 되지 않은 증감분은 pending 으로 조회되어야 한다")
+    void shouldReturnPendingDelta() {
+        // Given
+        LikeCounter counter = new LikeCounter(4);
+        counter.add(100L, 1L);
+        counter.add(100L, 1L);
+
+        // When & Then
+        assertThat(counter.pending(100L)).isEqualTo(2L);
+        counter.drain();
+        assertThat(counter.pending(100L)).isZero();
+    }
+
+    @Test
+    @DisplayName("동시에 증가시키면서 drain 해도 증감분이 유실되지 않아야 한다")
+    void shouldNotLoseDeltasWhileDraining() throws Exception {
+        // Given
+        LikeCounter counter = new LikeCounter();
+        int threads = 8;
+        int incrementsPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicLong drainedTotal = new AtomicLong();
+
+        // When
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    counter.add(100L, 1L);
+                }
+                done.countDown();
+            });
+        }
+        while (done.getCount() > 0) {
+            drainedTotal.addAndGet(counter.drain().getOrDefault(100L, 0L));
+        }
+        drainedTotal.addAndGet(counter.drain().getOrDefault(100L, 0L));
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // Then
+        assertThat(drainedTotal.get()).isEqualTo((long) threads * incrementsPerThread);
+    }
+}
@@ -0,0 +1,95 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.post.service.PostDetailCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LikeCountService.flush 테스트")
+public class LikeCountServiceTest {
+    private LikeCountWriter likeCountWriter;
+    private PostDetailCache postDetailCache;
+    private LikeCountService likeCountService;
+
+    @BeforeEach
+    void setUp() {
+        likeCountWriter = mock(LikeCountWriter.class);
+        postDetailCache = mock(PostDetailCache.class);
+        likeCountService = new LikeCountService(likeCountWriter, postDetailCache);
+        when(likeCountWriter.writePostLikeDeltasToMongo(anyMap())).thenReturn(Map.of());
+        when(likeCountWriter.writeCommentLikeDeltasToMongo(anyMap())).thenReturn(Map.of());
+    }
+
+    @Test
+    @DisplayName("MySQL 반영에 실패하면 다음 flush 에서 MySQL 에만 다시 반영하고, MongoDB 에는 다시 더하지 않아야 한다")
+    void shouldRetryOnlyMysqlWhenMysqlFails() {
+        // Given
+        likeCountService.incrementPostLikeCount(1L);
+        likeCountService.incrementPostLikeCount(1L);
+        doThrow(new RuntimeException("lock wait timeout"))
+                .doNothing()
+                .when(likeCountWriter).writePostLikeDeltasToMysql(anyMap());
+
+        // When
+        likeCountService.flush();
+        long pendingAfterFailure = likeCountService.getPendingPostLikeDelta(1L);
+        likeCountService.flush();
+
+        // Then
+        assertThat(pendingAfterFailure).isEqualTo(2L);
+        verify(likeCountWriter, times(2)).writePostLikeDeltasToMysql(Map.of(1L, 2L));
+        verify(likeCountWriter, times(1)).writePostLikeDeltasToMongo(anyMap());
+        verify(likeCountWriter).writePostLikeDeltasToMongo(Map.of(1L, 2L));
+        verify(postDetailCache, times(1)).evictLikeCounts(Set.of(1L));
+        assertThat(likeCountService.getPendingPostLikeDelta(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("MongoDB 에 일부만 반영되면 실패한 항목만 MongoDB 에 다시 반영해야 한다")
+    void shouldRetryOnlyFailedMongoEntries() {
+        // Given
+        likeCountService.incrementPostLikeCount(1L);
+        likeCountService.decrementPostLikeCount(2L);
+        when(likeCountWriter.writePostLikeDeltasToMongo(anyMap()))
+                .thenReturn(Map.of(2L, -1L))
+                .thenReturn(Map.of());
+
+        // When
+        likeCountService.flush();
+        likeCountService.incrementPostLikeCount(3L);
+        likeCountService.flush();
+
+        // Then
+        verify(likeCountWriter).writePostLikeDeltasToMysql(Map.of(1L, 1L, 2L, -1L));
+        verify(likeCountWriter).writePostLikeDeltasToMysql(Map.of(3L, 1L));
+        verify(likeCountWriter).writePostLikeDeltasToMongo(Map.of(2L, -1L, 3L, 1L));
+        // MySQL 에는 반영되었으므로 조회용 증감분에 남지 않음
+        assertThat(likeCountService.getPendingPostLikeDelta(2L)).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도분과 새 증감분이 상쇄되면 해당 대상은 쓰지 않아야 한다")
+    void shouldDropCancelledRetries() {
+        // Given
+        likeCountService.incrementCommentLikeCount(1L);
+        doThrow(new RuntimeException("lock wait timeout"))
+                .doNothing()
+                .when(likeCountWriter).writeCommentLikeDeltasToMysql(anyMap());
+        likeCountService.flush();
+
+        // When
+        likeCountService.decrementCommentLikeCount(1L);
+        likeCountService.flush();
+
+        // Then
+        verify(likeCountWriter, times(1)).writeCommentLikeDeltasToMysql(anyMap());
+        verify(likeCountWriter).writeCommentLikeDeltasToMongo(Map.of(1L, -1L));
+    }
+}
@@ -0,0 +1,141 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.comment.document.CommentLikeDocument;
+import click.dailyfeed.content.domain.post.document.PostLikeDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LikeMembershipService 테스트")
+public class LikeMembershipServiceTest {
+    private static final String POST_KEY = "dailyfeed:content:bloom:post_likes";
+    private static final String COMMENT_KEY = "dailyfeed:content:bloom:comment_likes";
+    private static final String POST_REBUILD_KEY = POST_KEY + ":rebuilding";
+    private static final String POST_GENERATION_KEY = POST_KEY + ":generation";
+    private static final long BIT_SIZE = 1024;
+
+    private MongoTemplate mongoTemplate;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private LikeMembershipService likeMembershipService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        likeMembershipService = new LikeMembershipService(mongoTemplate, redisTemplate, BIT_SIZE, 3);
+    }
+
+    @Test
+    @DisplayName("redis 조회에 실패하면 좋아요 했을 수도 있음으로 응답해서 mongodb 조회로 넘어가야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldAnswerMaybeWhenRedisFails() {
+        // Given
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenThrow(new RuntimeException("redis unavailable"));
+
+        // When & Then
+        assertThat(likeMembershipService.mightHaveLikedPost(1L, 2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기록에 실패하면 generation 을 올리고 필터를 준비되지 않은 상태로 바꿔야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldMarkNotReadyWhenWriteFails() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(POST_KEY, POST_REBUILD_KEY)), any(Object[].class)))
+                .thenThrow(new RuntimeException("redis timeout"));
+
+        // When
+        likeMembershipService.recordPostLike(1L, 2L);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(POST_KEY, POST_GENERATION_KEY)), eq(String.valueOf(BIT_SIZE)));
+    }
+
+    @Test
+    @DisplayName("준비되지 않은 필터만 기존 비트맵을 지우지 않고 임시 비트맵에 다시 채운 뒤, 시작 시점의 generation 으로 교체해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldRebuildOnlyNotReadyFilter() {
+        // Given
+        when(valueOperations.getBit(POST_KEY, BIT_SIZE)).thenReturn(false);
+        when(valueOperations.getBit(COMMENT_KEY, BIT_SIZE)).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(POST_KEY + ":rebuild-lock"), anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(POST_REBUILD_KEY, POST_GENERATION_KEY)), any(Object[].class)))
+                .thenReturn(3L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(POST_KEY, POST_REBUILD_KEY, POST_GENERATION_KEY)), any(Object[].class)))
+                .thenReturn(1L);
+        when(mongoTemplate.stream(any(Query.class), eq(PostLikeDocument.class))).thenReturn(Stream.of(
+                PostLikeDocument.newPostLikeBuilder().postPk(1L).memberId(2L).build(),
+                PostLikeDocument.newPostLikeBuilder().postPk(3L).memberId(4L).build()
+        ));
+
+        // When
+        likeMembershipService.rebuildAll();
+
+        // Then
+        InOrder inOrder = inOrder(redisTemplate, mongoTemplate);
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(POST_REBUILD_KEY, POST_GENERATION_KEY)), any(Object[].class));
+        inOrder.verify(mongoTemplate).stream(any(Query.class), eq(PostLikeDocument.class));
+        inOrder.verify(redisTemplate).executePipelined(any(RedisCallback.class));
+        inOrder.verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(POST_KEY, POST_REBUILD_KEY, POST_GENERATION_KEY)),
+                eq("3"), eq(String.valueOf(BIT_SIZE)));
+        verify(redisTemplate, never()).delete(anyString());
+        verify(valueOperations, never()).setBit(anyString(), anyLong(), anyBoolean());
+        verify(mongoTemplate, never()).stream(any(Query.class), eq(CommentLikeDocument.class));
+    }
+
+    @Test
+    @DisplayName("재구성이 실패하면 임시 비트맵만 지우고 기존 비트맵은 그대로 두어야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldDiscardTemporaryBitmapWhenRebuildFails() {
+        // Given
+        when(valueOperations.getBit(POST_KEY, BIT_SIZE)).thenReturn(false);
+        when(valueOperations.getBit(COMMENT_KEY, BIT_SIZE)).thenReturn(true);
+        when(valueOperations.setIfAbsent(eq(POST_KEY + ":rebuild-lock"), anyString(), any(Duration.class))).thenReturn(true);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(POST_REBUILD_KEY, POST_GENERATION_KEY)), any(Object[].class)))
+                .thenReturn(0L);
+        when(mongoTemplate.stream(any(Query.class), eq(PostLikeDocument.class))).thenThrow(new RuntimeException("mongodb unavailable"));
+
+        // When
+        likeMembershipService.rebuildAll();
+
+        // Then
+        verify(redisTemplate).delete(POST_REBUILD_KEY);
+        verify(redisTemplate, never()).delete(POST_KEY);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(POST_KEY, POST_REBUILD_KEY, POST_GENERATION_KEY)), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("다른 pod 가 재구성 중이면(lock 을 잡지 못하면) 비트맵을 건드리지 않아야 한다")
+    void shouldSkipRebuildWhenLockHeld() {
+        // Given
+        when(valueOperations.getBit(anyString(), eq(BIT_SIZE))).thenReturn(false);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        // When
+        likeMembershipService.rebuildAll();
+
+        // Then
+        verify(redisTemplate, never()).delete(anyString());
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,88 @@
+package click.dailyfeed.content.domain.like.service;
+
+import click.dailyfeed.content.domain.comment.repository.mongo.CommentLikeMongoRepository;
+import click.dailyfeed.content.domain.post.document.PostLikeDocument;
+import click.dailyfeed.content.domain.post.repository.mongo.PostLikeMongoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("LikedByMeService 테스트")
+public class LikedByMeServiceTest {
+    private static final String KEY = "dailyfeed:content:liked-by-me:post:7";
+
+    private PostLikeMongoRepository postLikeMongoRepository;
+    private StringRedisTemplate redisTemplate;
+    private HashOperations<String, Object, Object> hashOperations;
+    private LikedByMeService likedByMeService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postLikeMongoRepository = mock(PostLikeMongoRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        hashOperations = mock(HashOperations.class);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        likedByMeService = new LikedByMeService(postLikeMongoRepository, mock(CommentLikeMongoRepository.class), redisTemplate, 600);
+    }
+
+    @Test
+    @DisplayName("캐시에 있는 글은 캐시 값을 쓰고, 없는 글만 mongodb 에서 조회해서 field 가 없을 때만 채워야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldLoadOnlyMissesAndFillWithoutOverwriting() {
+        // Given
+        when(hashOperations.multiGet(KEY, List.of("1", "2", "3", "4"))).thenReturn(Arrays.<Object>asList("1", null, "0", null));
+        when(postLikeMongoRepository.findLikedPostPksByMemberId(7L, List.of(2L, 4L)))
+                .thenReturn(List.of(PostLikeDocument.newPostLikeBuilder().postPk(4L).memberId(7L).build()));
+
+        // When
+        BitSet liked = likedByMeService.getLikedPosts(7L, List.of(1L, 2L, 3L, 4L));
+
+        // Then
+        assertThat(liked.get(0)).isTrue();
+        assertThat(liked.get(1)).isFalse();
+        assertThat(liked.get(2)).isFalse();
+        assertThat(liked.get(3)).isTrue();
+        // HSET/putAll 로 덮어쓰지 않고 Lua(HSETNX) 로 조회한 field 만 채움
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)), eq("600000"), eq("2"), eq("0"), eq("4"), eq("1"));
+        verify(hashOperations, never()).putAll(anyString(), anyMap());
+    }
+
+    @Test
+    @DisplayName("요청한 글이 없으면 redis 와 mongodb 를 조회하지 않아야 한다")
+    void shouldSkipLookupsWhenEmpty() {
+        // When
+        BitSet liked = likedByMeService.getLikedPosts(7L, List.of());
+
+        // Then
+        assertThat(liked.isEmpty()).isTrue();
+        verifyNoInteractions(redisTemplate, postLikeMongoRepository);
+    }
+
+    @Test
+    @DisplayName("redis 장애 시 요청한 글 전체를 mongodb 에서 조회해야 한다")
+    void shouldFallBackToMongoWhenRedisFails() {
+        // Given
+        when(hashOperations.multiGet(anyString(), anyList())).thenThrow(new RuntimeException("redis unavailable"));
+        when(postLikeMongoRepository.findLikedPostPksByMemberId(7L, List.of(1L, 2L)))
+                .thenReturn(List.of(PostLikeDocument.newPostLikeBuilder().postPk(1L).memberId(7L).build()));
+
+        // When
+        BitSet liked = likedByMeService.getLikedPosts(7L, List.of(1L, 2L));
+
+        // Then
+        assertThat(liked.get(0)).isTrue();
+        assertThat(liked.get(1)).isFalse();
+    }
+}
@@ -0,0 +1,157 @@
+package click.dailyfeed.content.domain.member.service;
+
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MemberSummaryCache 테스트")
+public class MemberSummaryCacheTest {
+    private static final String KEY = "dailyfeed:content:member-summary:1";
+    private static final String VERSION_KEY = "dailyfeed:content:member-summary-version:1";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ObjectMapper objectMapper;
+    private MemberSummaryCache memberSummaryCache;
+    private MemberProfileDto.Summary summary;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        objectMapper = mock(ObjectMapper.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        memberSummaryCache = new MemberSummaryCache(redisTemplate, objectMapper, new SimpleMeterRegistry(), 100, 60, 1800);
+
+        summary = MemberProfileDto.Summary.builder()
+                .id(1L)
+                .memberName("testUser")
+                .displayName("테스트 유저")
+                .build();
+    }
+
+    @Test
+    @DisplayName("한 번 조회한 멤버는 로컬 캐시에서 반환하고 redis 에도 저장해야 한다")
+    void shouldLoadOnceAndServeFromLocal() throws Exception {
+        // Given
+        AtomicInteger loads = new AtomicInteger();
+        when(objectMapper.writeValueAsString(summary)).thenReturn("{}");
+
+        // When
+        memberSummaryCache.getOrLoad(1L, () -> { loads.incrementAndGet(); return summary; });
+        MemberProfileDto.Summary cached = memberSummaryCache.getOrLoad(1L, () -> { loads.incrementAndGet(); return summary; });
+
+        // Then
+        assertThat(cached).isSameAs(summary);
+        assertThat(loads.get()).isEqualTo(1);
+        verify(valueOperations, times(1)).get(KEY);
+        // version 이 없으면 "0" 과 비교해서 저장
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)), eq("0"), eq("{}"), eq("1800000"));
+    }
+
+    @Test
+    @DisplayName("조회하는 동안 evict 되어 version 이 바뀌었으면 로컬 캐시에도 저장하지 않아야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldNotCacheWhenEvictedWhileLoading() throws Exception {
+        // Given
+        when(valueOperations.get(VERSION_KEY)).thenReturn("3");
+        when(objectMapper.writeValueAsString(summary)).thenReturn("{}");
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)), eq("3"), any(), any())).thenReturn(0L);
+        AtomicInteger loads = new AtomicInteger();
+
+        // When
+        MemberProfileDto.Summary loaded = memberSummaryCache.getOrLoad(1L, () -> { loads.incrementAndGet(); return summary; });
+        memberSummaryCache.getOrLoad(1L, () -> { loads.incrementAndGet(); return summary; });
+
+        // Then
+        assertThat(loaded).isSameAs(summary);
+        assertThat(loads.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로컬 캐시에 없고 redis 에 있으면 member 서비스를 호출하지 않아야 한다")
+    void shouldServeFromRedis() throws Exception {
+        // Given
+        when(valueOperations.get(KEY)).thenReturn("{\"id\":1}");
+        when(objectMapper.readValue("{\"id\":1}", MemberProfileDto.Summary.class)).thenReturn(summary);
+
+        // When
+        MemberProfileDto.Summary cached = memberSummaryCache.getOrLoad(1L, () -> {
+            throw new IllegalStateException("member service should not be called");
+        });
+
+        // Then
+        assertThat(cached).isSameAs(summary);
+    }
+
+    @Test
+    @DisplayName("redis 장애 시에도 member 서비스 조회로 응답하고, version 을 읽지 못했으므로 redis 에는 쓰지 않아야 한다")
+    void shouldFallBackToLoaderWhenRedisFails() {
+        // Given
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("redis unavailable"));
+
+        // When
+        MemberProfileDto.Summary loaded = memberSummaryCache.getOrLoad(1L, () -> summary);
+
+        // Then
+        assertThat(loaded).isSameAs(summary);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("evict 하면 로컬 캐시와 redis 에서 모두 제거해야 한다")
+    void shouldEvictBothTiers() {
+        // Given
+        memberSummaryCache.getOrLoad(1L, () -> summary);
+
+        // When
+        memberSummaryCache.evict(1L);
+        AtomicInteger loads = new AtomicInteger();
+        memberSummaryCache.getOrLoad(1L, () -> { loads.incrementAndGet(); return summary; });
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY, VERSION_KEY)), eq("1800000"));
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 로컬 캐시, redis MGET 순으로 찾고 남은 멤버만 loader 에 한 번에 넘겨야 한다")
+    void shouldLoadOnlyMissesInBatch() throws Exception {
+        // Given
+        memberSummaryCache.getOrLoad(1L, () -> summary);
+        MemberProfileDto.Summary second = MemberProfileDto.Summary.builder().id(2L).build();
+        MemberProfileDto.Summary third = MemberProfileDto.Summary.builder().id(3L).build();
+        when(valueOperations.multiGet(List.of("dailyfeed:content:member-summary:2", "dailyfeed:content:member-summary:3")))
+                .thenReturn(Arrays.asList("{\"id\":2}", null));
+        when(objectMapper.readValue("{\"id\":2}", MemberProfileDto.Summary.class)).thenReturn(second);
+        List<Collection<Long>> loaderCalls = new ArrayList<>();
+
+        // When
+        Map<Long, MemberProfileDto.Summary> result = memberSummaryCache.getAllOrLoad(List.of(1L, 2L, 3L), misses -> {
+            loaderCalls.add(List.copyOf(misses));
+            return Map.of(3L, third);
+        });
+
+        // Then
+        assertThat(result).containsEntry(1L, summary).containsEntry(2L, second).containsEntry(3L, third);
+        assertThat(loaderCalls).containsExactly(List.of(3L));
+    }
+}
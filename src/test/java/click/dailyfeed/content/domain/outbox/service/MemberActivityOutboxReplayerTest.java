@@ -0,0 +1,155 @@
+package click.dailyfeed.content.domain.outbox.service;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+import click.dailyfeed.content.domain.outbox.entity.OutboxEventType;
+import click.dailyfeed.content.domain.outbox.entity.OutboxStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MemberActivityOutboxReplayer.replayDead 테스트")
+public class MemberActivityOutboxReplayerTest {
+    private static final int PAGE_SIZE = 3;
+    private static final int MAX_ATTEMPTS = 20;
+
+    private MemberActivityOutboxService outboxService;
+    private SimpleMeterRegistry meterRegistry;
+    private MemberActivityOutboxReplayer replayer;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = mock(MemberActivityOutboxService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        replayer = new MemberActivityOutboxReplayer(outboxService, meterRegistry, PAGE_SIZE, 2, 0, 100, MAX_ATTEMPTS, false);
+        when(outboxService.findOldestDeadCreatedAt()).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        replayer.stop();
+    }
+
+    @Test
+    @DisplayName("재발행에 성공한 행은 페이지마다 한 번에 SENT 로 변경하고 다음 페이지를 이어서 읽어야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldMarkReplayedRowsPerPage() {
+        // Given
+        when(outboxService.findDeadAfter(eq(0L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(
+                row(1L, 10L), row(2L, 20L), row(3L, 10L)
+        ));
+        when(outboxService.findDeadAfter(eq(3L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(row(4L, 30L)));
+        when(outboxService.findDeadAfter(eq(4L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of());
+
+        // When
+        int replayed = replayer.replayDead();
+
+        // Then
+        assertThat(replayed).isEqualTo(4);
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(outboxService, times(2)).markReplayed(ids.capture());
+        assertThat(ids.getAllValues().get(0)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(ids.getAllValues().get(1)).containsExactly(4L);
+        assertThat(meterRegistry.counter("dailyfeed.content.outbox.replay.events", "result", "replayed").count()).isEqualTo(4.0);
+    }
+
+    @Test
+    @DisplayName("재발행에 실패하면 같은 멤버의 뒤 이벤트는 이번 실행에서 건너뛰어야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldSkipLaterEventsOfSameMemberAfterFailure() {
+        // Given
+        MemberActivityOutbox failing = row(1L, 10L);
+        when(outboxService.findDeadAfter(eq(0L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(
+                failing, row(2L, 10L), row(3L, 20L)
+        ));
+        when(outboxService.findDeadAfter(eq(3L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of());
+        doThrow(new RuntimeException("broker unavailable")).when(outboxService).publish(failing);
+
+        // When
+        replayer.replayDead();
+
+        // Then
+        verify(outboxService).markReplayFailed(eq(1L), any(RuntimeException.class));
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(outboxService).markReplayed(ids.capture());
+        assertThat(ids.getValue()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("실패한 멤버의 이벤트는 뒤 페이지에서도 건너뛰어야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldSkipFailedMemberAcrossPages() {
+        // Given
+        MemberActivityOutbox failing = row(1L, 10L);
+        when(outboxService.findDeadAfter(eq(0L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(
+                failing, row(2L, 20L), row(3L, 30L)
+        ));
+        when(outboxService.findDeadAfter(eq(3L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(
+                row(4L, 10L), row(5L, 10L), row(6L, 20L)
+        ));
+        when(outboxService.findDeadAfter(eq(6L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(row(7L, 10L)));
+        when(outboxService.findDeadAfter(eq(7L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of());
+        doThrow(new RuntimeException("broker unavailable")).when(outboxService).publish(failing);
+
+        // When
+        int replayed = replayer.replayDead();
+
+        // Then
+        assertThat(replayed).isEqualTo(3);
+        verify(outboxService, never()).publish(argThat(row -> row != failing && row.getMemberId().equals(10L)));
+        ArgumentCaptor<List<Long>> ids = ArgumentCaptor.forClass(List.class);
+        verify(outboxService, times(2)).markReplayed(ids.capture());
+        assertThat(ids.getAllValues().get(0)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(ids.getAllValues().get(1)).containsExactly(6L);
+        // 실패한 멤버만 남은 페이지는 전체 실패로 보지 않고 다음 페이지로 진행
+        verify(outboxService).findDeadAfter(eq(7L), eq(MAX_ATTEMPTS), anyInt());
+    }
+
+    @Test
+    @DisplayName("한 페이지 전체가 실패하면 이번 실행을 멈춰야 한다")
+    void shouldStopWhenWholePageFails() {
+        // Given
+        when(outboxService.findDeadAfter(eq(0L), eq(MAX_ATTEMPTS), anyInt())).thenReturn(List.of(row(1L, 10L), row(2L, 20L)));
+        doThrow(new RuntimeException("broker unavailable")).when(outboxService).publish(any());
+
+        // When
+        int replayed = replayer.replayDead();
+
+        // Then
+        assertThat(replayed).isZero();
+        verify(outboxService, never()).findDeadAfter(eq(2L), anyInt(), anyInt());
+        verify(outboxService, times(2)).markReplayFailed(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("실행이 끝나면 DEAD 건수와 가장 오래된 DEAD 이벤트의 나이를 갱신해야 한다")
+    void shouldRefreshBacklogGauges() {
+        // Given
+        when(outboxService.findDeadAfter(anyLong(), anyInt(), anyInt())).thenReturn(List.of());
+        when(outboxService.countDead()).thenReturn(7L);
+        when(outboxService.findOldestDeadCreatedAt()).thenReturn(Optional.of(LocalDateTime.now().minusMinutes(10)));
+
+        // When
+        replayer.replayDead();
+
+        // Then
+        assertThat(meterRegistry.get("dailyfeed.content.outbox.dead.count").gauge().value()).isEqualTo(7.0);
+        assertThat(meterRegistry.get("dailyfeed.content.outbox.dead.oldest.age.seconds").gauge().value()).isGreaterThanOrEqualTo(600.0);
+    }
+
+    private MemberActivityOutbox row(Long id, Long memberId) {
+        return MemberActivityOutbox.ofAll(id, OutboxEventType.POST, MemberActivityType.POST_CREATE.name(), memberId, 100L, null,
+                OutboxStatus.DEAD, 10, "broker unavailable", null, null, null);
+    }
+}
@@ -0,0 +1,166 @@
+package click.dailyfeed.content.domain.outbox.service;
+
+import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.global.web.excecption.DailyfeedWebTooManyRequestException;
+import click.dailyfeed.content.domain.base.transaction.JpaTransactions;
+import click.dailyfeed.content.domain.outbox.entity.MemberActivityOutbox;
+import click.dailyfeed.content.domain.outbox.entity.OutboxEventType;
+import click.dailyfeed.content.domain.outbox.entity.OutboxStatus;
+import click.dailyfeed.content.domain.outbox.repository.jpa.MemberActivityOutboxRepository;
+import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("MemberActivityOutboxService.relayBatch 테스트")
+public class MemberActivityOutboxServiceTest {
+    private static final int MAX_ATTEMPTS = 3;
+
+    private MemberActivityOutboxRepository outboxRepository;
+    private MemberActivityKafkaPublisher memberActivityKafkaPublisher;
+    private PlatformTransactionManager transactionManager;
+    private MemberActivityOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = mock(MemberActivityOutboxRepository.class);
+        memberActivityKafkaPublisher = mock(MemberActivityKafkaPublisher.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        outboxService = new MemberActivityOutboxService(outboxRepository, memberActivityKafkaPublisher,
+                new JpaTransactions(transactionManager), MAX_ATTEMPTS, 60L);
+    }
+
+    @Test
+    @DisplayName("발행에 성공한 행은 한 번에 SENT 로 변경해야 한다")
+    void shouldMarkPublishedRowsAsSent() {
+        // Given
+        when(outboxRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of(
+                row(1L, OutboxEventType.POST, 10L, 0),
+                row(2L, OutboxEventType.POST_LIKE, 20L, 0)
+        ));
+
+        // When
+        int read = outboxService.relayBatch(10);
+
+        // Then
+        assertThat(read).isEqualTo(2);
+        verify(memberActivityKafkaPublisher).publishPostCUDEvent(10L, 100L, MemberActivityType.POST_CREATE);
+        verify(memberActivityKafkaPublisher).publishPostLikeEvent(20L, 100L, MemberActivityType.POST_CREATE);
+        verify(outboxRepository).markLeasedSent(eq(List.of(1L, 2L)), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("발행에 실패하면 같은 멤버의 뒤 이벤트는 이번 배치에서 건너뛰어야 한다")
+    void shouldSkipLaterEventsOfSameMemberAfterFailure() {
+        // Given
+        when(outboxRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of(
+                row(1L, OutboxEventType.POST, 10L, 0),
+                row(2L, OutboxEventType.POST, 10L, 0),
+                row(3L, OutboxEventType.POST, 30L, 0)
+        ));
+        doThrow(new RuntimeException("broker unavailable"))
+                .doNothing()
+                .when(memberActivityKafkaPublisher)
+                .publishPostCUDEvent(anyLong(), anyLong(), any(MemberActivityType.class));
+
+        // When
+        outboxService.relayBatch(10);
+
+        // Then
+        verify(outboxRepository).markLeasedFailed(eq(1L), anyString(), eq(OutboxStatus.PENDING), anyString());
+        verify(memberActivityKafkaPublisher, times(2)).publishPostCUDEvent(anyLong(), anyLong(), any(MemberActivityType.class));
+        verify(memberActivityKafkaPublisher, never()).publishPostCUDEvent(eq(10L), anyLong(), any(MemberActivityType.class));
+        verify(outboxRepository).markLeasedSent(eq(List.of(3L)), anyString(), any());
+        verify(outboxRepository).releaseLease(eq(List.of(2L)), anyString());
+    }
+
+    @Test
+    @DisplayName("최대 재시도 횟수에 도달하면 DEAD 로 두고 같은 멤버의 다음 이벤트를 발행해야 한다")
+    void shouldMoveToDeadAfterMaxAttempts() {
+        // Given
+        when(outboxRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of(
+                row(1L, OutboxEventType.POST, 10L, MAX_ATTEMPTS - 1),
+                row(2L, OutboxEventType.POST, 10L, 0)
+        ));
+        doThrow(new RuntimeException("broker unavailable"))
+                .doNothing()
+                .when(memberActivityKafkaPublisher)
+                .publishPostCUDEvent(anyLong(), anyLong(), any(MemberActivityType.class));
+
+        // When
+        outboxService.relayBatch(10);
+
+        // Then
+        verify(outboxRepository).markLeasedFailed(eq(1L), anyString(), eq(OutboxStatus.DEAD), anyString());
+        verify(outboxRepository).markLeasedSent(eq(List.of(2L)), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("lease 를 건 트랜잭션을 커밋한 뒤에 발행하고, 결과는 같은 lease owner 로 반영해야 한다")
+    void shouldPublishAfterLeaseIsCommitted() {
+        // Given
+        when(outboxRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of(row(1L, OutboxEventType.POST, 10L, 0)));
+
+        // When
+        outboxService.relayBatch(10);
+
+        // Then
+        ArgumentCaptor<String> leaseOwner = ArgumentCaptor.forClass(String.class);
+        InOrder inOrder = inOrder(outboxRepository, transactionManager, memberActivityKafkaPublisher);
+        inOrder.verify(outboxRepository).lease(eq(List.of(1L)), leaseOwner.capture(), any());
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(memberActivityKafkaPublisher).publishPostCUDEvent(10L, 100L, MemberActivityType.POST_CREATE);
+        inOrder.verify(outboxRepository).markLeasedSent(eq(List.of(1L)), eq(leaseOwner.getValue()), any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("브로커 제한으로 멈추면 발행하지 않은 행은 시도 횟수를 올리지 않고 lease 만 풀어야 한다")
+    void shouldReleaseLeaseWhenThrottled() {
+        // Given
+        when(outboxRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of(
+                row(1L, OutboxEventType.POST, 10L, 0),
+                row(2L, OutboxEventType.POST, 20L, 0)
+        ));
+        doThrow(new DailyfeedWebTooManyRequestException())
+                .when(memberActivityKafkaPublisher)
+                .publishPostCUDEvent(eq(10L), anyLong(), any(MemberActivityType.class));
+
+        // When
+        outboxService.relayBatch(10);
+
+        // Then
+        verify(outboxRepository).releaseLease(eq(List.of(1L, 2L)), anyString());
+        verify(outboxRepository, never()).markLeasedFailed(anyLong(), anyString(), any(), anyString());
+        verify(outboxRepository, never()).markLeasedSent(anyCollection(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("가져갈 행이 없으면 발행하지 않아야 한다")
+    void shouldSkipWhenNothingToClaim() {
+        // Given
+        when(outboxRepository.findClaimableForUpdate(any(), eq(10))).thenReturn(List.of());
+
+        // When
+        int read = outboxService.relayBatch(10);
+
+        // Then
+        assertThat(read).isZero();
+        verify(outboxRepository, never()).lease(anyCollection(), anyString(), any());
+        verifyNoInteractions(memberActivityKafkaPublisher);
+    }
+
+    private MemberActivityOutbox row(Long id, OutboxEventType eventType, Long memberId, int attempts) {
+        return MemberActivityOutbox.ofAll(id, eventType, MemberActivityType.POST_CREATE.name(), memberId, 100L, null,
+                OutboxStatus.PENDING, attempts, null, null, null, null);
+    }
+}
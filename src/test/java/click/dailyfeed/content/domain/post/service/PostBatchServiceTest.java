@@ -0,0 +1,202 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.base.concurrent.FanOut;
+import click.dailyfeed.content.domain.like.service.LikeCountService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostBatchService.getPosts 테스트")
+public class PostBatchServiceTest {
+    private static final int AUTHOR_PARALLELISM = 2;
+
+    private PostRepository postRepository;
+    private PostStatsService postStatsService;
+    private LikeCountService likeCountService;
+    private MemberSummaryCache memberSummaryCache;
+    private MemberFeignHelper memberFeignHelper;
+    private FanOut fanOut;
+    private PostBatchService postBatchService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        postStatsService = mock(PostStatsService.class);
+        likeCountService = mock(LikeCountService.class);
+        memberSummaryCache = mock(MemberSummaryCache.class);
+        memberFeignHelper = mock(MemberFeignHelper.class);
+        fanOut = new FanOut(1000L, 4, false);
+        postBatchService = new PostBatchService(postRepository, postStatsService, likeCountService, memberSummaryCache,
+                memberFeignHelper, new PostMapper(), fanOut, AUTHOR_PARALLELISM);
+
+        // 캐시는 모두 miss 로 보고 loader 를 그대로 호출
+        when(memberSummaryCache.getAllOrLoad(anyCollection(), any())).thenAnswer(invocation -> invocation
+                .<Function<Collection<Long>, Map<Long, MemberProfileDto.Summary>>>getArgument(1)
+                .apply(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.stop();
+    }
+
+    @Test
+    @DisplayName("요청한 순서대로 반환하고, 없거나 삭제된 글은 건너뛰어야 한다")
+    void shouldReturnInRequestedOrder() {
+        // Given
+        when(postRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of(
+                post(1L, 10L, 5L), post(3L, 20L, 0L)
+        ));
+        when(postStatsService.getCommentCounts(anyCollection())).thenReturn(List.of(
+                PostStatsDto.CommentCount.builder().postId(1L).commentCount(2L).build(),
+                PostStatsDto.CommentCount.builder().postId(3L).commentCount(7L).build()
+        ));
+        when(likeCountService.getPendingPostLikeDelta(1L)).thenReturn(1L);
+        when(memberFeignHelper.getMemberSummaryById(eq(10L), any(), any())).thenReturn(author(10L, "작성자 10"));
+        when(memberFeignHelper.getMemberSummaryById(eq(20L), any(), any())).thenReturn(author(20L, "작성자 20"));
+
+        // When
+        List<PostDto.Post> result = postBatchService.getPosts(List.of(3L, 2L, 1L), "token", null);
+
+        // Then
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(3L, 1L);
+        assertThat(result.get(0).getAuthorName()).isEqualTo("작성자 20");
+        assertThat(result.get(0).getCommentCount()).isEqualTo(7L);
+        assertThat(result.get(1).getLikeCount()).isEqualTo(6L);
+        assertThat(result.get(1).getCommentCount()).isEqualTo(2L);
+        verify(postRepository, times(1)).findAllByIdInAndNotDeleted(anyCollection());
+        verify(postStatsService, times(1)).getCommentCounts(anyCollection());
+        // fork 한 스레드에서 조회하므로 요청 스레드의 HttpServletResponse 는 전달하지 않음
+        verify(memberFeignHelper).getMemberSummaryById(eq(10L), eq("token"), isNull());
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 작성자는 author-parallelism 개를 넘지 않는 동시 조회로 모두 채워야 한다")
+    void shouldBoundConcurrentAuthorLookups() {
+        // Given
+        when(postRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of(
+                post(1L, 10L, 0L), post(2L, 20L, 0L), post(3L, 30L, 0L), post(4L, 40L, 0L), post(5L, 50L, 0L)
+        ));
+        when(postStatsService.getCommentCounts(anyCollection())).thenReturn(List.of());
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        when(memberFeignHelper.getMemberSummaryById(anyLong(), any(), any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(20L);
+                Long memberId = invocation.getArgument(0);
+                return author(memberId, "작성자 " + memberId);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        });
+
+        // When
+        List<PostDto.Post> result = postBatchService.getPosts(List.of(1L, 2L, 3L, 4L, 5L), "token", null);
+
+        // Then
+        assertThat(result).extracting(PostDto.Post::getAuthorName)
+                .containsExactly("작성자 10", "작성자 20", "작성자 30", "작성자 40", "작성자 50");
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(AUTHOR_PARALLELISM);
+        verify(memberFeignHelper, times(5)).getMemberSummaryById(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("작성자 조회가 deadline 을 넘기면 조회된 작성자만 채우고 나머지 글은 authorId 만 채워서 반환해야 한다")
+    void shouldFallBackToAuthorIdWhenDeadlineExceeded() {
+        // Given
+        fanOut.stop();
+        fanOut = new FanOut(200L, 4, false);
+        postBatchService = new PostBatchService(postRepository, postStatsService, likeCountService, memberSummaryCache,
+                memberFeignHelper, new PostMapper(), fanOut, AUTHOR_PARALLELISM);
+        when(postRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of(
+                post(1L, 10L, 0L), post(2L, 20L, 0L)
+        ));
+        when(postStatsService.getCommentCounts(anyCollection())).thenReturn(List.of());
+        when(memberFeignHelper.getMemberSummaryById(eq(10L), any(), any())).thenReturn(author(10L, "작성자 10"));
+        CountDownLatch blocked = new CountDownLatch(1);
+        when(memberFeignHelper.getMemberSummaryById(eq(20L), any(), any())).thenAnswer(invocation -> {
+            blocked.await(5, TimeUnit.SECONDS);
+            return author(20L, "작성자 20");
+        });
+
+        // When
+        List<PostDto.Post> result;
+        try {
+            result = postBatchService.getPosts(List.of(1L, 2L), "token", null);
+        } finally {
+            blocked.countDown();
+        }
+
+        // Then
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(1L, 2L);
+        assertThat(result.get(0).getAuthorName()).isEqualTo("작성자 10");
+        assertThat(result.get(1).getAuthorId()).isEqualTo(20L);
+        assertThat(result.get(1).getAuthorName()).isNull();
+    }
+
+    @Test
+    @DisplayName("작성자 조회에 실패한 글은 authorId 만 채워서 반환해야 한다")
+    void shouldKeepPostWhenAuthorLookupFails() {
+        // Given
+        when(postRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of(post(1L, 10L, 0L)));
+        when(postStatsService.getCommentCounts(anyCollection())).thenReturn(List.of());
+        when(memberFeignHelper.getMemberSummaryById(eq(10L), any(), any())).thenThrow(new RuntimeException("member service unavailable"));
+
+        // When
+        List<PostDto.Post> result = postBatchService.getPosts(List.of(1L), "token", null);
+
+        // Then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getAuthorId()).isEqualTo(10L);
+        assertThat(result.get(0).getAuthorName()).isNull();
+        assertThat(result.get(0).getCommentCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("조회된 글이 없으면 댓글 수와 작성자를 조회하지 않아야 한다")
+    void shouldSkipLookupsWhenNoPostFound() {
+        // Given
+        when(postRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of());
+
+        // When
+        List<PostDto.Post> result = postBatchService.getPosts(List.of(1L, 2L), "token", null);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(postStatsService, memberSummaryCache);
+    }
+
+    private Post post(Long id, Long authorId, Long likeCount) {
+        return Post.ofAll(id, "", "내용 " + id, authorId, 0L, likeCount, false, null);
+    }
+
+    private MemberProfileDto.Summary author(Long id, String displayName) {
+        return MemberProfileDto.Summary.builder()
+                .id(id)
+                .displayName(displayName)
+                .build();
+    }
+}
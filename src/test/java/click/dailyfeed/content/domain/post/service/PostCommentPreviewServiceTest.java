@@ -0,0 +1,103 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.content.domain.comment.mapper.CommentMapper;
+import click.dailyfeed.content.domain.comment.projection.CommentPreviewProjection;
+import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.content.domain.post.dto.PostCommentPreviewDto;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostCommentPreviewService.getPostsWithComments 테스트")
+public class PostCommentPreviewServiceTest {
+    private static final int PREVIEW_SIZE = 2;
+
+    private PostRepository postRepository;
+    private CommentRepository commentRepository;
+    private PostStatsService postStatsService;
+    private PostCommentPreviewService postCommentPreviewService;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        postStatsService = mock(PostStatsService.class);
+        postCommentPreviewService = new PostCommentPreviewService(postRepository, commentRepository, postStatsService,
+                new PostMapper(), new CommentMapper(), PREVIEW_SIZE);
+    }
+
+    @Test
+    @DisplayName("게시글 id 를 SQL 에서 페이징한 뒤, 그 페이지의 댓글만 글마다 미리보기 수 + 1 건까지 조회해야 한다")
+    void shouldLoadCommentsOnlyForPagedPosts() {
+        // Given
+        when(postRepository.findRecentlyUpdatedIdsIn(anyCollection(), eq(PageRequest.of(1, 2)))).thenReturn(List.of(3L, 1L));
+        when(postRepository.findAllByIdInAndNotDeleted(List.of(3L, 1L))).thenReturn(List.of(post(1L), post(3L)));
+        when(commentRepository.findTopLevelPreviewsByPostIds(List.of(3L, 1L), PREVIEW_SIZE + 1)).thenReturn(List.of(
+                row(1L, 100L), row(1L, 101L), row(1L, 102L),
+                row(3L, 300L)
+        ));
+        when(postStatsService.getCommentCounts(List.of(3L, 1L))).thenReturn(List.of(
+                PostStatsDto.CommentCount.builder().postId(3L).commentCount(1L).build(),
+                PostStatsDto.CommentCount.builder().postId(1L).commentCount(10000L).build()
+        ));
+
+        // When
+        List<PostCommentPreviewDto.Item> result = postCommentPreviewService.getPostsWithComments(List.of(1L, 2L, 3L, 4L, 5L), 1, 2);
+
+        // Then
+        assertThat(result).extracting(item -> item.getPost().getId()).containsExactly(3L, 1L);
+
+        PostCommentPreviewDto.Item first = result.get(0);
+        assertThat(first.getComments()).extracting(comment -> comment.getId()).containsExactly(300L);
+        assertThat(first.getHasMoreComments()).isFalse();
+
+        PostCommentPreviewDto.Item second = result.get(1);
+        assertThat(second.getComments()).extracting(comment -> comment.getId()).containsExactly(100L, 101L);
+        assertThat(second.getHasMoreComments()).isTrue();
+        assertThat(second.getPost().getCommentCount()).isEqualTo(10000L);
+    }
+
+    @Test
+    @DisplayName("페이지에 글이 없으면 댓글을 조회하지 않아야 한다")
+    void shouldSkipCommentsWhenPageIsEmpty() {
+        // Given
+        when(postRepository.findRecentlyUpdatedIdsIn(anyCollection(), any())).thenReturn(List.of());
+
+        // When
+        List<PostCommentPreviewDto.Item> result = postCommentPreviewService.getPostsWithComments(List.of(1L), 5, 20);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(commentRepository, postStatsService);
+    }
+
+    private Post post(Long id) {
+        return Post.ofAll(id, "", "내용 " + id, 10L, 0L, 0L, false, null);
+    }
+
+    private CommentPreviewProjection row(Long postId, Long commentId) {
+        return new PreviewRow(postId, commentId, 20L, "댓글 " + commentId, LocalDateTime.now(), LocalDateTime.now());
+    }
+
+    private record PreviewRow(Long postId, Long id, Long authorId, String content, LocalDateTime createdAt, LocalDateTime updatedAt)
+            implements CommentPreviewProjection {
+        public Long getPostId() { return postId; }
+        public Long getId() { return id; }
+        public Long getAuthorId() { return authorId; }
+        public String getContent() { return content; }
+        public LocalDateTime getCreatedAt() { return createdAt; }
+        public LocalDateTime getUpdatedAt() { return updatedAt; }
+    }
+}
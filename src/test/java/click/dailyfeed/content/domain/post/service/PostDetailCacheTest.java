@@ -0,0 +1,99 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.content.domain.post.dto.PostDetailDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostDetailCache 테스트")
+public class PostDetailCacheTest {
+    private static final String BODY_KEY = "dailyfeed:content:post-detail:1:body";
+    private static final String LIKE_COUNT_KEY = "dailyfeed:content:post-detail:1:like-count";
+    private static final String COMMENT_COUNT_KEY = "dailyfeed:content:post-detail:1:comment-count";
+    private static final String VERSION_KEY = "dailyfeed:content:post-detail:1:version";
+
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private ObjectMapper objectMapper;
+    private PostDetailCache postDetailCache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        objectMapper = mock(ObjectMapper.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        postDetailCache = new PostDetailCache(redisTemplate, objectMapper, 600, 60, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("구성 요소와 version 을 한 번의 MGET 으로 읽고, version 이 없으면 \"0\" 으로 반환해야 한다")
+    void shouldReadVersionWithComponents() {
+        // Given
+        when(valueOperations.multiGet(List.of(BODY_KEY, LIKE_COUNT_KEY, COMMENT_COUNT_KEY, VERSION_KEY)))
+                .thenReturn(Arrays.asList(null, "5", null, null));
+
+        // When
+        PostDetailCache.Snapshot snapshot = postDetailCache.read(1L);
+
+        // Then
+        assertThat(snapshot.likeCount()).isEqualTo(5L);
+        assertThat(snapshot.commentCount()).isNull();
+        assertThat(snapshot.version()).isEqualTo("0");
+    }
+
+    @Test
+    @DisplayName("원본에서 읽은 값은 읽어둔 version 과 비교해서 저장하고, version 을 읽지 못했으면 저장하지 않아야 한다")
+    void shouldWriteOnlyWithVersion() throws Exception {
+        // Given
+        PostDetailDto.Body body = PostDetailDto.Body.builder().id(1L).authorId(10L).build();
+        when(objectMapper.writeValueAsString(body)).thenReturn("{}");
+
+        // When
+        postDetailCache.putBody(1L, body, "3");
+        postDetailCache.putLikeCount(1L, 4L, null);
+
+        // Then
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(BODY_KEY, VERSION_KEY)), eq("3"), eq("{}"), eq("600000"));
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(LIKE_COUNT_KEY, VERSION_KEY)), any(), any(), any());
+        verify(valueOperations, never()).set(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 제거는 커밋 이후에 version 을 올리고 값을 삭제해야 한다")
+    void shouldBumpVersionAndDeleteAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        postDetailCache.evictAll(1L);
+
+        // Then
+        verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(), any());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of(VERSION_KEY, BODY_KEY, LIKE_COUNT_KEY, COMMENT_COUNT_KEY)), eq("600000"), eq("1"));
+    }
+}
@@ -0,0 +1,148 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.code.domain.content.post.exception.PostNotFoundException;
+import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.base.concurrent.FanOut;
+import click.dailyfeed.content.domain.like.service.LikeCountService;
+import click.dailyfeed.content.domain.member.service.MemberSummaryCache;
+import click.dailyfeed.content.domain.post.dto.PostDetailDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.feign.domain.member.MemberFeignHelper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostDetailService.getPost 테스트")
+public class PostDetailServiceTest {
+    private static final Long POST_ID = 1L;
+    private static final Long AUTHOR_ID = 10L;
+
+    private PostDetailCache postDetailCache;
+    private MemberSummaryCache memberSummaryCache;
+    private PostRepository postRepository;
+    private PostStatsService postStatsService;
+    private PostRankingService postRankingService;
+    private LikeCountService likeCountService;
+    private FanOut fanOut;
+    private PostDetailService postDetailService;
+
+    private PostDetailDto.Body body;
+    private MemberProfileDto.Summary author;
+
+    @BeforeEach
+    void setUp() {
+        postDetailCache = mock(PostDetailCache.class);
+        memberSummaryCache = mock(MemberSummaryCache.class);
+        postRepository = mock(PostRepository.class);
+        postStatsService = mock(PostStatsService.class);
+        postRankingService = mock(PostRankingService.class);
+        likeCountService = mock(LikeCountService.class);
+        fanOut = new FanOut(1000L, 4, false);
+        postDetailService = new PostDetailService(postDetailCache, memberSummaryCache, postRepository, postStatsService,
+                postRankingService, likeCountService, new PostMapper(), mock(MemberFeignHelper.class), fanOut, new SimpleMeterRegistry());
+
+        body = PostDetailDto.Body.builder()
+                .id(POST_ID)
+                .title("")
+                .content("테스트 내용")
+                .authorId(AUTHOR_ID)
+                .viewCount(0L)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        author = MemberProfileDto.Summary.builder()
+                .id(AUTHOR_ID)
+                .memberName("testUser")
+                .displayName("테스트 유저")
+                .build();
+        when(memberSummaryCache.getOrLoad(eq(AUTHOR_ID), any())).thenReturn(author);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanOut.stop();
+    }
+
+    @Test
+    @DisplayName("모든 구성 요소가 캐시에 있으면 원본을 조회하지 않고, 좋아요 수에는 flush 전 증감분을 더해야 한다")
+    void shouldAssembleFromCache() {
+        // Given
+        when(postDetailCache.read(POST_ID)).thenReturn(new PostDetailCache.Snapshot(body, 5L, 3L, "0"));
+        when(likeCountService.getPendingPostLikeDelta(POST_ID)).thenReturn(2L);
+
+        // When
+        PostDto.Post result = postDetailService.getPost(POST_ID, "token", null);
+
+        // Then
+        assertThat(result.getContent()).isEqualTo("테스트 내용");
+        assertThat(result.getAuthorName()).isEqualTo("테스트 유저");
+        assertThat(result.getLikeCount()).isEqualTo(7L);
+        assertThat(result.getCommentCount()).isEqualTo(3L);
+        verifyNoInteractions(postRepository, postStatsService);
+        verify(postRankingService).recordView(POST_ID);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 구성 요소만 원본에서 읽고, 캐시 조회 때 읽은 version 으로 다시 캐시에 저장해야 한다")
+    void shouldLoadOnlyMissingComponents() {
+        // Given
+        when(postDetailCache.read(POST_ID)).thenReturn(new PostDetailCache.Snapshot(body, null, null, "2"));
+        when(postRepository.findLikeCountByIdAndNotDeleted(POST_ID)).thenReturn(Optional.of(4L));
+        when(postStatsService.getCommentCount(POST_ID)).thenReturn(6L);
+
+        // When
+        PostDto.Post result = postDetailService.getPost(POST_ID, "token", null);
+
+        // Then
+        assertThat(result.getLikeCount()).isEqualTo(4L);
+        assertThat(result.getCommentCount()).isEqualTo(6L);
+        verify(postRepository, never()).findByIdAndNotDeleted(anyLong());
+        verify(postDetailCache).putLikeCount(POST_ID, 4L, "2");
+        verify(postDetailCache).putCommentCount(POST_ID, 6L, "2");
+        verify(postDetailCache, never()).putBody(anyLong(), any(), any());
+    }
+
+    @Test
+    @DisplayName("본문이 캐시에 없으면 MySQL 에서 읽어 캐시에 저장해야 한다")
+    void shouldLoadBodyOnMiss() {
+        // Given
+        Post post = Post.ofAll(POST_ID, "", "테스트 내용", AUTHOR_ID, 0L, 0L, false, null);
+        when(postDetailCache.read(POST_ID)).thenReturn(new PostDetailCache.Snapshot(null, 0L, 0L, "0"));
+        when(postRepository.findByIdAndNotDeleted(POST_ID)).thenReturn(Optional.of(post));
+
+        // When
+        PostDto.Post result = postDetailService.getPost(POST_ID, "token", null);
+
+        // Then
+        assertThat(result.getId()).isEqualTo(POST_ID);
+        assertThat(result.getAuthorId()).isEqualTo(AUTHOR_ID);
+        verify(postDetailCache).putBody(eq(POST_ID), any(PostDetailDto.Body.class), eq("0"));
+    }
+
+    @Test
+    @DisplayName("삭제되었거나 없는 게시글은 PostNotFoundException 을 던져야 한다")
+    void shouldThrowWhenPostNotFound() {
+        // Given
+        when(postDetailCache.read(POST_ID)).thenReturn(new PostDetailCache.Snapshot(null, null, null, "0"));
+        when(postRepository.findByIdAndNotDeleted(POST_ID)).thenReturn(Optional.empty());
+        when(postRepository.findLikeCountByIdAndNotDeleted(POST_ID)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThatThrownBy(() -> postDetailService.getPost(POST_ID, "token", null))
+                .isInstanceOf(PostNotFoundException.class);
+        verify(postRankingService, never()).recordView(anyLong());
+    }
+}
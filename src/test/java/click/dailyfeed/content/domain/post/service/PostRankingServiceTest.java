@@ -0,0 +1,217 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostRankingService 테스트")
+public class PostRankingServiceTest {
+    private static final String BUCKET_KEY_PREFIX = "dailyfeed:content:ranking:posts:";
+    private static final String POPULAR_KEY = "dailyfeed:content:ranking:posts:popular";
+    private static final String REFRESHED_KEY = POPULAR_KEY + ":refreshed";
+    private static final int WINDOW_HOURS = 3;
+    private static final int TOP_K = 5;
+    private static final int BUCKET_CAPACITY = 100;
+    private static final Duration REFRESH_INTERVAL = Duration.ofSeconds(60);
+
+    private StringRedisTemplate redisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private ValueOperations<String, String> valueOperations;
+    private PostRepository postRepository;
+    private PostStatsService postStatsService;
+    private PostRankingService postRankingService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        postRepository = mock(PostRepository.class);
+        postStatsService = mock(PostStatsService.class);
+        // half-life 1 시간 : 버킷 가중치 1, 0.5, 0.25
+        postRankingService = new PostRankingService(redisTemplate, postRepository, postStatsService, new PostMapper(),
+                WINDOW_HOURS, 1, TOP_K, BUCKET_CAPACITY, REFRESH_INTERVAL.toSeconds(), 2, 1, 3);
+    }
+
+    @Test
+    @DisplayName("최근 버킷부터 반감기 가중치로 합산하고, 버킷과 합산 결과를 각각 bucket-capacity, top-k 개로 잘라야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldUnionBucketsWithHalfLifeWeightsAndKeepTopK() {
+        // When
+        postRankingService.refresh();
+
+        // Then
+        ArgumentCaptor<String> firstKey = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Collection<String>> otherKeys = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Weights> weights = ArgumentCaptor.forClass(Weights.class);
+        verify(zSetOperations).unionAndStore(firstKey.capture(), otherKeys.capture(), eq(POPULAR_KEY), eq(Aggregate.SUM), weights.capture());
+
+        long currentHour = Long.parseLong(firstKey.getValue().substring(BUCKET_KEY_PREFIX.length()));
+        assertThat(otherKeys.getValue()).containsExactly(BUCKET_KEY_PREFIX + (currentHour - 1), BUCKET_KEY_PREFIX + (currentHour - 2));
+        double[] appliedWeights = weights.getValue().toArray();
+        assertThat(appliedWeights).hasSize(WINDOW_HOURS);
+        assertThat(appliedWeights[0]).isCloseTo(1.0, within(1e-9));
+        assertThat(appliedWeights[1]).isCloseTo(0.5, within(1e-9));
+        assertThat(appliedWeights[2]).isCloseTo(0.25, within(1e-9));
+
+        verify(zSetOperations, times(WINDOW_HOURS)).removeRange(startsWith(BUCKET_KEY_PREFIX), eq(0L), eq(-(BUCKET_CAPACITY + 1L)));
+        verify(zSetOperations).removeRangeByScore(POPULAR_KEY, Double.NEGATIVE_INFINITY, 0);
+        verify(zSetOperations).removeRange(POPULAR_KEY, 0, -(TOP_K + 1L));
+    }
+
+    @Test
+    @DisplayName("마커를 SET NX 로 잡은 요청만 합산하고, 합산 결과가 비어 있어도 refresh-seconds 동안 다시 합산하지 않아야 한다")
+    void shouldNotRefreshAgainWhenUnionIsEmpty() {
+        // Given : 첫 요청만 마커를 잡고, 합산 결과는 비어 있음
+        when(valueOperations.setIfAbsent(eq(REFRESHED_KEY), anyString(), eq(REFRESH_INTERVAL))).thenReturn(true, false);
+        when(zSetOperations.reverseRange(eq(POPULAR_KEY), anyLong(), anyLong())).thenReturn(new LinkedHashSet<>());
+
+        // When
+        List<PostDto.Post> first = postRankingService.getPopularPosts(0, 3);
+        List<PostDto.Post> second = postRankingService.getPopularPosts(0, 3);
+
+        // Then
+        assertThat(first).isEmpty();
+        assertThat(second).isEmpty();
+        verify(zSetOperations, times(1)).unionAndStore(anyString(), anyCollection(), eq(POPULAR_KEY), any(Aggregate.class), any(Weights.class));
+        verify(valueOperations, times(2)).setIfAbsent(eq(REFRESHED_KEY), anyString(), eq(REFRESH_INTERVAL));
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("합산에 실패하면 잡았던 마커를 풀어서 다음 요청이 다시 합산하도록 해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldReleaseMarkerWhenRefreshFails() {
+        // Given
+        when(valueOperations.setIfAbsent(eq(REFRESHED_KEY), anyString(), eq(REFRESH_INTERVAL))).thenReturn(true);
+        when(zSetOperations.unionAndStore(anyString(), anyCollection(), eq(POPULAR_KEY), any(Aggregate.class), any(Weights.class)))
+                .thenThrow(new RuntimeException("redis timeout"));
+
+        // When
+        List<PostDto.Post> result = postRankingService.getPopularPosts(0, 3);
+
+        // Then
+        assertThat(result).isEmpty();
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(REFRESHED_KEY)), anyString());
+        verify(zSetOperations, never()).reverseRange(anyString(), anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("좋아요/댓글 점수 반영은 ZINCRBY 와 EXPIRE 를, 삭제는 모든 버킷의 ZREM 을 한 번의 파이프라인으로 보내야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldPipelineRecordAndRemove() {
+        // When
+        postRankingService.recordLike(7L, 1L);
+        postRankingService.remove(7L);
+
+        // Then
+        ArgumentCaptor<RedisCallback<Object>> callbacks = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate, times(2)).executePipelined(callbacks.capture());
+        verifyNoInteractions(zSetOperations);
+
+        StringRedisConnection recordConnection = mock(StringRedisConnection.class);
+        callbacks.getAllValues().get(0).doInRedis(recordConnection);
+        verify(recordConnection).zIncrBy(startsWith(BUCKET_KEY_PREFIX), eq(2.0), eq("7"));
+        verify(recordConnection).expire(startsWith(BUCKET_KEY_PREFIX), eq(Duration.ofHours(WINDOW_HOURS + 1L).toSeconds()));
+
+        StringRedisConnection removeConnection = mock(StringRedisConnection.class);
+        callbacks.getAllValues().get(1).doInRedis(removeConnection);
+        verify(removeConnection, times(WINDOW_HOURS)).zRem(startsWith(BUCKET_KEY_PREFIX), eq("7"));
+        verify(removeConnection).zRem(POPULAR_KEY, "7");
+    }
+
+    @Test
+    @DisplayName("top-k 안에서만 페이지를 조회하고, 점수 순서대로 응답해야 한다")
+    void shouldPageWithinTopKInScoreOrder() throws Exception {
+        // Given : top-k 5, 두 번째 페이지(3 개씩)는 3~4 위만
+        when(valueOperations.setIfAbsent(eq(REFRESHED_KEY), anyString(), eq(REFRESH_INTERVAL))).thenReturn(false);
+        when(zSetOperations.reverseRange(POPULAR_KEY, 3, 4)).thenReturn(new LinkedHashSet<>(List.of("7", "3")));
+        Post hot = post(7L);
+        Post warm = post(3L);
+        when(postRepository.findAllById(any())).thenReturn(List.of(warm, hot));
+        when(postStatsService.getCommentCounts(any())).thenReturn(List.of(
+                PostStatsDto.CommentCount.builder().postId(7L).commentCount(4L).build()
+        ));
+
+        // When
+        List<PostDto.Post> result = postRankingService.getPopularPosts(1, 3);
+
+        // Then
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(7L, 3L);
+        assertThat(result).extracting(PostDto.Post::getCommentCount).containsExactly(4L, 0L);
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyCollection(), anyString(), any(Aggregate.class), any(Weights.class));
+    }
+
+    @Test
+    @DisplayName("조회는 호출 시 redis 를 호출하지 않고, flush 때 글별로 합쳐서 한 번의 파이프라인으로 반영해야 한다")
+    @SuppressWarnings("unchecked")
+    void shouldBufferViewsAndFlushInOnePipeline() {
+        // When
+        postRankingService.recordView(7L);
+        postRankingService.recordView(7L);
+        postRankingService.recordView(3L);
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+
+        postRankingService.flushViews();
+        ArgumentCaptor<RedisCallback<Object>> callback = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(redisTemplate).executePipelined(callback.capture());
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        callback.getValue().doInRedis(connection);
+        verify(connection).zIncrBy(startsWith(BUCKET_KEY_PREFIX), eq(2.0), eq("7"));
+        verify(connection).zIncrBy(startsWith(BUCKET_KEY_PREFIX), eq(1.0), eq("3"));
+        verify(connection).expire(startsWith(BUCKET_KEY_PREFIX), eq(Duration.ofHours(WINDOW_HOURS + 1L).toSeconds()));
+
+        // 비운 뒤에는 다시 반영하지 않음
+        postRankingService.flushViews();
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("top-k 밖의 페이지는 redis 를 조회하지 않고 빈 목록을 응답해야 한다")
+    void shouldReturnEmptyBeyondTopK() {
+        // When
+        List<PostDto.Post> result = postRankingService.getPopularPosts(2, 3);
+
+        // Then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(redisTemplate, postRepository);
+    }
+
+    private Post post(Long id) throws Exception {
+        Post post = Post.newPost("제목 " + id, "내용 " + id, 10L);
+        Field idField = Post.class.getDeclaredField("id");
+        idField.setAccessible(true);
+        idField.set(post, id);
+        return post;
+    }
+}
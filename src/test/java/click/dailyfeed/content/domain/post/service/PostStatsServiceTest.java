@@ -0,0 +1,198 @@
+package click.dailyfeed.content.domain.post.service;
+
+import click.dailyfeed.content.domain.comment.repository.jpa.CommentRepository;
+import click.dailyfeed.content.domain.post.document.PostStatsDocument;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("PostStatsService 테스트")
+public class PostStatsServiceTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final LocalDateTime LAST_COMMENT_AT = LocalDateTime.of(2025, 1, 2, 9, 0);
+    private static final String RECONCILE_LOCK_KEY = "dailyfeed:content:post-stats:reconcile-lock";
+    private static final String ACTIVITY_BACKFILLED_KEY = "dailyfeed:content:post-stats:last-activity-backfilled";
+
+    private MongoTemplate mongoTemplate;
+    private PostRepository postRepository;
+    private CommentRepository commentRepository;
+    private StringRedisTemplate redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private BulkOperations bulkOperations;
+    private PostStatsService postStatsService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        postRepository = mock(PostRepository.class);
+        commentRepository = mock(CommentRepository.class);
+        redisTemplate = mock(StringRedisTemplate.class);
+        bulkOperations = mock(BulkOperations.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(PostStatsDocument.class))).thenReturn(bulkOperations);
+        postStatsService = new PostStatsService(mongoTemplate, postRepository, commentRepository, redisTemplate, 500);
+    }
+
+    @Test
+    @DisplayName("댓글 많은 순 목록은 size 를 1~100 으로, page 를 0 이상으로 맞춰서 조회해야 한다")
+    void shouldClampMostCommentedPageSize() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(PostStatsDocument.class))).thenReturn(List.of());
+
+        // When
+        postStatsService.getMostCommented(-1, 0);
+        postStatsService.getMostCommented(0, 1000);
+
+        // Then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate, times(2)).find(queries.capture(), eq(PostStatsDocument.class));
+        assertThat(queries.getAllValues().get(0).getLimit()).isEqualTo(1);
+        assertThat(queries.getAllValues().get(0).getSkip()).isZero();
+        assertThat(queries.getAllValues().get(1).getLimit()).isEqualTo(100);
+        verifyNoInteractions(postRepository);
+    }
+
+    @Test
+    @DisplayName("댓글 많은 순 목록에서 삭제된 글은 빼고 댓글 수 순서대로 응답해야 한다")
+    void shouldExcludeDeletedPostsFromMostCommented() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(PostStatsDocument.class))).thenReturn(List.of(
+                stats(1L, 9L, null), stats(2L, 7L, null), stats(3L, 5L, null)
+        ));
+        when(postRepository.findNotDeletedIdsIn(List.of(1L, 2L, 3L))).thenReturn(List.of(3L, 1L));
+
+        // When
+        List<PostStatsDto.CommentCount> result = postStatsService.getMostCommented(0, 20);
+
+        // Then
+        assertThat(result).extracting(PostStatsDto.CommentCount::getPostId).containsExactly(1L, 3L);
+        assertThat(result).extracting(PostStatsDto.CommentCount::getCommentCount).containsExactly(9L, 5L);
+    }
+
+    @Test
+    @DisplayName("재계산은 읽은 댓글 수가 그대로일 때만 차이만큼 $inc 하고, 맞는 글은 건드리지 않아야 한다")
+    void shouldReconcileWithIncrementOfDifference() {
+        // Given : 1 번 글은 저장된 댓글 수 3 / 실제 5, 2 번 글은 일치, 3 번 글은 post_stats 없음
+        stubPosts(List.of(post(1L), post(2L), post(3L)));
+        List<CommentRepository.PostCommentCountProjection> counts = List.of(commentCount(1L, 5L), commentCount(2L, 2L), commentCount(3L, 1L));
+        when(commentRepository.countNotDeletedByPostIds(List.of(1L, 2L, 3L))).thenReturn(counts);
+        when(mongoTemplate.find(any(Query.class), eq(PostStatsDocument.class))).thenReturn(List.of(
+                stats(1L, 3L, LAST_COMMENT_AT), stats(2L, 2L, LAST_COMMENT_AT)
+        ));
+
+        // When
+        postStatsService.reconcileCommentCounts();
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).updateOne(query.capture(), update.capture());
+        assertThat(query.getValue().getQueryObject().get("post_pk")).isEqualTo(1L);
+        assertThat(query.getValue().getQueryObject().get("comment_count")).isEqualTo(3L);
+        assertThat(update.getValue().getUpdateObject().get("$inc", Document.class).get("comment_count")).isEqualTo(2L);
+        assertThat(update.getValue().getUpdateObject()).doesNotContainKey("$set");
+
+        ArgumentCaptor<Update> upsert = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations).upsert(argThat((Query q) -> Long.valueOf(3L).equals(q.getQueryObject().get("post_pk"))), upsert.capture());
+        assertThat(upsert.getValue().getUpdateObject().get("$inc", Document.class).get("comment_count")).isEqualTo(1L);
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    @DisplayName("재계산은 마지막 활동 시각을 $max 로만 올리고, 저장된 값이 더 최근이면 바로잡지 않아야 한다")
+    void shouldNotMoveLastActivityBackwards() {
+        // Given : 저장된 활동 시각이 MySQL 기준보다 최근 (재계산 도중 달린 댓글)
+        stubPosts(List.of(post(1L)));
+        List<CommentRepository.PostCommentCountProjection> counts = List.of(commentCount(1L, 2L));
+        when(commentRepository.countNotDeletedByPostIds(List.of(1L))).thenReturn(counts);
+        when(mongoTemplate.find(any(Query.class), eq(PostStatsDocument.class))).thenReturn(List.of(
+                stats(1L, 2L, LAST_COMMENT_AT.plusHours(1))
+        ));
+
+        // When
+        postStatsService.reconcileCommentCounts();
+
+        // Then
+        verify(bulkOperations, never()).updateOne(any(Query.class), any(Update.class));
+        verify(bulkOperations, never()).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    @DisplayName("기동 시 완료 표시가 없으면 재계산 lock 을 잡고 마지막 활동 시각을 채운 뒤 완료로 표시해야 한다")
+    void shouldBackfillLastActivityOnStartup() {
+        // Given
+        when(redisTemplate.hasKey(ACTIVITY_BACKFILLED_KEY)).thenReturn(false);
+        stubPosts(List.of(post(1L)));
+        when(commentRepository.countNotDeletedByPostIds(List.of(1L))).thenReturn(List.of());
+        when(mongoTemplate.find(any(Query.class), eq(PostStatsDocument.class))).thenReturn(List.of());
+
+        // When
+        postStatsService.backfillLastActivityOnStartup();
+
+        // Then
+        verify(valueOperations, timeout(1000)).set(eq(ACTIVITY_BACKFILLED_KEY), anyString());
+        verify(valueOperations).setIfAbsent(eq(RECONCILE_LOCK_KEY), anyString(), any(Duration.class));
+        verify(bulkOperations).upsert(any(Query.class), any(Update.class));
+    }
+
+    @Test
+    @DisplayName("기동 시 완료 표시가 있으면 재계산하지 않아야 한다")
+    void shouldSkipStartupBackfillWhenAlreadyDone() {
+        // Given
+        when(redisTemplate.hasKey(ACTIVITY_BACKFILLED_KEY)).thenReturn(true);
+
+        // When
+        postStatsService.backfillLastActivityOnStartup();
+
+        // Then
+        verify(redisTemplate, timeout(1000)).hasKey(ACTIVITY_BACKFILLED_KEY);
+        verify(valueOperations, after(200).never()).setIfAbsent(anyString(), anyString(), any(Duration.class));
+        verifyNoInteractions(postRepository);
+    }
+
+    private void stubPosts(List<PostRepository.PostCreatedAtProjection> posts) {
+        when(postRepository.findNotDeletedCreatedAtAfter(anyLong(), any(Pageable.class))).thenReturn(posts, List.of());
+    }
+
+    private PostRepository.PostCreatedAtProjection post(Long id) {
+        PostRepository.PostCreatedAtProjection post = mock(PostRepository.PostCreatedAtProjection.class);
+        when(post.getId()).thenReturn(id);
+        when(post.getCreatedAt()).thenReturn(CREATED_AT);
+        return post;
+    }
+
+    private CommentRepository.PostCommentCountProjection commentCount(Long postId, Long count) {
+        CommentRepository.PostCommentCountProjection row = mock(CommentRepository.PostCommentCountProjection.class);
+        when(row.getPostId()).thenReturn(postId);
+        when(row.getCommentCount()).thenReturn(count);
+        when(row.getLastCommentAt()).thenReturn(LAST_COMMENT_AT);
+        return row;
+    }
+
+    private PostStatsDocument stats(Long postPk, Long commentCount, LocalDateTime lastActivityAt) {
+        return new PostStatsDocument(null, postPk, null, commentCount, lastActivityAt);
+    }
+}
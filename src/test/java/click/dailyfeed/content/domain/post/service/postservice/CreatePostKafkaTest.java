@@ -3,11 +3,13 @@ package click.dailyfeed.content.domain.post.service.postservice;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.post.dto.PostDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.document.PostDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostMongoRepository;
 import click.dailyfeed.content.domain.post.service.PostService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
 import jakarta.servlet.http.HttpServletResponse;
@@ -49,6 +51,12 @@ public class CreatePostKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberProfileDto.Summary author;
     private PostDto.CreatePostRequest request;
     private HttpServletResponse response;
@@ -102,13 +110,14 @@ public class CreatePostKafkaTest {
         // 2. MongoDB에 문서가 저장되었는지 확인
         verify(postMongoRepository, times(1)).save(any(PostDocument.class));
 
-        // 3. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishPostCUDEvent(
+        // 3. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueuePostEvent(
                         eq(author.getId()),
                         eq(100L),
                         eq(MemberActivityType.POST_CREATE)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 4. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -134,12 +143,11 @@ public class CreatePostKafkaTest {
                 .when(memberActivityKafkaPublisher)
                 .publishPostCUDEvent(anyLong(), eq(100L), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            postService.createPost(author, request, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        postService.createPost(author, request, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Post는 저장되었어야 함
         verify(postRepository, times(1)).save(any(Post.class));
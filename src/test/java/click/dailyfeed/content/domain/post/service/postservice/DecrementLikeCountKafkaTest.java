@@ -2,10 +2,14 @@ package click.dailyfeed.content.domain.post.service.postservice;
 
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.document.PostLikeDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
 import click.dailyfeed.content.domain.post.service.PostService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -50,6 +54,18 @@ public class DecrementLikeCountKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private LikeMembershipService likeMembershipService;
+
+    @MockBean
+    private LikedByMeService likedByMeService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Post existingPost;
@@ -81,6 +97,7 @@ public class DecrementLikeCountKafkaTest {
     @DisplayName("좋아요 취소 시 Kafka Publisher가 호출되어야 한다")
     void shouldUseKafkaPublisherWhenDecrementLikeCount() {
         // Given
+        when(likeMembershipService.mightHaveLikedPost(100L, member.getId())).thenReturn(true);
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
         when(postLikeMongoRepository.findByPostPkAndMemberId(100L, member.getId())).thenReturn(existingLikeDocument);
         doNothing().when(postLikeMongoRepository).deleteById(any(ObjectId.class));
@@ -98,13 +115,14 @@ public class DecrementLikeCountKafkaTest {
         // 3. PostLikeDocument가 삭제되었는지 확인
         verify(postLikeMongoRepository, times(1)).deleteById(any(ObjectId.class));
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishPostLikeEvent(
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueuePostLikeEvent(
                         eq(member.getId()),
                         eq(100L),
                         eq(MemberActivityType.LIKE_POST_CANCEL)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -118,6 +136,7 @@ public class DecrementLikeCountKafkaTest {
     @DisplayName("Kafka 발행 실패 시에도 좋아요 취소는 정상적으로 처리되어야 한다")
     void shouldDecrementLikeCountEvenIfKafkaPublishFails() {
         // Given
+        when(likeMembershipService.mightHaveLikedPost(100L, member.getId())).thenReturn(true);
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
         when(postLikeMongoRepository.findByPostPkAndMemberId(100L, member.getId())).thenReturn(existingLikeDocument);
         doNothing().when(postLikeMongoRepository).deleteById(any(ObjectId.class));
@@ -125,12 +144,11 @@ public class DecrementLikeCountKafkaTest {
                 .when(memberActivityKafkaPublisher)
                 .publishPostLikeEvent(anyLong(), eq(100L), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            postService.decrementLikeCount(100L, member, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        postService.decrementLikeCount(100L, member, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
@@ -1,13 +1,15 @@
 package click.dailyfeed.content.domain.post.service.postservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
 import click.dailyfeed.content.domain.post.document.PostDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostMongoRepository;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
 import click.dailyfeed.content.domain.post.service.PostService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
 import jakarta.servlet.http.HttpServletResponse;
@@ -50,6 +52,15 @@ public class DeletePostFeignTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberDto.Member author;
     private HttpServletResponse response;
     private Post existingPost;
@@ -77,7 +88,7 @@ public class DeletePostFeignTest {
     }
 
     @Test
-    @DisplayName("게시글 삭제 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("게시글 삭제 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenPublishTypeIsFeign() {
         // Given
         String token = "test-token";
@@ -85,8 +96,6 @@ public class DeletePostFeignTest {
         doNothing().when(postRepository).softDeleteById(100L);
         when(postMongoRepository.findByPostPkAndIsDeleted(100L, Boolean.FALSE))
                 .thenReturn(Optional.of(existingDocument));
-        when(memberActivityFeignHelper.createPostsMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
 
         // When
         Boolean result = postService.deletePost(author, 100L, token, response);
@@ -102,9 +111,10 @@ public class DeletePostFeignTest {
         verify(postMongoRepository, times(1)).findByPostPkAndIsDeleted(100L, Boolean.FALSE);
         verify(existingDocument, times(1)).softDelete();
 
-        // 4. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createPostsMemberActivity(any(), eq(token), eq(response));
+        // 4. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishPostActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 5. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -126,12 +136,11 @@ public class DeletePostFeignTest {
                 .when(memberActivityFeignHelper)
                 .createPostsMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            postService.deletePost(author, 100L, "token", response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        postService.deletePost(author, 100L, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
@@ -2,11 +2,14 @@ package click.dailyfeed.content.domain.post.service.postservice;
 
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.document.PostDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostMongoRepository;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
 import click.dailyfeed.content.domain.post.service.PostService;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
 import jakarta.servlet.http.HttpServletResponse;
@@ -49,6 +52,15 @@ public class DeletePostKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private PostStatsService postStatsService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberDto.Member author;
     private HttpServletResponse response;
     private Post existingPost;
@@ -98,13 +110,14 @@ public class DeletePostKafkaTest {
         verify(postMongoRepository, times(1)).findByPostPkAndIsDeleted(100L, Boolean.FALSE);
         verify(existingDocument, times(1)).softDelete();
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishPostCUDEvent(
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueuePostEvent(
                         eq(author.getId()),
                         eq(100L),
                         eq(MemberActivityType.POST_DELETE)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -126,12 +139,11 @@ public class DeletePostKafkaTest {
                 .when(memberActivityKafkaPublisher)
                 .publishPostCUDEvent(anyLong(), eq(100L), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            postService.deletePost(author, 100L, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        postService.deletePost(author, 100L, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
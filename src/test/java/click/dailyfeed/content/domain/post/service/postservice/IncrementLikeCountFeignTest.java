@@ -1,12 +1,15 @@
 package click.dailyfeed.content.domain.post.service.postservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
 import click.dailyfeed.content.domain.post.document.PostLikeDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
 import click.dailyfeed.content.domain.post.service.PostService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -50,6 +53,18 @@ public class IncrementLikeCountFeignTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private LikeMembershipService likeMembershipService;
+
+    @MockBean
+    private LikedByMeService likedByMeService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Post existingPost;
@@ -73,15 +88,12 @@ public class IncrementLikeCountFeignTest {
     }
 
     @Test
-    @DisplayName("좋아요 증가 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("좋아요 증가 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenIncrementLikeCount() {
         // Given
         String token = "test-token";
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postLikeMongoRepository.findByPostPkAndMemberId(100L, member.getId())).thenReturn(null);
         when(postLikeMongoRepository.save(any(PostLikeDocument.class))).thenReturn(mock(PostLikeDocument.class));
-        when(memberActivityFeignHelper.createPostLikeMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
 
         // When
         Boolean result = postService.incrementLikeCount(100L, member, token, response);
@@ -90,15 +102,16 @@ public class IncrementLikeCountFeignTest {
         // 1. Post가 조회되었는지 확인
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
 
-        // 2. 기존 좋아요가 조회되었는지 확인
-        verify(postLikeMongoRepository, times(1)).findByPostPkAndMemberId(100L, member.getId());
+        // 2. 중복 여부는 unique 인덱스로 처리하므로 사전 조회는 하지 않아야 함
+        verify(postLikeMongoRepository, never()).findByPostPkAndMemberId(anyLong(), anyLong());
 
         // 3. PostLikeDocument가 저장되었는지 확인
         verify(postLikeMongoRepository, times(1)).save(any(PostLikeDocument.class));
 
-        // 4. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createPostLikeMemberActivity(any(), eq(token), eq(response));
+        // 4. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishPostLikeActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 5. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -113,18 +126,16 @@ public class IncrementLikeCountFeignTest {
     void shouldIncrementLikeCountEvenIfFeignCallFails() {
         // Given
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postLikeMongoRepository.findByPostPkAndMemberId(100L, member.getId())).thenReturn(null);
         when(postLikeMongoRepository.save(any(PostLikeDocument.class))).thenReturn(mock(PostLikeDocument.class));
         doThrow(new RuntimeException("Feign call failed"))
                 .when(memberActivityFeignHelper)
                 .createPostLikeMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            postService.incrementLikeCount(100L, member, "token", response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        postService.incrementLikeCount(100L, member, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
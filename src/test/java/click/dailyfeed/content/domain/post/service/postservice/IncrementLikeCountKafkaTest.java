@@ -1,11 +1,16 @@
 package click.dailyfeed.content.domain.post.service.postservice;
 
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
+import click.dailyfeed.code.domain.content.post.exception.PostLikeAlreadyExistsException;
 import click.dailyfeed.code.domain.member.member.dto.MemberDto;
+import click.dailyfeed.content.domain.like.service.LikeMembershipService;
+import click.dailyfeed.content.domain.like.service.LikedByMeService;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.document.PostLikeDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
 import click.dailyfeed.content.domain.post.repository.mongo.PostLikeMongoRepository;
+import click.dailyfeed.content.domain.post.service.PostRankingService;
 import click.dailyfeed.content.domain.post.service.PostService;
 import click.dailyfeed.feign.domain.activity.MemberActivityFeignHelper;
 import click.dailyfeed.kafka.domain.activity.publisher.MemberActivityKafkaPublisher;
@@ -16,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
 
@@ -23,6 +29,7 @@ import java.lang.reflect.Field;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -49,6 +56,18 @@ public class IncrementLikeCountKafkaTest {
     @MockBean
     private MemberActivityFeignHelper memberActivityFeignHelper;
 
+    @MockBean
+    private LikeMembershipService likeMembershipService;
+
+    @MockBean
+    private LikedByMeService likedByMeService;
+
+    @MockBean
+    private PostRankingService postRankingService;
+
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberDto.Member member;
     private HttpServletResponse response;
     private Post existingPost;
@@ -76,7 +95,6 @@ public class IncrementLikeCountKafkaTest {
     void shouldUseKafkaPublisherWhenIncrementLikeCount() {
         // Given
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postLikeMongoRepository.findByPostPkAndMemberId(100L, member.getId())).thenReturn(null);
         when(postLikeMongoRepository.save(any(PostLikeDocument.class))).thenReturn(mock(PostLikeDocument.class));
 
         // When
@@ -86,19 +104,20 @@ public class IncrementLikeCountKafkaTest {
         // 1. Post가 조회되었는지 확인
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
 
-        // 2. 기존 좋아요가 조회되었는지 확인
-        verify(postLikeMongoRepository, times(1)).findByPostPkAndMemberId(100L, member.getId());
+        // 2. 중복 여부는 unique 인덱스로 처리하므로 사전 조회는 하지 않아야 함
+        verify(postLikeMongoRepository, never()).findByPostPkAndMemberId(anyLong(), anyLong());
 
         // 3. PostLikeDocument가 저장되었는지 확인
         verify(postLikeMongoRepository, times(1)).save(any(PostLikeDocument.class));
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishPostLikeEvent(
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueuePostLikeEvent(
                         eq(member.getId()),
                         eq(100L),
                         eq(MemberActivityType.LIKE_POST)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -113,22 +132,37 @@ public class IncrementLikeCountKafkaTest {
     void shouldIncrementLikeCountEvenIfKafkaPublishFails() {
         // Given
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postLikeMongoRepository.findByPostPkAndMemberId(100L, member.getId())).thenReturn(null);
         when(postLikeMongoRepository.save(any(PostLikeDocument.class))).thenReturn(mock(PostLikeDocument.class));
         doThrow(new RuntimeException("Kafka publish failed"))
                 .when(memberActivityKafkaPublisher)
                 .publishPostLikeEvent(anyLong(), eq(100L), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            postService.incrementLikeCount(100L, member, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        postService.incrementLikeCount(100L, member, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
         // PostLikeDocument는 저장되었어야 함
         verify(postLikeMongoRepository, times(1)).save(any(PostLikeDocument.class));
     }
+
+    @Test
+    @DisplayName("이미 좋아요 한 글이면 unique 인덱스 위반으로 PostLikeAlreadyExistsException 이 발생해야 한다")
+    void shouldThrowWhenLikeViolatesUniqueIndex() {
+        // Given
+        when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
+        when(postLikeMongoRepository.save(any(PostLikeDocument.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error"));
+
+        // When & Then
+        assertThatThrownBy(() -> postService.incrementLikeCount(100L, member, "token", response))
+                .isInstanceOf(PostLikeAlreadyExistsException.class);
+
+        verify(likeMembershipService, never()).recordPostLike(anyLong(), anyLong());
+        verify(memberActivityKafkaPublisher, never())
+                .publishPostLikeEvent(anyLong(), anyLong(), any(MemberActivityType.class));
+    }
 }
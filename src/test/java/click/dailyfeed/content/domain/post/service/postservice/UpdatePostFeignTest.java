@@ -1,10 +1,10 @@
 package click.dailyfeed.content.domain.post.service.postservice;
 
-import click.dailyfeed.code.domain.activity.dto.MemberActivityDto;
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.post.dto.PostDto;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.domain.timeline.statistics.TimelineStatisticsDto;
+import click.dailyfeed.content.domain.activity.publisher.QueuedMemberActivityFeignPublisher;
 import click.dailyfeed.content.domain.post.document.PostDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
@@ -56,11 +56,13 @@ public class UpdatePostFeignTest {
     @MockBean
     private TimelineFeignHelper timelineFeignHelper;
 
+    @MockBean
+    private QueuedMemberActivityFeignPublisher queuedMemberActivityFeignPublisher;
+
     private MemberProfileDto.Summary author;
     private PostDto.UpdatePostRequest request;
     private HttpServletResponse response;
     private Post existingPost;
-    private PostDocument existingDocument;
     private TimelineStatisticsDto.PostItemCounts postItemCounts;
 
     @BeforeEach
@@ -84,9 +86,6 @@ public class UpdatePostFeignTest {
         idField.setAccessible(true);
         idField.set(existingPost, 100L);
 
-        // 기존 PostDocument 객체
-        existingDocument = mock(PostDocument.class);
-
         // PostItemCounts
         postItemCounts = TimelineStatisticsDto.PostItemCounts.builder()
                 .likeCount(10L)
@@ -98,18 +97,14 @@ public class UpdatePostFeignTest {
     }
 
     @Test
-    @DisplayName("게시글 수정 시 Feign Helper가 호출되어야 한다")
+    @DisplayName("게시글 수정 시 활동 기록이 Feign 발행 큐에 들어가야 한다")
     void shouldUseFeignHelperWhenPublishTypeIsFeign() {
         // Given
         String token = "test-token";
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postMongoRepository.findByPostPkAndIsDeleted(100L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        when(postMongoRepository.save(any(PostDocument.class))).thenReturn(mock(PostDocument.class));
-        when(timelineFeignHelper.getPostItemCounts(100L, token, response))
+        when(postMongoRepository.replaceLiveVersion(any(PostDocument.class))).thenReturn(1);
+        when(timelineFeignHelper.getPostItemCounts(100L, token, null))
                 .thenReturn(postItemCounts);
-        when(memberActivityFeignHelper.createPostsMemberActivity(any(), anyString(), any()))
-                .thenReturn(mock(MemberActivityDto.MemberActivity.class));
 
         // When
         PostDto.Post result = postService.updatePost(author, 100L, request, token, response);
@@ -118,16 +113,18 @@ public class UpdatePostFeignTest {
         // 1. Post가 조회되었는지 확인
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
 
-        // 2. MongoDB 문서가 업데이트되었는지 확인
-        verify(postMongoRepository, times(1)).findByPostPkAndIsDeleted(100L, Boolean.FALSE);
-        verify(postMongoRepository, times(2)).save(any(PostDocument.class));
+        // 2. MongoDB 문서가 한 번의 bulk write 로 교체되었는지 확인 (soft delete + new document)
+        verify(postMongoRepository, times(1)).replaceLiveVersion(any(PostDocument.class));
+        verify(postMongoRepository, never()).findByPostPkAndIsDeleted(anyLong(), anyBoolean());
+        verify(postMongoRepository, never()).save(any(PostDocument.class));
 
         // 3. Timeline 통계가 조회되었는지 확인
-        verify(timelineFeignHelper, times(1)).getPostItemCounts(100L, token, response);
+        verify(timelineFeignHelper, times(1)).getPostItemCounts(100L, token, null);
 
-        // 4. Feign Helper가 호출되었는지 확인
-        verify(memberActivityFeignHelper, times(1))
-                .createPostsMemberActivity(any(), eq(token), eq(response));
+        // 4. 요청 처리 중에는 발행 큐에만 넣고 Feign Helper 는 호출하지 않는지 확인
+        verify(queuedMemberActivityFeignPublisher, times(1))
+                .publishPostActivity(any(), eq(token));
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // 5. Kafka Publisher는 호출되지 않았는지 확인
         verify(memberActivityKafkaPublisher, never())
@@ -142,21 +139,18 @@ public class UpdatePostFeignTest {
     void shouldUpdatePostEvenIfFeignCallFails() {
         // Given
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postMongoRepository.findByPostPkAndIsDeleted(100L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        when(postMongoRepository.save(any(PostDocument.class))).thenReturn(mock(PostDocument.class));
-        when(timelineFeignHelper.getPostItemCounts(100L, "token", response))
+        when(postMongoRepository.replaceLiveVersion(any(PostDocument.class))).thenReturn(1);
+        when(timelineFeignHelper.getPostItemCounts(100L, "token", null))
                 .thenReturn(postItemCounts);
         doThrow(new RuntimeException("Feign call failed"))
                 .when(memberActivityFeignHelper)
                 .createPostsMemberActivity(any(), anyString(), any());
 
-        // When & Then
-        try {
-            postService.updatePost(author, 100L, request, "token", response);
-        } catch (Exception e) {
-            // Feign 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Feign 을 호출하지 않으므로 activity 서비스 장애와 무관하게 처리됨
+        postService.updatePost(author, 100L, request, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityFeignHelper);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
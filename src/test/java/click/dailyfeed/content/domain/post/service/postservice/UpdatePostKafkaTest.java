@@ -2,8 +2,10 @@ package click.dailyfeed.content.domain.post.service.postservice;
 
 import click.dailyfeed.code.domain.activity.type.MemberActivityType;
 import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.code.domain.content.post.exception.PostNotFoundException;
 import click.dailyfeed.code.domain.member.member.dto.MemberProfileDto;
 import click.dailyfeed.code.domain.timeline.statistics.TimelineStatisticsDto;
+import click.dailyfeed.content.domain.outbox.service.MemberActivityOutboxService;
 import click.dailyfeed.content.domain.post.document.PostDocument;
 import click.dailyfeed.content.domain.post.entity.Post;
 import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
@@ -16,6 +18,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -26,6 +29,7 @@ import java.lang.reflect.Field;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
@@ -55,11 +59,13 @@ public class UpdatePostKafkaTest {
     @MockBean
     private TimelineFeignHelper timelineFeignHelper;
 
+    @MockBean
+    private MemberActivityOutboxService memberActivityOutboxService;
+
     private MemberProfileDto.Summary author;
     private PostDto.UpdatePostRequest request;
     private HttpServletResponse response;
     private Post existingPost;
-    private PostDocument existingDocument;
     private TimelineStatisticsDto.PostItemCounts postItemCounts;
 
     @BeforeEach
@@ -83,9 +89,6 @@ public class UpdatePostKafkaTest {
         idField.setAccessible(true);
         idField.set(existingPost, 100L);
 
-        // 기존 PostDocument 객체
-        existingDocument = mock(PostDocument.class);
-
         // PostItemCounts
         postItemCounts = TimelineStatisticsDto.PostItemCounts.builder()
                 .likeCount(10L)
@@ -101,10 +104,8 @@ public class UpdatePostKafkaTest {
     void shouldUseKafkaPublisherWhenPublishTypeIsKafka() {
         // Given
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postMongoRepository.findByPostPkAndIsDeleted(100L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        when(postMongoRepository.save(any(PostDocument.class))).thenReturn(mock(PostDocument.class));
-        when(timelineFeignHelper.getPostItemCounts(100L, "token", response))
+        when(postMongoRepository.replaceLiveVersion(any(PostDocument.class))).thenReturn(1);
+        when(timelineFeignHelper.getPostItemCounts(100L, "token", null))
                 .thenReturn(postItemCounts);
 
         // When
@@ -114,20 +115,27 @@ public class UpdatePostKafkaTest {
         // 1. Post가 조회되었는지 확인
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
 
-        // 2. MongoDB 문서가 업데이트되었는지 확인 (soft delete + new document)
-        verify(postMongoRepository, times(1)).findByPostPkAndIsDeleted(100L, Boolean.FALSE);
-        verify(postMongoRepository, times(2)).save(any(PostDocument.class));
+        // 2. MongoDB 문서가 한 번의 bulk write 로 교체되었는지 확인 (soft delete + new document)
+        ArgumentCaptor<PostDocument> savedDocuments = ArgumentCaptor.forClass(PostDocument.class);
+        verify(postMongoRepository, times(1)).replaceLiveVersion(savedDocuments.capture());
+        verify(postMongoRepository, never()).save(any(PostDocument.class));
+
+        // 2-1. 새 버전 문서에는 수정된 제목/내용이 반영되어야 함 (검색 인덱스 대상)
+        PostDocument updatedDocument = savedDocuments.getValue();
+        assertThat(updatedDocument.getTitle()).isEqualTo("수정된 제목");
+        assertThat(updatedDocument.getContent()).isEqualTo("수정된 게시글 내용입니다.");
 
         // 3. Timeline 통계가 조회되었는지 확인
-        verify(timelineFeignHelper, times(1)).getPostItemCounts(100L, "token", response);
+        verify(timelineFeignHelper, times(1)).getPostItemCounts(100L, "token", null);
 
-        // 4. Kafka Publisher가 호출되었는지 확인
-        verify(memberActivityKafkaPublisher, times(1))
-                .publishPostCUDEvent(
+        // 4. 요청 처리 중에는 outbox 에만 기록하고 Kafka 는 호출하지 않는지 확인
+        verify(memberActivityOutboxService, times(1))
+                .enqueuePostEvent(
                         eq(author.getId()),
                         eq(100L),
                         eq(MemberActivityType.POST_UPDATE)
                 );
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // 5. Feign Helper는 호출되지 않았는지 확인
         verify(memberActivityFeignHelper, never())
@@ -142,23 +150,33 @@ public class UpdatePostKafkaTest {
     void shouldUpdatePostEvenIfKafkaPublishFails() {
         // Given
         when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
-        when(postMongoRepository.findByPostPkAndIsDeleted(100L, Boolean.FALSE))
-                .thenReturn(Optional.of(existingDocument));
-        when(postMongoRepository.save(any(PostDocument.class))).thenReturn(mock(PostDocument.class));
-        when(timelineFeignHelper.getPostItemCounts(100L, "token", response))
+        when(postMongoRepository.replaceLiveVersion(any(PostDocument.class))).thenReturn(1);
+        when(timelineFeignHelper.getPostItemCounts(100L, "token", null))
                 .thenReturn(postItemCounts);
         doThrow(new RuntimeException("Kafka publish failed"))
                 .when(memberActivityKafkaPublisher)
                 .publishPostCUDEvent(anyLong(), eq(100L), any(MemberActivityType.class));
 
-        // When & Then
-        try {
-            postService.updatePost(author, 100L, request, "token", response);
-        } catch (Exception e) {
-            // Kafka 실패는 예외를 발생시킬 수 있음
-        }
+        // When : 요청 처리 중에는 Kafka 를 호출하지 않으므로 Kafka 장애와 무관하게 처리됨
+        postService.updatePost(author, 100L, request, "token", response);
+
+        // Then
+        verifyNoInteractions(memberActivityKafkaPublisher);
 
         // Post는 조회되었어야 함
         verify(postRepository, times(1)).findByIdAndNotDeleted(100L);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("현재 버전 문서가 없으면 PostNotFoundException 이 발생해야 한다")
+    void shouldThrowWhenLiveDocumentIsMissing() {
+        // Given
+        when(postRepository.findByIdAndNotDeleted(100L)).thenReturn(Optional.of(existingPost));
+        when(postMongoRepository.replaceLiveVersion(any(PostDocument.class))).thenReturn(0);
+
+        // When & Then
+        assertThatThrownBy(() -> postService.updatePost(author, 100L, request, "token", response))
+                .isInstanceOf(PostNotFoundException.class);
+        verifyNoInteractions(memberActivityOutboxService);
+    }
+}
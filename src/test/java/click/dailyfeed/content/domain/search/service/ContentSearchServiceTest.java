@@ -0,0 +1,177 @@
+package click.dailyfeed.content.domain.search.service;
+
+import click.dailyfeed.code.domain.content.post.dto.PostDto;
+import click.dailyfeed.content.domain.post.dto.PostStatsDto;
+import click.dailyfeed.content.domain.post.entity.Post;
+import click.dailyfeed.content.domain.post.mapper.PostMapper;
+import click.dailyfeed.content.domain.post.repository.jpa.PostRepository;
+import click.dailyfeed.content.domain.post.service.PostStatsService;
+import click.dailyfeed.content.domain.search.dto.SearchDto;
+import click.dailyfeed.content.domain.search.projection.CommentSearchHit;
+import click.dailyfeed.content.domain.search.projection.PostSearchHit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.lang.reflect.Field;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ContentSearchService 테스트")
+public class ContentSearchServiceTest {
+    private MongoTemplate mongoTemplate;
+    private PostRepository postRepository;
+    private PostStatsService postStatsService;
+    private SimpleMeterRegistry meterRegistry;
+    private ContentSearchService contentSearchService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        postRepository = mock(PostRepository.class);
+        postStatsService = mock(PostStatsService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        contentSearchService = new ContentSearchService(mongoTemplate, postRepository, postStatsService, new PostMapper(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("검색어는 색인과 같은 bigram 토큰으로 바꿔서 어느 하나라도 맞으면 매칭하고, 삭제되지 않은 문서만 관련도 순으로 조회해야 한다")
+    void shouldBuildTokenizedTextQuery() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(PostSearchHit.class), eq("posts"))).thenReturn(List.of());
+
+        // When
+        contentSearchService.searchPosts("게시글을 Spring 검색", 2, 10);
+
+        // Then
+        Query query = capturePostQuery();
+        Document queryObject = query.getQueryObject();
+        String search = queryObject.get("$text", Document.class).getString("$search");
+        assertThat(search.split(" ")).containsExactly("게시", "시글", "글을", "spring", "검색");
+        assertThat(queryObject.get("is_deleted")).isEqualTo(false);
+        assertThat(query.getSortObject()).containsKey("score");
+        assertThat(query.getSkip()).isEqualTo(20L);
+        assertThat(query.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("조사가 다른 어절도 공통 bigram 으로 매칭되도록 검색어의 중복 토큰은 한 번만 보내야 한다")
+    void shouldMatchAcrossParticlesWithDistinctTokens() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(PostSearchHit.class), eq("posts"))).thenReturn(List.of());
+
+        // When : "게시글에" 로 검색해도 "게시글을" 색인의 "게시", "시글" 토큰과 매칭
+        contentSearchService.searchPosts("게시글에 게시글", 0, 20);
+
+        // Then
+        String search = capturePostQuery().getQueryObject().get("$text", Document.class).getString("$search");
+        assertThat(search.split(" ")).containsExactly("게시", "시글", "글에");
+    }
+
+    @Test
+    @DisplayName("size 는 1~50 으로, page 는 0 이상으로 맞춰서 조회해야 한다")
+    void shouldClampPageAndSize() {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(PostSearchHit.class), eq("posts"))).thenReturn(List.of());
+
+        // When
+        contentSearchService.searchPosts("검색", -1, 1000);
+
+        // Then
+        Query query = capturePostQuery();
+        assertThat(query.getSkip()).isZero();
+        assertThat(query.getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("토큰이 없는 검색어(구두점/공백만)는 mongodb 를 조회하지 않아야 한다")
+    void shouldSkipSearchWithoutTokens() {
+        // When
+        List<PostDto.Post> posts = contentSearchService.searchPosts(" !? ", 0, 20);
+        List<SearchDto.CommentHit> comments = contentSearchService.searchComments("", 0, 20);
+
+        // Then
+        assertThat(posts).isEmpty();
+        assertThat(comments).isEmpty();
+        verifyNoInteractions(mongoTemplate, postRepository);
+    }
+
+    @Test
+    @DisplayName("같은 글의 여러 수정 버전이 검색되면 점수 순서를 유지한 채 한 번만, 삭제된 글은 빼고 응답해야 한다")
+    void shouldDeduplicateHitsAndDropDeletedPosts() throws Exception {
+        // Given
+        when(mongoTemplate.find(any(Query.class), eq(PostSearchHit.class), eq("posts"))).thenReturn(List.of(
+                postHit(7L, 3.0f), postHit(3L, 2.5f), postHit(7L, 2.0f), postHit(5L, 1.0f)
+        ));
+        when(postRepository.findAllById(any())).thenReturn(List.of(post(3L, false), post(5L, true), post(7L, false)));
+        when(postStatsService.getCommentCounts(any())).thenReturn(List.of(
+                PostStatsDto.CommentCount.builder().postId(3L).commentCount(2L).build()
+        ));
+
+        // When
+        List<PostDto.Post> result = contentSearchService.searchPosts("검색", 0, 20);
+
+        // Then
+        assertThat(result).extracting(PostDto.Post::getId).containsExactly(7L, 3L);
+        assertThat(result).extracting(PostDto.Post::getCommentCount).containsExactly(0L, 2L);
+        assertThat(meterRegistry.get("dailyfeed.content.search").tag("target", "posts").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("댓글 검색도 삭제되지 않은 댓글만 조회해서 관련도 점수와 함께 응답해야 한다")
+    void shouldSearchCommentsExcludingDeleted() throws Exception {
+        // Given
+        CommentSearchHit hit = new CommentSearchHit();
+        set(hit, "commentPk", 11L);
+        set(hit, "postPk", 7L);
+        set(hit, "content", "검색 잘 되네요");
+        set(hit, "score", 1.5f);
+        when(mongoTemplate.find(any(Query.class), eq(CommentSearchHit.class), eq("comments"))).thenReturn(List.of(hit));
+
+        // When
+        List<SearchDto.CommentHit> result = contentSearchService.searchComments("검색", 0, 20);
+
+        // Then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(CommentSearchHit.class), eq("comments"));
+        assertThat(query.getValue().getQueryObject().get("is_deleted")).isEqualTo(false);
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getCommentId()).isEqualTo(11L);
+        assertThat(result.get(0).getPostId()).isEqualTo(7L);
+        assertThat(result.get(0).getScore()).isEqualTo(1.5f);
+    }
+
+    private Query capturePostQuery() {
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(PostSearchHit.class), eq("posts"));
+        return query.getValue();
+    }
+
+    private PostSearchHit postHit(Long postPk, float score) throws Exception {
+        PostSearchHit hit = new PostSearchHit();
+        set(hit, "postPk", postPk);
+        set(hit, "score", score);
+        return hit;
+    }
+
+    private Post post(Long id, boolean deleted) throws Exception {
+        Post post = Post.newPost("제목 " + id, "내용 " + id, 10L);
+        set(post, "id", id);
+        set(post, "isDeleted", deleted);
+        return post;
+    }
+
+    private static void set(Object target, String name, Object value) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -0,0 +1,52 @@
+package click.dailyfeed.content.domain.search.tokenizer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KoreanBigramTokenizer 테스트")
+public class KoreanBigramTokenizerTest {
+
+    @Test
+    @DisplayName("한글 구간은 bigram 으로, 영문/숫자는 소문자 단어로 변환해야 한다")
+    void shouldTokenizeMixedText() {
+        // When
+        String indexText = KoreanBigramTokenizer.toIndexText("게시글을 Spring Boot 3로 작성!");
+
+        // Then
+        assertThat(indexText).isEqualTo("게시 시글 글을 spring boot 3 로 작성");
+    }
+
+    @Test
+    @DisplayName("한 글자짜리 한글 구간은 그 글자 자체가 토큰이어야 한다")
+    void shouldKeepSingleSyllable() {
+        assertThat(KoreanBigramTokenizer.toIndexText("이 글")).isEqualTo("이 글");
+    }
+
+    @Test
+    @DisplayName("조사가 달라도 색인과 검색어가 공통 bigram 을 가져야 한다")
+    void shouldShareBigramsRegardlessOfParticle() {
+        // Given
+        String indexText = KoreanBigramTokenizer.toIndexText("오늘 작성한 게시글을 공유합니다");
+
+        // When & Then
+        assertThat(KoreanBigramTokenizer.toQueryTokens("게시글에"))
+                .containsExactly("게시", "시글", "글에")
+                .filteredOn(token -> (" " + indexText + " ").contains(" " + token + " "))
+                .containsExactly("게시", "시글");
+    }
+
+    @Test
+    @DisplayName("검색어 토큰은 중복 없이 반환해야 한다")
+    void shouldDeduplicateQueryTokens() {
+        assertThat(KoreanBigramTokenizer.toQueryTokens("게시글 게시글")).containsExactly("게시", "시글");
+    }
+
+    @Test
+    @DisplayName("빈 문자열이나 null 은 빈 결과를 반환해야 한다")
+    void shouldHandleEmptyInput() {
+        assertThat(KoreanBigramTokenizer.toIndexText(null)).isEmpty();
+        assertThat(KoreanBigramTokenizer.toQueryTokens("  !! ")).isEmpty();
+    }
+}